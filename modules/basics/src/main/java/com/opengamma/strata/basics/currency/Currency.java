@@ -10,6 +10,7 @@ import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.joda.convert.FromString;
 import org.joda.convert.ToString;
@@ -45,6 +46,10 @@ public final class Currency
    * The matcher for the code.
    */
   static final CharMatcher CODE_MATCHER = CharMatcher.inRange('A', 'Z');
+  /**
+   * The source of ordinals, which must be initialized before any instance is created.
+   */
+  private static final AtomicInteger ORDINALS = new AtomicInteger();
   /**
    * The configured instances.
    */
@@ -275,6 +280,11 @@ public final class Currency
    * The cached hash code.
    */
   private final transient int cachedHashCode;
+  /**
+   * The ordinal, allocated in order of creation.
+   * Each instance has a different ordinal, allowing amounts to be held in arrays indexed by currency.
+   */
+  private final transient int ordinal;
 
   //-------------------------------------------------------------------------
   /**
@@ -352,6 +362,7 @@ public final class Currency
     this.triangulationCurrency = triangulationCurrency;
     // total universe is (26 * 26 * 26) codes, which can provide a unique hash code
     this.cachedHashCode = ((code.charAt(0) - 64) << 16) + ((code.charAt(1) - 64) << 8) + (code.charAt(2) - 64);
+    this.ordinal = ORDINALS.getAndIncrement();
   }
 
   /**
@@ -401,6 +412,18 @@ public final class Currency
     return Currency.of(triangulationCurrency);
   }
 
+  /**
+   * Gets the ordinal of this currency.
+   * <p>
+   * The ordinal is a small non-negative number that differs for each currency.
+   * It depends on the order in which currencies are created, and must not be persisted.
+   * 
+   * @return the ordinal
+   */
+  int ordinal() {
+    return ordinal;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Compares this currency to another.
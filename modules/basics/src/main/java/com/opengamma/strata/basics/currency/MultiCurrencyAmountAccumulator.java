@@ -0,0 +1,208 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import java.util.Arrays;
+
+import com.google.common.collect.ImmutableSortedSet;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Mutable accumulator of amounts in multiple currencies.
+ * <p>
+ * This is used to total a large number of amounts, such as the present values of a portfolio,
+ * without creating a {@link MultiCurrencyAmount} at each step.
+ * The amounts are held in a dense array indexed by currency, so that adding an amount
+ * is a simple array update that does not allocate.
+ * <p>
+ * The addition uses standard {@code double} arithmetic, in the order the amounts are added,
+ * producing the same result as repeatedly calling {@link MultiCurrencyAmount#plus(MultiCurrencyAmount)}.
+ * <p>
+ * This is a mutable class that is not intended for use in multiple threads.
+ * It is intended to be used to create an immutable {@link MultiCurrencyAmount} instance.
+ */
+public final class MultiCurrencyAmountAccumulator {
+
+  /**
+   * The minimum capacity of the arrays.
+   */
+  private static final int MINIMUM_CAPACITY = 16;
+
+  /**
+   * The amounts, indexed by currency ordinal.
+   */
+  private double[] amounts = new double[0];
+  /**
+   * The currencies, indexed by currency ordinal, null if the currency has no amount.
+   */
+  private Currency[] currencies = new Currency[0];
+  /**
+   * The ordinals of the currencies that have an amount, in the order first added.
+   */
+  private int[] ordinals = new int[0];
+  /**
+   * The number of currencies that have an amount.
+   */
+  private int size;
+
+  /**
+   * Creates an empty instance.
+   */
+  public MultiCurrencyAmountAccumulator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of currencies that have an amount.
+   *
+   * @return the number of currencies
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if this accumulator contains an amount for the specified currency.
+   *
+   * @param currency  the currency to find
+   * @return true if this accumulator contains an amount for the currency
+   */
+  public boolean contains(Currency currency) {
+    ArgChecker.notNull(currency, "currency");
+    int ordinal = currency.ordinal();
+    return ordinal < currencies.length && currencies[ordinal] != null;
+  }
+
+  /**
+   * Gets the amount for the specified currency, returning zero if not found.
+   *
+   * @param currency  the currency to find an amount for
+   * @return the amount
+   */
+  public double getAmountOrZero(Currency currency) {
+    return contains(currency) ? amounts[currency.ordinal()] : 0d;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds an amount, mutating this accumulator.
+   *
+   * @param currency  the currency of the amount
+   * @param amountToAdd  the amount to add
+   * @return {@code this}, for method chaining
+   */
+  public MultiCurrencyAmountAccumulator add(Currency currency, double amountToAdd) {
+    ArgChecker.notNull(currency, "currency");
+    int ordinal = currency.ordinal();
+    if (ordinal < currencies.length && currencies[ordinal] != null) {
+      amounts[ordinal] += amountToAdd;
+    } else {
+      addCurrency(currency, ordinal, amountToAdd);
+    }
+    return this;
+  }
+
+  /**
+   * Adds an amount, mutating this accumulator.
+   *
+   * @param amountToAdd  the amount to add
+   * @return {@code this}, for method chaining
+   */
+  public MultiCurrencyAmountAccumulator add(CurrencyAmount amountToAdd) {
+    ArgChecker.notNull(amountToAdd, "amountToAdd");
+    return add(amountToAdd.getCurrency(), amountToAdd.getAmount());
+  }
+
+  /**
+   * Adds the amounts in a multi-currency amount, mutating this accumulator.
+   *
+   * @param amountToAdd  the amount to add
+   * @return {@code this}, for method chaining
+   */
+  public MultiCurrencyAmountAccumulator add(MultiCurrencyAmount amountToAdd) {
+    ArgChecker.notNull(amountToAdd, "amountToAdd");
+    for (CurrencyAmount amount : amountToAdd.getAmounts()) {
+      add(amount.getCurrency(), amount.getAmount());
+    }
+    return this;
+  }
+
+  /**
+   * Adds the amounts in another accumulator, mutating this accumulator.
+   * <p>
+   * The other accumulator is unaffected by this method.
+   *
+   * @param other  the other accumulator
+   * @return {@code this}, for method chaining
+   */
+  public MultiCurrencyAmountAccumulator add(MultiCurrencyAmountAccumulator other) {
+    ArgChecker.notNull(other, "other");
+    for (int i = 0; i < other.size; i++) {
+      int ordinal = other.ordinals[i];
+      add(other.currencies[ordinal], other.amounts[ordinal]);
+    }
+    return this;
+  }
+
+  /**
+   * Removes all the amounts, mutating this accumulator.
+   * <p>
+   * The internal arrays are retained, such that the accumulator can be reused without allocation.
+   *
+   * @return {@code this}, for method chaining
+   */
+  public MultiCurrencyAmountAccumulator clear() {
+    for (int i = 0; i < size; i++) {
+      int ordinal = ordinals[i];
+      currencies[ordinal] = null;
+      amounts[ordinal] = 0d;
+    }
+    size = 0;
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds a {@code MultiCurrencyAmount} from the accumulated amounts.
+   * <p>
+   * This accumulator is unaffected by this method, and may continue to be used.
+   *
+   * @return the multi-currency amount
+   */
+  public MultiCurrencyAmount build() {
+    if (size == 0) {
+      return MultiCurrencyAmount.empty();
+    }
+    CurrencyAmount[] result = new CurrencyAmount[size];
+    for (int i = 0; i < size; i++) {
+      int ordinal = ordinals[i];
+      result[i] = CurrencyAmount.of(currencies[ordinal], amounts[ordinal]);
+    }
+    return MultiCurrencyAmount.ofUnique(ImmutableSortedSet.copyOf(result));
+  }
+
+  // adds a currency that has no amount, the first amount is stored rather than added to zero
+  private void addCurrency(Currency currency, int ordinal, double amount) {
+    if (ordinal >= currencies.length) {
+      int capacity = Math.max(Math.max(ordinal + 1, currencies.length * 2), MINIMUM_CAPACITY);
+      amounts = Arrays.copyOf(amounts, capacity);
+      currencies = Arrays.copyOf(currencies, capacity);
+    }
+    if (size == ordinals.length) {
+      ordinals = Arrays.copyOf(ordinals, Math.max(size * 2, MINIMUM_CAPACITY));
+    }
+    currencies[ordinal] = currency;
+    amounts[ordinal] = amount;
+    ordinals[size++] = ordinal;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return build().toString();
+  }
+
+}
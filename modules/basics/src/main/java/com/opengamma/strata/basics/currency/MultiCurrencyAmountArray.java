@@ -357,20 +357,14 @@ public final class MultiCurrencyAmountArray
    * @return the collector
    */
   public static Collector<CurrencyAmountArray, ?, MultiCurrencyAmountArray> toMultiCurrencyAmountArray() {
-    return Collector.<CurrencyAmountArray, Map<Currency, CurrencyAmountArray>, MultiCurrencyAmountArray>of(
-        // accumulate into a map
-        HashMap::new,
-        (map, ca) -> map.merge(ca.getCurrency(), ca, CurrencyAmountArray::plus),
-        // combine two maps
-        (map1, map2) -> {
-          map2.values().forEach((ca2) -> map1.merge(ca2.getCurrency(), ca2, CurrencyAmountArray::plus));
-          return map1;
-        },
+    return Collector.<CurrencyAmountArray, MultiCurrencyAmountArrayAccumulator, MultiCurrencyAmountArray>of(
+        // accumulate into arrays indexed by currency
+        MultiCurrencyAmountArrayAccumulator::new,
+        MultiCurrencyAmountArrayAccumulator::add,
+        // combine two accumulators
+        MultiCurrencyAmountArrayAccumulator::add,
         // convert to MultiCurrencyAmountArray
-        map -> {
-          Map<Currency, DoubleArray> currencyArrayMap = MapStream.of(map).mapValues(caa -> caa.getValues()).toMap();
-          return MultiCurrencyAmountArray.of(currencyArrayMap);
-        },
+        MultiCurrencyAmountArrayAccumulator::build,
         UNORDERED);
   }
 
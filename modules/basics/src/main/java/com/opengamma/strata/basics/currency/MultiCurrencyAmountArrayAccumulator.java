@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Mutable accumulator of arrays of amounts in multiple currencies.
+ * <p>
+ * This is used to total a large number of amount arrays, such as the present values
+ * of a portfolio in each scenario, without creating a {@link MultiCurrencyAmountArray} at each step.
+ * The values are held in dense arrays indexed by currency, so that adding an array
+ * of amounts updates the values in place and does not allocate.
+ * <p>
+ * All the arrays added must have the same size, which is defined by the first array added.
+ * The addition uses standard {@code double} arithmetic, in the order the arrays are added.
+ * <p>
+ * This is a mutable class that is not intended for use in multiple threads.
+ * It is intended to be used to create an immutable {@link MultiCurrencyAmountArray} instance.
+ */
+public final class MultiCurrencyAmountArrayAccumulator {
+
+  /**
+   * The minimum capacity of the arrays.
+   */
+  private static final int MINIMUM_CAPACITY = 16;
+
+  /**
+   * The size of the arrays, negative until the first array is added.
+   */
+  private int arraySize = -1;
+  /**
+   * The values, indexed by currency ordinal, null if the currency has no values.
+   */
+  private double[][] values = new double[0][];
+  /**
+   * The currencies, indexed by currency ordinal, null if the currency has no values.
+   */
+  private Currency[] currencies = new Currency[0];
+  /**
+   * The ordinals of the currencies that have values, in the order first added.
+   */
+  private int[] ordinals = new int[0];
+  /**
+   * The number of currencies that have values.
+   */
+  private int size;
+
+  /**
+   * Creates an empty instance.
+   * <p>
+   * The size of the arrays is defined by the first array added.
+   */
+  public MultiCurrencyAmountArrayAccumulator() {
+  }
+
+  /**
+   * Creates an empty instance with the specified size of the arrays.
+   *
+   * @param arraySize  the size of the arrays
+   */
+  public MultiCurrencyAmountArrayAccumulator(int arraySize) {
+    this.arraySize = ArgChecker.notNegative(arraySize, "arraySize");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of currencies that have values.
+   *
+   * @return the number of currencies
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if this accumulator contains values for the specified currency.
+   *
+   * @param currency  the currency to find
+   * @return true if this accumulator contains values for the currency
+   */
+  public boolean contains(Currency currency) {
+    ArgChecker.notNull(currency, "currency");
+    int ordinal = currency.ordinal();
+    return ordinal < currencies.length && currencies[ordinal] != null;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds an array of amounts, mutating this accumulator.
+   *
+   * @param currency  the currency of the amounts
+   * @param amountsToAdd  the amounts to add
+   * @return {@code this}, for method chaining
+   * @throws IllegalArgumentException if the size of the array differs from that already added
+   */
+  public MultiCurrencyAmountArrayAccumulator add(Currency currency, DoubleArray amountsToAdd) {
+    ArgChecker.notNull(currency, "currency");
+    ArgChecker.notNull(amountsToAdd, "amountsToAdd");
+    checkSize(amountsToAdd.size());
+    int ordinal = currency.ordinal();
+    if (ordinal < currencies.length && currencies[ordinal] != null) {
+      double[] currencyValues = values[ordinal];
+      for (int i = 0; i < arraySize; i++) {
+        currencyValues[i] += amountsToAdd.get(i);
+      }
+    } else {
+      addCurrency(currency, ordinal, amountsToAdd.toArray());
+    }
+    return this;
+  }
+
+  /**
+   * Adds an array of amounts, mutating this accumulator.
+   *
+   * @param amountsToAdd  the amounts to add
+   * @return {@code this}, for method chaining
+   * @throws IllegalArgumentException if the size of the array differs from that already added
+   */
+  public MultiCurrencyAmountArrayAccumulator add(CurrencyAmountArray amountsToAdd) {
+    ArgChecker.notNull(amountsToAdd, "amountsToAdd");
+    return add(amountsToAdd.getCurrency(), amountsToAdd.getValues());
+  }
+
+  /**
+   * Adds the arrays of amounts in a multi-currency array, mutating this accumulator.
+   *
+   * @param amountsToAdd  the amounts to add
+   * @return {@code this}, for method chaining
+   * @throws IllegalArgumentException if the size of the array differs from that already added
+   */
+  public MultiCurrencyAmountArrayAccumulator add(MultiCurrencyAmountArray amountsToAdd) {
+    ArgChecker.notNull(amountsToAdd, "amountsToAdd");
+    checkSize(amountsToAdd.size());
+    for (Map.Entry<Currency, DoubleArray> entry : amountsToAdd.getValues().entrySet()) {
+      add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  /**
+   * Adds the values in another accumulator, mutating this accumulator.
+   * <p>
+   * The other accumulator is unaffected by this method.
+   *
+   * @param other  the other accumulator
+   * @return {@code this}, for method chaining
+   * @throws IllegalArgumentException if the size of the arrays differs from that already added
+   */
+  public MultiCurrencyAmountArrayAccumulator add(MultiCurrencyAmountArrayAccumulator other) {
+    ArgChecker.notNull(other, "other");
+    if (other.arraySize >= 0) {
+      checkSize(other.arraySize);
+    }
+    for (int i = 0; i < other.size; i++) {
+      int ordinal = other.ordinals[i];
+      add(other.currencies[ordinal], DoubleArray.ofUnsafe(other.values[ordinal]));
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds a {@code MultiCurrencyAmountArray} from the accumulated values.
+   * <p>
+   * If no currency has values, the returned array is empty with a size of zero,
+   * as per {@link MultiCurrencyAmountArray#of(Map)}.
+   * This accumulator is unaffected by this method, and may continue to be used.
+   *
+   * @return the multi-currency amount array
+   */
+  public MultiCurrencyAmountArray build() {
+    Map<Currency, DoubleArray> map = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      int ordinal = ordinals[i];
+      map.put(currencies[ordinal], DoubleArray.copyOf(values[ordinal]));
+    }
+    return MultiCurrencyAmountArray.of(map);
+  }
+
+  // checks the size of the array, defining the size if this is the first array
+  private void checkSize(int size) {
+    if (arraySize < 0) {
+      arraySize = size;
+    } else if (size != arraySize) {
+      throw new IllegalArgumentException(Messages.format(
+          "Sizes must be equal, this size is {}, other size is {}", arraySize, size));
+    }
+  }
+
+  // adds a currency that has no values, the first array is stored rather than added to zero
+  private void addCurrency(Currency currency, int ordinal, double[] currencyValues) {
+    if (ordinal >= currencies.length) {
+      int capacity = Math.max(Math.max(ordinal + 1, currencies.length * 2), MINIMUM_CAPACITY);
+      values = Arrays.copyOf(values, capacity);
+      currencies = Arrays.copyOf(currencies, capacity);
+    }
+    if (size == ordinals.length) {
+      ordinals = Arrays.copyOf(ordinals, Math.max(size * 2, MINIMUM_CAPACITY));
+    }
+    currencies[ordinal] = currency;
+    values[ordinal] = currencyValues;
+    ordinals[size++] = ordinal;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return build().toString();
+  }
+
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.date;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A day count that holds the relative year fractions of a set of dates from a base date.
+ * <p>
+ * Curves convert each date to a relative year fraction using {@link DayCount#relativeYearFraction(LocalDate, LocalDate)}.
+ * Across a large book, the same dates are converted many times, once for each trade and measure.
+ * For simple day counts, such as 'Act/365F', this is cheap, but for day counts such as 'Bus/252',
+ * which must count the business days in a holiday calendar, it can be significant.
+ * <p>
+ * This class decorates an underlying day count, calculating the relative year fractions of the specified
+ * dates from the base date when it is created. It is used by supplying it in place of the underlying
+ * day count, typically in the metadata of a curve built for the base date:
+ * <pre>
+ *  DayCount dayCount = YearFractionCache.of(underlying, valuationDate, paymentDates);
+ *  Curve cachedCurve = curve.withMetadata(curve.getMetadata().withInfo(CurveInfoType.DAY_COUNT, dayCount));
+ * </pre>
+ * Relative year fractions from the base date to one of the dates are returned without calculation.
+ * All other requests are passed to the underlying day count.
+ * <p>
+ * The name is that of the underlying day count, thus the cache is not retained when
+ * the day count is serialized.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class YearFractionCache implements DayCount, Serializable {
+
+  /**
+   * Serialization version.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The underlying day count.
+   */
+  private final DayCount underlying;
+  /**
+   * The base date.
+   */
+  private final LocalDate baseDate;
+  /**
+   * The epoch days of the cached dates, sorted and without duplicates.
+   */
+  private final long[] epochDays;
+  /**
+   * The relative year fractions, matching the epoch days.
+   */
+  private final double[] yearFractions;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance holding the relative year fractions of the specified dates from the base date.
+   * <p>
+   * The year fractions are calculated using the underlying day count when the instance is created.
+   * The dates may be in any order and may contain duplicates.
+   *
+   * @param underlying  the underlying day count
+   * @param baseDate  the base date, such as the valuation date
+   * @param dates  the dates to cache, which may be before the base date
+   * @return the day count
+   * @throws UnsupportedOperationException if a year fraction cannot be obtained
+   */
+  public static YearFractionCache of(DayCount underlying, LocalDate baseDate, Collection<LocalDate> dates) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.notNull(baseDate, "baseDate");
+    ArgChecker.noNulls(dates, "dates");
+    DayCount dayCount = underlying instanceof YearFractionCache ? ((YearFractionCache) underlying).underlying : underlying;
+    long[] epochDays = dates.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+    double[] yearFractions = new double[epochDays.length];
+    for (int i = 0; i < epochDays.length; i++) {
+      yearFractions[i] = dayCount.relativeYearFraction(baseDate, LocalDate.ofEpochDay(epochDays[i]));
+    }
+    return new YearFractionCache(dayCount, baseDate, epochDays, yearFractions);
+  }
+
+  // restricted constructor
+  private YearFractionCache(DayCount underlying, LocalDate baseDate, long[] epochDays, double[] yearFractions) {
+    this.underlying = underlying;
+    this.baseDate = baseDate;
+    this.epochDays = epochDays;
+    this.yearFractions = yearFractions;
+  }
+
+  // the cache is not serialized
+  private Object writeReplace() {
+    return underlying;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying day count.
+   *
+   * @return the underlying day count
+   */
+  public DayCount getUnderlying() {
+    return underlying;
+  }
+
+  /**
+   * Gets the base date.
+   *
+   * @return the base date
+   */
+  public LocalDate getBaseDate() {
+    return baseDate;
+  }
+
+  /**
+   * Gets the number of cached dates.
+   *
+   * @return the number of dates
+   */
+  public int size() {
+    return epochDays.length;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double relativeYearFraction(LocalDate firstDate, LocalDate secondDate) {
+    if (firstDate.equals(baseDate)) {
+      int index = Arrays.binarySearch(epochDays, secondDate.toEpochDay());
+      if (index >= 0) {
+        return yearFractions[index];
+      }
+    }
+    return underlying.relativeYearFraction(firstDate, secondDate);
+  }
+
+  @Override
+  public double relativeYearFraction(LocalDate firstDate, LocalDate secondDate, ScheduleInfo scheduleInfo) {
+    return underlying.relativeYearFraction(firstDate, secondDate, scheduleInfo);
+  }
+
+  @Override
+  public double yearFraction(LocalDate firstDate, LocalDate secondDate, ScheduleInfo scheduleInfo) {
+    return underlying.yearFraction(firstDate, secondDate, scheduleInfo);
+  }
+
+  @Override
+  public int days(LocalDate firstDate, LocalDate secondDate) {
+    return underlying.days(firstDate, secondDate);
+  }
+
+  @Override
+  public String getName() {
+    return underlying.getName();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof YearFractionCache) {
+      YearFractionCache other = (YearFractionCache) obj;
+      return underlying.equals(other.underlying) &&
+          baseDate.equals(other.baseDate) &&
+          Arrays.equals(epochDays, other.epochDays);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return underlying.hashCode() ^ baseDate.hashCode() ^ Arrays.hashCode(epochDays);
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link MultiCurrencyAmountAccumulator}.
+ */
+@Test
+public class MultiCurrencyAmountAccumulatorTest {
+
+  private static final Currency CCY1 = Currency.AUD;
+  private static final Currency CCY2 = Currency.CAD;
+  private static final Currency CCY3 = Currency.CHF;
+  private static final CurrencyAmount CA1 = CurrencyAmount.of(CCY1, 101);
+  private static final CurrencyAmount CA2 = CurrencyAmount.of(CCY2, 103);
+  private static final CurrencyAmount CA3 = CurrencyAmount.of(CCY3, 107);
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator();
+    assertEquals(test.size(), 0);
+    assertFalse(test.contains(CCY1));
+    assertEquals(test.getAmountOrZero(CCY1), 0d);
+    assertEquals(test.build(), MultiCurrencyAmount.empty());
+  }
+
+  public void test_add() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator()
+        .add(CA2)
+        .add(CCY1, 1)
+        .add(MultiCurrencyAmount.of(CA1, CA3));
+    assertEquals(test.size(), 3);
+    assertTrue(test.contains(CCY1));
+    assertEquals(test.getAmountOrZero(CCY1), 102d);
+    assertEquals(test.build(), MultiCurrencyAmount.of(CurrencyAmount.of(CCY1, 102), CA2, CA3));
+    assertEquals(test.toString(), test.build().toString());
+  }
+
+  public void test_add_accumulator() {
+    MultiCurrencyAmountAccumulator other = new MultiCurrencyAmountAccumulator().add(CA1).add(CA2);
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator().add(CA3).add(CCY1, 1).add(other);
+    assertEquals(test.build(), MultiCurrencyAmount.of(CurrencyAmount.of(CCY1, 102), CA2, CA3));
+    assertEquals(other.build(), MultiCurrencyAmount.of(CA1, CA2));
+  }
+
+  public void test_add_manyCurrencies() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator();
+    MultiCurrencyAmount expected = MultiCurrencyAmount.empty();
+    for (Currency currency : Currency.getAvailableCurrencies()) {
+      test.add(currency, 1);
+      test.add(currency, 2);
+      expected = expected.plus(currency, 3);
+    }
+    assertEquals(test.size(), Currency.getAvailableCurrencies().size());
+    assertEquals(test.build(), expected);
+  }
+
+  public void test_add_matchesPlus() {
+    double[] amounts = {0.1, 0.2, 0.3, 1e16, -1e16, 0.7};
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator();
+    MultiCurrencyAmount expected = MultiCurrencyAmount.empty();
+    for (double amount : amounts) {
+      test.add(CCY1, amount);
+      expected = expected.plus(CCY1, amount);
+    }
+    assertEquals(test.build(), expected);
+  }
+
+  public void test_add_null() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator();
+    assertThrowsIllegalArg(() -> test.add((Currency) null, 1));
+    assertThrowsIllegalArg(() -> test.add((CurrencyAmount) null));
+    assertThrowsIllegalArg(() -> test.add((MultiCurrencyAmount) null));
+    assertThrowsIllegalArg(() -> test.add((MultiCurrencyAmountAccumulator) null));
+  }
+
+  public void test_build_unaffectedByLaterAdd() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator().add(CA1);
+    MultiCurrencyAmount built = test.build();
+    test.add(CA1);
+    assertEquals(built, MultiCurrencyAmount.of(CA1));
+  }
+
+  public void test_clear() {
+    MultiCurrencyAmountAccumulator test = new MultiCurrencyAmountAccumulator().add(CA1).add(CA2);
+    test.clear();
+    assertEquals(test.size(), 0);
+    assertFalse(test.contains(CCY1));
+    assertEquals(test.build(), MultiCurrencyAmount.empty());
+    test.add(CA3).add(CA1);
+    assertEquals(test.build(), MultiCurrencyAmount.of(CA1, CA3));
+  }
+
+}
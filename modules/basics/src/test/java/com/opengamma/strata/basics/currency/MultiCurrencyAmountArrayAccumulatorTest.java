@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link MultiCurrencyAmountArrayAccumulator}.
+ */
+@Test
+public class MultiCurrencyAmountArrayAccumulatorTest {
+
+  private static final MultiCurrencyAmountArray VALUES_ARRAY = MultiCurrencyAmountArray.of(
+      ImmutableMap.of(
+          GBP, DoubleArray.of(20, 21, 22),
+          USD, DoubleArray.of(30, 32, 33)));
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator();
+    assertEquals(test.size(), 0);
+    assertFalse(test.contains(GBP));
+    assertEquals(test.build(), MultiCurrencyAmountArray.of(ImmutableMap.of()));
+  }
+
+  public void test_add() {
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator()
+        .add(VALUES_ARRAY)
+        .add(CurrencyAmountArray.of(EUR, DoubleArray.of(1, 2, 3)))
+        .add(GBP, DoubleArray.of(1, 2, 3));
+    assertEquals(test.size(), 3);
+    assertTrue(test.contains(EUR));
+    MultiCurrencyAmountArray expected = MultiCurrencyAmountArray.of(
+        ImmutableMap.of(
+            GBP, DoubleArray.of(21, 23, 25),
+            USD, DoubleArray.of(30, 32, 33),
+            EUR, DoubleArray.of(1, 2, 3)));
+    assertEquals(test.build(), expected);
+    assertEquals(test.toString(), expected.toString());
+  }
+
+  public void test_add_matchesPlus() {
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator(3);
+    test.add(VALUES_ARRAY).add(VALUES_ARRAY).add(VALUES_ARRAY);
+    assertEquals(test.build(), VALUES_ARRAY.plus(VALUES_ARRAY).plus(VALUES_ARRAY));
+  }
+
+  public void test_add_accumulator() {
+    MultiCurrencyAmountArrayAccumulator other = new MultiCurrencyAmountArrayAccumulator().add(VALUES_ARRAY);
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator()
+        .add(EUR, DoubleArray.of(1, 2, 3))
+        .add(other)
+        .add(new MultiCurrencyAmountArrayAccumulator());
+    assertEquals(test.build(), VALUES_ARRAY.plus(MultiCurrencyAmountArray.of(ImmutableMap.of(EUR, DoubleArray.of(1, 2, 3)))));
+    assertEquals(other.build(), VALUES_ARRAY);
+  }
+
+  public void test_add_wrongSize() {
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator().add(VALUES_ARRAY);
+    assertThrowsIllegalArg(() -> test.add(EUR, DoubleArray.of(1, 2)));
+    assertThrowsIllegalArg(() -> test.add(GBP, DoubleArray.of(1, 2)));
+    assertThrowsIllegalArg(() -> new MultiCurrencyAmountArrayAccumulator(2).add(VALUES_ARRAY));
+    assertThrowsIllegalArg(() -> new MultiCurrencyAmountArrayAccumulator(-1));
+  }
+
+  public void test_build_unaffectedByLaterAdd() {
+    MultiCurrencyAmountArrayAccumulator test = new MultiCurrencyAmountArrayAccumulator().add(VALUES_ARRAY);
+    MultiCurrencyAmountArray built = test.build();
+    test.add(VALUES_ARRAY);
+    assertEquals(built, VALUES_ARRAY);
+  }
+
+  public void test_add_doesNotMutateInput() {
+    DoubleArray values = DoubleArray.of(1, 2, 3);
+    new MultiCurrencyAmountArrayAccumulator().add(EUR, values).add(EUR, values);
+    assertEquals(values, DoubleArray.of(1, 2, 3));
+  }
+
+}
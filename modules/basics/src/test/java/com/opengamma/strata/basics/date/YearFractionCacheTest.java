@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.date;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link YearFractionCache}.
+ */
+@Test
+public class YearFractionCacheTest {
+
+  private static final LocalDate BASE = date(2017, 3, 15);
+  private static final DayCount BUS_252 = DayCount.ofBus252(HolidayCalendarIds.BRBD);
+  private static final List<LocalDate> DATES = ImmutableList.of(
+      date(2027, 3, 15), BASE.plusDays(1), date(2017, 12, 26), BASE, date(2017, 12, 26), BASE.minusDays(10));
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    YearFractionCache test = YearFractionCache.of(BUS_252, BASE, DATES);
+    assertEquals(test.getUnderlying(), BUS_252);
+    assertEquals(test.getBaseDate(), BASE);
+    assertEquals(test.size(), 5);
+    assertEquals(test.getName(), BUS_252.getName());
+    assertEquals(test.toString(), BUS_252.toString());
+    assertSame(YearFractionCache.of(test, BASE, DATES).getUnderlying(), BUS_252);
+  }
+
+  public void test_of_nulls() {
+    assertThrowsIllegalArg(() -> YearFractionCache.of(null, BASE, DATES));
+    assertThrowsIllegalArg(() -> YearFractionCache.of(BUS_252, null, DATES));
+    assertThrowsIllegalArg(() -> YearFractionCache.of(BUS_252, BASE, null));
+    assertThrowsIllegalArg(() -> YearFractionCache.of(BUS_252, BASE, Arrays.asList(BASE, null)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_relativeYearFraction() {
+    YearFractionCache test = YearFractionCache.of(BUS_252, BASE, DATES);
+    for (LocalDate date : DATES) {
+      assertEquals(test.relativeYearFraction(BASE, date), BUS_252.relativeYearFraction(BASE, date));
+    }
+    LocalDate other = date(2020, 6, 30);
+    assertEquals(test.relativeYearFraction(BASE, other), BUS_252.relativeYearFraction(BASE, other));
+    assertEquals(test.relativeYearFraction(other, BASE), BUS_252.relativeYearFraction(other, BASE));
+  }
+
+  public void test_relativeYearFraction_cached() {
+    AtomicInteger count = new AtomicInteger();
+    YearFractionCache test = YearFractionCache.of(new CountingDayCount(count), BASE, DATES);
+    assertEquals(count.get(), 5);
+    for (LocalDate date : DATES) {
+      assertEquals(test.relativeYearFraction(BASE, date), ACT_ACT_ISDA.relativeYearFraction(BASE, date));
+    }
+    assertEquals(count.get(), 5);
+    // dates that are not cached, or not from the base date, are calculated
+    test.relativeYearFraction(BASE, date(2020, 6, 30));
+    test.relativeYearFraction(BASE.plusDays(1), date(2027, 3, 15));
+    assertEquals(count.get(), 7);
+  }
+
+  public void test_delegated() {
+    YearFractionCache test = YearFractionCache.of(ACT_360, BASE, DATES);
+    LocalDate end = date(2018, 6, 29);
+    assertEquals(test.yearFraction(BASE, end), ACT_360.yearFraction(BASE, end));
+    assertEquals(
+        test.relativeYearFraction(end, BASE, DayCounts.SIMPLE_SCHEDULE_INFO),
+        ACT_360.relativeYearFraction(end, BASE, DayCounts.SIMPLE_SCHEDULE_INFO));
+    assertEquals(test.days(BASE, end), ACT_360.days(BASE, end));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_equalsHashCode() {
+    YearFractionCache test = YearFractionCache.of(BUS_252, BASE, DATES);
+    YearFractionCache test2 = YearFractionCache.of(BUS_252, BASE, ImmutableList.copyOf(DATES).reverse());
+    assertEquals(test, test);
+    assertEquals(test, test2);
+    assertEquals(test.hashCode(), test2.hashCode());
+    assertFalse(test.equals(YearFractionCache.of(ACT_360, BASE, DATES)));
+    assertFalse(test.equals(YearFractionCache.of(BUS_252, BASE.plusDays(1), DATES)));
+    assertFalse(test.equals(YearFractionCache.of(BUS_252, BASE, DATES.subList(0, 2))));
+    assertFalse(test.equals(BUS_252));
+    assertFalse(test.equals(null));
+  }
+
+  public void test_serialization() throws IOException, ClassNotFoundException {
+    assertSerialization(BUS_252);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(YearFractionCache.of(BUS_252, BASE, DATES));
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+      assertEquals(ois.readObject(), BUS_252);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // day count that counts the number of calculations
+  private static final class CountingDayCount implements DayCount {
+    private final AtomicInteger count;
+
+    private CountingDayCount(AtomicInteger count) {
+      this.count = count;
+    }
+
+    @Override
+    public double yearFraction(LocalDate firstDate, LocalDate secondDate, ScheduleInfo scheduleInfo) {
+      count.incrementAndGet();
+      return ACT_ACT_ISDA.yearFraction(firstDate, secondDate, scheduleInfo);
+    }
+
+    @Override
+    public int days(LocalDate firstDate, LocalDate secondDate) {
+      return ACT_ACT_ISDA.days(firstDate, secondDate);
+    }
+
+    @Override
+    public String getName() {
+      return "Counting";
+    }
+  }
+
+}
@@ -0,0 +1,479 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.FOLLOWING;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.DayCounts.THIRTY_U_360;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.USNY;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
+import static com.opengamma.strata.product.swap.type.IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FraCurveNode;
+import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
+import com.opengamma.strata.market.curve.node.IborIborSwapCurveNode;
+import com.opengamma.strata.market.curve.node.TermDepositCurveNode;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.Surfaces;
+import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
+import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
+import com.opengamma.strata.pricer.bond.ImmutableLegalEntityDiscountingProvider;
+import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
+import com.opengamma.strata.pricer.bond.LegalEntityGroup;
+import com.opengamma.strata.pricer.bond.RepoGroup;
+import com.opengamma.strata.pricer.credit.IsdaCreditCurveInputs;
+import com.opengamma.strata.pricer.credit.IsdaYieldCurveInputs;
+import com.opengamma.strata.pricer.credit.IsdaYieldCurveUnderlyingType;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swaption.NormalSwaptionExpiryTenorVolatilities;
+import com.opengamma.strata.product.SecurityId;
+import com.opengamma.strata.product.bond.FixedCouponBond;
+import com.opengamma.strata.product.bond.FixedCouponBondYieldConvention;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBond;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.credit.ResolvedCds;
+import com.opengamma.strata.product.credit.RestructuringClause;
+import com.opengamma.strata.product.credit.SeniorityLevel;
+import com.opengamma.strata.product.credit.SingleNameReferenceInformation;
+import com.opengamma.strata.product.credit.type.CdsConvention;
+import com.opengamma.strata.product.credit.type.CdsConventions;
+import com.opengamma.strata.product.credit.type.IsdaYieldCurveConventions;
+import com.opengamma.strata.product.deposit.type.IborFixingDepositTemplate;
+import com.opengamma.strata.product.deposit.type.ImmutableTermDepositConvention;
+import com.opengamma.strata.product.deposit.type.TermDepositConvention;
+import com.opengamma.strata.product.deposit.type.TermDepositTemplate;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+import com.opengamma.strata.product.swap.SwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapTemplate;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
+import com.opengamma.strata.product.swap.type.IborIborSwapTemplate;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+
+/**
+ * Market data and portfolios shared by the benchmarks.
+ * <p>
+ * The rates data is a USD curve group of 43 nodes, with an OIS discounting curve and
+ * forward curves for Libor 3M and Libor 6M, calibrated once from fixed market quotes.
+ * The portfolios are generated deterministically, so that each benchmark run prices the same trades.
+ */
+public final class BenchmarkData {
+
+  /**
+   * The valuation date.
+   */
+  public static final LocalDate VAL_DATE = LocalDate.of(2015, 7, 21);
+  /**
+   * The reference data.
+   */
+  public static final ReferenceData REF_DATA = ReferenceData.standard();
+
+  private static final String SCHEME = "BENCHMARK";
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  //-------------------------------------------------------------------------
+  private static final CurveName DSCON_CURVE_NAME = CurveName.of("USD-DSCON-OIS");
+  private static final CurveName FWD3_CURVE_NAME = CurveName.of("USD-LIBOR3M-FRAIRS");
+  private static final CurveName FWD6_CURVE_NAME = CurveName.of("USD-LIBOR6M-FRABS");
+
+  private static final double[] DSC_MARKET_QUOTES = new double[] {
+      0.0005, 0.0005,
+      0.00072000, 0.00082000, 0.00093000, 0.00090000, 0.00105000,
+      0.00118500, 0.00318650, 0.00318650, 0.00704000, 0.01121500, 0.01515000,
+      0.01845500, 0.02111000, 0.02332000, 0.02513500, 0.02668500};
+  private static final Period[] DSC_OIS_TENORS = new Period[] {
+      Period.ofMonths(1), Period.ofMonths(2), Period.ofMonths(3), Period.ofMonths(6), Period.ofMonths(9),
+      Period.ofYears(1), Period.ofMonths(18), Period.ofYears(2), Period.ofYears(3), Period.ofYears(4), Period.ofYears(5),
+      Period.ofYears(6), Period.ofYears(7), Period.ofYears(8), Period.ofYears(9), Period.ofYears(10)};
+
+  private static final double[] FWD3_MARKET_QUOTES = new double[] {
+      0.00236600,
+      0.00258250, 0.00296050,
+      0.00294300, 0.00503000, 0.00939150, 0.01380800, 0.01732000,
+      0.02000000, 0.02396200, 0.02500000, 0.02700000, 0.02930000};
+  private static final Period[] FWD3_FRA_TENORS = new Period[] {Period.ofMonths(3), Period.ofMonths(6)};
+  private static final Period[] FWD3_IRS_TENORS = new Period[] {
+      Period.ofYears(1), Period.ofYears(2), Period.ofYears(3), Period.ofYears(4), Period.ofYears(5),
+      Period.ofYears(6), Period.ofYears(7), Period.ofYears(8), Period.ofYears(9), Period.ofYears(10)};
+
+  private static final double[] FWD6_MARKET_QUOTES = new double[] {
+      0.00246600,
+      0.00268250,
+      0.00130000, 0.00120000, 0.00100000, 0.00100000, 0.00100000,
+      0.00100000, 0.00100000, 0.00090000, 0.00090000, 0.00080000};
+  private static final Period[] FWD6_BS_TENORS = FWD3_IRS_TENORS;
+
+  /**
+   * The market quotes used to calibrate the curve group.
+   */
+  public static final ImmutableMarketData QUOTES;
+  /**
+   * The curve group definition.
+   */
+  public static final CurveGroupDefinition CURVE_GROUP_DEFN;
+  static {
+    ImmutableMarketDataBuilder quotes = ImmutableMarketData.builder(VAL_DATE);
+    // discounting and Fed Fund forward
+    List<CurveNode> dscNodes = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      TermDepositConvention convention = ImmutableTermDepositConvention.of(
+          "USD-Dep", USD, BusinessDayAdjustment.of(FOLLOWING, USNY), ACT_360, DaysAdjustment.ofBusinessDays(i, USNY));
+      dscNodes.add(TermDepositCurveNode.of(
+          TermDepositTemplate.of(Period.ofDays(1), convention), quote(quotes, "USD-DEP-" + i, DSC_MARKET_QUOTES[i])));
+    }
+    for (int i = 0; i < DSC_OIS_TENORS.length; i++) {
+      dscNodes.add(FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Period.ZERO, Tenor.of(DSC_OIS_TENORS[i]), USD_FIXED_1Y_FED_FUND_OIS),
+          quote(quotes, "USD-OIS-" + DSC_OIS_TENORS[i], DSC_MARKET_QUOTES[i + 2])));
+    }
+    // Libor 3M forward
+    List<CurveNode> fwd3Nodes = new ArrayList<>();
+    fwd3Nodes.add(IborFixingDepositCurveNode.of(
+        IborFixingDepositTemplate.of(USD_LIBOR_3M), quote(quotes, "USD-FIX-3M", FWD3_MARKET_QUOTES[0])));
+    for (int i = 0; i < FWD3_FRA_TENORS.length; i++) {
+      fwd3Nodes.add(FraCurveNode.of(
+          FraTemplate.of(FWD3_FRA_TENORS[i], USD_LIBOR_3M),
+          quote(quotes, "USD-FRA3M-" + FWD3_FRA_TENORS[i], FWD3_MARKET_QUOTES[i + 1])));
+    }
+    for (int i = 0; i < FWD3_IRS_TENORS.length; i++) {
+      fwd3Nodes.add(FixedIborSwapCurveNode.of(
+          FixedIborSwapTemplate.of(Period.ZERO, Tenor.of(FWD3_IRS_TENORS[i]), USD_FIXED_6M_LIBOR_3M),
+          quote(quotes, "USD-IRS3M-" + FWD3_IRS_TENORS[i], FWD3_MARKET_QUOTES[i + 3])));
+    }
+    // Libor 6M forward
+    List<CurveNode> fwd6Nodes = new ArrayList<>();
+    fwd6Nodes.add(IborFixingDepositCurveNode.of(
+        IborFixingDepositTemplate.of(USD_LIBOR_6M), quote(quotes, "USD-FIX-6M", FWD6_MARKET_QUOTES[0])));
+    fwd6Nodes.add(FraCurveNode.of(
+        FraTemplate.of(Period.ofMonths(3), USD_LIBOR_6M), quote(quotes, "USD-FRA6M-P3M", FWD6_MARKET_QUOTES[1])));
+    for (int i = 0; i < FWD6_BS_TENORS.length; i++) {
+      fwd6Nodes.add(IborIborSwapCurveNode.of(
+          IborIborSwapTemplate.of(Period.ZERO, Tenor.of(FWD6_BS_TENORS[i]), USD_LIBOR_3M_LIBOR_6M),
+          quote(quotes, "USD-BS36-" + FWD6_BS_TENORS[i], FWD6_MARKET_QUOTES[i + 2])));
+    }
+    QUOTES = quotes.build();
+    CURVE_GROUP_DEFN = CurveGroupDefinition.builder()
+        .name(CurveGroupName.of("USD-DSCON-LIBOR3M-LIBOR6M"))
+        .addCurve(curveDefinition(DSCON_CURVE_NAME, dscNodes), USD, USD_FED_FUND)
+        .addForwardCurve(curveDefinition(FWD3_CURVE_NAME, fwd3Nodes), USD_LIBOR_3M)
+        .addForwardCurve(curveDefinition(FWD6_CURVE_NAME, fwd6Nodes), USD_LIBOR_6M)
+        .build();
+  }
+
+  /**
+   * The calibrator.
+   */
+  public static final CurveCalibrator CALIBRATOR = CurveCalibrator.standard();
+  /**
+   * The calibrated rates provider.
+   */
+  public static final ImmutableRatesProvider RATES_PROVIDER = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, QUOTES, REF_DATA);
+
+  //-------------------------------------------------------------------------
+  private static final ZonedDateTime VAL_DATE_TIME = VAL_DATE.atTime(LocalTime.of(11, 0)).atZone(NEW_YORK);
+  /**
+   * The swaption volatilities, normal volatilities by expiry and tenor.
+   */
+  public static final NormalSwaptionExpiryTenorVolatilities SWAPTION_VOLS = NormalSwaptionExpiryTenorVolatilities.of(
+      USD_FIXED_6M_LIBOR_3M,
+      VAL_DATE_TIME,
+      InterpolatedNodalSurface.of(
+          Surfaces.normalVolatilityByExpiryTenor("USD-SWAPTION-VOL", ACT_365F),
+          DoubleArray.of(0.25, 0.25, 0.25, 1, 1, 1, 5, 5, 5, 10, 10, 10),
+          DoubleArray.of(1, 5, 10, 1, 5, 10, 1, 5, 10, 1, 5, 10),
+          DoubleArray.of(0.0060, 0.0075, 0.0080, 0.0070, 0.0082, 0.0085, 0.0085, 0.0090, 0.0088, 0.0088, 0.0086, 0.0082),
+          GridSurfaceInterpolator.of(CurveInterpolators.LINEAR, CurveInterpolators.LINEAR)));
+
+  //-------------------------------------------------------------------------
+  private static final StandardId ISSUER_ID = StandardId.of(SCHEME, "GOVT1");
+  private static final LegalEntityGroup ISSUER_GROUP = LegalEntityGroup.of("GOVT1");
+  private static final RepoGroup REPO_GROUP = RepoGroup.of("GOVT1 BONDS");
+  /**
+   * The issuer and repo curves used to price bonds.
+   */
+  public static final LegalEntityDiscountingProvider LEGAL_ENTITY_PROVIDER;
+  static {
+    DoubleArray times = DoubleArray.of(0.25, 0.5, 1, 2, 5, 10, 30);
+    InterpolatedNodalCurve issuerCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("USD-GOVT1-ISSUER", ACT_365F),
+        times,
+        DoubleArray.of(0.0010, 0.0012, 0.0030, 0.0065, 0.0150, 0.0225, 0.0290),
+        CurveInterpolators.LINEAR);
+    InterpolatedNodalCurve repoCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("USD-GOVT1-REPO", ACT_365F),
+        times,
+        DoubleArray.of(0.0008, 0.0010, 0.0025, 0.0060, 0.0140, 0.0215, 0.0280),
+        CurveInterpolators.LINEAR);
+    LEGAL_ENTITY_PROVIDER = ImmutableLegalEntityDiscountingProvider.builder()
+        .issuerCurves(ImmutableMap.of(Pair.of(ISSUER_GROUP, USD), ZeroRateDiscountFactors.of(USD, VAL_DATE, issuerCurve)))
+        .issuerCurveGroups(ImmutableMap.of(ISSUER_ID, ISSUER_GROUP))
+        .repoCurves(ImmutableMap.of(Pair.of(REPO_GROUP, USD), ZeroRateDiscountFactors.of(USD, VAL_DATE, repoCurve)))
+        .repoCurveGroups(ImmutableMap.of(ISSUER_ID, REPO_GROUP))
+        .valuationDate(VAL_DATE)
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  private static final CdsConvention CDS_CONVENTION = CdsConventions.USD_NORTH_AMERICAN;
+  private static final Period[] CDS_YIELD_TENORS = new Period[] {
+      Period.ofMonths(1), Period.ofMonths(2), Period.ofMonths(3), Period.ofMonths(6), Period.ofYears(1),
+      Period.ofYears(2), Period.ofYears(3), Period.ofYears(4), Period.ofYears(5), Period.ofYears(6),
+      Period.ofYears(7), Period.ofYears(8), Period.ofYears(9), Period.ofYears(10), Period.ofYears(12),
+      Period.ofYears(15), Period.ofYears(20), Period.ofYears(25), Period.ofYears(30)};
+  private static final double[] CDS_YIELD_RATES = new double[] {
+      0.001535, 0.001954, 0.002281, 0.003217, 0.005444,
+      0.005905, 0.009555, 0.012775, 0.015395, 0.017445,
+      0.019205, 0.020660, 0.021885, 0.022940, 0.024615,
+      0.026300, 0.027950, 0.028715, 0.029160};
+  private static final Period[] CDS_CREDIT_TENORS = new Period[] {
+      Period.ofMonths(6), Period.ofYears(1), Period.ofYears(2), Period.ofYears(3),
+      Period.ofYears(4), Period.ofYears(5), Period.ofYears(7), Period.ofYears(10)};
+  private static final double[] CDS_CREDIT_RATES = new double[] {
+      0.0028, 0.0035, 0.0048, 0.0061, 0.0074, 0.0086, 0.0101, 0.0112};
+  /**
+   * The recovery rate used to price CDS.
+   */
+  public static final double CDS_RECOVERY_RATE = 0.4;
+  /**
+   * The ISDA yield curve inputs used to price CDS.
+   */
+  public static final IsdaYieldCurveInputs CDS_YIELD_CURVE = IsdaYieldCurveInputs.of(
+      CurveName.of("USD-ISDA"),
+      CDS_YIELD_TENORS,
+      ImmutableList.copyOf(CDS_YIELD_TENORS).stream().map(VAL_DATE::plus).toArray(LocalDate[]::new),
+      ImmutableList.copyOf(CDS_YIELD_TENORS).stream()
+          .map(p -> p.toTotalMonths() <= 12 ?
+              IsdaYieldCurveUnderlyingType.ISDA_MONEY_MARKET :
+              IsdaYieldCurveUnderlyingType.ISDA_SWAP)
+          .toArray(IsdaYieldCurveUnderlyingType[]::new),
+      CDS_YIELD_RATES,
+      IsdaYieldCurveConventions.USD_ISDA);
+  /**
+   * The ISDA credit curve inputs used to price CDS.
+   */
+  public static final IsdaCreditCurveInputs CDS_CREDIT_CURVE = IsdaCreditCurveInputs.of(
+      CurveName.of("USD-COMP01-CREDIT"),
+      CDS_CREDIT_TENORS,
+      ImmutableList.copyOf(CDS_CREDIT_TENORS).stream()
+          .map(p -> CDS_CONVENTION.calculateUnadjustedMaturityDateFromValuationDate(VAL_DATE, p))
+          .toArray(LocalDate[]::new),
+      CDS_CREDIT_RATES,
+      CDS_CONVENTION,
+      1d);
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private BenchmarkData() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a portfolio of vanilla fixed against Libor 3M swaps.
+   * <p>
+   * The swaps have tenors between 1 and 30 years, and alternate between paying and receiving fixed.
+   *
+   * @param count  the number of trades
+   * @return the trades
+   */
+  public static List<SwapTrade> swaps(int count) {
+    List<SwapTrade> trades = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Tenor tenor = Tenor.ofYears(1 + i % 30);
+      double fixedRate = 0.0050 + 0.0001 * (i % 25);
+      trades.add(USD_FIXED_6M_LIBOR_3M.createTrade(VAL_DATE, tenor, buySell(i), notional(i), fixedRate, REF_DATA));
+    }
+    return trades;
+  }
+
+  /**
+   * Creates a portfolio of FRAs on Libor 3M.
+   * <p>
+   * The FRAs start between 1 and 24 months after the valuation date.
+   *
+   * @param count  the number of trades
+   * @return the trades
+   */
+  public static List<FraTrade> fras(int count) {
+    List<FraTrade> trades = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      FraTemplate template = FraTemplate.of(Period.ofMonths(1 + i % 24), USD_LIBOR_3M);
+      double fixedRate = 0.0030 + 0.0001 * (i % 25);
+      trades.add(template.createTrade(VAL_DATE, buySell(i), notional(i), fixedRate, REF_DATA));
+    }
+    return trades;
+  }
+
+  /**
+   * Creates a portfolio of physically settled swaptions on fixed against Libor 3M swaps.
+   * <p>
+   * The swaptions expire between 1 and 10 years after the valuation date,
+   * and the underlying swaps have tenors between 1 and 10 years.
+   *
+   * @param count  the number of trades
+   * @return the resolved swaptions
+   */
+  public static List<ResolvedSwaption> swaptions(int count) {
+    List<ResolvedSwaption> swaptions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LocalDate expiryDate = VAL_DATE.plusYears(1 + i % 10);
+      Tenor tenor = Tenor.ofYears(1 + (i / 10) % 10);
+      double strike = 0.0150 + 0.0005 * (i % 20);
+      swaptions.add(Swaption.builder()
+          .swaptionSettlement(PhysicalSwaptionSettlement.DEFAULT)
+          .expiryDate(AdjustableDate.of(expiryDate))
+          .expiryTime(LocalTime.of(11, 0))
+          .expiryZone(NEW_YORK)
+          .longShort(i % 2 == 0 ? LongShort.LONG : LongShort.SHORT)
+          .underlying(USD_FIXED_6M_LIBOR_3M
+              .createTrade(expiryDate, tenor, buySell(i), notional(i), strike, REF_DATA)
+              .getProduct())
+          .build()
+          .resolve(REF_DATA));
+    }
+    return swaptions;
+  }
+
+  /**
+   * Creates a portfolio of fixed coupon bonds issued by a single issuer.
+   * <p>
+   * The bonds have semi-annual coupons and maturities between 1 and 30 years.
+   *
+   * @param count  the number of bonds
+   * @return the resolved bonds
+   */
+  public static List<ResolvedFixedCouponBond> bonds(int count) {
+    List<ResolvedFixedCouponBond> bonds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LocalDate startDate = VAL_DATE.minusMonths(1 + i % 6);
+      LocalDate endDate = startDate.plusYears(1 + i % 30);
+      bonds.add(FixedCouponBond.builder()
+          .securityId(SecurityId.of(SCHEME, "GOVT1-BOND" + i))
+          .dayCount(THIRTY_U_360)
+          .fixedRate(0.0125 + 0.00025 * (i % 40))
+          .legalEntityId(ISSUER_ID)
+          .currency(USD)
+          .notional(notional(i))
+          .accrualSchedule(PeriodicSchedule.of(
+              startDate,
+              endDate,
+              Frequency.P6M,
+              BusinessDayAdjustment.of(MODIFIED_FOLLOWING, USNY),
+              StubConvention.SHORT_INITIAL,
+              false))
+          .settlementDateOffset(DaysAdjustment.ofBusinessDays(1, USNY))
+          .yieldConvention(FixedCouponBondYieldConvention.US_STREET)
+          .build()
+          .resolve(REF_DATA));
+    }
+    return bonds;
+  }
+
+  /**
+   * Creates a portfolio of single name CDS on one reference entity.
+   * <p>
+   * The CDS have a 100bp coupon and maturities between 1 and 10 years.
+   *
+   * @param count  the number of trades
+   * @return the resolved CDS
+   */
+  public static List<ResolvedCds> cds(int count) {
+    SingleNameReferenceInformation reference = SingleNameReferenceInformation.of(
+        StandardId.of(SCHEME, "COMP01"),
+        SeniorityLevel.SENIOR_UNSECURED_FOREIGN,
+        USD,
+        RestructuringClause.NO_RESTRUCTURING_2014);
+    LocalDate startDate = LocalDate.of(2015, 6, 22);
+    List<ResolvedCds> cds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      LocalDate endDate = LocalDate.of(2016 + i % 10, 6, 20);
+      cds.add(CDS_CONVENTION
+          .toTrade(startDate, endDate, buySell(i), notional(i), 0.0100, reference, 0d, VAL_DATE.plusDays(3))
+          .resolve(REF_DATA)
+          .getProduct());
+    }
+    return cds;
+  }
+
+  //-------------------------------------------------------------------------
+  // creates a curve definition
+  private static InterpolatedNodalCurveDefinition curveDefinition(CurveName name, List<CurveNode> nodes) {
+    return InterpolatedNodalCurveDefinition.builder()
+        .name(name)
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .dayCount(ACT_365F)
+        .interpolator(CurveInterpolators.LINEAR)
+        .extrapolatorLeft(CurveExtrapolators.FLAT)
+        .extrapolatorRight(CurveExtrapolators.FLAT)
+        .nodes(nodes)
+        .build();
+  }
+
+  // adds a quote to the market data, returning the identifier
+  private static QuoteId quote(ImmutableMarketDataBuilder builder, String name, double value) {
+    QuoteId id = QuoteId.of(StandardId.of(SCHEME, name));
+    builder.addValue(id, value);
+    return id;
+  }
+
+  // the direction of a trade in a portfolio
+  private static BuySell buySell(int index) {
+    return index % 2 == 0 ? BuySell.BUY : BuySell.SELL;
+  }
+
+  // the notional of a trade in a portfolio
+  private static double notional(int index) {
+    return 1_000_000d * (1 + index % 100);
+  }
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with allocation profiling enabled.
+ * <p>
+ * This is the main class of the benchmark jar file.
+ * The standard JMH command line options are accepted, for example a regular expression
+ * selecting the benchmarks to run. The JMH GC profiler is always added, so that the
+ * allocation rate per operation is reported alongside the timings.
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args  the JMH command line options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  // restricted constructor
+  private BenchmarkRunner() {
+  }
+
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.CURVE_GROUP_DEFN;
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.benchmark.BenchmarkData.VAL_DATE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketDataBuilder;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.NodalCurveDefinition;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Benchmarks {@link CalculationRunner#calculateMultiScenario} on a portfolio of swaps and FRAs.
+ * <p>
+ * Each scenario applies a parallel shift to the calibrated curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationRunnerBenchmark {
+
+  /**
+   * The columns to calculate.
+   */
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PV01_CALIBRATED_SUM));
+
+  /**
+   * The number of trades of each type in the portfolio.
+   */
+  @Param({"100"})
+  public int tradeCount;
+  /**
+   * The number of scenarios.
+   */
+  @Param({"1", "100"})
+  public int scenarioCount;
+  /**
+   * The calculation runner, either 'multiThreaded' or 'workStealing'.
+   */
+  @Param({"multiThreaded", "workStealing"})
+  public String runnerType;
+
+  private CalculationRunner runner;
+  private CalculationRules rules;
+  private List<Trade> trades;
+  private ImmutableScenarioMarketData marketData;
+
+  /**
+   * Creates the runner, the portfolio and the scenario market data.
+   */
+  @Setup
+  public void setUp() {
+    runner = runnerType.equals("workStealing") ? CalculationRunner.ofWorkStealing() : CalculationRunner.ofMultiThreaded();
+    rules = CalculationRules.of(StandardComponents.calculationFunctions(), RatesMarketDataLookup.of(CURVE_GROUP_DEFN));
+    trades = new ArrayList<>();
+    trades.addAll(BenchmarkData.swaps(tradeCount));
+    trades.addAll(BenchmarkData.fras(tradeCount));
+    ImmutableScenarioMarketDataBuilder builder = ImmutableScenarioMarketData.builder(VAL_DATE);
+    for (NodalCurveDefinition curveDefn : CURVE_GROUP_DEFN.getCurveDefinitions()) {
+      Curve curve = RATES_PROVIDER.findData(curveDefn.getName()).get();
+      List<Curve> scenarioCurves = new ArrayList<>(scenarioCount);
+      for (int i = 0; i < scenarioCount; i++) {
+        double shift = 1e-4 * (i - scenarioCount / 2);
+        scenarioCurves.add(curve.withPerturbation((index, value, meta) -> value + shift));
+      }
+      builder.addScenarioValue(CurveId.of(CURVE_GROUP_DEFN.getName(), curveDefn.getName()), scenarioCurves);
+    }
+    marketData = builder.build();
+  }
+
+  /**
+   * Closes the runner.
+   */
+  @TearDown
+  public void tearDown() {
+    runner.close();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value and PV01 of each trade in each scenario.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results calculateMultiScenario() {
+    return runner.calculateMultiScenario(rules, trades, COLUMNS, marketData, REF_DATA);
+  }
+
+}
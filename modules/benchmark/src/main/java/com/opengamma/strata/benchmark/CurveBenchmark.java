@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.CURVE_GROUP_DEFN;
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+
+/**
+ * Benchmarks {@link InterpolatedNodalCurve} on a calibrated curve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurveBenchmark {
+
+  /**
+   * The number of points at which the curve is evaluated.
+   */
+  private static final int POINT_COUNT = 1000;
+
+  private InterpolatedNodalCurve curve;
+  private double[] xValues;
+
+  /**
+   * Selects the curve and the points at which it is evaluated.
+   */
+  @Setup
+  public void setUp() {
+    curve = (InterpolatedNodalCurve) RATES_PROVIDER.findData(CURVE_GROUP_DEFN.getCurveDefinitions().get(0).getName()).get();
+    xValues = new double[POINT_COUNT];
+    for (int i = 0; i < POINT_COUNT; i++) {
+      xValues[i] = 12d * i / POINT_COUNT;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the y-value at each point.
+   *
+   * @return the total of the y-values
+   */
+  @Benchmark
+  public double yValue() {
+    double total = 0d;
+    for (double x : xValues) {
+      total += curve.yValue(x);
+    }
+    return total;
+  }
+
+  /**
+   * Calculates the first derivative at each point.
+   *
+   * @return the total of the derivatives
+   */
+  @Benchmark
+  public double firstDerivative() {
+    double total = 0d;
+    for (double x : xValues) {
+      total += curve.firstDerivative(x);
+    }
+    return total;
+  }
+
+  /**
+   * Calculates the sensitivity of the y-value to the parameters at each point.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void yValueParameterSensitivity(Blackhole blackhole) {
+    for (double x : xValues) {
+      blackhole.consume(curve.yValueParameterSensitivity(x));
+    }
+  }
+
+}
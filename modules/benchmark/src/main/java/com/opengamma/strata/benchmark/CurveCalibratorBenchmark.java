@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.CALIBRATOR;
+import static com.opengamma.strata.benchmark.BenchmarkData.CURVE_GROUP_DEFN;
+import static com.opengamma.strata.benchmark.BenchmarkData.QUOTES;
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.benchmark.BenchmarkData.VAL_DATE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.pricer.curve.CurveCalibrator;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+
+/**
+ * Benchmarks {@link CurveCalibrator} on a USD curve group of three curves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurveCalibratorBenchmark {
+
+  /**
+   * The market quotes, all shifted by one basis point.
+   */
+  private static final ImmutableMarketData SHIFTED_QUOTES = ImmutableMarketData.of(
+      VAL_DATE,
+      MapStream.of(QUOTES.getValues()).mapValues(value -> (Object) ((Double) value + 1e-4)).toMap());
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the curve group from the initial guesses of the definition.
+   *
+   * @return the calibrated provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrate() {
+    return CALIBRATOR.calibrate(CURVE_GROUP_DEFN, SHIFTED_QUOTES, REF_DATA);
+  }
+
+  /**
+   * Calibrates the curve group starting from the curves calibrated to the unshifted quotes.
+   *
+   * @return the calibrated provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider calibrateWarmStart() {
+    return CALIBRATOR.calibrate(CURVE_GROUP_DEFN, SHIFTED_QUOTES, REF_DATA, RATES_PROVIDER);
+  }
+
+  /**
+   * Recalibrates the curve group when none of the quotes has changed.
+   *
+   * @return the calibrated provider
+   */
+  @Benchmark
+  public ImmutableRatesProvider recalibrateUnchanged() {
+    return CALIBRATOR.recalibrate(CURVE_GROUP_DEFN, QUOTES, REF_DATA, RATES_PROVIDER, QUOTES);
+  }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.basics.currency.Currency.BRL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.YearFractionCache;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
+
+/**
+ * Benchmarks the discount factors of a book of BRL trades using the 'Bus/252 BRBD' day count,
+ * with and without the {@link YearFractionCache}.
+ * <p>
+ * Each trade has 20 payment dates, drawn from a fixed set of business days, such that
+ * many trades share the same payment dates, as happens with a real book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayCountBenchmark {
+
+  /**
+   * The day count.
+   */
+  private static final DayCount BUS_252 = DayCount.ofBus252(HolidayCalendarIds.BRBD);
+  /**
+   * The number of payment dates of each trade.
+   */
+  private static final int PAYMENT_COUNT = 20;
+
+  /**
+   * The number of trades in the book.
+   */
+  @Param({"100", "1000"})
+  public int tradeCount;
+  /**
+   * Whether the curve uses a {@link YearFractionCache} of the payment dates.
+   */
+  @Param({"false", "true"})
+  public boolean cached;
+
+  private LocalDate[] paymentDates;
+  private DiscountFactors discountFactors;
+
+  /**
+   * Creates the payment dates and the discount factors.
+   */
+  @Setup
+  public void setUp() {
+    LocalDate valuationDate = BenchmarkData.VAL_DATE;
+    Random random = new Random(1);
+    paymentDates = new LocalDate[tradeCount * PAYMENT_COUNT];
+    for (int i = 0; i < paymentDates.length; i++) {
+      paymentDates[i] = valuationDate.plusDays(1 + random.nextInt(20 * 365));
+    }
+    DayCount dayCount = cached ? YearFractionCache.of(BUS_252, valuationDate, Arrays.asList(paymentDates)) : BUS_252;
+    InterpolatedNodalCurve curve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("BRL-DSC", dayCount),
+        DoubleArray.of(0.25, 0.5, 1, 2, 3, 5, 7, 10, 15, 20),
+        DoubleArray.of(0.1325, 0.1300, 0.1250, 0.1200, 0.1175, 0.1150, 0.1140, 0.1130, 0.1125, 0.1120),
+        CurveInterpolators.LINEAR);
+    discountFactors = ZeroRateDiscountFactors.of(BRL, valuationDate, curve);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the discount factor of each payment date.
+   *
+   * @return the total of the discount factors
+   */
+  @Benchmark
+  public double discountFactor() {
+    double total = 0d;
+    for (LocalDate paymentDate : paymentDates) {
+      total += discountFactors.discountFactor(paymentDate);
+    }
+    return total;
+  }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.Decomposition;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionResult;
+
+/**
+ * Benchmarks the decomposition of a dense matrix followed by the solution of a linear system,
+ * comparing the Commons Math and OpenGamma implementations available from {@link DecompositionFactory}.
+ * <p>
+ * The matrix is diagonally dominant, such that it is well conditioned at all sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecompositionBenchmark {
+
+  /**
+   * The size of the matrix.
+   */
+  @Param({"10", "100", "400"})
+  public int size;
+  /**
+   * The name of the decomposition.
+   */
+  @Param({"LU_COMMONS", "LU_OG", "QR_COMMONS", "QR_OG", "CHOLESKY_OG"})
+  public String decompositionName;
+
+  private Decomposition<?> decomposition;
+  private DoubleMatrix matrix;
+  private DoubleArray vector;
+
+  /**
+   * Creates the matrix and the vector.
+   */
+  @Setup
+  public void setUp() {
+    decomposition = DecompositionFactory.getDecomposition(decompositionName);
+    Random random = new Random(1);
+    DoubleMatrix base = DoubleMatrix.of(size, size, (i, j) -> random.nextDouble() - 0.5);
+    // symmetric and diagonally dominant, hence positive definite for the Cholesky decomposition
+    matrix = DoubleMatrix.of(size, size, (i, j) -> base.get(i, j) + base.get(j, i) + (i == j ? size : 0d));
+    vector = DoubleArray.of(size, i -> random.nextDouble());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Decomposes the matrix and solves the linear system.
+   *
+   * @return the solution
+   */
+  @Benchmark
+  public DoubleArray decomposeAndSolve() {
+    DecompositionResult result = decomposition.apply(matrix);
+    return result.solve(vector);
+  }
+
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.ImpliedVolatilityFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Benchmarks the implied volatility of a smile of options,
+ * comparing the iterative solvers with {@link ImpliedVolatilityFormulaRepository}.
+ * <p>
+ * The smile is made of calls with strikes from 20% to 300% of the forward,
+ * priced with a skewed Black or normal volatility.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImpliedVolatilityBenchmark {
+
+  /**
+   * The forward.
+   */
+  private static final double FORWARD = 0.025;
+  /**
+   * The time to expiry.
+   */
+  private static final double TIME_TO_EXPIRY = 2d;
+
+  /**
+   * The number of strikes in the smile.
+   */
+  @Param({"20", "200"})
+  public int strikeCount;
+
+  private double[] strikes;
+  private double[] blackPrices;
+  private double[] normalPrices;
+
+  /**
+   * Creates the prices.
+   */
+  @Setup
+  public void setUp() {
+    strikes = new double[strikeCount];
+    blackPrices = new double[strikeCount];
+    normalPrices = new double[strikeCount];
+    for (int i = 0; i < strikeCount; i++) {
+      double moneyness = 0.2d + 2.8d * i / (strikeCount - 1);
+      strikes[i] = FORWARD * moneyness;
+      double blackVol = 0.3d - 0.1d * Math.log(moneyness);
+      double normalVol = 0.006d + 0.002d * (moneyness - 1d) * (moneyness - 1d);
+      blackPrices[i] = BlackFormulaRepository.price(FORWARD, strikes[i], TIME_TO_EXPIRY, blackVol, true);
+      normalPrices[i] = NormalFormulaRepository.price(FORWARD, strikes[i], TIME_TO_EXPIRY, normalVol, PutCall.CALL);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the Black implied volatilities using the iterative solver in {@link BlackFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public double[] blackSolver() {
+    double[] volatilities = new double[strikeCount];
+    for (int i = 0; i < strikeCount; i++) {
+      volatilities[i] = BlackFormulaRepository.impliedVolatility(blackPrices[i], FORWARD, strikes[i], TIME_TO_EXPIRY, true);
+    }
+    return volatilities;
+  }
+
+  /**
+   * Computes the Black implied volatilities using {@link ImpliedVolatilityFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public double[] blackRational() {
+    return ImpliedVolatilityFormulaRepository.blackImpliedVolatilities(
+        blackPrices, FORWARD, strikes, TIME_TO_EXPIRY, true);
+  }
+
+  /**
+   * Computes the normal implied volatilities using the iterative solver in {@link NormalFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public double[] normalSolver() {
+    double[] volatilities = new double[strikeCount];
+    for (int i = 0; i < strikeCount; i++) {
+      volatilities[i] = NormalFormulaRepository.impliedVolatility(
+          normalPrices[i], FORWARD, strikes[i], TIME_TO_EXPIRY, 0.01d, 1d, PutCall.CALL);
+    }
+    return volatilities;
+  }
+
+  /**
+   * Computes the normal implied volatilities using {@link ImpliedVolatilityFormulaRepository}.
+   *
+   * @return the implied volatilities
+   */
+  @Benchmark
+  public double[] normalAnalytic() {
+    return ImpliedVolatilityFormulaRepository.normalImpliedVolatilities(
+        normalPrices, FORWARD, strikes, TIME_TO_EXPIRY, PutCall.CALL);
+  }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountAccumulator;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArrayAccumulator;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Benchmarks the aggregation of the present values of a portfolio into a multi-currency total,
+ * using the immutable {@code plus} methods and the mutable accumulators.
+ * <p>
+ * Each trade has a present value in one of five currencies, as a single amount
+ * and as an array of amounts with one amount for each of 100 scenarios.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiCurrencyAmountBenchmark {
+
+  /**
+   * The currencies of the trades.
+   */
+  private static final Currency[] CURRENCIES = {Currency.USD, Currency.EUR, Currency.GBP, Currency.JPY, Currency.CHF};
+  /**
+   * The number of scenarios.
+   */
+  private static final int SCENARIO_COUNT = 100;
+
+  /**
+   * The number of trades in the portfolio.
+   */
+  @Param({"10000"})
+  public int tradeCount;
+
+  private CurrencyAmount[] amounts;
+  private CurrencyAmountArray[] scenarioAmounts;
+
+  /**
+   * Creates the present values.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(1);
+    amounts = new CurrencyAmount[tradeCount];
+    scenarioAmounts = new CurrencyAmountArray[tradeCount];
+    for (int i = 0; i < tradeCount; i++) {
+      Currency currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+      amounts[i] = CurrencyAmount.of(currency, random.nextDouble() * 1e6);
+      scenarioAmounts[i] = CurrencyAmountArray.of(currency, DoubleArray.of(SCENARIO_COUNT, j -> random.nextDouble() * 1e6));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Totals the present values using {@link MultiCurrencyAmount#plus(CurrencyAmount)}.
+   *
+   * @return the total
+   */
+  @Benchmark
+  public MultiCurrencyAmount totalPlus() {
+    MultiCurrencyAmount total = MultiCurrencyAmount.empty();
+    for (CurrencyAmount amount : amounts) {
+      total = total.plus(amount);
+    }
+    return total;
+  }
+
+  /**
+   * Totals the present values using {@link MultiCurrencyAmountAccumulator}.
+   *
+   * @return the total
+   */
+  @Benchmark
+  public MultiCurrencyAmount totalAccumulator() {
+    MultiCurrencyAmountAccumulator total = new MultiCurrencyAmountAccumulator();
+    for (CurrencyAmount amount : amounts) {
+      total.add(amount);
+    }
+    return total.build();
+  }
+
+  /**
+   * Totals the scenario present values using {@link MultiCurrencyAmountArray#plus(MultiCurrencyAmountArray)}.
+   *
+   * @return the total
+   */
+  @Benchmark
+  public MultiCurrencyAmountArray scenarioTotalPlus() {
+    MultiCurrencyAmountArray total = MultiCurrencyAmountArray.of(ImmutableMap.of(
+        scenarioAmounts[0].getCurrency(), scenarioAmounts[0].getValues()));
+    for (int i = 1; i < scenarioAmounts.length; i++) {
+      CurrencyAmountArray amount = scenarioAmounts[i];
+      total = total.plus(MultiCurrencyAmountArray.of(ImmutableMap.of(amount.getCurrency(), amount.getValues())));
+    }
+    return total;
+  }
+
+  /**
+   * Totals the scenario present values using {@link MultiCurrencyAmountArrayAccumulator}.
+   *
+   * @return the total
+   */
+  @Benchmark
+  public MultiCurrencyAmountArray scenarioTotalAccumulator() {
+    MultiCurrencyAmountArrayAccumulator total = new MultiCurrencyAmountArrayAccumulator(SCENARIO_COUNT);
+    for (CurrencyAmountArray amount : scenarioAmounts) {
+      total.add(amount);
+    }
+    return total.build();
+  }
+
+}
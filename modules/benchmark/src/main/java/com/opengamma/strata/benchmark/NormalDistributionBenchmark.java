@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.math.impl.statistics.distribution.BivariateNormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionUtils;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+
+/**
+ * Benchmarks the functions of the normal distribution, comparing the boxed
+ * {@link ProbabilityDistribution} implementations with {@link NormalDistributionUtils}.
+ * <p>
+ * Each operation evaluates the function at each of a set of random points.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalDistributionBenchmark {
+
+  /**
+   * The standard normal distribution.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  /**
+   * The bivariate normal distribution.
+   */
+  private static final ProbabilityDistribution<double[]> BIVARIATE = new BivariateNormalDistribution();
+
+  /**
+   * The number of points.
+   */
+  @Param({"1000"})
+  public int pointCount;
+
+  private double[] xs;
+  private double[] ys;
+  private double[] ps;
+  private double[] rhos;
+
+  /**
+   * Creates the points.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(1);
+    xs = new double[pointCount];
+    ys = new double[pointCount];
+    ps = new double[pointCount];
+    rhos = new double[pointCount];
+    for (int i = 0; i < pointCount; i++) {
+      xs[i] = random.nextGaussian() * 3d;
+      ys[i] = random.nextGaussian() * 3d;
+      ps[i] = random.nextDouble();
+      rhos[i] = random.nextDouble() * 2d - 1d;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the cumulative distribution function using {@link NormalDistribution}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double cdfDistribution() {
+    double sum = 0d;
+    for (double x : xs) {
+      sum += NORMAL.getCDF(x);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the cumulative distribution function using {@link NormalDistributionUtils}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double cdfUtils() {
+    double sum = 0d;
+    for (double x : xs) {
+      sum += NormalDistributionUtils.cdf(x);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the probability density function using {@link NormalDistribution}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double pdfDistribution() {
+    double sum = 0d;
+    for (double x : xs) {
+      sum += NORMAL.getPDF(x);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the probability density function using {@link NormalDistributionUtils}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double pdfUtils() {
+    double sum = 0d;
+    for (double x : xs) {
+      sum += NormalDistributionUtils.pdf(x);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the inverse cumulative distribution function using {@link NormalDistribution}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double inverseCdfDistribution() {
+    double sum = 0d;
+    for (double p : ps) {
+      sum += NORMAL.getInverseCDF(p);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the inverse cumulative distribution function using {@link NormalDistributionUtils}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double inverseCdfUtils() {
+    double sum = 0d;
+    for (double p : ps) {
+      sum += NormalDistributionUtils.inverseCdf(p);
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the bivariate cumulative distribution function using {@link BivariateNormalDistribution}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double bivariateCdfDistribution() {
+    double sum = 0d;
+    for (int i = 0; i < pointCount; i++) {
+      sum += BIVARIATE.getCDF(new double[] {xs[i], ys[i], rhos[i]});
+    }
+    return sum;
+  }
+
+  /**
+   * Computes the bivariate cumulative distribution function using {@link NormalDistributionUtils}.
+   *
+   * @return the sum of the values
+   */
+  @Benchmark
+  public double bivariateCdfUtils() {
+    double sum = 0d;
+    for (int i = 0; i < pointCount; i++) {
+      sum += NormalDistributionUtils.bivariateCdf(xs[i], ys[i], rhos[i]);
+    }
+    return sum;
+  }
+
+}
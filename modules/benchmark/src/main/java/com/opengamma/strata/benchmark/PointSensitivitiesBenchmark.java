@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Benchmarks {@link PointSensitivities#normalized()} on the sensitivities of a portfolio of swaps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointSensitivitiesBenchmark {
+
+  /**
+   * The number of swaps in the portfolio.
+   */
+  @Param({"100", "1000"})
+  public int tradeCount;
+
+  private PointSensitivities sensitivities;
+
+  /**
+   * Combines the sensitivities of all the swaps in the portfolio, without normalizing them.
+   */
+  @Setup
+  public void setUp() {
+    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    for (SwapTrade trade : BenchmarkData.swaps(tradeCount)) {
+      builder = builder.combinedWith(
+          DiscountingSwapProductPricer.DEFAULT.presentValueSensitivity(trade.getProduct().resolve(REF_DATA), RATES_PROVIDER));
+    }
+    sensitivities = builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Normalizes the sensitivities.
+   *
+   * @return the normalized sensitivities
+   */
+  @Benchmark
+  public PointSensitivities normalized() {
+    return sensitivities.normalized();
+  }
+
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.CDS_CREDIT_CURVE;
+import static com.opengamma.strata.benchmark.BenchmarkData.CDS_RECOVERY_RATE;
+import static com.opengamma.strata.benchmark.BenchmarkData.CDS_YIELD_CURVE;
+import static com.opengamma.strata.benchmark.BenchmarkData.LEGAL_ENTITY_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.benchmark.BenchmarkData.SWAPTION_VOLS;
+import static com.opengamma.strata.benchmark.BenchmarkData.VAL_DATE;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondProductPricer;
+import com.opengamma.strata.pricer.credit.IsdaCdsPricer;
+import com.opengamma.strata.pricer.fra.CompiledFraGroup;
+import com.opengamma.strata.pricer.fra.DiscountingCompiledFraPricer;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.swaption.NormalSwaptionPhysicalProductPricer;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBond;
+import com.opengamma.strata.product.credit.ResolvedCds;
+import com.opengamma.strata.product.fra.ResolvedFra;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+
+/**
+ * Benchmarks the product pricers over portfolios of FRAs, swaptions, bonds and CDS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortfolioPricerBenchmark {
+
+  private static final DiscountingFraProductPricer FRA_PRICER = DiscountingFraProductPricer.DEFAULT;
+  private static final DiscountingCompiledFraPricer COMPILED_FRA_PRICER = DiscountingCompiledFraPricer.DEFAULT;
+  private static final NormalSwaptionPhysicalProductPricer SWAPTION_PRICER = NormalSwaptionPhysicalProductPricer.DEFAULT;
+  private static final DiscountingFixedCouponBondProductPricer BOND_PRICER = DiscountingFixedCouponBondProductPricer.DEFAULT;
+  private static final IsdaCdsPricer CDS_PRICER = IsdaCdsPricer.DEFAULT;
+
+  /**
+   * The number of trades of each type in the portfolio.
+   */
+  @Param({"100"})
+  public int tradeCount;
+
+  private List<ResolvedFra> fras;
+  private List<CompiledFraGroup> compiledFras;
+  private List<ResolvedSwaption> swaptions;
+  private List<ResolvedFixedCouponBond> bonds;
+  private List<ResolvedCds> cds;
+
+  /**
+   * Resolves the portfolios.
+   */
+  @Setup
+  public void setUp() {
+    fras = BenchmarkData.fras(tradeCount).stream()
+        .map(trade -> trade.getProduct().resolve(REF_DATA))
+        .collect(toImmutableList());
+    compiledFras = CompiledFraGroup.groupOf(fras);
+    swaptions = BenchmarkData.swaptions(tradeCount);
+    bonds = BenchmarkData.bonds(tradeCount);
+    cds = BenchmarkData.cds(tradeCount);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each FRA.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void fraPresentValue(Blackhole blackhole) {
+    for (ResolvedFra fra : fras) {
+      blackhole.consume(FRA_PRICER.presentValue(fra, RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of each FRA to the curve parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void fraPresentValueSensitivity(Blackhole blackhole) {
+    for (ResolvedFra fra : fras) {
+      blackhole.consume(RATES_PROVIDER.parameterSensitivity(FRA_PRICER.presentValueSensitivity(fra, RATES_PROVIDER)));
+    }
+  }
+
+  /**
+   * Calculates the present value of each FRA using the compiled groups.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void fraPresentValueCompiled(Blackhole blackhole) {
+    for (CompiledFraGroup group : compiledFras) {
+      blackhole.consume(COMPILED_FRA_PRICER.presentValue(group, RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of the FRAs to the curve parameters using the compiled groups.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void fraPresentValueSensitivityCompiled(Blackhole blackhole) {
+    for (CompiledFraGroup group : compiledFras) {
+      blackhole.consume(RATES_PROVIDER.parameterSensitivity(
+          COMPILED_FRA_PRICER.presentValueSensitivity(group, RATES_PROVIDER)));
+    }
+  }
+
+  /**
+   * Calculates the present value of each swaption.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void swaptionPresentValue(Blackhole blackhole) {
+    for (ResolvedSwaption swaption : swaptions) {
+      blackhole.consume(SWAPTION_PRICER.presentValue(swaption, RATES_PROVIDER, SWAPTION_VOLS));
+    }
+  }
+
+  /**
+   * Calculates the present value of each bond.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void bondPresentValue(Blackhole blackhole) {
+    for (ResolvedFixedCouponBond bond : bonds) {
+      blackhole.consume(BOND_PRICER.presentValue(bond, LEGAL_ENTITY_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the present value of each CDS, including the calibration of the ISDA curves.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void cdsPresentValue(Blackhole blackhole) {
+    for (ResolvedCds product : cds) {
+      blackhole.consume(CDS_PRICER.presentValue(
+          product, CDS_YIELD_CURVE, CDS_CREDIT_CURVE, VAL_DATE, CDS_RECOVERY_RATE, 1d));
+    }
+  }
+
+}
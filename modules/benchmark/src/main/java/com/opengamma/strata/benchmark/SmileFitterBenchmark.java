@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResults;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LevenbergMarquardtLeastSquare;
+import com.opengamma.strata.math.impl.statistics.leastsquare.NonLinearLeastSquare;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrHaganVolatilityFunctionProvider;
+import com.opengamma.strata.pricer.impl.volatility.smile.SabrModelFitter;
+import com.opengamma.strata.pricer.impl.volatility.smile.VolatilityFunctionProvider;
+
+/**
+ * Benchmarks the fit of a SABR smile, comparing {@link NonLinearLeastSquare} with {@link LevenbergMarquardtLeastSquare}.
+ * <p>
+ * The smile is made of the Hagan volatilities at 9 strikes, and alpha, rho and nu are fitted with beta fixed.
+ * The solvers are compared on the same problem with an analytic Jacobian.
+ * The fits by {@link SabrModelFitter}, which also transform the parameters, are compared in the same way,
+ * the Levenberg-Marquardt solver being opt-in for the fitter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileFitterBenchmark {
+
+  /**
+   * The forward.
+   */
+  private static final double FORWARD = 0.03;
+  /**
+   * The time to expiry.
+   */
+  private static final double TIME_TO_EXPIRY = 5d;
+  /**
+   * The fixed beta.
+   */
+  private static final double BETA = 0.5;
+  /**
+   * The SABR volatility formula.
+   */
+  private static final VolatilityFunctionProvider<SabrFormulaData> SABR = SabrHaganVolatilityFunctionProvider.DEFAULT;
+  /**
+   * The existing solver, as previously used by the smile fitters.
+   */
+  private static final NonLinearLeastSquare NON_LINEAR =
+      new NonLinearLeastSquare(DecompositionFactory.SV_COMMONS, new OGMatrixAlgebra(), 1e-12);
+  /**
+   * The Levenberg-Marquardt solver.
+   */
+  private static final LevenbergMarquardtLeastSquare LEVENBERG_MARQUARDT = LevenbergMarquardtLeastSquare.of(1e-12);
+
+  private DoubleArray strikes;
+  private DoubleArray volatilities;
+  private DoubleArray errors;
+  private DoubleArray start;
+  private Function<DoubleArray, DoubleArray> volFunction;
+  private Function<DoubleArray, DoubleMatrix> jacobianFunction;
+  private Function<DoubleArray, Boolean> constraints;
+  private SabrModelFitter fitter;
+  private SabrModelFitter fitterLevenbergMarquardt;
+  private BitSet fixed;
+
+  /**
+   * Creates the smile.
+   */
+  @Setup
+  public void setUp() {
+    strikes = DoubleArray.of(9, i -> FORWARD * (0.5 + 0.25 * i));
+    SabrFormulaData data = SabrFormulaData.of(0.05, BETA, -0.25, 0.4);
+    volatilities = strikes.map(k -> SABR.volatility(FORWARD, k, TIME_TO_EXPIRY, data));
+    errors = DoubleArray.filled(strikes.size(), 1e-4);
+    start = DoubleArray.of(0.03, -0.5, 0.1);
+    volFunction = p -> {
+      SabrFormulaData d = SabrFormulaData.of(p.get(0), BETA, p.get(1), p.get(2));
+      return strikes.map(k -> SABR.volatility(FORWARD, k, TIME_TO_EXPIRY, d));
+    };
+    jacobianFunction = p -> {
+      SabrFormulaData d = SabrFormulaData.of(p.get(0), BETA, p.get(1), p.get(2));
+      double[][] jac = new double[strikes.size()][];
+      for (int i = 0; i < strikes.size(); i++) {
+        // the derivatives are to forward, strike, alpha, beta, rho and nu
+        DoubleArray derivatives = SABR.volatilityAdjoint(FORWARD, strikes.get(i), TIME_TO_EXPIRY, d).getDerivatives();
+        jac[i] = new double[] {derivatives.get(2), derivatives.get(4), derivatives.get(5)};
+      }
+      return DoubleMatrix.ofUnsafe(jac);
+    };
+    constraints = p -> p.get(0) > 0 && Math.abs(p.get(1)) < 1 && p.get(2) > 0;
+    fitter = new SabrModelFitter(FORWARD, strikes, TIME_TO_EXPIRY, volatilities, errors, SABR);
+    fitterLevenbergMarquardt =
+        new SabrModelFitter(FORWARD, strikes, TIME_TO_EXPIRY, volatilities, errors, SABR, LEVENBERG_MARQUARDT);
+    fixed = new BitSet();
+    fixed.set(1);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Fits the smile using {@link NonLinearLeastSquare}.
+   *
+   * @return the result of the fit
+   */
+  @Benchmark
+  public LeastSquareResults nonLinearLeastSquare() {
+    return NON_LINEAR.solve(volatilities, errors, volFunction, jacobianFunction, start, constraints, null);
+  }
+
+  /**
+   * Fits the smile using {@link LevenbergMarquardtLeastSquare}.
+   *
+   * @return the result of the fit
+   */
+  @Benchmark
+  public LeastSquareResults levenbergMarquardt() {
+    return LEVENBERG_MARQUARDT.solve(volatilities, errors, volFunction, jacobianFunction, start, constraints, null);
+  }
+
+  /**
+   * Fits the smile using {@link SabrModelFitter} with the default solver.
+   *
+   * @return the result of the fit
+   */
+  @Benchmark
+  public LeastSquareResultsWithTransform sabrModelFitter() {
+    return fitter.solve(DoubleArray.of(0.03, BETA, -0.5, 0.1), fixed);
+  }
+
+  /**
+   * Fits the smile using {@link SabrModelFitter} with the Levenberg-Marquardt solver.
+   *
+   * @return the result of the fit
+   */
+  @Benchmark
+  public LeastSquareResultsWithTransform sabrModelFitterLevenbergMarquardt() {
+    return fitterLevenbergMarquardt.solve(DoubleArray.of(0.03, BETA, -0.5, 0.1), fixed);
+  }
+
+}
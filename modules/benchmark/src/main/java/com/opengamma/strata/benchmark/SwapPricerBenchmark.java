@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.benchmark;
+
+import static com.opengamma.strata.benchmark.BenchmarkData.RATES_PROVIDER;
+import static com.opengamma.strata.benchmark.BenchmarkData.REF_DATA;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.opengamma.strata.pricer.swap.CompiledSwap;
+import com.opengamma.strata.pricer.swap.DiscountingCompiledSwapPricer;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.SwapLegType;
+
+/**
+ * Benchmarks {@link DiscountingSwapProductPricer} over a portfolio of vanilla swaps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwapPricerBenchmark {
+
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final DiscountingCompiledSwapPricer COMPILED_PRICER = DiscountingCompiledSwapPricer.DEFAULT;
+
+  /**
+   * The number of swaps in the portfolio.
+   */
+  @Param({"100", "1000"})
+  public int tradeCount;
+
+  private List<ResolvedSwap> swaps;
+  private List<CompiledSwap> compiledSwaps;
+
+  /**
+   * Resolves the portfolio.
+   */
+  @Setup
+  public void setUp() {
+    swaps = BenchmarkData.swaps(tradeCount).stream()
+        .map(trade -> trade.getProduct().resolve(REF_DATA))
+        .collect(toImmutableList());
+    compiledSwaps = swaps.stream()
+        .map(CompiledSwap::of)
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each swap.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValue(Blackhole blackhole) {
+    for (ResolvedSwap swap : swaps) {
+      blackhole.consume(PRICER.presentValue(swap, RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the present value of each swap, using the compiled form.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValueCompiled(Blackhole blackhole) {
+    for (CompiledSwap swap : compiledSwaps) {
+      blackhole.consume(COMPILED_PRICER.presentValue(swap, RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the pvbp of the fixed leg of each swap, using the compiled form.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void pvbpCompiled(Blackhole blackhole) {
+    for (CompiledSwap swap : compiledSwaps) {
+      blackhole.consume(COMPILED_PRICER.pvbp(swap.getLeg(SwapLegType.FIXED), RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the par rate of each swap.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void parRate(Blackhole blackhole) {
+    for (ResolvedSwap swap : swaps) {
+      blackhole.consume(PRICER.parRate(swap, RATES_PROVIDER));
+    }
+  }
+
+  /**
+   * Calculates the present value sensitivity of each swap to the curve parameters.
+   *
+   * @param blackhole  the blackhole
+   */
+  @Benchmark
+  public void presentValueSensitivity(Blackhole blackhole) {
+    for (ResolvedSwap swap : swaps) {
+      blackhole.consume(RATES_PROVIDER.parameterSensitivity(
+          PRICER.presentValueSensitivity(swap, RATES_PROVIDER).build()));
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * JMH benchmarks of the pricing, calibration and calculation hot paths.
+ */
+package com.opengamma.strata.benchmark;
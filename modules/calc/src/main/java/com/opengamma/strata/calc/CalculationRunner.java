@@ -66,6 +66,32 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.of(executor);
   }
 
+  /**
+   * Creates a multi-threaded calculation runner that executes tasks in batches using work-stealing.
+   * <p>
+   * This is more efficient than {@link #ofMultiThreaded()} when there are a large number of cheap calculations.
+   * See {@link CalculationTaskRunner#ofWorkStealing()} for details.
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofWorkStealing() {
+    return DefaultCalculationRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * See {@link CalculationTaskRunner#of(ExecutorService, int)} for details.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks in a batch
+   * @return the calculation runner
+   */
+  public static CalculationRunner of(ExecutorService executor, int batchSize) {
+    return DefaultCalculationRunner.of(executor, batchSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -59,6 +59,28 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.of(executor));
   }
 
+  /**
+   * Creates a multi-threaded calculation runner that executes tasks in batches using work-stealing.
+   * 
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofWorkStealing() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofWorkStealing());
+  }
+
+  /**
+   * Creates a calculation runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks in a batch
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner of(ExecutorService executor, int batchSize) {
+    return new DefaultCalculationRunner(CalculationTaskRunner.of(executor, batchSize));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the underlying task runner to use.
@@ -5,15 +5,19 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import static com.opengamma.strata.collect.Guavate.join;
 import static com.opengamma.strata.collect.Guavate.not;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -30,6 +34,10 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * Market data is built in levels, where each level contains the data whose dependencies have all been built.
+ * If an executor is specified, the non-observable data in each level is built concurrently using the executor.
+ * The built data is added to the result in the same order whether or not an executor is used.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +50,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The executor used to build non-observable data concurrently, null if data is built on the calling thread. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +63,36 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * All items of non-observable market data whose dependencies are available are built concurrently
+   * using the executor. It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build market data, null to build on the calling thread
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor) {
+
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = executor;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -234,15 +267,37 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Builds a set of items of non-observable market data.
+   * <p>
+   * The items are independent of each other, so they are built concurrently if an executor is available.
+   * The iteration order of the result matches the iteration order of the IDs.
+   *
+   * @param ids  the IDs of the market data that should be built
+   * @param marketDataConfig  configuration specifying how the market data should be built
+   * @param marketData  existing set of market data that contains any data required to build the values
+   * @param refData  the reference data, used to resolve trades
+   * @return the results containing the market data or details of why it wasn't built, keyed by ID
+   */
   private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
       Set<? extends MarketDataId<?>> ids,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    if (executor == null || ids.size() <= 1) {
+      return ids.stream()
+          .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    }
+    // submit all the IDs before waiting for any of them, the market data is immutable so can be shared
+    Map<MarketDataId<?>, CompletableFuture<Result<MarketDataBox<?>>>> futures = new LinkedHashMap<>();
+    for (MarketDataId<?> id : ids) {
+      futures.put(id, CompletableFuture.supplyAsync(
+          () -> buildNonObservableData(id, marketDataConfig, marketData, refData), executor));
+    }
+    return MapStream.of(futures)
+        .mapValues(future -> join(future))
+        .toMap();
   }
 
   /**
@@ -25,7 +25,13 @@ public abstract class AggregatingCalculationListener<T>
 
   @Override
   public final void calculationsComplete() {
-    future.complete(createAggregateResult());
+    try {
+      future.complete(createAggregateResult());
+    } catch (RuntimeException ex) {
+      // ensure threads waiting for the result are not blocked forever
+      future.completeExceptionally(ex);
+      throw ex;
+    }
   }
 
   /**
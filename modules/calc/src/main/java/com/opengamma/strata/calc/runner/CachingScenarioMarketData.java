@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketDataId;
+import com.opengamma.strata.data.scenario.ScenarioPerturbation;
+
+/**
+ * Scenario market data for a single calculation run, holding the views derived from the market data.
+ * <p>
+ * {@link DefaultCalculationTaskRunner} wraps the market data of each run in an instance of this class,
+ * which is passed to every task of the run. A market data lookup can then use {@link #view(Object, Function)}
+ * to create its view of the market data once, sharing it between all the tasks of the run.
+ * The views are only referenced by this instance, and are therefore discarded with it when the run completes.
+ * <p>
+ * All market data queries are passed to the underlying market data.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class CachingScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The underlying market data.
+   */
+  private final ScenarioMarketData underlying;
+  /**
+   * The views of the market data, keyed by the object that created them.
+   */
+  private final ConcurrentMap<Object, Object> views = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance wrapping the underlying market data.
+   * <p>
+   * The instance starts with no views.
+   *
+   * @param underlying  the underlying market data
+   * @return the market data
+   */
+  public static CachingScenarioMarketData of(ScenarioMarketData underlying) {
+    return new CachingScenarioMarketData(underlying);
+  }
+
+  // restricted constructor
+  private CachingScenarioMarketData(ScenarioMarketData underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying market data.
+   *
+   * @return the underlying market data
+   */
+  public ScenarioMarketData getUnderlying() {
+    return underlying;
+  }
+
+  /**
+   * Obtains a view of the market data, creating it if this is the first request for the key.
+   * <p>
+   * The view is created by applying the function to this market data, and is then returned
+   * for all subsequent requests with an equal key. The key is typically the market data lookup
+   * creating the view, and must always be used with functions returning the same type of view.
+   *
+   * @param <T>  the type of the view
+   * @param key  the key identifying the view
+   * @param viewFunction  the function creating the view from this market data
+   * @return the view
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T view(Object key, Function<? super ScenarioMarketData, T> viewFunction) {
+    ArgChecker.notNull(key, "key");
+    ArgChecker.notNull(viewFunction, "viewFunction");
+    return (T) views.computeIfAbsent(key, k -> viewFunction.apply(this));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return underlying.getScenarioCount();
+  }
+
+  @Override
+  public MarketData scenario(int scenarioIndex) {
+    return underlying.scenario(scenarioIndex);
+  }
+
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return underlying.containsValue(id);
+  }
+
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    return underlying.getValue(id);
+  }
+
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    return underlying.findValue(id);
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  public <T, U extends ScenarioArray<T>> U getScenarioValue(ScenarioMarketDataId<T, U> id) {
+    return underlying.getScenarioValue(id);
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  //-------------------------------------------------------------------------
+  // the views are not carried over to derived market data
+  @Override
+  public ScenarioMarketData combinedWith(ScenarioMarketData other) {
+    return underlying.combinedWith(other);
+  }
+
+  @Override
+  public <T> ScenarioMarketData withValue(MarketDataId<T> id, MarketDataBox<T> value) {
+    return underlying.withValue(id, value);
+  }
+
+  @Override
+  public <T> ScenarioMarketData withPerturbation(
+      MarketDataId<T> id,
+      ScenarioPerturbation<T> perturbation,
+      ReferenceData refData) {
+
+    return underlying.withPerturbation(id, perturbation, refData);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CachingScenarioMarketData[" + underlying + "]";
+  }
+
+}
@@ -59,4 +59,22 @@ public interface CalculationListener {
    */
   public abstract void calculationsComplete();
 
+  /**
+   * Gets the maximum number of results that may be waiting to be delivered to this listener.
+   * <p>
+   * Results are delivered to the listener by one thread at a time. While the listener is being invoked,
+   * results from other calculation threads are queued. If the listener is slower than the calculations,
+   * for example because it writes each result to a file, the queue grows.
+   * When the number of queued results reaches this limit, the calculation threads are blocked
+   * until the listener has caught up, keeping memory usage bounded.
+   * <p>
+   * The limit is measured in calculation tasks, each of which contains the results of one or more cells.
+   * By default, there is no limit.
+   *
+   * @return the maximum number of results waiting to be delivered, greater than zero
+   */
+  public default int maxPendingResults() {
+    return Integer.MAX_VALUE;
+  }
+
 }
@@ -7,6 +7,7 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
@@ -79,6 +80,40 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a multi-threaded calculation task runner that executes tasks in batches using work-stealing.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the number of threads on the number of available processors.
+   * Tasks are grouped by {@link CalculationFunction} and each group is split into batches.
+   * Each batch is executed as a single unit of work and its results are passed to the listener together.
+   * This is more efficient than {@link #ofMultiThreaded()} when there are a large number of cheap tasks.
+   * <p>
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation task runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * Tasks are grouped by {@link CalculationFunction} and each group is split into batches of up to the specified size.
+   * Each batch is executed as a single unit of work and its results are passed to the listener together.
+   * If the executor is a {@link ForkJoinPool}, idle threads steal batches from busy threads.
+   * A batch size of one is equivalent to {@link #of(ExecutorService)}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks in a batch
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner of(ExecutorService executor, int batchSize) {
+    return DefaultCalculationTaskRunner.of(executor, batchSize);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Calculation listener that writes each row of results as CSV as soon as it is complete.
+ * <p>
+ * The output has a header line, with the columns 'Row', 'Target', 'Scenario' and then one column
+ * for each calculated column. Each target produces one line for each scenario.
+ * Values are written using {@code toString()}, with the value for the scenario
+ * extracted if the result is a {@link ScenarioArray}. Failures are written as an empty cell.
+ * <p>
+ * Rows are written in the order they complete, which is not necessarily the order of the targets.
+ * The 'Row' column contains the index of the target in the list of targets.
+ * <p>
+ * If the output is {@link Flushable}, it is flushed when the calculations are complete.
+ * The output is not closed.
+ */
+public final class CsvResultsListener extends StreamingResultsListener {
+
+  /** The CSV output. */
+  private final CsvOutput output;
+  /** The underlying output. */
+  private final Appendable underlying;
+  /** The function used to describe the target. */
+  private final Function<CalculationTarget, String> targetDescriber;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that writes to the specified output.
+   * <p>
+   * The 'Target' column is written using {@code toString()} of the target.
+   *
+   * @param output  the output to write to
+   * @param maxPendingResults  the maximum number of results that may be waiting to be written
+   * @return the listener
+   */
+  public static CsvResultsListener of(Appendable output, int maxPendingResults) {
+    return new CsvResultsListener(output, CalculationTarget::toString, maxPendingResults);
+  }
+
+  /**
+   * Obtains an instance that writes to the specified output, describing targets with a function.
+   * <p>
+   * The function is typically used to write the identifier of the trade.
+   *
+   * @param output  the output to write to
+   * @param targetDescriber  the function used to write the 'Target' column
+   * @param maxPendingResults  the maximum number of results that may be waiting to be written
+   * @return the listener
+   */
+  public static CsvResultsListener of(
+      Appendable output,
+      Function<CalculationTarget, String> targetDescriber,
+      int maxPendingResults) {
+
+    return new CsvResultsListener(output, targetDescriber, maxPendingResults);
+  }
+
+  // restricted constructor
+  private CsvResultsListener(
+      Appendable output,
+      Function<CalculationTarget, String> targetDescriber,
+      int maxPendingResults) {
+
+    super(maxPendingResults);
+    this.underlying = ArgChecker.notNull(output, "output");
+    this.output = new CsvOutput(output);
+    this.targetDescriber = ArgChecker.notNull(targetDescriber, "targetDescriber");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    super.calculationsStarted(targets, columns);
+    List<String> header = new ArrayList<>();
+    header.add("Row");
+    header.add("Target");
+    header.add("Scenario");
+    for (Column column : columns) {
+      header.add(column.getName().getName());
+    }
+    output.writeLine(header);
+  }
+
+  @Override
+  protected void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+    int scenarioCount = 1;
+    for (Result<?> result : results) {
+      if (result != null && result.isSuccess() && result.getValue() instanceof ScenarioArray) {
+        scenarioCount = Math.max(scenarioCount, ((ScenarioArray<?>) result.getValue()).getScenarioCount());
+      }
+    }
+    String rowStr = Integer.toString(rowIndex);
+    String targetStr = targetDescriber.apply(target);
+    for (int i = 0; i < scenarioCount; i++) {
+      List<String> line = new ArrayList<>(results.size() + 3);
+      line.add(rowStr);
+      line.add(targetStr);
+      line.add(Integer.toString(i));
+      for (Result<?> result : results) {
+        line.add(formatCell(result, i));
+      }
+      output.writeLine(line);
+    }
+  }
+
+  @Override
+  protected void streamComplete() {
+    if (underlying instanceof Flushable) {
+      try {
+        ((Flushable) underlying).flush();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+
+  // formats a single cell
+  private static String formatCell(Result<?> result, int scenarioIndex) {
+    if (result == null || result.isFailure()) {
+      return "";
+    }
+    Object value = result.getValue();
+    if (value instanceof ScenarioArray) {
+      ScenarioArray<?> array = (ScenarioArray<?>) value;
+      return scenarioIndex < array.getScenarioCount() ? String.valueOf(array.get(scenarioIndex)) : "";
+    }
+    return String.valueOf(value);
+  }
+
+}
@@ -7,14 +7,22 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.google.common.collect.Lists;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.Column;
@@ -30,14 +38,33 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * By default, each task is submitted to the executor individually.
+ * If a batch size greater than one is specified, the tasks are grouped by {@link CalculationFunction}
+ * and each group is split into batches of up to that size. Each batch is executed as a single unit of work
+ * and the results of the batch are passed to the listener together, reducing contention on both the
+ * executor queue and the listener. If the executor is a {@link ForkJoinPool}, the batches are recursively
+ * split between worker threads, allowing idle threads to steal work from busy ones.
+ * <p>
+ * The market data of each run is wrapped in {@link CachingScenarioMarketData}, allowing the views of the
+ * market data created by the tasks to be shared within the run and discarded when it completes.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
+  /**
+   * The default batch size used by the work-stealing runner.
+   */
+  static final int DEFAULT_BATCH_SIZE = 64;
+
   /**
    * Executes the tasks that perform the individual calculations.
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of tasks executed as a single unit of work, one if tasks are not batched.
+   */
+  private final int batchSize;
 
   //-------------------------------------------------------------------------
   /**
@@ -54,7 +81,7 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner ofMultiThreaded() {
-    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
+    return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()), 1);
   }
 
   /**
@@ -66,7 +93,35 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @return the calculation task runner
    */
   static DefaultCalculationTaskRunner of(ExecutorService executor) {
-    return new DefaultCalculationTaskRunner(executor);
+    return new DefaultCalculationTaskRunner(executor, 1);
+  }
+
+  /**
+   * Creates a multi-threaded calculation task runner that executes tasks in batches using work-stealing.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the number of threads on the number of available processors.
+   * Tasks are grouped by function and executed in batches of the {@linkplain #DEFAULT_BATCH_SIZE default size}.
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    return new DefaultCalculationTaskRunner(createForkJoinPool(Runtime.getRuntime().availableProcessors()), DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a calculation task runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * Tasks are grouped by function and executed in batches of up to the specified size.
+   * Work-stealing between batches is used if the executor is a {@link ForkJoinPool}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param batchSize  the maximum number of tasks in a batch, one to disable batching
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner of(ExecutorService executor, int batchSize) {
+    return new DefaultCalculationTaskRunner(executor, batchSize);
   }
 
   // create an executor with daemon threads
@@ -81,14 +136,28 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a fork-join pool with daemon threads
+  private static ForkJoinPool createForkJoinPool(int threads) {
+    int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+    return new ForkJoinPool(effectiveThreads, threadFactory, null, false);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
    *
    * @param executor  the executor that is used to perform the calculations
+   * @param batchSize  the maximum number of tasks in a batch, one to disable batching
    */
-  private DefaultCalculationTaskRunner(ExecutorService executor) {
+  private DefaultCalculationTaskRunner(ExecutorService executor, int batchSize) {
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.batchSize = ArgChecker.notNegativeOrZero(batchSize, "batchSize");
   }
 
   //-------------------------------------------------------------------------
@@ -173,14 +242,56 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       CalculationListener listener) {
 
     List<CalculationTask> taskList = tasks.getTasks();
+    // the market data views created by the tasks are shared for the duration of this run
+    ScenarioMarketData runMarketData = marketData instanceof CachingScenarioMarketData ?
+        marketData :
+        CachingScenarioMarketData.of(marketData);
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
+    ListenerWrapper consumer =
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    if (batchSize == 1) {
+      // run each task using the executor
+      taskList.forEach(task -> runTask(task, runMarketData, refData, consumer));
+    } else {
+      // run batches of tasks using the executor
+      List<List<CalculationTask>> batches = batches(taskList);
+      if (executor instanceof ForkJoinPool) {
+        ((ForkJoinPool) executor).execute(
+            new BatchAction(batches, 0, batches.size(), runMarketData, refData, consumer));
+      } else {
+        batches.forEach(batch -> executor.execute(() -> runBatch(batch, runMarketData, refData, consumer)));
+      }
+    }
+  }
+
+  // groups the tasks by function, then splits each group into batches
+  private List<List<CalculationTask>> batches(List<CalculationTask> taskList) {
+    Map<CalculationFunction<?>, List<CalculationTask>> tasksByFunction = new LinkedHashMap<>();
+    for (CalculationTask task : taskList) {
+      tasksByFunction.computeIfAbsent(task.getFunction(), fn -> new ArrayList<>()).add(task);
+    }
+    List<List<CalculationTask>> batches = new ArrayList<>();
+    for (List<CalculationTask> functionTasks : tasksByFunction.values()) {
+      batches.addAll(Lists.partition(functionTasks, batchSize));
+    }
+    return batches;
+  }
+
+  // runs a batch of tasks, passing all the results to the consumer at the end
+  private static void runBatch(
+      List<CalculationTask> batch,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    List<CalculationResults> results = new ArrayList<>(batch.size());
+    for (CalculationTask task : batch) {
+      results.add(task.execute(marketData, refData));
+    }
+    consumer.acceptAll(results);
   }
 
   // submits a task to the executor to be run
@@ -203,6 +314,53 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Fork-join action that runs a range of batches.
+   * <p>
+   * The range is split in half until a single batch remains, allowing idle worker threads
+   * to steal the unstarted half of the range from busy threads.
+   */
+  private static final class BatchAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<List<CalculationTask>> batches;
+    private final int start;
+    private final int end;
+    private final transient ScenarioMarketData marketData;
+    private final transient ReferenceData refData;
+    private final transient ListenerWrapper consumer;
+
+    private BatchAction(
+        List<List<CalculationTask>> batches,
+        int start,
+        int end,
+        ScenarioMarketData marketData,
+        ReferenceData refData,
+        ListenerWrapper consumer) {
+
+      this.batches = batches;
+      this.start = start;
+      this.end = end;
+      this.marketData = marketData;
+      this.refData = refData;
+      this.consumer = consumer;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= 1) {
+        if (end > start) {
+          runBatch(batches.get(start), marketData, refData, consumer);
+        }
+      } else {
+        int mid = (start + end) >>> 1;
+        invokeAll(
+            new BatchAction(batches, start, mid, marketData, refData, consumer),
+            new BatchAction(batches, mid, end, marketData, refData, consumer));
+      }
+    }
+  }
 
   //-------------------------------------------------------------------------
   /**
@@ -235,6 +393,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     public void calculationsComplete() {
       delegate.calculationsComplete();
     }
+
+    @Override
+    public int maxPendingResults() {
+      return delegate.maxPendingResults();
+    }
   }
 
 }
@@ -8,9 +8,12 @@ package com.opengamma.strata.calc.runner;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collector;
 import java.util.stream.DoubleStream;
 
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.calc.Measure;
@@ -132,4 +135,25 @@ public final class FunctionUtils {
     mutableMeasureMap.put(newKey, result);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves a calculation target, using the resolved target cache if one is available.
+   * <p>
+   * If the parameters contain a {@link ResolvedTargetCache}, it is used to obtain the resolved target.
+   * Otherwise the target is resolved directly.
+   *
+   * @param <T>  the type of the resolved target
+   * @param target  the target to resolve
+   * @param parameters  the calculation parameters, which may contain the cache
+   * @param refData  the reference data to use when resolving
+   * @return the resolved target
+   */
+  public static <T> T resolve(Resolvable<T> target, CalculationParameters parameters, ReferenceData refData) {
+    Optional<ResolvedTargetCache> cache = parameters.findParameter(ResolvedTargetCache.class);
+    if (cache.isPresent()) {
+      return cache.get().resolve(target, refData);
+    }
+    return target.resolve(refData);
+  }
+
 }
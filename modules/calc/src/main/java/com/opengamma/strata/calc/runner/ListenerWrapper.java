@@ -8,6 +8,7 @@ package com.opengamma.strata.calc.runner;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -15,6 +16,7 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.collect.ArgChecker;
@@ -29,6 +31,13 @@ import com.opengamma.strata.collect.ArgChecker;
  * Calculations may be performed in bulk for a given target.
  * The logic in this class unwraps the {@link CalculationResults}, calling the
  * listener with each individual {@link CalculationResult}.
+ * <p>
+ * Results may also be delivered in batches using {@link #acceptAll(List)}.
+ * This reduces contention on the internal lock when many small tasks are executed.
+ * <p>
+ * The number of results queued for delivery is limited by {@link CalculationListener#maxPendingResults()}.
+ * When the limit is reached, calling threads are blocked until the queue has been drained,
+ * providing backpressure when the listener is slower than the calculations.
  */
 final class ListenerWrapper implements Consumer<CalculationResults> {
 
@@ -37,18 +46,24 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The wrapped listener. */
   private final CalculationListener listener;
 
-  /** Queue of actions to perform on the delegate. */
-  private final Queue<CalculationResults> queue = new LinkedList<>();
+  /** Queue of batches of results to deliver to the delegate. */
+  private final Queue<List<CalculationResults>> queue = new LinkedList<>();
 
   /** Protects the queue and the executing flag. */
   private final Lock lock = new ReentrantLock();
 
+  /** Signalled when results are removed from the queue or the executing flag is unset. */
+  private final Condition queueDrained = lock.newCondition();
+
   /** This lock is never contended; it is used to guarantee the listener state is visible to all threads. */
   private final Lock listenerLock = new ReentrantLock();
 
   /** The total number of tasks to be executed. */
   private final int tasksExpected;
 
+  /** The maximum number of task results that may be queued before calling threads are blocked. */
+  private final int maxPendingResults;
+
   // Mutable state -----------------------------------------------------
 
   /**
@@ -62,6 +77,9 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The number of task results that have been received. */
   private int tasksReceived;
 
+  /** The number of task results in the queue. */
+  private int tasksQueued;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance wrapping the specified listener.
@@ -72,6 +90,7 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   ListenerWrapper(CalculationListener listener, int tasksExpected, List<CalculationTarget> targets, List<Column> columns) {
     this.listener = ArgChecker.notNull(listener, "listener");
     this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this.maxPendingResults = ArgChecker.notNegativeOrZero(listener.maxPendingResults(), "maxPendingResults");
 
     listenerLock.lock();
     try {
@@ -101,7 +120,23 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    */
   @Override
   public void accept(CalculationResults result) {
-    CalculationResults nextResult;
+    acceptAll(ImmutableList.of(result));
+  }
+
+  /**
+   * Accepts a batch of calculation results and delivers them to the listener.
+   * <p>
+   * This behaves as though {@link #accept(CalculationResults)} was called for each result,
+   * but the internal lock is only acquired once for the whole batch.
+   * Each element of the batch counts as one task towards the number of tasks expected.
+   *
+   * @param results the results of a batch of calculations
+   */
+  void acceptAll(List<CalculationResults> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    List<CalculationResults> nextResults;
 
     // Multiple calculation threads can try to acquire this lock at the same time.
     // The thread which acquires the lock will set the executing flag and proceed into
@@ -112,17 +147,23 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
     // to any thread acquiring the lock.
     lock.lock();
     try {
+      // If the queue is full, wait until the thread invoking the listener has drained it.
+      // That thread never waits, so it is always able to make progress.
+      while (executing && tasksQueued >= maxPendingResults) {
+        queueDrained.awaitUninterruptibly();
+      }
       if (executing) {
         // Another thread is already invoking the listener. Add the result to
         // the queue and return. The other thread will ensure the queued results
         // are delivered.
-        queue.add(result);
+        queue.add(results);
+        tasksQueued += results.size();
         return;
       } else {
         // There is no thread invoking the listener. Set the executing flag to
         // ensure no other thread passes this point and invoke the listener.
         executing = true;
-        nextResult = result;
+        nextResults = results;
       }
     } finally {
       lock.unlock();
@@ -131,7 +172,7 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
     // The logic in the block above guarantees that there will never be more than one thread in the
     // rest of the method below this point.
 
-    // Loop until the nextResult and all the results from the queue have been delivered
+    // Loop until the nextResults and all the results from the queue have been delivered
     for (;;) {
       // The logic above means this lock is never contended; the executing flag means
       // only one thread will ever be in this loop at any given time.
@@ -140,11 +181,9 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
       try {
         // Invoke the listener while not protected by lock. This allows other threads
         // to queue results while this thread is delivering them to the listener.
-        for (CalculationResult cell : nextResult.getCells()) {
-          listener.resultReceived(nextResult.getTarget(), cell);
+        for (CalculationResults nextResult : nextResults) {
+          deliver(nextResult);
         }
-      } catch (RuntimeException e) {
-        log.warn("Exception invoking listener.resultReceived", e);
       } finally {
         listenerLock.unlock();
       }
@@ -153,7 +192,8 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
       // to the executing flag and to the state of the queue are visible to all threads
       lock.lock();
       try {
-        if (++tasksReceived == tasksExpected) {
+        tasksReceived += nextResults.size();
+        if (tasksReceived == tasksExpected) {
           // The expected number of results have been received, inform the listener.
           // The listener lock must be acquired to ensure any state changes in the listener are
           // visible to all threads
@@ -170,16 +210,30 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
           // There are no more results to deliver. Unset the executing flag and return.
           // This allows the next calling thread to deliver results.
           executing = false;
+          queueDrained.signalAll();
           return;
         } else {
           // There are results on the queue. This means another thread called accept(),
           // added a result to the queue and returned while this thread was invoking the listener.
           // This thread must deliver the results from the queue.
-          nextResult = queue.remove();
+          nextResults = queue.remove();
+          tasksQueued -= nextResults.size();
+          queueDrained.signalAll();
         }
       } finally {
         lock.unlock();
       }
     }
   }
+
+  // delivers the cells of a single result to the listener, must be called holding the listener lock
+  private void deliver(CalculationResults result) {
+    try {
+      for (CalculationResult cell : result.getCells()) {
+        listener.resultReceived(result.getTarget(), cell);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Exception invoking listener.resultReceived", e);
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A cache of resolved calculation targets, shared across calculation runs.
+ * <p>
+ * Resolving a trade, such as {@code SwapTrade.resolve(ReferenceData)}, generates schedules
+ * and applies holiday calendars. For a large portfolio this is expensive, yet the result
+ * is the same on every run if neither the trade nor the reference data has changed.
+ * This cache allows the resolved form to be reused.
+ * <p>
+ * Entries are keyed by the target and the reference data.
+ * Targets are compared using {@code equals()}, thus any change to a trade, such as a new version,
+ * results in a different entry. Reference data is compared by identity, as it may be large and
+ * has no version. Callers must therefore pass a new reference data instance if it changes,
+ * such as when a holiday is added, or call {@link #invalidateAll()}.
+ * <p>
+ * The cache is bounded by the maximum number of entries. In addition, entries are held using
+ * soft references, allowing them to be evicted when memory is short.
+ * Statistics on hits, misses and evictions are recorded.
+ * <p>
+ * The cache is a {@link CalculationParameter}. When it is added to the parameters of the
+ * {@link com.opengamma.strata.calc.CalculationRules CalculationRules}, it is available to every
+ * calculation task, and functions can use {@link FunctionUtils#resolve(Resolvable, CalculationParameters, ReferenceData)}
+ * to resolve their target. The same instance should be used for each run.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ResolvedTargetCache implements CalculationParameter {
+
+  /**
+   * The underlying cache.
+   */
+  private final Cache<Key, Object> cache;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance bounded by the specified maximum number of entries.
+   *
+   * @param maximumSize  the maximum number of entries in the cache
+   * @return the cache
+   */
+  public static ResolvedTargetCache of(long maximumSize) {
+    ArgChecker.notNegative(maximumSize, "maximumSize");
+    return new ResolvedTargetCache(maximumSize);
+  }
+
+  // restricted constructor
+  private ResolvedTargetCache(long maximumSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .softValues()
+        .recordStats()
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the target, returning the cached result if available.
+   * <p>
+   * If the target has not been resolved using the reference data, it is resolved and cached.
+   * Any exception thrown by the resolution is propagated, and nothing is cached.
+   *
+   * @param <T>  the type of the resolved target
+   * @param target  the target to resolve
+   * @param refData  the reference data to use when resolving
+   * @return the resolved target
+   * @throws RuntimeException if unable to resolve the target
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T resolve(Resolvable<T> target, ReferenceData refData) {
+    ArgChecker.notNull(target, "target");
+    ArgChecker.notNull(refData, "refData");
+    try {
+      return (T) cache.get(new Key(target, refData), () -> target.resolve(refData));
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  /**
+   * Gets the number of entries in the cache.
+   * <p>
+   * This is an approximation, as entries may have been evicted but not yet removed.
+   *
+   * @return the number of entries
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Gets the statistics of the cache.
+   * <p>
+   * This includes the number of hits, misses and evictions since the cache was created.
+   *
+   * @return the statistics
+   */
+  public CacheStats getStatistics() {
+    return cache.stats();
+  }
+
+  /**
+   * Removes all entries from the cache.
+   * <p>
+   * This should be called if the reference data instance is mutated in place.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "ResolvedTargetCache[size=" + cache.size() + ", " + cache.stats() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cache key, comparing the target by equality and the reference data by identity.
+   */
+  private static final class Key {
+
+    private final Object target;
+    private final ReferenceData refData;
+    private final int hashCode;
+
+    private Key(Object target, ReferenceData refData) {
+      this.target = target;
+      this.refData = refData;
+      this.hashCode = target.hashCode() * 31 + System.identityHashCode(refData);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return refData == other.refData && target.equals(other.target);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Calculation listener that passes each row of results to a sink as soon as it is complete.
+ * <p>
+ * Unlike {@link ResultsListener}, this does not build a {@link Results} instance holding every result.
+ * Instead, the results of each target are held only until all the columns of the row have been received.
+ * The row is then passed to {@link #rowReceived(int, CalculationTarget, List)} and released.
+ * This allows the results of a large portfolio to be written incrementally, for example to a file,
+ * with memory usage that does not depend on the size of the portfolio.
+ * <p>
+ * Rows are passed to the sink in the order they complete, which is not necessarily the order of the targets.
+ * <p>
+ * The listener provides backpressure via {@link #maxPendingResults()}.
+ * If the sink is slower than the calculations, the calculation threads are blocked once the
+ * specified number of results are waiting to be delivered.
+ * <p>
+ * The aggregate result is the number of rows passed to the sink.
+ */
+public abstract class StreamingResultsListener extends AggregatingCalculationListener<Integer> {
+
+  /** The maximum number of results that may be waiting to be delivered. */
+  private final int maxPendingResults;
+  /** The rows that have been partially received, keyed by row index. */
+  private final Map<Integer, PendingRow> pendingRows = new HashMap<>();
+  /** The columns that define what values are calculated. */
+  private List<Column> columns = ImmutableList.of();
+  /** The number of rows passed to the sink. */
+  private int rowCount;
+
+  /**
+   * Creates an instance.
+   *
+   * @param maxPendingResults  the maximum number of results that may be waiting to be delivered
+   */
+  protected StreamingResultsListener(int maxPendingResults) {
+    this.maxPendingResults = ArgChecker.notNegativeOrZero(maxPendingResults, "maxPendingResults");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    this.columns = ImmutableList.copyOf(columns);
+  }
+
+  @Override
+  public final void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    PendingRow row = pendingRows.computeIfAbsent(rowIndex, i -> new PendingRow(target, columns.size()));
+    row.cells[result.getColumnIndex()] = result.getResult();
+    row.received++;
+    if (row.received == columns.size()) {
+      pendingRows.remove(rowIndex);
+      emit(rowIndex, row);
+    }
+  }
+
+  @Override
+  public final int maxPendingResults() {
+    return maxPendingResults;
+  }
+
+  @Override
+  protected final Integer createAggregateResult() {
+    // rows are only incomplete if calculations were missing, which should not happen
+    pendingRows.keySet().stream()
+        .sorted()
+        .forEach(rowIndex -> emit(rowIndex, pendingRows.get(rowIndex)));
+    pendingRows.clear();
+    streamComplete();
+    return rowCount;
+  }
+
+  // passes the row to the sink
+  private void emit(int rowIndex, PendingRow row) {
+    rowReceived(rowIndex, row.target, Arrays.asList(row.cells));
+    rowCount++;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the columns that define what values are calculated.
+   * <p>
+   * This is available once the calculations have started.
+   *
+   * @return the columns
+   */
+  protected List<Column> getColumns() {
+    return columns;
+  }
+
+  /**
+   * Invoked when all the results of a row are available.
+   * <p>
+   * The list contains one result for each column, in column order.
+   * The list must not be retained after the method returns.
+   * A result may be null if the calculation was not performed.
+   *
+   * @param rowIndex  the index of the row, matching the index of the target in the list of targets
+   * @param target  the calculation target, such as a trade
+   * @param results  the results, one for each column
+   */
+  protected abstract void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results);
+
+  /**
+   * Invoked when all rows have been passed to the sink.
+   * <p>
+   * This can be used to flush or close the underlying output.
+   * By default, this does nothing.
+   */
+  protected void streamComplete() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A row that has been partially received.
+   */
+  private static final class PendingRow {
+    private final CalculationTarget target;
+    private final Result<?>[] cells;
+    private int received;
+
+    private PendingRow(CalculationTarget target, int columnCount) {
+      this.target = target;
+      this.cells = new Result<?>[columnCount];
+    }
+  }
+
+}
@@ -10,15 +10,19 @@ import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.result.FailureReason;
@@ -355,6 +359,67 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(new TestIdC("2"))).isEqualTo(expectedC2);
   }
 
+  /**
+   * Tests building market data concurrently produces the same data as building it on the calling thread.
+   */
+  public void buildWithExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"), new TestIdB("3"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 1)
+        .put(date(2011, 3, 9), 2)
+        .build();
+
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap = ImmutableMap.of(
+        new TestIdA("1"), timeSeries,
+        new TestIdA("2"), timeSeries,
+        new TestIdA("3"), timeSeries);
+
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(timeSeriesMap);
+    List<MarketDataFunction<?, ?>> functions =
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC());
+    MarketDataFactory sequentialFactory =
+        MarketDataFactory.of(new TestObservableDataProvider(), timeSeriesProvider, functions);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory concurrentFactory =
+          MarketDataFactory.of(new TestObservableDataProvider(), timeSeriesProvider, executor, functions);
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      BuiltMarketData expected = sequentialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      BuiltMarketData marketData = concurrentFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData).isEqualTo(expected);
+      assertThat(marketData.getValue(new TestIdB("3"))).isEqualTo(new TestMarketDataB(3, new TestMarketDataC(timeSeries)));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests an exception is thrown when there is no builder for an ID type and the data is built concurrently.
+   */
+  public void noMarketDataBuilderAvailableWithExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(ImmutableMap.of()),
+        MoreExecutors.directExecutor(),
+        ImmutableList.of(new TestMarketDataFunctionB()));
+
+    BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+    assertThrows(
+        () -> factory.createMultiScenario(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty()),
+        IllegalStateException.class,
+        "No market data function available for market data ID of type.*");
+  }
+
   /**
    * Tests building multiple observable values for scenarios where the values aren't perturbed.
    */
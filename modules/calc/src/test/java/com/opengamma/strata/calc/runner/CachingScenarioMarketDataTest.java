@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link CachingScenarioMarketData}.
+ */
+@Test
+public class CachingScenarioMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+  private static final TestObservableId OBS_ID = TestObservableId.of("3");
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.of(VAL_DATE, 1d);
+  private static final ScenarioMarketData MARKET_DATA = ImmutableScenarioMarketData.builder(VAL_DATE)
+      .addValue(ID1, "A")
+      .addTimeSeries(OBS_ID, TIME_SERIES)
+      .build();
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CachingScenarioMarketData test = CachingScenarioMarketData.of(MARKET_DATA);
+    assertSame(test.getUnderlying(), MARKET_DATA);
+    assertEquals(test.getValuationDate(), MARKET_DATA.getValuationDate());
+    assertEquals(test.getScenarioCount(), 1);
+    assertEquals(test.scenario(0).getValue(ID1), "A");
+    assertEquals(test.containsValue(ID1), true);
+    assertEquals(test.containsValue(ID2), false);
+    assertEquals(test.getValue(ID1), MarketDataBox.ofSingleValue("A"));
+    assertEquals(test.findValue(ID1).get(), MarketDataBox.ofSingleValue("A"));
+    assertFalse(test.findValue(ID2).isPresent());
+    assertEquals(test.getIds(), MARKET_DATA.getIds());
+    assertEquals(test.getTimeSeriesIds(), MARKET_DATA.getTimeSeriesIds());
+    assertEquals(test.getTimeSeries(OBS_ID), TIME_SERIES);
+    assertThrowsIllegalArg(() -> CachingScenarioMarketData.of(null));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_view() {
+    CachingScenarioMarketData test = CachingScenarioMarketData.of(MARKET_DATA);
+    AtomicInteger count = new AtomicInteger();
+    Object view1 = test.view("key", md -> {
+      assertSame(md, test);
+      count.incrementAndGet();
+      return new Object();
+    });
+    Object view2 = test.view("key", md -> {
+      count.incrementAndGet();
+      return new Object();
+    });
+    Object view3 = test.view("other", md -> new Object());
+    assertSame(view2, view1);
+    assertNotSame(view3, view1);
+    assertEquals(count.get(), 1);
+    assertThrowsIllegalArg(() -> test.view(null, md -> new Object()));
+    assertThrowsIllegalArg(() -> test.view("key", null));
+  }
+
+  public void test_view_differentInstances() {
+    Object view1 = CachingScenarioMarketData.of(MARKET_DATA).view("key", md -> new Object());
+    Object view2 = CachingScenarioMarketData.of(MARKET_DATA).view("key", md -> new Object());
+    assertNotSame(view2, view1);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_derived() {
+    CachingScenarioMarketData test = CachingScenarioMarketData.of(MARKET_DATA);
+    ScenarioMarketData derived = test.withValue(ID2, MarketDataBox.ofSingleValue("B"));
+    assertFalse(derived instanceof CachingScenarioMarketData);
+    assertEquals(derived.getValue(ID2), MarketDataBox.ofSingleValue("B"));
+    assertEquals(derived.getValue(ID1), MarketDataBox.ofSingleValue("A"));
+    assertFalse(test.containsValue(ID2));
+    ScenarioMarketData combined = test.combinedWith(
+        ImmutableScenarioMarketData.builder(VAL_DATE).addValue(ID2, "B").build());
+    assertFalse(combined instanceof CachingScenarioMarketData);
+    assertEquals(combined.getValue(ID2), MarketDataBox.ofSingleValue("B"));
+  }
+
+}
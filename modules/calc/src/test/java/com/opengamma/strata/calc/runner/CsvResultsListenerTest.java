@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Test {@link CsvResultsListener} and {@link StreamingResultsListener}.
+ */
+@Test
+public class CsvResultsListenerTest {
+
+  private static final TestTarget TARGET1 = new TestTarget("T1");
+  private static final TestTarget TARGET2 = new TestTarget("T2");
+  private static final List<CalculationTarget> TARGETS = ImmutableList.of(TARGET1, TARGET2);
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(TestingMeasures.PRESENT_VALUE),
+      Column.of(TestingMeasures.PAR_RATE));
+
+  //-------------------------------------------------------------------------
+  public void test_rowsWrittenWhenComplete() {
+    StringBuilder buf = new StringBuilder();
+    CsvResultsListener test = CsvResultsListener.of(buf, 10);
+    test.calculationsStarted(TARGETS, COLUMNS);
+    assertEquals(test.maxPendingResults(), 10);
+    assertEquals(buf.toString(), "Row,Target,Scenario,PresentValue,ParRate\n");
+
+    test.resultReceived(TARGET2, CalculationResult.of(1, 1, Result.success(0.25)));
+    test.resultReceived(TARGET1, CalculationResult.of(0, 0, Result.success(1.5)));
+    assertEquals(buf.toString(), "Row,Target,Scenario,PresentValue,ParRate\n");
+
+    test.resultReceived(TARGET2, CalculationResult.of(1, 0, Result.failure(FailureReason.ERROR, "Fail")));
+    assertEquals(buf.toString(), "Row,Target,Scenario,PresentValue,ParRate\n1,T2,0,,0.25\n");
+
+    test.resultReceived(TARGET1, CalculationResult.of(0, 1, Result.success(0.5)));
+    test.calculationsComplete();
+    assertEquals(buf.toString(), "Row,Target,Scenario,PresentValue,ParRate\n1,T2,0,,0.25\n0,T1,0,1.5,0.5\n");
+    assertEquals(test.result(), (Integer) 2);
+  }
+
+  public void test_scenarios() {
+    StringBuilder buf = new StringBuilder();
+    CsvResultsListener test = CsvResultsListener.of(buf, target -> "Trade-" + target, 10);
+    test.calculationsStarted(ImmutableList.of(TARGET1), COLUMNS);
+    test.resultReceived(TARGET1, CalculationResult.of(0, 0, Result.success(ScenarioArray.of(1.5, 2.5))));
+    test.resultReceived(TARGET1, CalculationResult.of(0, 1, Result.success(0.5)));
+    test.calculationsComplete();
+    assertEquals(
+        buf.toString(),
+        "Row,Target,Scenario,PresentValue,ParRate\n0,Trade-T1,0,1.5,0.5\n0,Trade-T1,1,2.5,0.5\n");
+    assertEquals(test.result(), (Integer) 1);
+  }
+
+  public void test_incompleteRowsWrittenOnCompletion() {
+    StringBuilder buf = new StringBuilder();
+    CsvResultsListener test = CsvResultsListener.of(buf, 10);
+    test.calculationsStarted(TARGETS, COLUMNS);
+    test.resultReceived(TARGET2, CalculationResult.of(1, 1, Result.success(0.25)));
+    test.calculationsComplete();
+    assertEquals(buf.toString(), "Row,Target,Scenario,PresentValue,ParRate\n1,T2,0,,0.25\n");
+    assertEquals(test.result(), (Integer) 1);
+  }
+
+  public void test_of_invalid() {
+    assertThrowsIllegalArg(() -> CsvResultsListener.of(new StringBuilder(), 0));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements CalculationTarget {
+    private final String name;
+
+    private TestTarget(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+}
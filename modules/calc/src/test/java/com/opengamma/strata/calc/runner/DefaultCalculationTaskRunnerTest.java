@@ -12,9 +12,15 @@ import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.date;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
@@ -196,6 +202,123 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Tests that batched execution on a direct executor produces a result for every cell.
+   */
+  public void runBatched() {
+    CalculationTasks tasks = batchTasks(25);
+
+    // using the direct executor means there is no need to close/shutdown the runner
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 4);
+
+    MarketData marketData = MarketData.empty(VAL_DATE);
+    Results results = test.calculate(tasks, marketData, REF_DATA);
+    assertThat(results.getRowCount()).isEqualTo(25);
+    assertThat(results.getColumnCount()).isEqualTo(2);
+    for (int i = 0; i < 25; i++) {
+      assertThat(results.get(i, 0)).hasValue("pv");
+      assertThat(results.get(i, 1)).hasValue("par");
+    }
+  }
+
+  /**
+   * Tests that batched execution using work-stealing produces a result for every cell.
+   */
+  public void runWorkStealing() {
+    int targetCount = 1000;
+    CalculationTasks tasks = batchTasks(targetCount);
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      MarketData marketData = MarketData.empty(VAL_DATE);
+      Results results = test.calculate(tasks, marketData, REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(targetCount);
+      for (int i = 0; i < targetCount; i++) {
+        assertThat(results.get(i, 0)).hasValue("pv");
+        assertThat(results.get(i, 1)).hasValue("par");
+      }
+    }
+  }
+
+  /**
+   * Tests that the views of the market data are shared by the tasks of a run, but not between runs.
+   */
+  public void runSharesMarketDataViews() {
+    ViewFunction fn = new ViewFunction();
+    ImmutableList.Builder<CalculationTask> taskList = ImmutableList.builder();
+    for (int i = 0; i < 10; i++) {
+      taskList.add(CalculationTask.of(
+          new TestTarget(), fn, CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL)));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskList.build(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+
+    try (CalculationTaskRunner test = CalculationTaskRunner.ofWorkStealing()) {
+      MarketData marketData = MarketData.empty(VAL_DATE);
+      Results results1 = test.calculate(tasks, marketData, REF_DATA);
+      Results results2 = test.calculate(tasks, marketData, REF_DATA);
+      Object view1 = results1.get(0, 0).getValue();
+      Object view2 = results2.get(0, 0).getValue();
+      for (int i = 0; i < 10; i++) {
+        assertThat(results1.get(i, 0).getValue()).isSameAs(view1);
+        assertThat(results2.get(i, 0).getValue()).isSameAs(view2);
+      }
+      assertThat(view2).isNotSameAs(view1);
+    }
+  }
+
+  /**
+   * Tests that the single scenario async method blocks the calculations when the listener's limit is reached.
+   */
+  public void calculateAsyncBackpressure() throws InterruptedException {
+    int nThreads = 4;
+    int maxPendingResults = 2;
+    int taskCount = 50;
+    AtomicInteger executed = new AtomicInteger();
+    CountingFunction fn = new CountingFunction(executed);
+    ImmutableList.Builder<CalculationTask> taskList = ImmutableList.builder();
+    for (int i = 0; i < taskCount; i++) {
+      taskList.add(CalculationTask.of(
+          new TestTarget(), fn, CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL)));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskList.build(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    BlockingListener listener = new BlockingListener(maxPendingResults);
+
+    ExecutorService producer = Executors.newSingleThreadExecutor();
+    try (CalculationTaskRunner test = CalculationTaskRunner.of(Executors.newFixedThreadPool(nThreads))) {
+      MarketData marketData = MarketData.empty(VAL_DATE);
+      producer.execute(() -> test.calculateAsync(tasks, marketData, REF_DATA, listener));
+      assertThat(listener.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+      // each calculation thread can hold one result, in addition to those queued for the blocked listener
+      Thread.sleep(200);
+      assertThat(executed.get()).isLessThanOrEqualTo(nThreads + maxPendingResults);
+      listener.release.countDown();
+      assertThat(listener.complete.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(executed.get()).isEqualTo(taskCount);
+      assertThat(listener.received.get()).isEqualTo(taskCount);
+    } finally {
+      listener.release.countDown();
+      producer.shutdown();
+    }
+  }
+
+  public void runBatchedInvalidBatchSize() {
+    assertThrowsIllegalArg(() -> CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService(), 0));
+  }
+
+  // creates tasks for two columns, each column using a different function
+  private static CalculationTasks batchTasks(int targetCount) {
+    ScenarioResultFunction pvFn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("pv"));
+    ScenarioResultFunction parFn = new ScenarioResultFunction(TestingMeasures.PAR_RATE, ScenarioArray.of("par"));
+    ImmutableList.Builder<CalculationTask> taskList = ImmutableList.builder();
+    for (int i = 0; i < targetCount; i++) {
+      TestTarget target = new TestTarget();
+      taskList.add(CalculationTask.of(target, pvFn, CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL)));
+      taskList.add(CalculationTask.of(target, parFn, CalculationTaskCell.of(i, 1, TestingMeasures.PAR_RATE, NATURAL)));
+    }
+    List<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE), Column.of(TestingMeasures.PAR_RATE));
+    return CalculationTasks.of(taskList.build(), columns);
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -244,6 +367,102 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // counts the number of calculations
+  private static final class CountingFunction implements CalculationFunction<TestTarget> {
+
+    private final AtomicInteger count;
+
+    private CountingFunction(AtomicInteger count) {
+      this.count = count;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      try {
+        // allow the results to be passed to the listener by the calculation threads
+        Thread.sleep(1);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      count.incrementAndGet();
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of("pv")));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // returns the view of the market data for the run
+  private static final class ViewFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      Object view = ((CachingScenarioMarketData) marketData).view(this, md -> new Object());
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of(view)));
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
@@ -259,4 +478,41 @@ public class DefaultCalculationTaskRunnerTest {
       // Do nothing
     }
   }
+
+  //-------------------------------------------------------------------------
+  // listener that blocks on the first result until released
+  private static final class BlockingListener implements CalculationListener {
+
+    private final int maxPendingResults;
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch complete = new CountDownLatch(1);
+    private final AtomicInteger received = new AtomicInteger();
+
+    private BlockingListener(int maxPendingResults) {
+      this.maxPendingResults = maxPendingResults;
+    }
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      if (received.incrementAndGet() == 1) {
+        blocked.countDown();
+        try {
+          release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void calculationsComplete() {
+      complete.countDown();
+    }
+
+    @Override
+    public int maxPendingResults() {
+      return maxPendingResults;
+    }
+  }
 }
@@ -8,11 +8,14 @@ package com.opengamma.strata.calc.runner;
 import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
@@ -52,6 +55,105 @@ public class ListenerWrapperTest {
     }
   }
 
+  // Tests that batches of results count towards the number of expected tasks.
+  public void concurrentBatchExecution() throws InterruptedException {
+    int nThreads = Runtime.getRuntime().availableProcessors();
+    int batchesPerThread = 4;
+    int batchSize = 5;
+    ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    int expectedResultCount = nThreads * batchesPerThread * batchSize;
+    Listener listener = new Listener(errors, latch);
+    ListenerWrapper wrapper =
+        new ListenerWrapper(listener, expectedResultCount, ImmutableList.of(), ImmutableList.of());
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    CalculationResult result = CalculationResult.of(0, 0, Result.failure(FailureReason.ERROR, "foo"));
+    CalculationTarget target = new CalculationTarget() {};
+    CalculationResults results = CalculationResults.of(target, ImmutableList.of(result));
+    List<CalculationResults> batch = Collections.nCopies(batchSize, results);
+    IntStream.range(0, nThreads * batchesPerThread).forEach(i -> executor.submit(() -> wrapper.acceptAll(batch)));
+
+    latch.await();
+    executor.shutdown();
+
+    if (!errors.isEmpty()) {
+      String allErrors = errors.stream().collect(joining("\n"));
+      fail(allErrors);
+    }
+  }
+
+  // Tests that calling threads are blocked when the listener's limit on pending results is reached.
+  public void backpressure() throws InterruptedException {
+    int nThreads = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+    int maxPendingResults = 2;
+    int expectedResultCount = nThreads * 5;
+    ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger returned = new AtomicInteger();
+    BoundedListener listener = new BoundedListener(errors, latch, returned, maxPendingResults);
+    ListenerWrapper wrapper =
+        new ListenerWrapper(listener, expectedResultCount, ImmutableList.of(), ImmutableList.of());
+    ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+    CalculationResult result = CalculationResult.of(0, 0, Result.failure(FailureReason.ERROR, "foo"));
+    CalculationTarget target = new CalculationTarget() {};
+    CalculationResults results = CalculationResults.of(target, ImmutableList.of(result));
+    IntStream.range(0, expectedResultCount).forEach(i -> executor.submit(() -> {
+      wrapper.accept(results);
+      returned.incrementAndGet();
+    }));
+
+    latch.await();
+    executor.shutdown();
+
+    if (!errors.isEmpty()) {
+      String allErrors = errors.stream().collect(joining("\n"));
+      fail(allErrors);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  public static final class BoundedListener implements CalculationListener {
+
+    private final Queue<String> errors;
+    private final CountDownLatch latch;
+    /** The number of calls to the wrapper that have returned, each of which was either delivered or queued. */
+    private final AtomicInteger returned;
+    private final int maxPendingResults;
+    private int delivered;
+
+    public BoundedListener(Queue<String> errors, CountDownLatch latch, AtomicInteger returned, int maxPendingResults) {
+      this.errors = errors;
+      this.latch = latch;
+      this.returned = returned;
+      this.maxPendingResults = maxPendingResults;
+    }
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      delivered++;
+      try {
+        // Give other threads a chance to fill the queue
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        // Won't ever happen
+      }
+      int pending = returned.get() - delivered;
+      if (pending > maxPendingResults) {
+        errors.add("Expected at most " + maxPendingResults + " pending results but there were " + pending);
+      }
+    }
+
+    @Override
+    public void calculationsComplete() {
+      latch.countDown();
+    }
+
+    @Override
+    public int maxPendingResults() {
+      return maxPendingResults;
+    }
+  }
+
   public static final class Listener implements CalculationListener {
 
     /**
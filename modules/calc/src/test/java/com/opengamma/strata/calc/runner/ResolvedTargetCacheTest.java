@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.Resolvable;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.HolidayCalendars;
+
+/**
+ * Test {@link ResolvedTargetCache}.
+ */
+@Test
+public class ResolvedTargetCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.minimal();
+
+  //-------------------------------------------------------------------------
+  public void test_resolve_cached() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    String resolved1 = test.resolve(new TestResolvable("A", count), REF_DATA);
+    String resolved2 = test.resolve(new TestResolvable("A", count), REF_DATA);
+    assertEquals(resolved1, "A-resolved");
+    assertSame(resolved2, resolved1);
+    assertEquals(count.get(), 1);
+    assertEquals(test.size(), 1);
+    assertEquals(test.getStatistics().hitCount(), 1);
+    assertEquals(test.getStatistics().missCount(), 1);
+  }
+
+  public void test_resolve_differentTarget() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    assertEquals(test.resolve(new TestResolvable("A", count), REF_DATA), "A-resolved");
+    assertEquals(test.resolve(new TestResolvable("B", count), REF_DATA), "B-resolved");
+    assertEquals(count.get(), 2);
+    assertEquals(test.getStatistics().missCount(), 2);
+  }
+
+  public void test_resolve_differentReferenceData() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    ReferenceData refData2 = ReferenceData.of(ImmutableMap.of(HolidayCalendarIds.NO_HOLIDAYS, HolidayCalendars.NO_HOLIDAYS));
+    test.resolve(new TestResolvable("A", count), REF_DATA);
+    test.resolve(new TestResolvable("A", count), refData2);
+    assertEquals(count.get(), 2);
+  }
+
+  public void test_resolve_evicted() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(1);
+    AtomicInteger count = new AtomicInteger();
+    test.resolve(new TestResolvable("A", count), REF_DATA);
+    test.resolve(new TestResolvable("B", count), REF_DATA);
+    test.resolve(new TestResolvable("A", count), REF_DATA);
+    assertEquals(count.get(), 3);
+    assertEquals(test.size(), 1);
+    assertEquals(test.getStatistics().evictionCount(), 2);
+  }
+
+  public void test_resolve_exception() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    assertThrowsIllegalArg(() -> test.resolve(new TestResolvable("", count), REF_DATA));
+    assertEquals(test.size(), 0);
+  }
+
+  public void test_invalidateAll() {
+    ResolvedTargetCache test = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    test.resolve(new TestResolvable("A", count), REF_DATA);
+    test.invalidateAll();
+    test.resolve(new TestResolvable("A", count), REF_DATA);
+    assertEquals(count.get(), 2);
+  }
+
+  public void test_functionUtils() {
+    ResolvedTargetCache cache = ResolvedTargetCache.of(10);
+    AtomicInteger count = new AtomicInteger();
+    CalculationParameters parameters = CalculationParameters.of(cache);
+    FunctionUtils.resolve(new TestResolvable("A", count), parameters, REF_DATA);
+    FunctionUtils.resolve(new TestResolvable("A", count), parameters, REF_DATA);
+    assertEquals(count.get(), 1);
+    FunctionUtils.resolve(new TestResolvable("A", count), CalculationParameters.empty(), REF_DATA);
+    assertEquals(count.get(), 2);
+  }
+
+  public void test_of_negative() {
+    assertThrowsIllegalArg(() -> ResolvedTargetCache.of(-1));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestResolvable implements Resolvable<String> {
+    private final String name;
+    private final AtomicInteger count;
+
+    private TestResolvable(String name, AtomicInteger count) {
+      this.name = name;
+      this.count = count;
+    }
+
+    @Override
+    public String resolve(ReferenceData refData) {
+      count.incrementAndGet();
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException("Empty");
+      }
+      return name + "-resolved";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestResolvable && ((TestResolvable) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+
+}
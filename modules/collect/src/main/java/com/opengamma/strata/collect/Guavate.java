@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -622,6 +624,33 @@ public final class Guavate {
     return toImmutableMap(Pair::getFirst, Pair::getSecond);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Waits for a future to complete, returning its result.
+   * <p>
+   * This is similar to {@link CompletableFuture#join()}, but if the future completed with
+   * a runtime exception, that exception is thrown rather than a {@link CompletionException}.
+   * This allows work to be submitted to an executor without changing the exceptions seen by the caller.
+   * <p>
+   * Any other failure, such as a checked exception or cancellation, is thrown as by {@code join()}.
+   *
+   * @param <T>  the type of the result
+   * @param future  the future to wait for
+   * @return the result of the future
+   * @throws RuntimeException if the future completed with a runtime exception
+   * @throws CompletionException if the future completed with a checked exception or error
+   */
+  public static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   /**
@@ -7,15 +7,19 @@ package com.opengamma.strata.collect;
 
 import static com.opengamma.strata.collect.Guavate.entriesToImmutableMap;
 import static com.opengamma.strata.collect.Guavate.pairsToImmutableMap;
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.collect.TestHelper.assertUtilityClass;
 import static org.testng.Assert.assertEquals;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -281,6 +285,23 @@ public class GuavateTest {
     assertEquals(output, expected);
   }
 
+  //-------------------------------------------------------------------------
+  public void test_join() {
+    assertEquals(Guavate.join(CompletableFuture.completedFuture("a")), "a");
+  }
+
+  public void test_join_runtimeException() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    future.completeExceptionally(new IllegalArgumentException("Bad"));
+    assertThrows(() -> Guavate.join(future), IllegalArgumentException.class, "Bad");
+  }
+
+  public void test_join_checkedException() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    future.completeExceptionally(new IOException("Bad"));
+    assertThrows(() -> Guavate.join(future), CompletionException.class);
+  }
+
   //-------------------------------------------------------------------------
   public void test_validUtilityClass() {
     assertUtilityClass(Guavate.class);
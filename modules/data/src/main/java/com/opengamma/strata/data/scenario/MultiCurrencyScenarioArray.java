@@ -10,7 +10,6 @@ import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -34,11 +33,10 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
-import com.opengamma.strata.basics.currency.CurrencyAmountArray;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmountArray;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountArrayAccumulator;
 import com.opengamma.strata.collect.Guavate;
-import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 
@@ -225,20 +223,14 @@ public final class MultiCurrencyScenarioArray
    * @return the collector
    */
   public static Collector<CurrencyScenarioArray, ?, MultiCurrencyScenarioArray> toMultiCurrencyScenarioArray() {
-    return Collector.<CurrencyScenarioArray, Map<Currency, CurrencyAmountArray>, MultiCurrencyScenarioArray>of(
-        // accumulate into a map
-        HashMap::new,
-        (map, ca) -> map.merge(ca.getCurrency(), ca.getAmounts(), CurrencyAmountArray::plus),
-        // combine two maps
-        (map1, map2) -> {
-          map2.values().forEach((ca2) -> map1.merge(ca2.getCurrency(), ca2, CurrencyAmountArray::plus));
-          return map1;
-        },
+    return Collector.<CurrencyScenarioArray, MultiCurrencyAmountArrayAccumulator, MultiCurrencyScenarioArray>of(
+        // accumulate into arrays indexed by currency
+        MultiCurrencyAmountArrayAccumulator::new,
+        (acc, ca) -> acc.add(ca.getAmounts()),
+        // combine two accumulators
+        MultiCurrencyAmountArrayAccumulator::add,
         // convert to MultiCurrencyScenarioArray
-        map -> {
-          Map<Currency, DoubleArray> currencyArrayMap = MapStream.of(map).mapValues(caa -> caa.getValues()).toMap();
-          return MultiCurrencyScenarioArray.of(currencyArrayMap);
-        },
+        acc -> MultiCurrencyScenarioArray.of(acc.build()),
         UNORDERED);
   }
 
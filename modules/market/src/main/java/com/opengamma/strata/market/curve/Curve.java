@@ -12,7 +12,9 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -90,6 +92,23 @@ public interface Curve extends ParameterizedData {
    */
   public abstract double yValue(double x);
 
+  /**
+   * Computes the y-values for the specified x-values.
+   * <p>
+   * This is equivalent to calling {@link #yValue(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted from low to high,
+   * such as the payment dates of a swap leg.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to populate with the y-values, which must be the same size as the x-values
+   */
+  public default void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Arrays must have same size");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValue(xValues[i]);
+    }
+  }
+
   /**
    * Computes the sensitivity of the y-value with respect to the curve parameters.
    * <p>
@@ -102,6 +121,27 @@ public interface Curve extends ParameterizedData {
    */
   public abstract UnitParameterSensitivity yValueParameterSensitivity(double x);
 
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to a builder.
+   * <p>
+   * This is equivalent to adding {@code yValueParameterSensitivity(x).multipliedBy(currency, amount)}
+   * to the builder. Implementations may avoid creating the intermediate sensitivity.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply the sensitivity by
+   * @param builder  the builder to add the sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(
+      double x,
+      Currency currency,
+      double amount,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    builder.add(yValueParameterSensitivity(x), currency, amount);
+  }
+
   /**
    * Computes the first derivative of the curve.
    * <p>
@@ -27,6 +27,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +58,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +78,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -99,6 +105,40 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  @Override
+  public final void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Arrays must have same size");
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        // when the x-values are sorted, the search continues from the previous interval
+        lowerIndex = lowerBoundIndex(xValue, nodeXValues, lowerIndex);
+        result[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+  }
+
+  /**
+   * Method for subclasses to calculate the interpolated value when the lower index is known.
+   * <p>
+   * This is used by {@link #interpolate(double[], double[])} to avoid searching for the interval.
+   * The default implementation ignores the index and calls {@link #doInterpolate(double)}.
+   * 
+   * @param xValue  the x-value, which is less than the x-value of the last node
+   * @param lowerIndex  the index of the node, as returned by {@link #lowerBoundIndex(double, double[])}
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
   @Override
   public final double firstDerivative(double xValue) {
     if (xValue < firstXValue) {
@@ -135,6 +175,32 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  @Override
+  public final void addParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    if (xValue < firstXValue || xValue > lastXValue) {
+      BoundCurveInterpolator.super.addParameterSensitivity(xValue, factor, sensitivity);
+    } else {
+      doAddParameterSensitivity(xValue, factor, sensitivity);
+    }
+  }
+
+  /**
+   * Method for subclasses to add the parameter sensitivity to an array.
+   * <p>
+   * Subclasses that only have sensitivity to a few parameters should override this
+   * to avoid creating an array. The default implementation calls {@link #doParameterSensitivity(double)}.
+   * 
+   * @param xValue  the x-value
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the array to add to
+   */
+  protected void doAddParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+    DoubleArray unit = doParameterSensitivity(xValue);
+    for (int i = 0; i < sensitivity.length; i++) {
+      sensitivity[i] += unit.get(i) * factor;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
@@ -180,4 +246,31 @@ public abstract class AbstractBoundCurveInterpolator
     return lo - 1;
   }
 
+  /**
+   * Returns the index of the last value in the input array which is lower than the specified value,
+   * starting the search from a known index.
+   * <p>
+   * The result is the same as {@link #lowerBoundIndex(double, double[])}.
+   * If the value at the start index is less than or equal to the specified value, the nodes
+   * are scanned forwards from the start index, otherwise a binary search is used.
+   * When finding the index for a sorted set of values, passing the previous result as the
+   * start index results in a single sweep of the nodes.
+   *
+   * @param xValue  a value which is less than the last element in {@code xValues}
+   * @param xValues  an array of values sorted in ascending order
+   * @param startIndex  the index to start searching from
+   * @return the index of the last value in {@code xValues} which is lower than {@code xValue}
+   */
+  protected static int lowerBoundIndex(double xValue, double[] xValues, int startIndex) {
+    int lastIndex = xValues.length - 1;
+    if (startIndex > lastIndex || !(xValues[startIndex] <= xValue)) {
+      return lowerBoundIndex(xValue, xValues);
+    }
+    int index = startIndex;
+    while (index < lastIndex && xValues[index + 1] <= xValue) {
+      index++;
+    }
+    return index;
+  }
+
 }
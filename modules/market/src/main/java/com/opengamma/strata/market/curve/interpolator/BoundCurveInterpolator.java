@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -29,6 +30,24 @@ public interface BoundCurveInterpolator {
    */
   public abstract double interpolate(double x);
 
+  /**
+   * Computes the y-values for the specified x-values by interpolation.
+   * <p>
+   * This is equivalent to calling {@link #interpolate(double)} for each x-value.
+   * Implementations may be more efficient when the x-values are sorted from low to high,
+   * for example by locating the interval of each x-value in a single sweep of the nodes.
+   * 
+   * @param xValues  the x-values to find the y-values for
+   * @param result  the array to populate with the y-values, which must be the same size as the x-values
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Arrays must have same size");
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+  }
+
   /**
    * Computes the first derivative of the y-value for the specified x-value.
    * <p>
@@ -52,6 +71,26 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity, as returned by {@link #parameterSensitivity(double)}, is multiplied by
+   * the factor and added to the array element by element.
+   * Many interpolators, such as linear, only have sensitivity to two parameters.
+   * Implementations can then update those two elements without creating a new array.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param factor  the factor to multiply the sensitivity by
+   * @param sensitivity  the array to add to, with one element for each parameter of the curve
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double x, double factor, double[] sensitivity) {
+    DoubleArray unit = parameterSensitivity(x);
+    for (int i = 0; i < sensitivity.length; i++) {
+      sensitivity[i] += unit.get(i) * factor;
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
@@ -90,7 +90,11 @@ final class LogLinearCurveInterpolator
     @Override
     protected double doInterpolate(double xValue) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
       double x1 = xValues[lowerIndex];
       double x2 = xValues[lowerIndex + 1];
       double y1 = yValues[lowerIndex];
@@ -142,6 +146,27 @@ final class LogLinearCurveInterpolator
       return DoubleArray.ofUnsafe(result);
     }
 
+    @Override
+    protected void doAddParameterSensitivity(double xValue, double factor, double[] sensitivity) {
+      int lowerIndex = lowerBoundIndex(xValue, xValues);
+      // check if x-value is at the last node
+      if (lowerIndex == intervalCount) {
+        // sensitivity is entirely to the last node
+        sensitivity[intervalCount] += factor;
+      } else {
+        double x1 = xValues[lowerIndex];
+        double x2 = xValues[lowerIndex + 1];
+        double y1 = yValues[lowerIndex];
+        double y2 = yValues[lowerIndex + 1];
+        double diffInv = 1.0 / (x2 - x1);
+        double x1diffInv = (xValue - x1) * diffInv;
+        double x2diffInv = (x2 - xValue) * diffInv;
+        double yDiv = y1 / y2;
+        sensitivity[lowerIndex] += Math.pow(yDiv, -x1diffInv) * x2diffInv * factor;
+        sensitivity[lowerIndex + 1] += Math.pow(yDiv, x2diffInv) * x1diffInv * factor;
+      }
+    }
+
     @Override
     public BoundCurveInterpolator bind(
         BoundCurveExtrapolator extrapolatorLeft,
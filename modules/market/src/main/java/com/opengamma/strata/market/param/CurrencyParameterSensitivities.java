@@ -134,6 +134,19 @@ public final class CurrencyParameterSensitivities
     return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
   }
 
+  /**
+   * Returns a builder that can be used to accumulate sensitivities efficiently.
+   * <p>
+   * The builder sums sensitivities with the same key in place, which is much faster than
+   * repeatedly calling {@link #combinedWith(CurrencyParameterSensitivities)} when
+   * converting a large number of point sensitivities.
+   * 
+   * @return the builder
+   */
+  public static CurrencyParameterSensitivitiesBuilder builder() {
+    return new CurrencyParameterSensitivitiesBuilder();
+  }
+
   // used when not pre-sorted
   @ImmutableConstructor
   private CurrencyParameterSensitivities(List<? extends CurrencyParameterSensitivity> sensitivities) {
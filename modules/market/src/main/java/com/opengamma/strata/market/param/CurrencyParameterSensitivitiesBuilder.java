@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+
+/**
+ * Builder for {@code CurrencyParameterSensitivities}.
+ * <p>
+ * This is a mutable accumulator of parameter sensitivity.
+ * Each entry is keyed by market data name and currency, and holds a primitive array of sensitivity values.
+ * Adding a sensitivity adds the values into the array in place, thus the cost of converting
+ * many point sensitivities is not dominated by the creation of intermediate immutable objects,
+ * as it is when using {@link CurrencyParameterSensitivities#combinedWith(CurrencyParameterSensitivities)}.
+ * <p>
+ * When two entries with the same key are added, the parameter metadata and parameter split
+ * of the first entry are retained. The number of parameters must match.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * An instance is obtained using {@link CurrencyParameterSensitivities#builder()}.
+ */
+public final class CurrencyParameterSensitivitiesBuilder {
+
+  /**
+   * The sensitivity entries, keyed by market data name and currency.
+   */
+  private final Map<Pair<MarketDataName<?>, Currency>, Entry> entries = new HashMap<>();
+
+  /**
+   * Creates an empty instance.
+   */
+  CurrencyParameterSensitivitiesBuilder() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a single sensitivity to the builder.
+   * <p>
+   * If an entry already exists with the same market data name and currency, the values are summed.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    Entry entry = entry(
+        sensitivity.getMarketDataName(),
+        sensitivity.getParameterMetadata(),
+        sensitivity.getCurrency(),
+        sensitivity.getParameterSplit().orElse(null));
+    entry.add(sensitivity.getSensitivity(), 1d);
+    return this;
+  }
+
+  /**
+   * Adds all the sensitivities in the specified instance to the builder.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count does not match an existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(CurrencyParameterSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a unit sensitivity to the builder, multiplied by the specified amount.
+   * <p>
+   * This is equivalent to adding {@code unitSensitivity.multipliedBy(currency, amount)},
+   * but avoids creating the intermediate sensitivity.
+   *
+   * @param unitSensitivity  the unit sensitivity to add
+   * @param currency  the currency of the amount
+   * @param amount  the amount to multiply the unit sensitivity by
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(
+      UnitParameterSensitivity unitSensitivity,
+      Currency currency,
+      double amount) {
+
+    ArgChecker.notNull(unitSensitivity, "unitSensitivity");
+    ArgChecker.notNull(currency, "currency");
+    Entry entry = entry(
+        unitSensitivity.getMarketDataName(),
+        unitSensitivity.getParameterMetadata(),
+        currency,
+        unitSensitivity.getParameterSplit().orElse(null));
+    entry.add(unitSensitivity.getSensitivity(), amount);
+    return this;
+  }
+
+  /**
+   * Adds sensitivity to the builder, allowing the values to be added in place.
+   * <p>
+   * This finds or creates the entry for the market data name and currency, and passes its array of
+   * sensitivity values to the function. The function must add to the array in place, and not retain it.
+   * This allows the sensitivity of a single point, which often only affects a few parameters,
+   * to be added without creating a new array.
+   *
+   * @param marketDataName  the market data name
+   * @param parameterMetadata  the parameter metadata, used if this is the first sensitivity for the name and currency
+   * @param currency  the currency of the sensitivity
+   * @param sensitivityAdder  the function that adds to the array of sensitivity values
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the parameter count does not match the existing entry
+   */
+  public CurrencyParameterSensitivitiesBuilder add(
+      MarketDataName<?> marketDataName,
+      List<? extends ParameterMetadata> parameterMetadata,
+      Currency currency,
+      Consumer<double[]> sensitivityAdder) {
+
+    ArgChecker.notNull(marketDataName, "marketDataName");
+    ArgChecker.notNull(parameterMetadata, "parameterMetadata");
+    ArgChecker.notNull(currency, "currency");
+    Entry entry = entry(marketDataName, ImmutableList.copyOf(parameterMetadata), currency, null);
+    if (entry.values.length != parameterMetadata.size()) {
+      throw new IllegalArgumentException(Messages.format(
+          "Sensitivity array size {} must match size {} for '{}'",
+          parameterMetadata.size(),
+          entry.values.length,
+          marketDataName));
+    }
+    sensitivityAdder.accept(entry.values);
+    return this;
+  }
+
+  // finds or creates the entry for the key
+  private Entry entry(
+      MarketDataName<?> name,
+      ImmutableList<ParameterMetadata> metadata,
+      Currency currency,
+      List<ParameterSize> parameterSplit) {
+
+    return entries.computeIfAbsent(Pair.of(name, currency), key -> new Entry(name, metadata, currency, parameterSplit));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the sensitivity from the accumulated entries.
+   * <p>
+   * The builder may continue to be used after this method is called.
+   *
+   * @return the sensitivities
+   */
+  public CurrencyParameterSensitivities build() {
+    List<CurrencyParameterSensitivity> sensitivities = new ArrayList<>(entries.size());
+    for (Entry entry : entries.values()) {
+      sensitivities.add(entry.toSensitivity());
+    }
+    return CurrencyParameterSensitivities.of(sensitivities);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A single mutable entry.
+   */
+  private static final class Entry {
+    private final MarketDataName<?> name;
+    private final ImmutableList<ParameterMetadata> metadata;
+    private final Currency currency;
+    private final List<ParameterSize> parameterSplit;
+    private final double[] values;
+
+    private Entry(
+        MarketDataName<?> name,
+        ImmutableList<ParameterMetadata> metadata,
+        Currency currency,
+        List<ParameterSize> parameterSplit) {
+
+      this.name = name;
+      this.metadata = metadata;
+      this.currency = currency;
+      this.parameterSplit = parameterSplit;
+      this.values = new double[metadata.size()];
+    }
+
+    // adds the values, multiplied by the amount
+    private void add(DoubleArray sensitivity, double amount) {
+      if (sensitivity.size() != values.length) {
+        throw new IllegalArgumentException(Messages.format(
+            "Sensitivity array size {} must match size {} for '{}'", sensitivity.size(), values.length, name));
+      }
+      for (int i = 0; i < values.length; i++) {
+        values[i] += sensitivity.get(i) * amount;
+      }
+    }
+
+    // creates the immutable sensitivity
+    private CurrencyParameterSensitivity toSensitivity() {
+      return CurrencyParameterSensitivity.of(name, metadata, currency, DoubleArray.copyOf(values), parameterSplit);
+    }
+  }
+
+}
@@ -189,17 +189,9 @@ public final class MutablePointSensitivities
    */
   @Override
   public MutablePointSensitivities normalize() {
-    sensitivities.sort(PointSensitivity::compareKey);
-    PointSensitivity previous = sensitivities.get(0);
-    for (int i = 1; i < sensitivities.size(); i++) {
-      PointSensitivity current = sensitivities.get(i);
-      if (current.compareKey(previous) == 0) {
-        sensitivities.set(i - 1, previous.withSensitivity(previous.getSensitivity() + current.getSensitivity()));
-        sensitivities.remove(i);
-        i--;
-      }
-      previous = current;
-    }
+    List<PointSensitivity> normalized = PointSensitivities.normalize(sensitivities);
+    sensitivities.clear();
+    sensitivities.addAll(normalized);
     return this;
   }
 
@@ -7,7 +7,7 @@ package com.opengamma.strata.market.sensitivity;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -184,11 +184,7 @@ public final class PointSensitivities
     if (sensitivities.isEmpty()) {
       return this;
     }
-    List<PointSensitivity> mutable = new ArrayList<>();
-    for (PointSensitivity sensi : sensitivities) {
-      insert(mutable, sensi);
-    }
-    return new PointSensitivities(mutable);
+    return new PointSensitivities(normalize(sensitivities));
   }
 
   //-----------------------------------------------------------------------
@@ -239,25 +235,41 @@ public final class PointSensitivities
   //-------------------------------------------------------------------------
   @Override
   public PointSensitivities convertedTo(Currency resultCurrency, FxRateProvider rateProvider) {
-    List<PointSensitivity> mutable = new ArrayList<>();
+    List<PointSensitivity> converted = new ArrayList<>(sensitivities.size());
     for (PointSensitivity sensi : sensitivities) {
-      insert(mutable, sensi.convertedTo(resultCurrency, rateProvider));
+      converted.add(sensi.convertedTo(resultCurrency, rateProvider));
     }
-    return new PointSensitivities(mutable);
+    return new PointSensitivities(normalize(converted));
   }
 
-  // inserts a sensitivity into the mutable list in the right location
-  // merges the entry with an existing entry if the key matches
-  private static void insert(List<PointSensitivity> mutable, PointSensitivity addition) {
-    int index = Collections.binarySearch(mutable, addition, PointSensitivity::compareKey);
-    if (index >= 0) {
-      PointSensitivity base = mutable.get(index);
-      double combined = base.getSensitivity() + addition.getSensitivity();
-      mutable.set(index, base.withSensitivity(combined));
-    } else {
-      int insertionPoint = -(index + 1);
-      mutable.add(insertionPoint, addition);
+  // sorts the sensitivities and then merges adjacent entries if the key matches
+  // the sort is stable, thus entries with the same key are summed in list order
+  // this is O(n log n), whereas inserting each entry into a sorted list is O(n^2)
+  static List<PointSensitivity> normalize(List<? extends PointSensitivity> sensitivities) {
+    int size = sensitivities.size();
+    List<PointSensitivity> normalized = new ArrayList<>(size);
+    if (size == 0) {
+      return normalized;
+    }
+    PointSensitivity[] sorted = sensitivities.toArray(new PointSensitivity[size]);
+    Arrays.sort(sorted, PointSensitivity::compareKey);
+    PointSensitivity base = sorted[0];
+    double combined = base.getSensitivity();
+    boolean merged = false;
+    for (int i = 1; i < size; i++) {
+      PointSensitivity current = sorted[i];
+      if (current.compareKey(base) == 0) {
+        combined += current.getSensitivity();
+        merged = true;
+      } else {
+        normalized.add(merged ? base.withSensitivity(combined) : base);
+        base = current;
+        combined = current.getSensitivity();
+        merged = false;
+      }
     }
+    normalized.add(merged ? base.withSensitivity(combined) : base);
+    return normalized;
   }
 
   //------------------------- AUTOGENERATED START -------------------------
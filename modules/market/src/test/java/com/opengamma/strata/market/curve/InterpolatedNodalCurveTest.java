@@ -26,6 +26,8 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.LabelDateParameterMetadata;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -125,6 +127,28 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  public void test_yValues() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] xValues = {0.5d, 1d, 1.5d, 2.5d, 2.2d, 3d, 10d};
+    double[] result = new double[xValues.length];
+    test.yValues(xValues, result);
+    for (int i = 0; i < xValues.length; i++) {
+      assertThat(result[i]).isEqualTo(test.yValue(xValues[i]));
+    }
+    assertThrowsIllegalArg(() -> test.yValues(xValues, new double[1]));
+  }
+
+  public void test_addYValueParameterSensitivity() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA_ENTRIES, XVALUES, YVALUES, INTERPOLATOR);
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    test.addYValueParameterSensitivity(1.5d, Currency.GBP, 2d, builder);
+    test.addYValueParameterSensitivity(10d, Currency.GBP, 3d, builder);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+        test.yValueParameterSensitivity(1.5d).multipliedBy(Currency.GBP, 2d),
+        test.yValueParameterSensitivity(10d).multipliedBy(Currency.GBP, 3d));
+    assertThat(builder.build().equalWithTolerance(expected, 1e-12)).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   public void test_withMetadata() {
     InterpolatedNodalCurve base = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
@@ -77,6 +77,29 @@ public class LogLinearCurveInterpolatorTest {
     assertEquals(bci.firstDerivative(5.0), bci.firstDerivative(4.99999999), 1e-6);
   }
 
+  //-------------------------------------------------------------------------
+  public void test_interpolate_array() {
+    BoundCurveInterpolator bci = LL_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] xValues = {-1.0, 0.0, 0.2, 0.3, 1.0, 1.1, 2.3, 0.5, 4.9, 5.0, 6.0};
+    double[] result = new double[xValues.length];
+    bci.interpolate(xValues, result);
+    for (int i = 0; i < xValues.length; i++) {
+      assertEquals(result[i], bci.interpolate(xValues[i]), 0d);
+    }
+  }
+
+  public void test_addParameterSensitivity() {
+    BoundCurveInterpolator bci = LL_INTERPOLATOR.bind(X_DATA, Y_DATA, FLAT_EXTRAPOLATOR, FLAT_EXTRAPOLATOR);
+    double[] xValues = {-1.0, 0.0, 0.2, 1.1, 2.3, 5.0, 6.0};
+    for (double xValue : xValues) {
+      double[] sensitivity = new double[X_DATA.size()];
+      sensitivity[0] = 1d;
+      bci.addParameterSensitivity(xValue, 2d, sensitivity);
+      DoubleArray expected = bci.parameterSensitivity(xValue).multipliedBy(2d).plus(DoubleArray.of(1, 0, 0, 0, 0, 0));
+      assertEquals(DoubleArray.ofUnsafe(sensitivity).equalWithTolerance(expected, TOL), true);
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_serialization() {
     assertSerialization(LL_INTERPOLATOR);
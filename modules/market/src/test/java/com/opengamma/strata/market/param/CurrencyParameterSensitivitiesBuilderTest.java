@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.param;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+
+/**
+ * Test {@link CurrencyParameterSensitivitiesBuilder}.
+ */
+@Test
+public class CurrencyParameterSensitivitiesBuilderTest {
+
+  private static final Currency USD = Currency.USD;
+  private static final Currency EUR = Currency.EUR;
+  private static final MarketDataName<?> NAME1 = CurveName.of("NAME-1");
+  private static final MarketDataName<?> NAME2 = CurveName.of("NAME-2");
+  private static final List<ParameterMetadata> METADATA1 = ParameterMetadata.listOfEmpty(3);
+  private static final List<ParameterMetadata> METADATA2 = ParameterMetadata.listOfEmpty(2);
+  private static final CurrencyParameterSensitivity ENTRY_USD1 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(1, 2, 3));
+  private static final CurrencyParameterSensitivity ENTRY_USD2 =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, USD, DoubleArray.of(10, 20, 30));
+  private static final CurrencyParameterSensitivity ENTRY_EUR =
+      CurrencyParameterSensitivity.of(NAME1, METADATA1, EUR, DoubleArray.of(5, 6, 7));
+  private static final CurrencyParameterSensitivity ENTRY_NAME2 =
+      CurrencyParameterSensitivity.of(NAME2, METADATA2, USD, DoubleArray.of(8, 9));
+
+  //-------------------------------------------------------------------------
+  public void test_empty() {
+    assertEquals(CurrencyParameterSensitivities.builder().build(), CurrencyParameterSensitivities.empty());
+  }
+
+  public void test_add_sensitivity() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(ENTRY_NAME2)
+        .add(ENTRY_USD1)
+        .add(ENTRY_EUR)
+        .add(ENTRY_USD2)
+        .build();
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(ENTRY_NAME2)
+        .combinedWith(ENTRY_USD1)
+        .combinedWith(ENTRY_EUR)
+        .combinedWith(ENTRY_USD2);
+    assertEquals(test, expected);
+  }
+
+  public void test_add_sensitivities() {
+    CurrencyParameterSensitivities base = CurrencyParameterSensitivities.of(ImmutableList.of(ENTRY_USD1, ENTRY_NAME2));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(base)
+        .add(base)
+        .build();
+    assertEquals(test, base.multipliedBy(2d));
+  }
+
+  public void test_add_unitSensitivity() {
+    UnitParameterSensitivity unit = UnitParameterSensitivity.of(NAME1, METADATA1, DoubleArray.of(1, 2, 3));
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(unit, USD, 2d)
+        .add(ENTRY_USD2)
+        .build();
+    assertEquals(test, CurrencyParameterSensitivities.of(unit.multipliedBy(USD, 2d)).combinedWith(ENTRY_USD2));
+  }
+
+  public void test_add_inPlace() {
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.builder()
+        .add(ENTRY_USD1)
+        .add(NAME1, METADATA1, USD, sens -> sens[1] += 5d)
+        .build();
+    assertEquals(test, CurrencyParameterSensitivities.of(ENTRY_USD1.withSensitivity(DoubleArray.of(1, 7, 3))));
+    assertThrowsIllegalArg(() -> CurrencyParameterSensitivities.builder()
+        .add(ENTRY_USD1)
+        .add(NAME1, METADATA2, USD, sens -> sens[0] += 1d));
+  }
+
+  public void test_add_sizeMismatch() {
+    CurrencyParameterSensitivity small = CurrencyParameterSensitivity.of(NAME1, USD, DoubleArray.of(1));
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY_USD1);
+    assertThrowsIllegalArg(() -> test.add(small));
+  }
+
+  public void test_build_continueAdding() {
+    CurrencyParameterSensitivitiesBuilder test = CurrencyParameterSensitivities.builder().add(ENTRY_USD1);
+    CurrencyParameterSensitivities first = test.build();
+    test.add(ENTRY_USD2);
+    assertEquals(first, CurrencyParameterSensitivities.of(ENTRY_USD1));
+    assertEquals(test.build(), CurrencyParameterSensitivities.of(ENTRY_USD1).combinedWith(ENTRY_USD2));
+  }
+
+}
@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.math.impl.differentiation;
 
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -151,4 +153,57 @@ public class ScalarFirstOrderDifferentiator
     };
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Provides a function that calculates the derivative of a primitive function.
+   * <p>
+   * This avoids boxing the argument and the value at each evaluation of the function.
+   * 
+   * @param function  the function to differentiate
+   * @return a function that calculates the derivative
+   */
+  public DoubleUnaryOperator differentiatePrimitive(DoubleUnaryOperator function) {
+    ArgChecker.notNull(function, "function");
+    switch (differenceType) {
+      case FORWARD:
+        return x -> (function.applyAsDouble(x + eps) - function.applyAsDouble(x)) / eps;
+      case CENTRAL:
+        return x -> (function.applyAsDouble(x + eps) - function.applyAsDouble(x - eps)) / twoEps;
+      case BACKWARD:
+        return x -> (function.applyAsDouble(x) - function.applyAsDouble(x - eps)) / eps;
+      default:
+        throw new IllegalArgumentException("Can only handle forward, backward and central differencing");
+    }
+  }
+
+  /**
+   * Provides a function that calculates the derivative of a primitive function within a domain.
+   * <p>
+   * Central differencing is used, switching to second order forward or backward differencing
+   * close to the boundaries of the domain.
+   * 
+   * @param function  the function to differentiate
+   * @param domain  the domain of the function
+   * @return a function that calculates the derivative
+   */
+  public DoubleUnaryOperator differentiatePrimitive(DoubleUnaryOperator function, DoublePredicate domain) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(domain, "domain");
+    return x -> {
+      ArgChecker.isTrue(domain.test(x), "point {} is not in the function domain", x);
+      if (!domain.test(x + eps)) {
+        if (!domain.test(x - eps)) {
+          throw new MathException("cannot get derivative at point " + x);
+        }
+        return (function.applyAsDouble(x - twoEps) - 4d * function.applyAsDouble(x - eps) +
+            3d * function.applyAsDouble(x)) / twoEps;
+      }
+      if (!domain.test(x - eps)) {
+        return (-3d * function.applyAsDouble(x) + 4d * function.applyAsDouble(x + eps) -
+            function.applyAsDouble(x + twoEps)) / twoEps;
+      }
+      return (function.applyAsDouble(x + eps) - function.applyAsDouble(x - eps)) / twoEps;
+    };
+  }
+
 }
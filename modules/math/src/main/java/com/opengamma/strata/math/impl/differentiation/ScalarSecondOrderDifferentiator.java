@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.differentiation;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -88,4 +89,19 @@ public class ScalarSecondOrderDifferentiator
       }
     };
   }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Provides a function that calculates the second derivative of a primitive function.
+   * <p>
+   * This avoids boxing the argument and the value at each evaluation of the function.
+   * 
+   * @param function  the function to differentiate
+   * @return a function that calculates the second derivative
+   */
+  public DoubleUnaryOperator differentiatePrimitive(DoubleUnaryOperator function) {
+    ArgChecker.notNull(function, "function");
+    return x -> (function.applyAsDouble(x + eps) + function.applyAsDouble(x - eps) - 2d * function.applyAsDouble(x)) / epsSqr;
+  }
+
 }
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -71,4 +72,13 @@ public class GaussHermiteQuadratureIntegrator1D extends GaussianQuadratureIntegr
     throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
   }
 
+  @Override
+  public DoubleUnaryOperator getIntegralFunctionPrimitive(DoubleUnaryOperator function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      return x -> Math.exp(x * x) * function.applyAsDouble(x);
+    }
+    throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
+  }
+
 }
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -68,4 +69,12 @@ public class GaussJacobiQuadratureIntegrator1D extends GaussianQuadratureIntegra
     };
   }
 
+  @Override
+  public DoubleUnaryOperator getIntegralFunctionPrimitive(DoubleUnaryOperator function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    double m = (upper - lower) / 2;
+    double c = (upper + lower) / 2;
+    return x -> m * function.applyAsDouble(m * x + c);
+  }
+
 }
@@ -5,8 +5,11 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
+import com.opengamma.strata.collect.ArgChecker;
+
 /**
  * Gauss-Laguerre quadrature approximates the value of integrals of the form
  * $$
@@ -63,4 +66,13 @@ public class GaussLaguerreQuadratureIntegrator1D extends GaussianQuadratureInteg
     throw new UnsupportedOperationException("Limits for Gauss-Laguerre integration are 0 and +infinity");
   }
 
+  @Override
+  public DoubleUnaryOperator getIntegralFunctionPrimitive(DoubleUnaryOperator function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      return x -> function.applyAsDouble(x) * Math.exp(x);
+    }
+    throw new UnsupportedOperationException("Limits for Gauss-Laguerre integration are 0 and +infinity");
+  }
+
 }
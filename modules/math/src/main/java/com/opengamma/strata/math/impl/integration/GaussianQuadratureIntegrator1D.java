@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.integration;
 
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -55,8 +56,21 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
     ArgChecker.notNull(function, "function");
     ArgChecker.notNull(lower, "lower");
     ArgChecker.notNull(upper, "upper");
-    Function<Double, Double> integral = getIntegralFunction(function, lower, upper);
-    return integrateFromPolyFunc(integral);
+    return integratePrimitive(function::apply, lower.doubleValue(), upper.doubleValue());
+  }
+
+  /**
+   * Integrates a primitive function, avoiding boxing at each evaluation.
+   * 
+   * @param function The function to integrate, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
+   * @return The result of the integration
+   */
+  public double integratePrimitive(DoubleUnaryOperator function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    DoubleUnaryOperator integral = getIntegralFunctionPrimitive(function, lower, upper);
+    return integrateFromPolyFuncPrimitive(integral);
   }
 
   /**
@@ -71,13 +85,27 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
    * @return The integral 
    */
   public double integrateFromPolyFunc(Function<Double, Double> polyFunction) {
+    ArgChecker.notNull(polyFunction, "polyFunction");
+    return integrateFromPolyFuncPrimitive(polyFunction::apply);
+  }
+
+  /**
+   * Approximates the integral of $W(x)f(x)$ for a primitive function $f(x)$.
+   * <p>
+   * See {@link #integrateFromPolyFunc(Function)}.
+   * 
+   * @param polyFunction The function $f(x)$ rather than the full function $g(x) = W(x)f(x)$
+   *  This should be well approximated by a polynomial.
+   * @return The integral 
+   */
+  public double integrateFromPolyFuncPrimitive(DoubleUnaryOperator polyFunction) {
     ArgChecker.notNull(polyFunction, "polyFunction");
     double[] abscissas = quadrature.getAbscissas();
     int n = abscissas.length;
     double[] weights = quadrature.getWeights();
     double sum = 0;
     for (int i = 0; i < n; i++) {
-      sum += polyFunction.apply(abscissas[i]) * weights[i];
+      sum += polyFunction.applyAsDouble(abscissas[i]) * weights[i];
     }
     return sum;
   }
@@ -99,6 +127,15 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
       Double lower,
       Double upper);
 
+  /**
+   * Returns a primitive function that is valid for both the type of quadrature and the limits of integration. 
+   * @param function The function to be integrated, not null
+   * @param lower The lower integration limit
+   * @param upper The upper integration limit
+   * @return A function in the appropriate form for integration
+   */
+  public abstract DoubleUnaryOperator getIntegralFunctionPrimitive(DoubleUnaryOperator function, double lower, double upper);
+
   @Override
   public int hashCode() {
     int prime = 31;
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.apache.commons.math3.analysis.integration.SimpsonIntegrator;
@@ -55,12 +56,27 @@ public class SimpsonIntegrator1D extends Integrator1D<Double, Double> {
     ArgChecker.notNull(f, "function");
     ArgChecker.notNull(lower, "lower bound");
     ArgChecker.notNull(upper, "upper bound");
+    return integratePrimitive(f::apply, lower.doubleValue(), upper.doubleValue());
+  }
+
+  /**
+   * Integrates a primitive function, avoiding boxing at each evaluation.
+   * <p>
+   * If the lower bound is larger than the upper, the bounds are reversed and the result negated.
+   * 
+   * @param f The function to integrate, not null
+   * @param lower The lower bound
+   * @param upper The upper bound
+   * @return The result of the integration
+   */
+  public double integratePrimitive(DoubleUnaryOperator f, double lower, double upper) {
+    ArgChecker.notNull(f, "function");
     try {
       if (lower < upper) {
-        return integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), lower, upper);
+        return integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariatePrimitive(f), lower, upper);
       }
       log.info("Upper bound was less than lower bound; swapping bounds and negating result");
-      return -integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariate(f), upper, lower);
+      return -integrator.integrate(MAX_EVAL, CommonsMathWrapper.wrapUnivariatePrimitive(f), upper, lower);
     } catch (NumberIsTooSmallException | NumberIsTooLargeException e) {
       throw new MathException(e);
     }
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * OpenGamma implementation of the LU decomposition with partial pivoting.
+ * <p>
+ * The decomposition is performed in place on a single copy of the rows of the matrix,
+ * without converting to and from the Commons Math representation.
+ * Rows are exchanged by swapping the row arrays, and the elimination of each pivot
+ * updates the remaining rows one contiguous row at a time.
+ * <p>
+ * The pivoting and singularity threshold match {@link LUDecompositionCommons}.
+ */
+public class LUDecompositionOpenGamma extends Decomposition<LUDecompositionResult> {
+
+  /**
+   * The absolute value of a pivot below which the matrix is considered singular.
+   */
+  public static final double DEFAULT_SINGULARITY_THRESHOLD = 1.0E-11;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LUDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    ArgChecker.isTrue(x.isSquare(), "Matrix not square");
+    int n = x.rowCount();
+    double[][] lu = x.toArray();
+    int[] pivot = new int[n];
+    for (int i = 0; i < n; i++) {
+      pivot[i] = i;
+    }
+    boolean even = true;
+    for (int col = 0; col < n; col++) {
+      // find the pivot
+      int max = col;
+      double largest = Math.abs(lu[col][col]);
+      for (int row = col + 1; row < n; row++) {
+        double value = Math.abs(lu[row][col]);
+        if (value > largest) {
+          largest = value;
+          max = row;
+        }
+      }
+      ArgChecker.isTrue(largest >= DEFAULT_SINGULARITY_THRESHOLD, "Matrix is singular; could not perform LU decomposition");
+      if (max != col) {
+        double[] tmp = lu[max];
+        lu[max] = lu[col];
+        lu[col] = tmp;
+        int tmpIndex = pivot[max];
+        pivot[max] = pivot[col];
+        pivot[col] = tmpIndex;
+        even = !even;
+      }
+      // eliminate below the pivot
+      double[] luCol = lu[col];
+      double luDiag = luCol[col];
+      for (int row = col + 1; row < n; row++) {
+        double[] luRow = lu[row];
+        double factor = luRow[col] / luDiag;
+        luRow[col] = factor;
+        if (factor != 0d) {
+          for (int j = col + 1; j < n; j++) {
+            luRow[j] -= factor * luCol[j];
+          }
+        }
+      }
+    }
+    return new LUDecompositionOpenGammaResult(lu, pivot, even);
+  }
+
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of LU decomposition ({@link LUDecompositionOpenGamma}).
+ * <p>
+ * The L and U matrices are held in a single array, with the unit diagonal of L implied.
+ */
+public class LUDecompositionOpenGammaResult implements LUDecompositionResult {
+
+  /**
+   * The combined L and U matrices, with the rows in pivot order.
+   */
+  private final double[][] _lu;
+  /**
+   * The pivot permutation vector.
+   */
+  private final int[] _pivot;
+  /**
+   * Whether the number of row exchanges is even.
+   */
+  private final boolean _even;
+
+  /**
+   * Constructor.
+   * @param lu The combined L and U matrices, with the rows in pivot order, not null
+   * @param pivot The pivot permutation vector, not null
+   * @param even Whether the number of row exchanges is even
+   */
+  public LUDecompositionOpenGammaResult(double[][] lu, int[] pivot, boolean even) {
+    ArgChecker.notNull(lu, "lu");
+    ArgChecker.notNull(pivot, "pivot");
+    ArgChecker.isTrue(lu.length == pivot.length, "Pivot must have the same size as the matrix");
+    _lu = lu;
+    _pivot = pivot;
+    _even = even;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDeterminant() {
+    double determinant = _even ? 1d : -1d;
+    for (int i = 0; i < _lu.length; i++) {
+      determinant *= _lu[i][i];
+    }
+    return determinant;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getL() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> i > j ? _lu[i][j] : (i == j ? 1d : 0d));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getU() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> i <= j ? _lu[i][j] : 0d);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getP() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> _pivot[i] == j ? 1d : 0d);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getPivot() {
+    return _pivot.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    int n = _lu.length;
+    ArgChecker.isTrue(b.length == n, "b array of incorrect size");
+    double[] x = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = b[_pivot[i]];
+    }
+    // L y = P b (y stored in x array)
+    for (int i = 1; i < n; i++) {
+      double[] luRow = _lu[i];
+      double sum = x[i];
+      for (int k = 0; k < i; k++) {
+        sum -= luRow[k] * x[k];
+      }
+      x[i] = sum;
+    }
+    // U x = y
+    for (int i = n - 1; i >= 0; i--) {
+      double[] luRow = _lu[i];
+      double sum = x[i];
+      for (int k = i + 1; k < n; k++) {
+        sum -= luRow[k] * x[k];
+      }
+      x[i] = sum / luRow[i];
+    }
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    int n = _lu.length;
+    ArgChecker.isTrue(b.rowCount() == n, "b matrix of incorrect size");
+    int nbCol = b.columnCount();
+    double[][] x = new double[n][];
+    for (int i = 0; i < n; i++) {
+      x[i] = b.rowArray(_pivot[i]);
+    }
+    // L Y = P B (Y stored in x array), one row at a time
+    for (int i = 1; i < n; i++) {
+      double[] luRow = _lu[i];
+      double[] xRow = x[i];
+      for (int k = 0; k < i; k++) {
+        double factor = luRow[k];
+        if (factor != 0d) {
+          double[] xk = x[k];
+          for (int j = 0; j < nbCol; j++) {
+            xRow[j] -= factor * xk[j];
+          }
+        }
+      }
+    }
+    // U X = Y
+    for (int i = n - 1; i >= 0; i--) {
+      double[] luRow = _lu[i];
+      double[] xRow = x[i];
+      for (int k = i + 1; k < n; k++) {
+        double factor = luRow[k];
+        if (factor != 0d) {
+          double[] xk = x[k];
+          for (int j = 0; j < nbCol; j++) {
+            xRow[j] -= factor * xk[j];
+          }
+        }
+      }
+      double diag = luRow[i];
+      for (int j = 0; j < nbCol; j++) {
+        xRow[j] /= diag;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * OpenGamma implementation of the QR decomposition using Householder reflections.
+ * <p>
+ * The decomposition is performed in place on the transpose of the matrix, such that each
+ * Householder reflection reads and updates contiguous arrays, without converting to and from
+ * the Commons Math representation.
+ * <p>
+ * The reflections and signs match {@link QRDecompositionCommons}.
+ */
+public class QRDecompositionOpenGamma extends Decomposition<QRDecompositionResult> {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public QRDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    int m = x.rowCount();
+    int n = x.columnCount();
+    double[][] qrt = x.transpose().toArray();
+    double[] rDiag = new double[Math.min(m, n)];
+    for (int minor = 0; minor < rDiag.length; minor++) {
+      double[] qrtMinor = qrt[minor];
+      double xNormSqr = 0d;
+      for (int row = minor; row < m; row++) {
+        double c = qrtMinor[row];
+        xNormSqr += c * c;
+      }
+      double a = (qrtMinor[minor] > 0) ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+      rDiag[minor] = a;
+      if (a != 0d) {
+        qrtMinor[minor] -= a;
+        for (int col = minor + 1; col < n; col++) {
+          double[] qrtCol = qrt[col];
+          double alpha = 0d;
+          for (int row = minor; row < m; row++) {
+            alpha -= qrtCol[row] * qrtMinor[row];
+          }
+          alpha /= a * qrtMinor[minor];
+          for (int row = minor; row < m; row++) {
+            qrtCol[row] -= alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return new QRDecompositionOpenGammaResult(qrt, rDiag, m);
+  }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of QR decomposition ({@link QRDecompositionOpenGamma}).
+ * <p>
+ * The Householder vectors and the upper part of R are held in the transposed matrix,
+ * with the diagonal of R held separately.
+ * The matrices Q and R are only created if requested.
+ */
+public class QRDecompositionOpenGammaResult implements QRDecompositionResult {
+
+  /**
+   * The transposed matrix holding the Householder vectors and R.
+   */
+  private final double[][] _qrt;
+  /**
+   * The diagonal of R.
+   */
+  private final double[] _rDiag;
+  /**
+   * The number of rows of the decomposed matrix.
+   */
+  private final int _rowCount;
+
+  /**
+   * Constructor.
+   * @param qrt The transposed matrix holding the Householder vectors and R, not null
+   * @param rDiag The diagonal of R, not null
+   * @param rowCount The number of rows of the decomposed matrix
+   */
+  public QRDecompositionOpenGammaResult(double[][] qrt, double[] rDiag, int rowCount) {
+    ArgChecker.notNull(qrt, "qrt");
+    ArgChecker.notNull(rDiag, "rDiag");
+    _qrt = qrt;
+    _rDiag = rDiag;
+    _rowCount = rowCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getQ() {
+    return getQT().transpose();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getQT() {
+    int m = _rowCount;
+    double[][] qta = new double[m][m];
+    for (int minor = m - 1; minor >= _rDiag.length; minor--) {
+      qta[minor][minor] = 1d;
+    }
+    for (int minor = _rDiag.length - 1; minor >= 0; minor--) {
+      double[] qrtMinor = _qrt[minor];
+      qta[minor][minor] = 1d;
+      if (qrtMinor[minor] != 0d) {
+        for (int col = minor; col < m; col++) {
+          double[] qtaCol = qta[col];
+          double alpha = 0d;
+          for (int row = minor; row < m; row++) {
+            alpha -= qtaCol[row] * qrtMinor[row];
+          }
+          alpha /= _rDiag[minor] * qrtMinor[minor];
+          for (int row = minor; row < m; row++) {
+            qtaCol[row] -= alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(qta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getR() {
+    int n = _qrt.length;
+    double[][] r = new double[_rowCount][n];
+    for (int row = _rDiag.length - 1; row >= 0; row--) {
+      r[row][row] = _rDiag[row];
+      for (int col = row + 1; col < n; col++) {
+        r[row][col] = _qrt[col][row];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(r);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == _rowCount, "b array of incorrect size");
+    for (double diag : _rDiag) {
+      ArgChecker.isTrue(diag != 0d, "Matrix is singular");
+    }
+    int m = _rowCount;
+    int n = _qrt.length;
+    double[] y = b.clone();
+    // apply the Householder reflections, y = Q^T b
+    for (int minor = 0; minor < _rDiag.length; minor++) {
+      double[] qrtMinor = _qrt[minor];
+      double dotProduct = 0d;
+      for (int row = minor; row < m; row++) {
+        dotProduct += y[row] * qrtMinor[row];
+      }
+      dotProduct /= _rDiag[minor] * qrtMinor[minor];
+      for (int row = minor; row < m; row++) {
+        y[row] += dotProduct * qrtMinor[row];
+      }
+    }
+    // R x = y
+    double[] x = new double[n];
+    for (int row = _rDiag.length - 1; row >= 0; row--) {
+      y[row] /= _rDiag[row];
+      double yRow = y[row];
+      double[] qrtRow = _qrt[row];
+      x[row] = yRow;
+      for (int i = 0; i < row; i++) {
+        y[i] -= yRow * qrtRow[i];
+      }
+    }
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == _rowCount, "b matrix of incorrect size");
+    // solve each column in turn, the columns of the transpose being contiguous
+    double[][] bt = b.transpose().toArrayUnsafe();
+    double[][] xt = new double[bt.length][];
+    for (int i = 0; i < bt.length; i++) {
+      xt[i] = solve(bt[i]);
+    }
+    return DoubleMatrix.ofUnsafe(xt).transpose();
+  }
+
+}
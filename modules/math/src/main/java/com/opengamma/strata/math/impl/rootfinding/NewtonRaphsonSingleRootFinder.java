@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -72,6 +73,20 @@ public class NewtonRaphsonSingleRootFinder extends RealSingleRootFinder {
     return getRoot(DoubleFunction1D.from(function), x1, x2);
   }
 
+  /**
+   * {@inheritDoc}
+   * If the function is not a {@link DoubleFunction1D}, the derivative is calculated by finite difference.
+   * @throws MathException If the root is not found in 1000 attempts; if the Newton
+   *  step takes the estimate for the root outside the original bounds.
+   */
+  @Override
+  public double getRootPrimitive(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    DoubleFunction1D f = function instanceof DoubleFunction1D ? (DoubleFunction1D) function : function::applyAsDouble;
+    checkInputs(f, x1, x2);
+    return root(f, f.derivative(), x1, x2);
+  }
+
   //-------------------------------------------------------------------------
   public Double getRoot(Function<Double, Double> function, Double x) {
     ArgChecker.notNull(function, "function");
@@ -151,6 +166,11 @@ public class NewtonRaphsonSingleRootFinder extends RealSingleRootFinder {
   public Double getRoot(DoubleFunction1D function, DoubleFunction1D derivative, Double x1, Double x2) {
     checkInputs(function, x1, x2);
     ArgChecker.notNull(derivative, "derivative function");
+    return root(function, derivative, x1, x2);
+  }
+
+  // finds the root between the bounds, which have been checked
+  private double root(DoubleFunction1D function, DoubleFunction1D derivative, double x1, double x2) {
     double y1 = function.applyAsDouble(x1);
     if (Math.abs(y1) < _accuracy) {
       return x1;
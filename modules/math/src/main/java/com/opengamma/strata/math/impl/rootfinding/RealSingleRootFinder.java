@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.math.impl.rootfinding;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
@@ -24,6 +25,22 @@ public abstract class RealSingleRootFinder implements SingleRootFinder<Double, D
 
   public abstract Double getRoot(Function<Double, Double> function, Double x1, Double x2);
 
+  /**
+   * Finds the root of a primitive function between two bounds.
+   * <p>
+   * This avoids boxing the argument and the value at each evaluation of the function.
+   * The default implementation delegates to {@link #getRoot(Function, Double, Double)}.
+   * 
+   * @param function The function, not null
+   * @param x1 The first bound
+   * @param x2 The second bound
+   * @return The root
+   */
+  public double getRootPrimitive(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    return getRoot((Function<Double, Double>) function::applyAsDouble, Double.valueOf(x1), Double.valueOf(x2));
+  }
+
   /**
    * Tests that the inputs to the root-finder are not null, and that a root is bracketed by the bounding values.
    * 
@@ -56,4 +73,18 @@ public abstract class RealSingleRootFinder implements SingleRootFinder<Double, D
     ArgChecker.isTrue(function.applyAsDouble(x1) * function.applyAsDouble(x2) <= 0, "x1 and x2 do not bracket a root");
   }
 
+  /**
+   * Tests that the inputs to the root-finder are not null, and that a root is bracketed by the bounding values.
+   * 
+   * @param function The function, not null
+   * @param x1 The first bound
+   * @param x2 The second bound, must be greater than x1
+   * @throws IllegalArgumentException if x1 and x2 do not bracket a root
+   */
+  protected void checkInputs(DoubleUnaryOperator function, double x1, double x2) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.isTrue(x1 <= x2, "x1 must be less or equal to  x2");
+    ArgChecker.isTrue(function.applyAsDouble(x1) * function.applyAsDouble(x2) <= 0, "x1 and x2 do not bracket a root");
+  }
+
 }
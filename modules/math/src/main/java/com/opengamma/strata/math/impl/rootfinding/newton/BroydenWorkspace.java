@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * A reusable workspace for {@link InPlaceBroydenVectorRootFinder}.
+ * <p>
+ * The workspace holds the primitive arrays used by the root finder, including the
+ * estimate of the inverse Jacobian which is updated in place.
+ * The arrays are resized when a larger problem is solved, and otherwise reused,
+ * so a workspace retained between calls avoids allocation on each iteration.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * A workspace must only be used by one root search at a time.
+ */
+public final class BroydenWorkspace {
+
+  /**
+   * The size of the current problem.
+   */
+  int size;
+  /**
+   * The estimate of the inverse Jacobian.
+   */
+  double[][] inverseJacobian = new double[0][0];
+  /**
+   * The identity matrix of the current size, used to invert the Jacobian.
+   */
+  DoubleMatrix identity = DoubleMatrix.EMPTY;
+  /**
+   * The current position.
+   */
+  double[] x = new double[0];
+  /**
+   * The function value at the current position.
+   */
+  double[] y = new double[0];
+  /**
+   * The change in position of the last step.
+   */
+  double[] deltaX = new double[0];
+  /**
+   * The change in function value of the last step.
+   */
+  double[] deltaY = new double[0];
+  /**
+   * The Newton direction.
+   */
+  double[] direction = new double[0];
+  /**
+   * The first work vector.
+   */
+  double[] work1 = new double[0];
+  /**
+   * The second work vector.
+   */
+  double[] work2 = new double[0];
+  /**
+   * The square of the norm of the function value at the current position.
+   */
+  double g0;
+  /**
+   * The square of the norm of the function value at the trial position.
+   */
+  double g1;
+  /**
+   * The square of the norm of the function value at the previous trial position.
+   */
+  double g2;
+  /**
+   * The current step length.
+   */
+  double lambda0;
+  /**
+   * The previous step length.
+   */
+  double lambda1;
+
+  /**
+   * Creates an empty workspace.
+   * <p>
+   * The arrays are allocated when first used.
+   */
+  public BroydenWorkspace() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the size of the last problem solved with this workspace.
+   *
+   * @return the size, zero if not used
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the capacity of the workspace, which is the largest problem that can be solved without allocation.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return x.length;
+  }
+
+  // prepares the workspace for a problem of the specified size, allocating only if the capacity is too small
+  void reset(int size) {
+    ArgChecker.notNegativeOrZero(size, "size");
+    if (size > x.length) {
+      inverseJacobian = new double[size][size];
+      x = new double[size];
+      y = new double[size];
+      deltaX = new double[size];
+      deltaY = new double[size];
+      direction = new double[size];
+      work1 = new double[size];
+      work2 = new double[size];
+    }
+    if (identity.rowCount() != size) {
+      identity = DoubleMatrix.identity(size);
+    }
+    this.size = size;
+    g0 = 0d;
+    g1 = 0d;
+    g2 = 0d;
+    lambda0 = 0d;
+    lambda1 = 0d;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "BroydenWorkspace[size=" + size + ", capacity=" + x.length + "]";
+  }
+
+}
@@ -0,0 +1,335 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.primitives.Doubles;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.differentiation.VectorFieldFirstOrderDifferentiator;
+import com.opengamma.strata.math.impl.linearalgebra.Decomposition;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionCommons;
+import com.opengamma.strata.math.impl.rootfinding.VectorRootFinder;
+
+/**
+ * Broyden root finder that works in place on a reusable {@link BroydenWorkspace}.
+ * <p>
+ * This follows the same iteration, backtracking and Jacobian recalculation as {@link ShermanMorrisonVectorRootFinder},
+ * estimating the inverse Jacobian and updating it with the Sherman-Morrison form of Broyden's formula.
+ * The difference is that the positions, directions and inverse Jacobian estimate are held in primitive arrays
+ * in the workspace, with the rank-one update applied in place.
+ * As such, the only objects created on each iteration are the arguments passed to the function.
+ * <p>
+ * The Jacobian is only decomposed when the inverse estimate is initialized or recalculated.
+ * The function must be square, with the same number of values as parameters.
+ * <p>
+ * If no workspace is specified, a new workspace is created for the call.
+ * No state is held between calls, so a single instance may be shared between threads,
+ * and a root may be found within the function of another.
+ */
+public class InPlaceBroydenVectorRootFinder extends VectorRootFinder {
+
+  private static final Logger log = LoggerFactory.getLogger(InPlaceBroydenVectorRootFinder.class);
+  private static final double DEF_TOL = 1e-7;
+  private static final int MAX_STEPS = 100;
+  private static final double ALPHA = 1e-4;
+  private static final double BETA = 1.5;
+  private static final int FULL_RECALC_FREQ = 20;
+  private final double _absoluteTol, _relativeTol;
+  private final int _maxSteps;
+  private final Decomposition<?> _decomposition;
+
+  public InPlaceBroydenVectorRootFinder() {
+    this(DEF_TOL, DEF_TOL, MAX_STEPS);
+  }
+
+  public InPlaceBroydenVectorRootFinder(double absoluteTol, double relativeTol, int maxSteps) {
+    this(absoluteTol, relativeTol, maxSteps, new LUDecompositionCommons());
+  }
+
+  public InPlaceBroydenVectorRootFinder(double absoluteTol, double relativeTol, int maxSteps, Decomposition<?> decomp) {
+    ArgChecker.notNegative(absoluteTol, "absolute tolerance");
+    ArgChecker.notNegative(relativeTol, "relative tolerance");
+    ArgChecker.notNegative(maxSteps, "maxSteps");
+    ArgChecker.notNull(decomp, "decomp");
+    _absoluteTol = absoluteTol;
+    _relativeTol = relativeTol;
+    _maxSteps = maxSteps;
+    _decomposition = decomp;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray getRoot(Function<DoubleArray, DoubleArray> function, DoubleArray startPosition) {
+    VectorFieldFirstOrderDifferentiator jac = new VectorFieldFirstOrderDifferentiator();
+    return getRoot(function, jac.differentiate(function), startPosition);
+  }
+
+  /**
+   * Finds the root using a new workspace.
+   *
+   * @param function  a vector function (i.e. vector to vector)
+   * @param jacobianFunction  calculates the Jacobian
+   * @param startPosition  where to start the root finder for.
+   *  Note if multiple roots exist which one if found (if at all) will depend on startPosition
+   * @return the vector root of the collection of functions
+   */
+  public DoubleArray getRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition) {
+
+    return getRoot(function, jacobianFunction, startPosition, new BroydenWorkspace());
+  }
+
+  /**
+   * Finds the root using the specified workspace.
+   * <p>
+   * The workspace is overwritten, and may be reused once this method returns.
+   *
+   * @param function  a vector function (i.e. vector to vector)
+   * @param jacobianFunction  calculates the Jacobian
+   * @param startPosition  where to start the root finder for.
+   *  Note if multiple roots exist which one if found (if at all) will depend on startPosition
+   * @param workspace  the workspace
+   * @return the vector root of the collection of functions
+   */
+  public DoubleArray getRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      BroydenWorkspace workspace) {
+
+    checkInputs(function, startPosition);
+    ArgChecker.notNull(jacobianFunction, "jacobianFunction");
+    ArgChecker.notNull(workspace, "workspace");
+    int n = startPosition.size();
+    DoubleArray y = function.apply(startPosition);
+    ArgChecker.isTrue(y.size() == n, "Function must have {} values, but found {}", n, y.size());
+
+    workspace.reset(n);
+    startPosition.copyInto(workspace.x, 0);
+    y.copyInto(workspace.y, 0);
+    workspace.g0 = innerProduct(workspace.y, workspace.y, n);
+    initializeInverse(jacobianFunction, workspace);
+
+    if (!getNextPosition(function, workspace)) {
+      if (isConverged(workspace)) {
+        return position(workspace); // this can happen if the starting position is the root
+      }
+      throw new MathException("Cannot work with this starting position. Please choose another point");
+    }
+
+    int count = 0;
+    int jacReconCount = 1;
+    while (!isConverged(workspace)) {
+      // Want to reset the Jacobian every so often even if backtracking is working
+      if ((jacReconCount) % FULL_RECALC_FREQ == 0) {
+        initializeInverse(jacobianFunction, workspace);
+        jacReconCount = 1;
+      } else {
+        updateInverse(workspace);
+        jacReconCount++;
+      }
+      // if backtracking fails, could be that Jacobian estimate has drifted too far
+      if (!getNextPosition(function, workspace)) {
+        initializeInverse(jacobianFunction, workspace);
+        jacReconCount = 1;
+        if (!getNextPosition(function, workspace)) {
+          if (isConverged(workspace)) {
+            // non-standard exit. Cannot find an improvement from this position,
+            // so provided we are close enough to the root, exit.
+            return position(workspace);
+          }
+          String msg = "Failed to converge in backtracking, even after a Jacobian recalculation." +
+              getErrorMessage(workspace, jacobianFunction);
+          log.info(msg);
+          throw new MathException(msg);
+        }
+      }
+      count++;
+      if (count > _maxSteps) {
+        throw new MathException("Failed to converge - maximum iterations of " + _maxSteps + " reached." +
+            getErrorMessage(workspace, jacobianFunction));
+      }
+    }
+    return position(workspace);
+  }
+
+  //-------------------------------------------------------------------------
+  // the current position, as a new array
+  private static DoubleArray position(BroydenWorkspace ws) {
+    return DoubleArray.copyOf(ws.x, 0, ws.size);
+  }
+
+  private String getErrorMessage(BroydenWorkspace ws, Function<DoubleArray, DoubleMatrix> jacobianFunction) {
+    int n = ws.size;
+    return "Final position:" + position(ws) + "\nlast deltaX:" + DoubleArray.copyOf(ws.deltaX, 0, n) +
+        "\n function value:" + DoubleArray.copyOf(ws.y, 0, n) + "\nJacobian: \n" + jacobianFunction.apply(position(ws));
+  }
+
+  // calculates the Jacobian and stores its inverse in the workspace
+  private void initializeInverse(Function<DoubleArray, DoubleMatrix> jacobianFunction, BroydenWorkspace ws) {
+    int n = ws.size;
+    DoubleMatrix jacobian = jacobianFunction.apply(position(ws));
+    DoubleMatrix inverse = _decomposition.apply(jacobian).solve(ws.identity);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        ws.inverseJacobian[i][j] = inverse.get(i, j);
+      }
+    }
+  }
+
+  // Sherman-Morrison update of the inverse Jacobian estimate, in place
+  // H += (dx - H dy) (dx^T H) / (dx^T H dy)
+  private static void updateInverse(BroydenWorkspace ws) {
+    int n = ws.size;
+    double[][] h = ws.inverseJacobian;
+    double[] dx = ws.deltaX;
+    double[] dy = ws.deltaY;
+    double[] v1 = ws.work1;
+    double[] v2 = ws.work2;
+    for (int j = 0; j < n; j++) {
+      double sum = 0d;
+      for (int i = 0; i < n; i++) {
+        sum += dx[i] * h[i][j];
+      }
+      v1[j] = sum;
+    }
+    double length = innerProduct(v1, dy, n);
+    if (length == 0) {
+      return;
+    }
+    for (int i = 0; i < n; i++) {
+      v2[i] = (dx[i] - innerProduct(h[i], dy, n)) / length;
+    }
+    for (int i = 0; i < n; i++) {
+      double[] row = h[i];
+      double scale = v2[i];
+      for (int j = 0; j < n; j++) {
+        row[j] += scale * v1[j];
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private boolean getNextPosition(Function<DoubleArray, DoubleArray> function, BroydenWorkspace ws) {
+    int n = ws.size;
+    for (int i = 0; i < n; i++) {
+      ws.direction[i] = innerProduct(ws.inverseJacobian[i], ws.y, n);
+    }
+    if (ws.lambda0 < 1.0) {
+      ws.lambda0 = 1.0;
+    } else {
+      ws.lambda0 = ws.lambda0 * BETA;
+    }
+    updatePosition(function, ws);
+    if (!Doubles.isFinite(ws.g1)) {
+      bisectBacktrack(function, ws);
+    }
+    if (ws.g1 > ws.g0 / (1 + ALPHA * ws.lambda0)) {
+      quadraticBacktrack(function, ws);
+      int count = 0;
+      while (ws.g1 > ws.g0 / (1 + ALPHA * ws.lambda0)) {
+        if (count > 5) {
+          return false;
+        }
+        cubicBacktrack(function, ws);
+        count++;
+      }
+    }
+    ws.g0 = ws.g1;
+    for (int i = 0; i < n; i++) {
+      ws.x[i] += ws.deltaX[i];
+      ws.y[i] += ws.deltaY[i];
+    }
+    return true;
+  }
+
+  // evaluates the function at the trial position, x - lambda0 * direction
+  private void updatePosition(Function<DoubleArray, DoubleArray> function, BroydenWorkspace ws) {
+    int n = ws.size;
+    double[] xNew = new double[n];
+    for (int i = 0; i < n; i++) {
+      ws.deltaX[i] = -ws.lambda0 * ws.direction[i];
+      xNew[i] = ws.x[i] + ws.deltaX[i];
+    }
+    DoubleArray yNew = function.apply(DoubleArray.ofUnsafe(xNew));
+    double g1 = 0d;
+    for (int i = 0; i < n; i++) {
+      double value = yNew.get(i);
+      ws.deltaY[i] = value - ws.y[i];
+      g1 += value * value;
+    }
+    ws.g2 = ws.g1;
+    ws.g1 = g1;
+  }
+
+  private void bisectBacktrack(Function<DoubleArray, DoubleArray> function, BroydenWorkspace ws) {
+    do {
+      ws.lambda0 = ws.lambda0 * 0.1;
+      updatePosition(function, ws);
+
+      if (ws.lambda0 == 0.0) {
+        throw new MathException("Failed to converge");
+      }
+    } while (!Doubles.isFinite(ws.g1) || !Doubles.isFinite(ws.g2));
+  }
+
+  private void quadraticBacktrack(Function<DoubleArray, DoubleArray> function, BroydenWorkspace ws) {
+    double lambda0 = ws.lambda0;
+    double g0 = ws.g0;
+    double lambda = Math.max(0.01 * lambda0, g0 * lambda0 * lambda0 / (ws.g1 + g0 * (2 * lambda0 - 1)));
+    ws.lambda1 = lambda0;
+    ws.lambda0 = lambda;
+    updatePosition(function, ws);
+  }
+
+  private void cubicBacktrack(Function<DoubleArray, DoubleArray> function, BroydenWorkspace ws) {
+    double lambda0 = ws.lambda0;
+    double lambda1 = ws.lambda1;
+    double g0 = ws.g0;
+    double temp1 = 1.0 / lambda0 / lambda0;
+    double temp2 = 1.0 / lambda1 / lambda1;
+    double temp3 = ws.g1 + g0 * (2 * lambda0 - 1.0);
+    double temp4 = ws.g2 + g0 * (2 * lambda1 - 1.0);
+    double temp5 = 1.0 / (lambda0 - lambda1);
+    double a = temp5 * (temp1 * temp3 - temp2 * temp4);
+    double b = temp5 * (-lambda1 * temp1 * temp3 + lambda0 * temp2 * temp4);
+    double lambda = (-b + Math.sqrt(b * b + 6 * a * g0)) / 3 / a;
+    lambda = Math.min(Math.max(lambda, 0.01 * lambda0), 0.75 * lambda1); // make sure new lambda is between 1% & 75% of old value
+    ws.lambda1 = lambda0;
+    ws.lambda0 = lambda;
+    updatePosition(function, ws);
+  }
+
+  private boolean isConverged(BroydenWorkspace ws) {
+    for (int i = 0; i < ws.size; i++) {
+      double diff = Math.abs(ws.deltaX[i]);
+      double scale = Math.abs(ws.x[i]);
+      if (diff > _absoluteTol + scale * _relativeTol) {
+        return false;
+      }
+    }
+    return (Math.sqrt(ws.g0) < _absoluteTol);
+  }
+
+  // the inner product of the first n elements
+  private static double innerProduct(double[] a, double[] b, int n) {
+    double sum = 0d;
+    for (int i = 0; i < n; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+}
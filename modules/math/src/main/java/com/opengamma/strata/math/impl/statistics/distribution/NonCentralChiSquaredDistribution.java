@@ -63,7 +63,7 @@ public class NonCentralChiSquaredDistribution implements ProbabilityDistribution
     } else {
       z = mu - s - (_dofOverTwo * 2.0 - 1) / 2 * (Math.log(mu) - Math.log(s)) / (mu - s);
     }
-    return (new NormalDistribution(0, 1)).getCDF(z);
+    return NormalDistributionUtils.cdf(z);
   }
 
   /**
@@ -23,11 +23,11 @@ import cern.jet.stat.Probability;
  * $$
  * where $\mu$ is the mean and $\sigma$ the standard deviation of
  * the distribution.
+ * <p>
+ * The functions of the standard normal distribution are available without boxing in {@link NormalDistributionUtils}.
  */
 public class NormalDistribution implements ProbabilityDistribution<Double> {
 
-  private static final double ROOT2 = Math.sqrt(2);
-
   // TODO need a better seed
   private final double _mean;
   private final double _standardDeviation;
@@ -60,7 +60,7 @@ public class NormalDistribution implements ProbabilityDistribution<Double> {
   @Override
   public double getCDF(Double x) {
     ArgChecker.notNull(x, "x");
-    return DERFC.getErfc(-x / ROOT2) / 2;
+    return NormalDistributionUtils.cdf(x);
   }
 
   /**
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.distribution;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+import cern.jet.stat.Probability;
+
+/**
+ * Static functions of the standard normal distribution, with mean zero and standard deviation one.
+ * <p>
+ * These functions take and return primitive {@code double} values, avoiding the boxing
+ * and virtual dispatch of {@link ProbabilityDistribution}, and are intended for use in
+ * the inner loops of option formulas.
+ * <p>
+ * The results are identical to those of {@link NormalDistribution} with mean zero and
+ * standard deviation one, and of {@link BivariateNormalDistribution}.
+ * The cumulative distribution function uses the SLATEC complementary error function,
+ * with a relative accuracy close to machine precision in both tails.
+ */
+public final class NormalDistributionUtils {
+
+  /**
+   * The square root of two.
+   */
+  private static final double ROOT2 = Math.sqrt(2);
+  /**
+   * The normalisation of the density, one over the square root of two pi.
+   */
+  private static final double ONE_OVER_ROOT_TWO_PI = 1d / Math.sqrt(2d * Math.PI);
+  /**
+   * The abscissas of the Gauss-Legendre quadrature of the bivariate distribution.
+   */
+  private static final double[] X = new double[] {0.04691008, 0.23076534, 0.5, 0.76923466, 0.95308992};
+  /**
+   * The weights of the Gauss-Legendre quadrature of the bivariate distribution.
+   */
+  private static final double[] Y = new double[] {0.018854042, 0.038088059, 0.0452707394, 0.038088059, 0.018854042};
+
+  // restricted constructor
+  private NormalDistributionUtils() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the cumulative distribution function of the standard normal distribution.
+   *
+   * @param x  the value
+   * @return the probability that a standard normal variable is less than the value
+   */
+  public static double cdf(double x) {
+    return DERFC.getErfc(-x / ROOT2) / 2;
+  }
+
+  /**
+   * Computes the probability density function of the standard normal distribution.
+   *
+   * @param x  the value
+   * @return the density at the value
+   */
+  public static double pdf(double x) {
+    return ONE_OVER_ROOT_TWO_PI * Math.exp(-(x * x) / 2);
+  }
+
+  /**
+   * Computes the inverse of the cumulative distribution function of the standard normal distribution.
+   * <p>
+   * The probabilities zero and one return the negative and positive maximum double values.
+   *
+   * @param p  the probability, from zero to one inclusive
+   * @return the value at which the cumulative distribution function is the probability
+   */
+  public static double inverseCdf(double p) {
+    ArgChecker.isTrue(p >= 0 && p <= 1, "Probability must be >= 0 and <= 1");
+    return Probability.normalInverse(p);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the cumulative distribution function of the standard bivariate normal distribution.
+   * <p>
+   * This is the probability that the first variable is less than {@code a} and the second
+   * variable is less than {@code b}, where both variables are standard normal with correlation {@code rho}.
+   * <p>
+   * The implementation is taken from "Better Approximations to Cumulative Normal Functions", West
+   * (<a href="http://www.codeplanet.eu/files/download/accuratecumnorm.pdf">link</a>).
+   *
+   * @param a  the upper limit of the first variable
+   * @param b  the upper limit of the second variable
+   * @param rho  the correlation, from -1 to 1 inclusive
+   * @return the cumulative distribution function
+   */
+  public static double bivariateCdf(double a, double b, double rho) {
+    ArgChecker.isTrue(rho >= -1 && rho <= 1, "Correlation must be >= -1 and <= 1");
+    if (a == Double.POSITIVE_INFINITY || b == Double.POSITIVE_INFINITY) {
+      return 1;
+    }
+    if (a == Double.NEGATIVE_INFINITY || b == Double.NEGATIVE_INFINITY) {
+      return 0;
+    }
+    double sumSq = (a * a + b * b) / 2.;
+    double rho1, rho2, rho3, ab, absDiff, h5, c, d, mult = 0, rho3Sq, eab, e, result;
+    if (Math.abs(rho) >= 0.7) {
+      rho1 = 1 - rho * rho;
+      rho2 = Math.sqrt(rho1);
+      if (rho < 0) {
+        b *= -1;
+      }
+      ab = a * b;
+      eab = Math.exp(-ab / 2.);
+      if (Math.abs(rho) < 1) {
+        absDiff = Math.abs(a - b);
+        h5 = absDiff * absDiff / 2.;
+        absDiff = absDiff / rho2;
+        c = 0.5 - ab / 8.;
+        d = 3. - 2. * c * h5;
+        mult = 0.13298076 * absDiff * d * (1 - cdf(absDiff)) - Math.exp(-h5 / rho1) * (d + c * rho1) * 0.053051647;
+        for (int i = 0; i < 5; i++) {
+          rho3 = rho2 * X[i];
+          rho3Sq = rho3 * rho3;
+          rho1 = Math.sqrt(1 - rho3Sq);
+          if (eab == 0) {
+            e = 0;
+          } else {
+            e = Math.exp(-ab / (1 + rho1)) / rho1 / eab;
+          }
+          mult = mult - Y[i] * Math.exp(-h5 / rho3Sq) * (e - 1 - c * rho3Sq);
+        }
+      }
+      double corr = Double.isNaN(mult) ? 0. : mult * rho2 * eab;
+      result = corr + cdf(Math.min(a, b));
+      if (rho < 0) {
+        result = cdf(a) - result;
+      }
+      return result;
+    }
+    ab = a * b;
+    if (rho != 0) {
+      for (int i = 0; i < 5; i++) {
+        rho3 = rho * X[i];
+        rho1 = 1 - rho3 * rho3;
+        mult = mult + Y[i] * Math.exp((rho3 * ab - sumSq) / rho1) / Math.sqrt(rho1);
+      }
+    }
+    double corr = Double.isNaN(mult) ? 0. : rho * mult;
+    return cdf(a) * cdf(b) + corr;
+  }
+
+}
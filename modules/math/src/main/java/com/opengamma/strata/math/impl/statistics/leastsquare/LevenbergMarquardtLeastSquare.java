@@ -0,0 +1,417 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.linearalgebra.Decomposition;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionResult;
+
+/**
+ * Levenberg-Marquardt solver for small non-linear least square problems with an analytic Jacobian.
+ * <p>
+ * This solves the same problems as {@link NonLinearLeastSquare} when the model sensitivity to its
+ * parameters is available, typically the fit of a smile model with a handful of parameters to a few
+ * volatilities. The damped normal equations are solved by a Cholesky decomposition written directly on
+ * primitive arrays, which are allocated once per fit and reused at each iteration.
+ * If the normal equations are not positive definite, the configured decomposition is used instead.
+ * <p>
+ * Unlike {@link NonLinearLeastSquare}, no finite difference second order check for saddle points
+ * is performed on convergence. The solver is therefore faster, but the fit should be started
+ * from several points if the problem is known to have saddle points.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class LevenbergMarquardtLeastSquare {
+
+  /**
+   * The maximum number of iterations.
+   */
+  private static final int MAX_ATTEMPTS = 10000;
+  /**
+   * The default convergence tolerance.
+   */
+  private static final double DEFAULT_EPS = 1e-8;
+  /**
+   * The threshold below which a pivot of the Cholesky decomposition is considered non-positive.
+   */
+  private static final double POSITIVITY_THRESHOLD = 1e-14;
+  /**
+   * The constraint function for unconstrained problems.
+   */
+  private static final Function<DoubleArray, Boolean> UNCONSTRAINED = x -> true;
+
+  /**
+   * The default instance.
+   */
+  public static final LevenbergMarquardtLeastSquare DEFAULT =
+      new LevenbergMarquardtLeastSquare(DecompositionFactory.SV_COMMONS, DEFAULT_EPS);
+
+  /**
+   * The decomposition used when the normal equations are not positive definite.
+   */
+  private final Decomposition<?> fallbackDecomposition;
+  /**
+   * The convergence tolerance on the relative change of chi-square.
+   */
+  private final double eps;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance with the specified convergence tolerance.
+   * <p>
+   * The singular value decomposition is used when the normal equations are not positive definite.
+   *
+   * @param eps  the convergence tolerance on the relative change of chi-square
+   * @return the solver
+   */
+  public static LevenbergMarquardtLeastSquare of(double eps) {
+    return new LevenbergMarquardtLeastSquare(DecompositionFactory.SV_COMMONS, eps);
+  }
+
+  /**
+   * Obtains an instance with the specified fallback decomposition and convergence tolerance.
+   *
+   * @param fallbackDecomposition  the decomposition used when the normal equations are not positive definite
+   * @param eps  the convergence tolerance on the relative change of chi-square
+   * @return the solver
+   */
+  public static LevenbergMarquardtLeastSquare of(Decomposition<?> fallbackDecomposition, double eps) {
+    return new LevenbergMarquardtLeastSquare(fallbackDecomposition, eps);
+  }
+
+  // restricted constructor
+  private LevenbergMarquardtLeastSquare(Decomposition<?> fallbackDecomposition, double eps) {
+    this.fallbackDecomposition = ArgChecker.notNull(fallbackDecomposition, "fallbackDecomposition");
+    this.eps = ArgChecker.notNegativeOrZero(eps, "eps");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Solves the least square problem for a model with an analytic Jacobian.
+   *
+   * @param observedValues  the measurement values
+   * @param sigma  the measurement errors
+   * @param func  the model as a function of its parameters only
+   * @param jac  the model sensitivity to its parameters (the Jacobian matrix) as a function of its parameters only
+   * @param startPos  the initial value of the parameters
+   * @return the result of the fit
+   * @throws MathException if the fit does not converge
+   */
+  public LeastSquareResults solve(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      DoubleArray startPos) {
+
+    return solve(observedValues, sigma, func, jac, startPos, UNCONSTRAINED, null);
+  }
+
+  /**
+   * Solves the least square problem for a model with an analytic Jacobian, with constraints and a maximum step.
+   * <p>
+   * A trial step that breaches the constraints or exceeds the maximum step in any direction is rejected,
+   * and the damping is increased.
+   *
+   * @param observedValues  the measurement values
+   * @param sigma  the measurement errors
+   * @param func  the model as a function of its parameters only
+   * @param jac  the model sensitivity to its parameters (the Jacobian matrix) as a function of its parameters only
+   * @param startPos  the initial value of the parameters
+   * @param constraints  the function that returns true if the parameters are within the constraints of the model
+   * @param maxJumps  the maximum absolute step in each direction at each iteration, null if unlimited
+   * @return the result of the fit
+   * @throws MathException if the fit does not converge
+   */
+  public LeastSquareResults solve(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      DoubleArray startPos,
+      Function<DoubleArray, Boolean> constraints,
+      DoubleArray maxJumps) {
+
+    ArgChecker.notNull(observedValues, "observedValues");
+    ArgChecker.notNull(sigma, "sigma");
+    ArgChecker.notNull(func, "func");
+    ArgChecker.notNull(jac, "jac");
+    ArgChecker.notNull(startPos, "startPos");
+    ArgChecker.notNull(constraints, "constraints");
+    int nObs = observedValues.size();
+    int nParms = startPos.size();
+    ArgChecker.isTrue(nObs == sigma.size(), "observedValues and sigma must be same length");
+    ArgChecker.isTrue(nObs >= nParms,
+        "must have data points greater or equal to number of parameters. #date points = {}, #parameters = {}", nObs, nParms);
+    ArgChecker.isTrue(maxJumps == null || maxJumps.size() == nParms, "maxJumps must be same length as startPos");
+    ArgChecker.isTrue(constraints.apply(startPos),
+        "The initial value of the parameters (startPos) is {} - this is not an allowed value", startPos);
+
+    Workspace ws = new Workspace(observedValues, sigma, nParms);
+    DoubleArray theta = startPos;
+    double oldChiSqr = ws.error(func.apply(theta), ws.error);
+    ws.curvature(jac.apply(theta));
+    // If we start at the solution we are done
+    if (oldChiSqr == 0d) {
+      return finish(ws, oldChiSqr, theta);
+    }
+    double lambda = 0d;
+    for (int count = 0; count < MAX_ATTEMPTS; count++) {
+      double[] deltaTheta = ws.step(lambda);
+      double[] trial = theta.toArray();
+      for (int i = 0; i < nParms; i++) {
+        trial[i] += deltaTheta[i];
+      }
+      DoubleArray trialTheta = DoubleArray.ofUnsafe(trial);
+      // acceptable step is found
+      if (!constraints.apply(trialTheta) || !allowJump(deltaTheta, maxJumps)) {
+        lambda = increaseLambda(lambda);
+        continue;
+      }
+      double newChiSqr = ws.error(func.apply(trialTheta), ws.trialError);
+      // Check for convergence when no improvement in chiSqr occurs
+      if (Math.abs(newChiSqr - oldChiSqr) / (1 + oldChiSqr) < eps) {
+        if (newChiSqr < oldChiSqr) {
+          ws.acceptError();
+          ws.curvature(jac.apply(trialTheta));
+          return finish(ws, newChiSqr, trialTheta);
+        }
+        return finish(ws, oldChiSqr, theta);
+      }
+      if (newChiSqr < oldChiSqr) {
+        lambda = lambda / 10;
+        theta = trialTheta;
+        ws.acceptError();
+        ws.curvature(jac.apply(theta));
+        oldChiSqr = newChiSqr;
+      } else {
+        lambda = increaseLambda(lambda);
+      }
+    }
+    throw new MathException("Could not converge in " + MAX_ATTEMPTS + " attempts");
+  }
+
+  // the damping after a failed step
+  private static double increaseLambda(double lambda) {
+    if (lambda == 0d) { // this will happen the first time a full quadratic step fails
+      return 0.1;
+    }
+    return lambda * 10;
+  }
+
+  // checks the step against the maximum step in each direction
+  private static boolean allowJump(double[] deltaTheta, DoubleArray maxJumps) {
+    if (maxJumps == null) {
+      return true;
+    }
+    for (int i = 0; i < deltaTheta.length; i++) {
+      if (Math.abs(deltaTheta[i]) > maxJumps.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // computes the covariance and inverse Jacobian from the curvature at the solution
+  private LeastSquareResults finish(Workspace ws, double chiSqr, DoubleArray theta) {
+    int nObs = ws.nObs;
+    int nParms = ws.nParms;
+    double[][] bT = new double[nParms][nObs];
+    for (int i = 0; i < nObs; i++) {
+      for (int k = 0; k < nParms; k++) {
+        bT[k][i] = ws.jacobian[i][k] / ws.sigma[i];
+      }
+    }
+    double[][] covariance = new double[nParms][nParms];
+    if (ws.cholesky(0d)) {
+      double[] column = new double[nParms];
+      for (int k = 0; k < nParms; k++) {
+        column[k] = 1d;
+        ws.choleskySolve(column, covariance[k]);
+        column[k] = 0d;
+      }
+      double[][] inverseJacobian = new double[nParms][nObs];
+      double[] rhs = new double[nParms];
+      double[] solution = new double[nParms];
+      for (int i = 0; i < nObs; i++) {
+        for (int k = 0; k < nParms; k++) {
+          rhs[k] = bT[k][i];
+        }
+        ws.choleskySolve(rhs, solution);
+        for (int k = 0; k < nParms; k++) {
+          inverseJacobian[k][i] = solution[k];
+        }
+      }
+      // the inverse of a symmetric matrix is symmetric, covariance[k] is its k-th column
+      return new LeastSquareResults(
+          chiSqr, theta, DoubleMatrix.ofUnsafe(covariance), DoubleMatrix.ofUnsafe(inverseJacobian));
+    }
+    DecompositionResult decmp = fallbackDecomposition.apply(ws.curvatureMatrix(0d));
+    return new LeastSquareResults(
+        chiSqr, theta, decmp.solve(DoubleMatrix.identity(nParms)), decmp.solve(DoubleMatrix.ofUnsafe(bT)));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The arrays used during a single fit.
+   * <p>
+   * The arrays are allocated once per fit and updated in place at each iteration.
+   */
+  private final class Workspace {
+    private final int nObs;
+    private final int nParms;
+    // the observed values and errors
+    private final double[] observed;
+    private final double[] sigma;
+    // the weighted errors at the current and trial parameters
+    private double[] error;
+    private double[] trialError;
+    // the Jacobian weighted by the errors, the curvature matrix and the chi-square gradient
+    private final double[][] jacobian;
+    private final double[][] alpha;
+    private final double[] beta;
+    // the lower triangular Cholesky factor of the damped curvature matrix
+    private final double[][] lower;
+    // the step, and the intermediate result of the triangular solves
+    private final double[] delta;
+    private final double[] temp;
+
+    private Workspace(DoubleArray observedValues, DoubleArray sigma, int nParms) {
+      this.nObs = observedValues.size();
+      this.nParms = nParms;
+      this.observed = observedValues.toArrayUnsafe();
+      this.sigma = sigma.toArrayUnsafe();
+      this.error = new double[nObs];
+      this.trialError = new double[nObs];
+      this.jacobian = new double[nObs][nParms];
+      this.alpha = new double[nParms][nParms];
+      this.beta = new double[nParms];
+      this.lower = new double[nParms][nParms];
+      this.delta = new double[nParms];
+      this.temp = new double[nParms];
+    }
+
+    // computes the weighted errors of the model values into the target, returning the chi-square
+    private double error(DoubleArray modelValues, double[] target) {
+      ArgChecker.isTrue(nObs == modelValues.size(),
+          "Number of data points different between model ({}) and observed ({})", modelValues.size(), nObs);
+      double chiSqr = 0d;
+      for (int i = 0; i < nObs; i++) {
+        double e = (observed[i] - modelValues.get(i)) / sigma[i];
+        target[i] = e;
+        chiSqr += e * e;
+      }
+      return chiSqr;
+    }
+
+    // makes the trial errors the current errors
+    private void acceptError() {
+      double[] swap = error;
+      error = trialError;
+      trialError = swap;
+    }
+
+    // computes the weighted Jacobian, the curvature matrix and the chi-square gradient at the current errors
+    private void curvature(DoubleMatrix modelJacobian) {
+      ArgChecker.isTrue(modelJacobian.rowCount() == nObs && modelJacobian.columnCount() == nParms, "Jacobian is wrong size");
+      for (int i = 0; i < nObs; i++) {
+        double sigmaInv = 1d / sigma[i];
+        for (int j = 0; j < nParms; j++) {
+          jacobian[i][j] = modelJacobian.get(i, j) * sigmaInv;
+        }
+      }
+      for (int j = 0; j < nParms; j++) {
+        double sumBeta = 0d;
+        for (int i = 0; i < nObs; i++) {
+          sumBeta += error[i] * jacobian[i][j];
+        }
+        beta[j] = sumBeta;
+        for (int k = 0; k <= j; k++) {
+          double sum = 0d;
+          for (int i = 0; i < nObs; i++) {
+            sum += jacobian[i][j] * jacobian[i][k];
+          }
+          alpha[j][k] = sum;
+          alpha[k][j] = sum;
+        }
+      }
+    }
+
+    // the damped curvature matrix, the diagonal being scaled by one plus lambda
+    private DoubleMatrix curvatureMatrix(double lambda) {
+      double[][] damped = new double[nParms][];
+      for (int j = 0; j < nParms; j++) {
+        damped[j] = alpha[j].clone();
+        damped[j][j] *= 1d + lambda;
+      }
+      return DoubleMatrix.ofUnsafe(damped);
+    }
+
+    // solves the damped normal equations for the step, the result being held in the workspace
+    private double[] step(double lambda) {
+      if (cholesky(lambda)) {
+        choleskySolve(beta, delta);
+        return delta;
+      }
+      try {
+        DoubleArray step = fallbackDecomposition.apply(curvatureMatrix(lambda)).solve(DoubleArray.ofUnsafe(beta));
+        System.arraycopy(step.toArrayUnsafe(), 0, delta, 0, nParms);
+        return delta;
+      } catch (Exception e) {
+        throw new MathException(e);
+      }
+    }
+
+    // decomposes the damped curvature matrix, returning false if it is not positive definite
+    private boolean cholesky(double lambda) {
+      double onePLambda = 1d + lambda;
+      for (int j = 0; j < nParms; j++) {
+        double diagonal = alpha[j][j] * onePLambda;
+        for (int k = 0; k < j; k++) {
+          diagonal -= lower[j][k] * lower[j][k];
+        }
+        if (!(diagonal > POSITIVITY_THRESHOLD * alpha[j][j] * onePLambda)) { // also rejects NaN
+          return false;
+        }
+        double pivot = Math.sqrt(diagonal);
+        lower[j][j] = pivot;
+        for (int i = j + 1; i < nParms; i++) {
+          double sum = alpha[i][j];
+          for (int k = 0; k < j; k++) {
+            sum -= lower[i][k] * lower[j][k];
+          }
+          lower[i][j] = sum / pivot;
+        }
+      }
+      return true;
+    }
+
+    // solves the decomposed system by forward and backward substitution
+    private void choleskySolve(double[] rhs, double[] result) {
+      for (int i = 0; i < nParms; i++) {
+        double sum = rhs[i];
+        for (int k = 0; k < i; k++) {
+          sum -= lower[i][k] * temp[k];
+        }
+        temp[i] = sum / lower[i][i];
+      }
+      for (int i = nParms - 1; i >= 0; i--) {
+        double sum = temp[i];
+        for (int k = i + 1; k < nParms; k++) {
+          sum -= lower[k][i] * result[k];
+        }
+        result[i] = sum / lower[i][i];
+      }
+    }
+  }
+
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.differentiation;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -70,4 +71,24 @@ public class ScalarFirstOrderDifferentiatorTest {
       assertEquals(alFunc.apply(x[i]), DX_ANALYTIC.apply(x[i]), 1e-8);
     }
   }
+
+  @Test
+  public void testPrimitive() {
+    final double x = 0.2245;
+    final DoubleUnaryOperator f = y -> 3 * y * y + 4 * y - Math.sin(y);
+    assertEquals(FORWARD.differentiatePrimitive(f).applyAsDouble(x), FORWARD.differentiate(F).apply(x), 0d);
+    assertEquals(CENTRAL.differentiatePrimitive(f).applyAsDouble(x), CENTRAL.differentiate(F).apply(x), 0d);
+    assertEquals(BACKWARD.differentiatePrimitive(f).applyAsDouble(x), BACKWARD.differentiate(F).apply(x), 0d);
+  }
+
+  @Test
+  public void domainTestPrimitive() {
+    final double[] x = new double[] {1.2, 0, Math.PI };
+    final DoubleUnaryOperator f = y -> 3 * y * y + 4 * y - Math.sin(y);
+    final DoubleUnaryOperator alFunc = CENTRAL.differentiatePrimitive(f, y -> y >= 0 && y <= Math.PI);
+    for (int i = 0; i < 3; i++) {
+      assertEquals(alFunc.applyAsDouble(x[i]), DX_ANALYTIC.apply(x[i]), 1e-8);
+    }
+  }
+
 }
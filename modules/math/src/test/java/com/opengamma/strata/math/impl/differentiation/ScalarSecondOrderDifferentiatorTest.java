@@ -8,6 +8,7 @@ package com.opengamma.strata.math.impl.differentiation;
 import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -70,4 +71,11 @@ public class ScalarSecondOrderDifferentiatorTest {
     }
   }
 
+  public void analyticTestPrimitive() {
+    final double x = 0.2245;
+    DoubleUnaryOperator f = y -> 3d * y * y + 4d * y - Math.sin(y);
+    assertEquals(CALC.differentiatePrimitive(f).applyAsDouble(x), CALC.differentiate(F).apply(x), 0d);
+    assertThrowsIllegalArg(() -> CALC.differentiatePrimitive(null));
+  }
+
 }
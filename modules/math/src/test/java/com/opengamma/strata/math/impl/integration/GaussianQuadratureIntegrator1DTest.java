@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.integration;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -131,4 +132,21 @@ public class GaussianQuadratureIntegrator1DTest {
     assertEquals(expected, res2, 1e-15);
   }
 
+  @Test
+  public void testPrimitive() {
+    final DoubleUnaryOperator df1 = x -> x * x * x * (x - 4);
+    final GaussLegendreQuadratureIntegrator1D legendre = new GaussLegendreQuadratureIntegrator1D(6);
+    assertEquals(legendre.integrate(DF1, -6d, 2d), legendre.integratePrimitive(df1, -6d, 2d), 0d);
+    final GaussJacobiQuadratureIntegrator1D jacobi = new GaussJacobiQuadratureIntegrator1D(7);
+    assertEquals(jacobi.integrate(DF1, -1d, 12d), jacobi.integratePrimitive(df1, -1d, 12d), 0d);
+    final GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(15);
+    assertEquals(0.5, laguerre.integratePrimitive(x -> Math.exp(-2 * x), 0d, Double.POSITIVE_INFINITY), EPS);
+    final GaussHermiteQuadratureIntegrator1D hermite = new GaussHermiteQuadratureIntegrator1D(11);
+    assertEquals(hermite.integrateFromPolyFunc(COS), hermite.integrateFromPolyFuncPrimitive(Math::cos), 0d);
+    assertEquals(
+        hermite.integrate(COS_EXP, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+        hermite.integratePrimitive(x -> Math.cos(x) * Math.exp(-x * x), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+        0d);
+  }
+
 }
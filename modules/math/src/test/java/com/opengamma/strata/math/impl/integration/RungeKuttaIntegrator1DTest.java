@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.integration;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -118,4 +119,13 @@ public class RungeKuttaIntegrator1DTest {
 
   }
 
+  @Test
+  public void testPrimitive() {
+    final double eps = 1e-9;
+    final RungeKuttaIntegrator1D integrator = new RungeKuttaIntegrator1D(eps, eps, 10);
+    final DoubleUnaryOperator cube = x -> x * x * x;
+    assertEquals(integrator.integrate(CUBE, 0d, 2d), integrator.integratePrimitive(cube, 0d, 2d), 0d);
+    assertEquals(integrator.integrate(MIX_NORM, -30d, 30d), integrator.integratePrimitive(MIX_NORM::apply, -30d, 30d), 0d);
+  }
+
 }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+
+/**
+ * Test {@link LUDecompositionOpenGamma}.
+ */
+@Test
+public class LUDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final LUDecompositionOpenGamma LU_OG = new LUDecompositionOpenGamma();
+  private static final LUDecompositionCommons LU_COMMONS = new LUDecompositionCommons();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] { {1, 2, -1}, {4, 3, 1}, {2, 2, 3}});
+  private static final double EPS = 1e-12;
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNullObjectMatrix() {
+    LU_OG.apply((DoubleMatrix) null);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNotSquare() {
+    LU_OG.apply(DoubleMatrix.of(2, 3, 1d, 2d, 3d, 4d, 5d, 6d));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSingular() {
+    LU_OG.apply(DoubleMatrix.copyOf(LUDecompositionCommonsResultTest.rawAsingular));
+  }
+
+  public void testRecoverOriginal() {
+    LUDecompositionResult lu = LU_OG.apply(A);
+    DoubleMatrix a = (DoubleMatrix) ALGEBRA.multiply(lu.getL(), lu.getU());
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(lu.getP(), A), a, EPS);
+  }
+
+  public void testMatchesCommons() {
+    Random random = new Random(1);
+    for (int n : new int[] {1, 3, 10, 50}) {
+      DoubleMatrix matrix = DoubleMatrix.of(n, n, (i, j) -> random.nextDouble() - 0.5 + (i == j ? 2d : 0d));
+      DoubleArray vector = DoubleArray.of(n, i -> random.nextDouble());
+      DoubleMatrix rhs = DoubleMatrix.of(n, 4, (i, j) -> random.nextDouble());
+      LUDecompositionResult expected = LU_COMMONS.apply(matrix);
+      LUDecompositionResult computed = LU_OG.apply(matrix);
+      checkEquals(computed.getL(), expected.getL(), EPS);
+      checkEquals(computed.getU(), expected.getU(), EPS);
+      checkEquals(computed.getP(), expected.getP(), 0d);
+      assertEquals(computed.getPivot(), expected.getPivot());
+      assertEquals(computed.getDeterminant(), expected.getDeterminant(), Math.abs(expected.getDeterminant()) * EPS);
+      assertTrue(computed.solve(vector).equalWithTolerance(expected.solve(vector), EPS));
+      assertTrue(DoubleArray.ofUnsafe(computed.solve(vector.toArray()))
+          .equalWithTolerance(DoubleArray.ofUnsafe(expected.solve(vector.toArray())), EPS));
+      checkEquals(computed.solve(rhs), expected.solve(rhs), EPS);
+    }
+  }
+
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y, double tolerance) {
+    assertEquals(x.rowCount(), y.rowCount());
+    assertEquals(x.columnCount(), y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertEquals(x.get(i, j), y.get(i, j), tolerance);
+      }
+    }
+  }
+
+}
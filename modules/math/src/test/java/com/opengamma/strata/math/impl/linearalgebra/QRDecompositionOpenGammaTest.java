@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+
+/**
+ * Test {@link QRDecompositionOpenGamma}.
+ */
+@Test
+public class QRDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final QRDecompositionOpenGamma QR_OG = new QRDecompositionOpenGamma();
+  private static final QRDecompositionCommons QR_COMMONS = new QRDecompositionCommons();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] { {1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+  private static final double EPS = 1e-12;
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNullObjectMatrix() {
+    QR_OG.apply((DoubleMatrix) null);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSingular() {
+    QR_OG.apply(DoubleMatrix.of(2, 2, 1d, 2d, 0d, 0d).transpose()).solve(DoubleArray.of(1d, 2d));
+  }
+
+  public void testRecoverOriginal() {
+    QRDecompositionResult qr = QR_OG.apply(A);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(qr.getQ(), qr.getR()), A, 1e-9);
+    checkEquals(qr.getQT(), qr.getQ().transpose(), 0d);
+  }
+
+  public void testMatchesCommons() {
+    Random random = new Random(1);
+    for (int[] size : new int[][] {{1, 1}, {3, 3}, {10, 10}, {50, 50}, {12, 5}}) {
+      int m = size[0];
+      int n = size[1];
+      DoubleMatrix matrix = DoubleMatrix.of(m, n, (i, j) -> random.nextDouble() - 0.5 + (i == j ? 2d : 0d));
+      DoubleArray vector = DoubleArray.of(m, i -> random.nextDouble());
+      DoubleMatrix rhs = DoubleMatrix.of(m, 4, (i, j) -> random.nextDouble());
+      QRDecompositionResult expected = QR_COMMONS.apply(matrix);
+      QRDecompositionResult computed = QR_OG.apply(matrix);
+      checkEquals(computed.getQ(), expected.getQ(), EPS);
+      checkEquals(computed.getQT(), expected.getQT(), EPS);
+      checkEquals(computed.getR(), expected.getR(), EPS);
+      assertTrue(computed.solve(vector).equalWithTolerance(expected.solve(vector), EPS));
+      assertTrue(DoubleArray.ofUnsafe(computed.solve(vector.toArray()))
+          .equalWithTolerance(DoubleArray.ofUnsafe(expected.solve(vector.toArray())), EPS));
+      checkEquals(computed.solve(rhs), expected.solve(rhs), EPS);
+    }
+  }
+
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y, double tolerance) {
+    assertEquals(x.rowCount(), y.rowCount());
+    assertEquals(x.columnCount(), y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertEquals(x.get(i, j), y.get(i, j), tolerance);
+      }
+    }
+  }
+
+}
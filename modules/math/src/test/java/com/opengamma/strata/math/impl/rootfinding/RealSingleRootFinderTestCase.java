@@ -7,6 +7,7 @@ package com.opengamma.strata.math.impl.rootfinding;
 
 import static org.testng.AssertJUnit.assertEquals;
 
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 import org.testng.annotations.Test;
@@ -60,4 +61,24 @@ public abstract class RealSingleRootFinderTestCase {
     assertEquals(finder.getRoot(F, 1.5, 2.5), 2, EPS);
     assertEquals(finder.getRoot(F, -1.5, 0.5), -1, EPS);
   }
+
+  @Test
+  public void testPrimitive() {
+    RealSingleRootFinder finder = getRootFinder();
+    DoubleUnaryOperator f = x -> x * x * x - 4 * x * x + x + 6;
+    assertEquals(finder.getRootPrimitive(f, 2.5, 3.5), finder.getRoot(F, 2.5, 3.5), 0);
+    assertEquals(finder.getRootPrimitive(f, 1.5, 2.5), finder.getRoot(F, 1.5, 2.5), 0);
+    assertEquals(finder.getRootPrimitive(f, -1.5, 0.5), finder.getRoot(F, -1.5, 0.5), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testPrimitiveNullFunction() {
+    getRootFinder().getRootPrimitive(null, 1., 2.);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testPrimitiveOutsideRoots() {
+    getRootFinder().getRootPrimitive(x -> x * x * x - 4 * x * x + x + 6, 10., 100.);
+  }
+
 }
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.rootfinding.newton;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.differentiation.VectorFieldFirstOrderDifferentiator;
+import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionCommons;
+
+/**
+ * Test {@link InPlaceBroydenVectorRootFinder}.
+ */
+@Test
+public class InPlaceBroydenVectorRootFinderTest extends VectorRootFinderTest {
+
+  private static final InPlaceBroydenVectorRootFinder DEFAULT =
+      new InPlaceBroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS);
+  private static final InPlaceBroydenVectorRootFinder SV =
+      new InPlaceBroydenVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS, new SVDecompositionCommons());
+  private static final NewtonVectorRootFinder SHERMAN_MORRISON =
+      new ShermanMorrisonVectorRootFinder(TOLERANCE, TOLERANCE, MAXSTEPS);
+  private static final Function<DoubleArray, DoubleMatrix> SWAP_RATES_JACOBIAN =
+      new VectorFieldFirstOrderDifferentiator().differentiate(SWAP_RATES);
+  private static final DoubleArray X0_2D = DoubleArray.of(-0.0, 0.0);
+  private static final DoubleArray X0_3D = DoubleArray.of(0.8, 0.2, -0.7);
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSingular() {
+    DEFAULT.getRoot(FUNCTION2D, JACOBIAN2D, X0_2D);
+  }
+
+  public void test() {
+    assertLinear(DEFAULT, EPS);
+    assertLinear(SV, EPS);
+    assertYieldCurveBootstrap(DEFAULT, EPS);
+    DoubleArray root2d = SV.getRoot(FUNCTION2D, JACOBIAN2D, X0_2D);
+    assertEquals(root2d.get(0), 1.0, EPS);
+    assertEquals(root2d.get(1), 1.0, EPS);
+    for (InPlaceBroydenVectorRootFinder rootFinder : new InPlaceBroydenVectorRootFinder[] {DEFAULT, SV}) {
+      DoubleArray root3d = rootFinder.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D);
+      assertEquals(root3d.get(0), 1.0, EPS);
+      assertEquals(root3d.get(1), 0.0, EPS);
+      assertEquals(root3d.get(2), -1.0, EPS);
+    }
+  }
+
+  public void test_matchesShermanMorrison() {
+    DoubleArray expected = SHERMAN_MORRISON.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D);
+    DoubleArray computed = DEFAULT.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D);
+    assertEquals(computed.size(), expected.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(computed.get(i), expected.get(i), 1e-12);
+    }
+  }
+
+  public void test_workspaceReuse() {
+    BroydenWorkspace workspace = new BroydenWorkspace();
+    assertEquals(workspace.getCapacity(), 0);
+    DoubleArray first = DEFAULT.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D, workspace);
+    assertEquals(workspace.getSize(), 3);
+    assertEquals(workspace.getCapacity(), 3);
+    // larger problem resizes the workspace
+    DoubleArray x0 = DoubleArray.filled(TIME_GRID.length, 0.05);
+    DEFAULT.getRoot(SWAP_RATES, SWAP_RATES_JACOBIAN, x0, workspace);
+    assertEquals(workspace.getSize(), TIME_GRID.length);
+    assertEquals(workspace.getCapacity(), TIME_GRID.length);
+    // smaller problem reuses the workspace with the same result
+    DoubleArray second = DEFAULT.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D, workspace);
+    assertEquals(workspace.getSize(), 3);
+    assertEquals(workspace.getCapacity(), TIME_GRID.length);
+    assertEquals(second, first);
+  }
+
+  public void test_nested() {
+    DoubleArray expected = DEFAULT.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D);
+    // the same instance finds a root within each evaluation of the outer function
+    Function<DoubleArray, DoubleArray> nested = x -> {
+      assertEquals(DEFAULT.getRoot(FUNCTION3D, JACOBIAN3D, X0_3D), expected);
+      return FUNCTION3D.apply(x);
+    };
+    assertEquals(DEFAULT.getRoot(nested, JACOBIAN3D, X0_3D), expected);
+  }
+
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.distribution;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test {@link NormalDistributionUtils}.
+ */
+@Test
+public class NormalDistributionUtilsTest {
+
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  private static final ProbabilityDistribution<double[]> BIVARIATE = new BivariateNormalDistribution();
+  private static final double EPS = 1e-15;
+
+  //-------------------------------------------------------------------------
+  public void test_cdf_pdf_matchesDistribution() {
+    for (double x = -40d; x <= 10d; x += 0.0625d) {
+      assertEquals(NormalDistributionUtils.cdf(x), NORMAL.getCDF(x), 0d);
+      assertEquals(NormalDistributionUtils.pdf(x), NORMAL.getPDF(x), 0d);
+    }
+  }
+
+  public void test_cdf_values() {
+    assertEquals(NormalDistributionUtils.cdf(0d), 0.5d, 0d);
+    assertEquals(NormalDistributionUtils.cdf(1d), 0.8413447460685429, EPS);
+    assertEquals(NormalDistributionUtils.cdf(-1d), 0.15865525393145705, EPS);
+    assertEquals(NormalDistributionUtils.cdf(Double.POSITIVE_INFINITY), 1d, 0d);
+    assertEquals(NormalDistributionUtils.cdf(Double.NEGATIVE_INFINITY), 0d, 0d);
+    // relative accuracy in the left tail
+    assertEquals(NormalDistributionUtils.cdf(-10d) / 7.619853024160527e-24, 1d, 1e-14);
+    assertEquals(NormalDistributionUtils.cdf(-30d) / 4.906713927148187e-198, 1d, 1e-12);
+  }
+
+  public void test_cdf_symmetry() {
+    for (double x = -8d; x <= 8d; x += 0.125d) {
+      assertEquals(NormalDistributionUtils.cdf(x) + NormalDistributionUtils.cdf(-x), 1d, EPS);
+    }
+  }
+
+  public void test_pdf_values() {
+    assertEquals(NormalDistributionUtils.pdf(0d), 1d / Math.sqrt(2d * Math.PI), 0d);
+    assertEquals(NormalDistributionUtils.pdf(1.5d), NormalDistributionUtils.pdf(-1.5d), 0d);
+    assertEquals(NormalDistributionUtils.pdf(2d), Math.exp(-2d) / Math.sqrt(2d * Math.PI), EPS);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_inverseCdf() {
+    for (double p = 0.001d; p < 1d; p += 0.001d) {
+      assertEquals(NormalDistributionUtils.inverseCdf(p), NORMAL.getInverseCDF(p), 0d);
+      assertEquals(NormalDistributionUtils.cdf(NormalDistributionUtils.inverseCdf(p)), p, 1e-14);
+    }
+    for (double p = 1e-300; p < 0.1; p *= 10d) {
+      assertEquals(NormalDistributionUtils.cdf(NormalDistributionUtils.inverseCdf(p)) / p, 1d, 1e-12);
+    }
+    assertThrowsIllegalArg(() -> NormalDistributionUtils.inverseCdf(-0.1d));
+    assertThrowsIllegalArg(() -> NormalDistributionUtils.inverseCdf(1.1d));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_bivariateCdf_matchesDistribution() {
+    for (double a = -3d; a <= 3d; a += 0.5d) {
+      for (double b = -3d; b <= 3d; b += 0.5d) {
+        for (double rho = -1d; rho <= 1d; rho += 0.125d) {
+          assertEquals(NormalDistributionUtils.bivariateCdf(a, b, rho), BIVARIATE.getCDF(new double[] {a, b, rho}), 0d);
+        }
+      }
+    }
+  }
+
+  public void test_bivariateCdf_values() {
+    assertEquals(NormalDistributionUtils.bivariateCdf(0d, 0d, 0d), 0.25d, 1e-8);
+    assertEquals(NormalDistributionUtils.bivariateCdf(0d, 0d, 0.5d), 1d / 3d, 1e-8);
+    assertEquals(NormalDistributionUtils.bivariateCdf(0.5d, -0.5d, -0.5d), 0.1452180174, 1e-8);
+    assertEquals(NormalDistributionUtils.bivariateCdf(1d, 2d, 0d), NormalDistributionUtils.cdf(1d) * NormalDistributionUtils.cdf(2d), EPS);
+    assertEquals(NormalDistributionUtils.bivariateCdf(1d, 2d, 1d), NormalDistributionUtils.cdf(1d), EPS);
+    assertEquals(NormalDistributionUtils.bivariateCdf(Double.POSITIVE_INFINITY, 2d, 0.3d), 1d, 0d);
+    assertEquals(NormalDistributionUtils.bivariateCdf(Double.NEGATIVE_INFINITY, 2d, 0.3d), 0d, 0d);
+    assertThrowsIllegalArg(() -> NormalDistributionUtils.bivariateCdf(1d, 1d, 1.5d));
+    assertThrowsIllegalArg(() -> NormalDistributionUtils.bivariateCdf(1d, 1d, -1.5d));
+  }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+
+import cern.jet.random.engine.MersenneTwister;
+import cern.jet.random.engine.MersenneTwister64;
+
+/**
+ * Test {@link LevenbergMarquardtLeastSquare}.
+ */
+@Test
+public class LevenbergMarquardtLeastSquareTest {
+
+  private static final NormalDistribution NORMAL =
+      new NormalDistribution(0, 1.0, new MersenneTwister64(MersenneTwister.DEFAULT_SEED));
+  private static final DoubleArray X = DoubleArray.of(20, i -> -Math.PI + i * Math.PI / 10);
+  private static final DoubleArray Y = X.map(Math::sin);
+  private static final DoubleArray SIGMA = X.map(x -> 0.1 * Math.exp(Math.abs(x) / Math.PI));
+  private static final LevenbergMarquardtLeastSquare LM = LevenbergMarquardtLeastSquare.of(1e-12);
+  private static final NonLinearLeastSquare NLLS = new NonLinearLeastSquare(
+      DecompositionFactory.SV_COMMONS, new OGMatrixAlgebra(), 1e-12);
+
+  // a sin(b x + c) + d
+  private static final Function<DoubleArray, DoubleArray> FUNCTION = a -> DoubleArray.of(
+      X.size(), i -> a.get(0) * Math.sin(a.get(1) * X.get(i) + a.get(2)) + a.get(3));
+  private static final Function<DoubleArray, DoubleMatrix> JACOBIAN = a -> DoubleMatrix.of(X.size(), 4, (i, j) -> {
+    double x = X.get(i);
+    switch (j) {
+      case 0:
+        return Math.sin(a.get(1) * x + a.get(2));
+      case 1:
+        return a.get(0) * x * Math.cos(a.get(1) * x + a.get(2));
+      case 2:
+        return a.get(0) * Math.cos(a.get(1) * x + a.get(2));
+      default:
+        return 1d;
+    }
+  });
+
+  //-------------------------------------------------------------------------
+  public void test_solve_exact() {
+    DoubleArray start = DoubleArray.of(1.2, 0.8, -0.2, -0.3);
+    LeastSquareResults result = LM.solve(Y, SIGMA, FUNCTION, JACOBIAN, start);
+    assertEquals(result.getChiSq(), 0d, 1e-8);
+    assertEquals(result.getFitParameters().get(0), 1d, 1e-8);
+    assertEquals(result.getFitParameters().get(1), 1d, 1e-8);
+    assertEquals(result.getFitParameters().get(2), 0d, 1e-8);
+    assertEquals(result.getFitParameters().get(3), 0d, 1e-8);
+  }
+
+  public void test_solve_atSolution() {
+    DoubleArray start = DoubleArray.of(1d, 1d, 0d, 0d);
+    LeastSquareResults result = LM.solve(Y, SIGMA, FUNCTION, JACOBIAN, start);
+    assertEquals(result.getChiSq(), 0d, 0d);
+    assertEquals(result.getFitParameters(), start);
+  }
+
+  public void test_solve_matchesNonLinearLeastSquare() {
+    DoubleArray y = DoubleArray.of(20, i -> Y.get(i) + SIGMA.get(i) * NORMAL.nextRandom());
+    DoubleArray start = DoubleArray.of(0.7, 1.4, 0.2, -0.3);
+    LeastSquareResults result = LM.solve(y, SIGMA, FUNCTION, JACOBIAN, start);
+    LeastSquareResults expected = NLLS.solve(y, SIGMA, FUNCTION, JACOBIAN, start);
+    assertEquals(result.getChiSq(), expected.getChiSq(), 1e-10);
+    for (int i = 0; i < 4; i++) {
+      assertEquals(result.getFitParameters().get(i), expected.getFitParameters().get(i), 1e-6);
+      for (int j = 0; j < 4; j++) {
+        assertEquals(result.getCovariance().get(i, j), expected.getCovariance().get(i, j), 1e-6);
+      }
+      for (int j = 0; j < 20; j++) {
+        assertEquals(result.getFittingParameterSensitivityToData().get(i, j),
+            expected.getFittingParameterSensitivityToData().get(i, j), 1e-6);
+      }
+    }
+  }
+
+  public void test_solve_constraintsAndMaxJumps() {
+    DoubleArray start = DoubleArray.of(1.2, 0.8, -0.2, -0.3);
+    Function<DoubleArray, Boolean> constraints = a -> a.get(0) > 0;
+    DoubleArray maxJumps = DoubleArray.filled(4, 0.05);
+    LeastSquareResults result = LM.solve(Y, SIGMA, FUNCTION, JACOBIAN, start, constraints, maxJumps);
+    assertEquals(result.getChiSq(), 0d, 1e-8);
+    assertEquals(result.getFitParameters().get(0), 1d, 1e-8);
+    assertEquals(result.getFitParameters().get(1), 1d, 1e-8);
+  }
+
+  public void test_solve_singular() {
+    // the first two parameters only enter the model through their sum
+    Function<DoubleArray, DoubleArray> func = a -> X.map(x -> (a.get(0) + a.get(1)) * x + a.get(2));
+    Function<DoubleArray, DoubleMatrix> jac = a -> DoubleMatrix.of(X.size(), 3, (i, j) -> j == 2 ? 1d : X.get(i));
+    DoubleArray y = X.map(x -> 2d * x + 1d);
+    LeastSquareResults result = LM.solve(y, SIGMA, func, jac, DoubleArray.of(0.5, 0.5, 0d));
+    assertTrue(result.getChiSq() < 1e-16);
+    assertEquals(result.getFitParameters().get(0) + result.getFitParameters().get(1), 2d, 1e-10);
+    assertEquals(result.getFitParameters().get(2), 1d, 1e-10);
+  }
+
+  public void test_solve_invalid() {
+    DoubleArray start = DoubleArray.of(1.2, 0.8, -0.2, -0.3);
+    assertThrowsIllegalArg(() -> LM.solve(Y, SIGMA.subArray(1), FUNCTION, JACOBIAN, start));
+    assertThrowsIllegalArg(() -> LM.solve(Y.subArray(17), SIGMA.subArray(17), FUNCTION, JACOBIAN, start));
+    assertThrowsIllegalArg(() -> LM.solve(Y, SIGMA, FUNCTION, JACOBIAN, start, a -> a.get(0) < 1d, null));
+    assertThrowsIllegalArg(() -> LM.solve(Y, SIGMA, FUNCTION, JACOBIAN, start, a -> true, DoubleArray.of(1d)));
+    assertThrowsIllegalArg(() -> LevenbergMarquardtLeastSquare.of(0d));
+  }
+
+}
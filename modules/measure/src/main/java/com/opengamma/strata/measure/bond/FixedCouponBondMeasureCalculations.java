@@ -38,6 +38,11 @@ final class FixedCouponBondMeasureCalculations {
    * Pricer for {@link ResolvedFixedCouponBondTrade}.
    */
   private final DiscountingFixedCouponBondTradePricer tradePricer;
+  /**
+   * Whether present value is calculated for all scenarios in one pass.
+   * This is only the case for the default pricer, which the scenario pricer matches.
+   */
+  private final boolean scenarioPricing;
 
   /**
    * Creates an instance.
@@ -47,6 +52,7 @@ final class FixedCouponBondMeasureCalculations {
   FixedCouponBondMeasureCalculations(
       DiscountingFixedCouponBondTradePricer tradePricer) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioPricing = tradePricer == DiscountingFixedCouponBondTradePricer.DEFAULT;
   }
 
   //-------------------------------------------------------------------------
@@ -55,6 +61,9 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
+    if (scenarioPricing && marketData.getScenarioCount() > 1) {
+      return FixedCouponBondScenarioPricer.of(trade, tradePricer).presentValue(marketData);
+    }
     return CurrencyScenarioArray.of(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).discountingProvider()));
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.bond;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondTradePricer;
+import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
+import com.opengamma.strata.product.SecurityId;
+import com.opengamma.strata.product.bond.FixedCouponBondPaymentPeriod;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBond;
+import com.opengamma.strata.product.bond.ResolvedFixedCouponBondTrade;
+
+/**
+ * Prices a fixed coupon bond trade across all scenarios in one pass.
+ * <p>
+ * The coupons of the bond are walked once, when the pricer is created, and flattened
+ * into primitive arrays of payment dates and amounts, applying the settlement date of the trade.
+ * Pricing then only evaluates the issuer and repo discount factors in each scenario.
+ * The result matches that of {@link DiscountingFixedCouponBondTradePricer#DEFAULT}.
+ */
+final class FixedCouponBondScenarioPricer {
+
+  // the identifiers used to find the curves
+  private final Currency currency;
+  private final StandardId legalEntityId;
+  private final SecurityId securityId;
+  // the quantity of the trade
+  private final double quantity;
+  // the nominal payment
+  private final LocalDate nominalDate;
+  private final double nominalAmount;
+  // the coupons detached after the settlement date
+  private final LocalDate[] couponDates;
+  private final double[] couponAmounts;
+  // the upfront payment
+  private final LocalDate upfrontDate;
+  private final double upfrontAmount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified trade.
+   *
+   * @param trade  the trade
+   * @param tradePricer  the pricer used to determine the upfront payment
+   * @return the pricer
+   */
+  static FixedCouponBondScenarioPricer of(
+      ResolvedFixedCouponBondTrade trade,
+      DiscountingFixedCouponBondTradePricer tradePricer) {
+
+    ArgChecker.notNull(trade, "trade");
+    ArgChecker.notNull(tradePricer, "tradePricer");
+    return new FixedCouponBondScenarioPricer(trade, tradePricer.upfrontPayment(trade));
+  }
+
+  // restricted constructor
+  private FixedCouponBondScenarioPricer(ResolvedFixedCouponBondTrade trade, Payment upfrontPayment) {
+    ResolvedFixedCouponBond bond = trade.getProduct();
+    this.currency = bond.getCurrency();
+    this.legalEntityId = bond.getLegalEntityId();
+    this.securityId = bond.getSecurityId();
+    this.quantity = trade.getQuantity();
+    this.nominalDate = bond.getNominalPayment().getDate();
+    this.nominalAmount = bond.getNominalPayment().getAmount();
+    LocalDate settlementDate = trade.getSettlementDate();
+    List<FixedCouponBondPaymentPeriod> coupons = new ArrayList<>();
+    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
+      if (period.getDetachmentDate().isAfter(settlementDate)) {
+        coupons.add(period);
+      }
+    }
+    this.couponDates = new LocalDate[coupons.size()];
+    this.couponAmounts = new double[coupons.size()];
+    for (int i = 0; i < coupons.size(); i++) {
+      FixedCouponBondPaymentPeriod period = coupons.get(i);
+      couponDates[i] = period.getPaymentDate();
+      couponAmounts[i] = period.getFixedRate() * period.getNotional() * period.getYearFraction();
+    }
+    this.upfrontDate = upfrontPayment.getDate();
+    this.upfrontAmount = upfrontPayment.getAmount();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the trade in each scenario.
+   *
+   * @param marketData  the market data
+   * @return the present value, one entry per scenario
+   */
+  CurrencyScenarioArray presentValue(LegalEntityDiscountingScenarioMarketData marketData) {
+    int scenarioCount = marketData.getScenarioCount();
+    double[] values = new double[scenarioCount];
+    for (int i = 0; i < scenarioCount; i++) {
+      LegalEntityDiscountingProvider provider = marketData.scenario(i).discountingProvider();
+      DiscountFactors issuerDiscountFactors =
+          provider.issuerCurveDiscountFactors(legalEntityId, currency).getDiscountFactors();
+      DiscountFactors repoDiscountFactors =
+          provider.repoCurveDiscountFactors(securityId, legalEntityId, currency).getDiscountFactors();
+      values[i] = presentValueProduct(issuerDiscountFactors) * quantity +
+          presentValue(upfrontDate, upfrontAmount, repoDiscountFactors);
+    }
+    return CurrencyScenarioArray.of(currency, DoubleArray.ofUnsafe(values));
+  }
+
+  // present value of the product in a single scenario
+  private double presentValueProduct(DiscountFactors discountFactors) {
+    double total = 0d;
+    for (int i = 0; i < couponDates.length; i++) {
+      total += presentValue(couponDates[i], couponAmounts[i], discountFactors);
+    }
+    return presentValue(nominalDate, nominalAmount, discountFactors) + total;
+  }
+
+  // present value of a single payment, zero if paid before the valuation date
+  private static double presentValue(LocalDate paymentDate, double amount, DiscountFactors discountFactors) {
+    if (paymentDate.isBefore(discountFactors.getValuationDate())) {
+      return 0d;
+    }
+    return amount * discountFactors.discountFactor(paymentDate);
+  }
+
+}
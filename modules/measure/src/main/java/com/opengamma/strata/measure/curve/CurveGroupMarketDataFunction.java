@@ -5,14 +5,20 @@
  */
 package com.opengamma.strata.measure.curve;
 
+import static com.opengamma.strata.collect.Guavate.join;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.marketdata.MarketDataConfig;
 import com.opengamma.strata.calc.marketdata.MarketDataFunction;
@@ -42,6 +48,17 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link CurveGroupDefinition} into a {@link CurveGroup}.
+ * <p>
+ * When the input data contains multiple scenarios, each scenario is calibrated independently from the
+ * initial guesses in the curve definitions. The scenarios are calibrated concurrently if an executor is specified.
+ * <p>
+ * A warm start may be enabled using {@link #CurveGroupMarketDataFunction(CalibrationMeasures, Executor, boolean)}.
+ * The curve group for the first scenario is then calibrated first, and its curves are used as the starting point
+ * of the calibration of the other scenarios. This typically reduces the number of iterations when the scenarios
+ * are small perturbations, but the curves of each scenario then depend on the first scenario, within the
+ * tolerance of the root finder.
+ * <p>
+ * The curve groups are always returned in scenario order.
  */
 public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGroup, CurveGroupId> {
 
@@ -49,6 +66,14 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * The executor used to calibrate scenarios concurrently.
+   */
+  private final Executor executor;
+  /**
+   * Whether the curves of the first scenario are the starting point of the other scenarios.
+   */
+  private final boolean warmStart;
 
   //-------------------------------------------------------------------------
   /**
@@ -71,7 +96,49 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
    * @param calibrationMeasures  the calibration measures to be used in the calibrator
    */
   public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
+    this(calibrationMeasures, MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Creates a new function for building curve groups that calibrates scenarios concurrently.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * <p>
+   * When there are multiple scenarios, the curve groups for all scenarios are calibrated
+   * using the executor. The parallelism is therefore controlled by the executor, for example by the
+   * number of threads in a {@link ForkJoinPool}. The result does not depend on the executor used.
+   * The same {@link CurveCalibrator} instance is used by all the scenarios, and therefore by several threads at once.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate scenarios
+   */
+  public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor) {
+    this(calibrationMeasures, executor, false);
+  }
+
+  /**
+   * Creates a new function for building curve groups that calibrates scenarios concurrently,
+   * optionally using the curves of the first scenario as the starting point of the other scenarios.
+   * <p>
+   * The default calibrator is specified. The {@link MarketDataConfig} may contain a
+   * {@link RootFinderConfig} that alters the tolerances used in calibration.
+   * <p>
+   * When there are multiple scenarios and the warm start is enabled, the first scenario is calibrated
+   * before the others, which are then calibrated using the executor.
+   * Otherwise, the curve groups for all scenarios are calibrated using the executor.
+   * The result does not depend on the executor used.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param executor  the executor used to calibrate scenarios
+   * @param warmStart  true to calibrate the other scenarios starting from the curves of the first scenario
+   */
+  public CurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, Executor executor, boolean warmStart) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.executor = ArgChecker.notNull(executor, "executor");
+    this.warmStart = warmStart;
   }
 
   //-------------------------------------------------------------------------
@@ -168,19 +235,53 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
-    ImmutableList.Builder<CurveGroup> builder = ImmutableList.builder();
 
-    for (int i = 0; i < scenarioCount; i++) {
-      LocalDate valuationDate = valuationDateBox.getValue(scenarioCount);
-      CurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
-      List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, i);
-      MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
-      builder.add(buildGroup(filteredGroup, calibrator, inputs, refData));
+    // with a warm start, the first scenario is calibrated from the initial guesses in the definition
+    // and the other scenarios use its curves as a starting point
+    // otherwise, all the scenarios are calibrated from the initial guesses in the definition
+    // the futures are held in scenario order, ensuring the order of the result
+    ImmutableRatesProvider firstProvider = warmStart ?
+        calibrateScenario(configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, 0, null) :
+        null;
+    List<CompletableFuture<ImmutableRatesProvider>> futures = new ArrayList<>(scenarioCount);
+    if (firstProvider != null) {
+      futures.add(CompletableFuture.completedFuture(firstProvider));
+    }
+    for (int i = futures.size(); i < scenarioCount; i++) {
+      int scenarioIndex = i;
+      futures.add(CompletableFuture.supplyAsync(
+          () -> calibrateScenario(
+              configuredGroup, calibrator, valuationDateBox, inputBoxes, fixings, refData, scenarioIndex, firstProvider),
+          executor));
+    }
+    ImmutableList.Builder<CurveGroup> builder = ImmutableList.builder();
+    for (CompletableFuture<ImmutableRatesProvider> future : futures) {
+      builder.add(curveGroup(configuredGroup.getName(), join(future)));
     }
     ImmutableList<CurveGroup> curveGroups = builder.build();
     return MarketDataBox.ofScenarioValues(curveGroups);
   }
 
+  // calibrates a single scenario, using the starting provider if not null
+  private ImmutableRatesProvider calibrateScenario(
+      CurveGroupDefinition configuredGroup,
+      CurveCalibrator calibrator,
+      MarketDataBox<LocalDate> valuationDateBox,
+      List<MarketDataBox<CurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings,
+      ReferenceData refData,
+      int scenarioIndex,
+      ImmutableRatesProvider startingProvider) {
+
+    LocalDate valuationDate = valuationDateBox.getValue(scenarioIndex);
+    CurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+    List<CurveInputs> curveInputsList = inputsForScenario(inputBoxes, scenarioIndex);
+    MarketData inputs = inputsByKey(valuationDate, curveInputsList, fixings);
+    return startingProvider == null ?
+        calibrator.calibrate(filteredGroup, inputs, refData) :
+        calibrator.calibrate(filteredGroup, inputs, refData, startingProvider);
+  }
+
   private static List<CurveInputs> inputsForScenario(List<MarketDataBox<CurveInputs>> boxes, int scenarioIndex) {
     return boxes.stream()
         .map(box -> box.getValue(scenarioIndex))
@@ -252,8 +353,13 @@ public class CurveGroupMarketDataFunction implements MarketDataFunction<CurveGro
         marketData,
         refData);
 
+    return curveGroup(groupDefn.getName(), calibratedProvider);
+  }
+
+  // creates the curve group from the calibrated provider
+  private static CurveGroup curveGroup(CurveGroupName groupName, ImmutableRatesProvider calibratedProvider) {
     return CurveGroup.of(
-        groupDefn.getName(),
+        groupName,
         calibratedProvider.getDiscountCurves(),
         calibratedProvider.getIndexCurves());
   }
@@ -35,6 +35,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketData;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
+import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
@@ -69,6 +70,11 @@ final class FraMeasureCalculations {
    * Pricer for {@link ResolvedFraTrade}.
    */
   private final DiscountingFraTradePricer tradePricer;
+  /**
+   * Whether present value is calculated for all scenarios in one pass.
+   * This is only the case for the default pricer, which the scenario pricer matches.
+   */
+  private final boolean scenarioPricing;
 
   /**
    * Creates an instance.
@@ -78,6 +84,7 @@ final class FraMeasureCalculations {
   FraMeasureCalculations(
       DiscountingFraTradePricer tradePricer) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioPricing = tradePricer == DiscountingFraTradePricer.DEFAULT;
   }
 
   //-------------------------------------------------------------------------
@@ -86,6 +93,9 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
+    if (scenarioPricing && marketData.getScenarioCount() > 1) {
+      return FraScenarioPricer.of(trade.getProduct(), RateComputationFn.standard()).presentValue(marketData);
+    }
     return CurrencyScenarioArray.of(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.fra;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.rate.RateComputationFn;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
+import com.opengamma.strata.product.fra.ResolvedFra;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+
+/**
+ * Prices a FRA across all scenarios in one pass.
+ * <p>
+ * The forward rate and discount factor are first evaluated in each scenario into primitive arrays.
+ * The present value is then calculated for all scenarios in a single loop.
+ * The result matches that of {@link DiscountingFraProductPricer#DEFAULT}.
+ */
+final class FraScenarioPricer {
+
+  /**
+   * The FRA.
+   */
+  private final ResolvedFra fra;
+  /**
+   * Rate computation.
+   */
+  private final RateComputationFn<RateComputation> rateComputationFn;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified FRA.
+   *
+   * @param fra  the FRA
+   * @param rateComputationFn  the rate computation function
+   * @return the pricer
+   */
+  static FraScenarioPricer of(ResolvedFra fra, RateComputationFn<RateComputation> rateComputationFn) {
+    return new FraScenarioPricer(fra, rateComputationFn);
+  }
+
+  // restricted constructor
+  private FraScenarioPricer(ResolvedFra fra, RateComputationFn<RateComputation> rateComputationFn) {
+    this.fra = ArgChecker.notNull(fra, "fra");
+    this.rateComputationFn = ArgChecker.notNull(rateComputationFn, "rateComputationFn");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the FRA in each scenario.
+   *
+   * @param marketData  the market data
+   * @return the present value, one entry per scenario
+   */
+  CurrencyScenarioArray presentValue(RatesScenarioMarketData marketData) {
+    int scenarioCount = marketData.getScenarioCount();
+    Currency currency = fra.getCurrency();
+    LocalDate paymentDate = fra.getPaymentDate();
+    RateComputation floatingRate = fra.getFloatingRate();
+    // evaluate the market data in each scenario
+    boolean[] live = new boolean[scenarioCount];
+    double[] forwardRates = new double[scenarioCount];
+    double[] discountFactors = new double[scenarioCount];
+    for (int i = 0; i < scenarioCount; i++) {
+      RatesProvider provider = marketData.scenario(i).ratesProvider();
+      if (paymentDate.isBefore(provider.getValuationDate())) {
+        continue;
+      }
+      live[i] = true;
+      forwardRates[i] = forwardRate(floatingRate, provider);
+      discountFactors[i] = provider.discountFactor(currency, paymentDate);
+    }
+    // price all scenarios
+    double notional = fra.getNotional();
+    double fixedRate = fra.getFixedRate();
+    double yearFraction = fra.getYearFraction();
+    FraDiscountingMethod discounting = fra.getDiscounting();
+    double[] values = new double[scenarioCount];
+    for (int i = 0; i < scenarioCount; i++) {
+      if (live[i]) {
+        double unitAmount = DiscountingFraProductPricer.unitAmount(discounting, fixedRate, forwardRates[i], yearFraction);
+        values[i] = notional * unitAmount * discountFactors[i];
+      }
+    }
+    return CurrencyScenarioArray.of(currency, DoubleArray.ofUnsafe(values));
+  }
+
+  // the forward rate, handling the common Ibor case directly
+  private double forwardRate(RateComputation floatingRate, RatesProvider provider) {
+    if (floatingRate instanceof IborRateComputation) {
+      IborRateComputation ibor = (IborRateComputation) floatingRate;
+      return provider.iborIndexRates(ibor.getIndex()).rate(ibor.getObservation());
+    }
+    return rateComputationFn.rate(floatingRate, fra.getStartDate(), fra.getEndDate(), provider);
+  }
+
+}
@@ -13,6 +13,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 import org.joda.beans.BeanDefinition;
@@ -59,6 +61,9 @@ import com.opengamma.strata.pricer.rate.RatesProvider;
  * A rates provider based on a rates lookup.
  * <p>
  * This uses a {@link DefaultRatesMarketDataLookup} to provide a view on {@link MarketData}.
+ * <p>
+ * The discount factors and index rates are created on first use and then reused,
+ * as the same instance of this provider is shared by all calculations for a scenario.
  */
 @BeanDefinition(style = "light")
 final class DefaultLookupRatesProvider
@@ -78,6 +83,18 @@ final class DefaultLookupRatesProvider
    * The FX rate provider.
    */
   private final transient FxRateProvider fxRateProvider;  // derived
+  /**
+   * The discount factors, created on demand.
+   */
+  private final transient ConcurrentMap<Currency, DiscountFactors> discountFactors;  // derived
+  /**
+   * The Ibor index rates, created on demand.
+   */
+  private final transient ConcurrentMap<IborIndex, IborIndexRates> iborIndexRates;  // derived
+  /**
+   * The Overnight index rates, created on demand.
+   */
+  private final transient ConcurrentMap<OvernightIndex, OvernightIndexRates> overnightIndexRates;  // derived
 
   //-------------------------------------------------------------------------
   /**
@@ -99,6 +116,9 @@ final class DefaultLookupRatesProvider
     this.lookup = ArgChecker.notNull(lookup, "lookup");
     this.marketData = ArgChecker.notNull(marketData, "marketData");
     this.fxRateProvider = lookup.fxRateProvider(marketData);
+    this.discountFactors = new ConcurrentHashMap<>();
+    this.iborIndexRates = new ConcurrentHashMap<>();
+    this.overnightIndexRates = new ConcurrentHashMap<>();
   }
 
   // ensure standard constructor is invoked
@@ -171,6 +191,13 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public DiscountFactors discountFactors(Currency currency) {
+    // the market data is immutable, thus each wrapper only needs to be created once
+    DiscountFactors cached = discountFactors.get(currency);
+    return cached != null ? cached : discountFactors.computeIfAbsent(currency, this::createDiscountFactors);
+  }
+
+  // creates the discount factors
+  private DiscountFactors createDiscountFactors(Currency currency) {
     CurveId curveId = lookup.getDiscountCurves().get(currency);
     if (curveId == null) {
       throw new MarketDataNotFoundException(lookup.msgCurrencyNotFound(currency));
@@ -198,6 +225,12 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public IborIndexRates iborIndexRates(IborIndex index) {
+    IborIndexRates cached = iborIndexRates.get(index);
+    return cached != null ? cached : iborIndexRates.computeIfAbsent(index, this::createIborIndexRates);
+  }
+
+  // creates the Ibor index rates
+  private IborIndexRates createIborIndexRates(IborIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       throw new MarketDataNotFoundException(lookup.msgIndexNotFound(index));
@@ -209,6 +242,12 @@ final class DefaultLookupRatesProvider
   //-------------------------------------------------------------------------
   @Override
   public OvernightIndexRates overnightIndexRates(OvernightIndex index) {
+    OvernightIndexRates cached = overnightIndexRates.get(index);
+    return cached != null ? cached : overnightIndexRates.computeIfAbsent(index, this::createOvernightIndexRates);
+  }
+
+  // creates the Overnight index rates
+  private OvernightIndexRates createOvernightIndexRates(OvernightIndex index) {
     CurveId curveId = lookup.getForwardCurves().get(index);
     if (curveId == null) {
       throw new MarketDataNotFoundException(lookup.msgIndexNotFound(index));
@@ -26,6 +26,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.runner.CachingScenarioMarketData;
 import com.opengamma.strata.calc.runner.CalculationParameter;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.collect.Messages;
@@ -162,6 +163,24 @@ final class DefaultRatesMarketDataLookup
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Obtains a filtered view of the complete set of market data.
+   * <p>
+   * Within a calculation run, the market data is a {@link CachingScenarioMarketData}.
+   * The view is then created once for the run and shared by every task, which allows the rates providers
+   * of each scenario, and the curve wrappers they create, to be built once per run rather than once per trade.
+   * 
+   * @param marketData  the complete set of market data for all scenarios
+   * @return the filtered market data
+   */
+  @Override
+  public RatesScenarioMarketData marketDataView(ScenarioMarketData marketData) {
+    if (marketData instanceof CachingScenarioMarketData) {
+      return ((CachingScenarioMarketData) marketData).view(this, md -> DefaultRatesScenarioMarketData.of(this, md));
+    }
+    return DefaultRatesScenarioMarketData.of(this, marketData);
+  }
+
   @Override
   public RatesProvider ratesProvider(MarketData marketData) {
     return DefaultLookupRatesProvider.of(this, marketData);
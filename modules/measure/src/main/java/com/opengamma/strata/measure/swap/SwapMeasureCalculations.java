@@ -85,6 +85,11 @@ final class SwapMeasureCalculations {
    * Pricer for {@link ResolvedSwapTrade}.
    */
   private final DiscountingSwapTradePricer tradePricer;
+  /**
+   * Whether present value is calculated for all scenarios in one pass.
+   * This is only the case for the default pricer, which the scenario pricer matches.
+   */
+  private final boolean scenarioPricing;
 
   /**
    * Creates an instance.
@@ -94,6 +99,7 @@ final class SwapMeasureCalculations {
   SwapMeasureCalculations(
       DiscountingSwapTradePricer tradePricer) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioPricing = tradePricer == DiscountingSwapTradePricer.DEFAULT;
   }
 
   //-------------------------------------------------------------------------
@@ -102,6 +108,10 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
+    if (scenarioPricing && marketData.getScenarioCount() > 1) {
+      return SwapScenarioPricer.of(trade.getProduct(), tradePricer.getProductPricer().getLegPricer())
+          .presentValue(marketData);
+    }
     return MultiCurrencyScenarioArray.of(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapLegPricer;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * Prices a swap across all scenarios in one pass.
+ * <p>
+ * The structure of the swap is walked once, when the pricer is created, and flattened
+ * into primitive arrays of payment dates, notionals, year fractions, gearings and spreads.
+ * Pricing then only evaluates discount factors and forward rates in each scenario.
+ * <p>
+ * Rate payment periods with a single accrual period and no FX reset, whose rate is fixed or
+ * a single Ibor fixing, are handled directly, as are known amounts and notional exchanges.
+ * Any other period or event is priced using the periods and events pricers of the leg pricer.
+ * The result matches that of {@link DiscountingSwapLegPricer#DEFAULT}.
+ */
+final class SwapScenarioPricer {
+
+  /**
+   * The legs of the swap.
+   */
+  private final ImmutableList<LegPlan> legs;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified swap.
+   *
+   * @param swap  the swap
+   * @param legPricer  the pricer used for periods and events that are not handled directly
+   * @return the pricer
+   */
+  static SwapScenarioPricer of(ResolvedSwap swap, DiscountingSwapLegPricer legPricer) {
+    ArgChecker.notNull(swap, "swap");
+    ArgChecker.notNull(legPricer, "legPricer");
+    ImmutableList.Builder<LegPlan> legs = ImmutableList.builder();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      legs.add(new LegPlan(leg, legPricer));
+    }
+    return new SwapScenarioPricer(legs.build());
+  }
+
+  // restricted constructor
+  private SwapScenarioPricer(ImmutableList<LegPlan> legs) {
+    this.legs = legs;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the swap in each scenario.
+   * <p>
+   * The result is expressed using the payment currency of each leg.
+   *
+   * @param marketData  the market data
+   * @return the present value, one entry per scenario
+   */
+  MultiCurrencyScenarioArray presentValue(RatesScenarioMarketData marketData) {
+    int scenarioCount = marketData.getScenarioCount();
+    Map<Currency, double[]> values = new LinkedHashMap<>();
+    for (LegPlan leg : legs) {
+      values.computeIfAbsent(leg.currency, ccy -> new double[scenarioCount]);
+    }
+    for (int i = 0; i < scenarioCount; i++) {
+      RatesProvider provider = marketData.scenario(i).ratesProvider();
+      for (LegPlan leg : legs) {
+        values.get(leg.currency)[i] += leg.presentValue(provider);
+      }
+    }
+    Map<Currency, DoubleArray> result = new LinkedHashMap<>();
+    values.forEach((ccy, array) -> result.put(ccy, DoubleArray.ofUnsafe(array)));
+    return MultiCurrencyScenarioArray.of(result);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A single leg flattened into primitive arrays.
+   */
+  private static final class LegPlan {
+
+    // the currency of the leg
+    private final Currency currency;
+    // the rate payment periods, one entry per period
+    private final LocalDate[] ratePaymentDates;
+    private final double[] notionals;
+    private final double[] yearFractions;
+    private final double[] gearings;
+    private final double[] spreads;
+    private final NegativeRateMethod[] negativeRateMethods;
+    private final double[] fixedRates;
+    // the index into 'iborIndices' of the fixing, -1 if the rate is fixed
+    private final int[] iborSlots;
+    private final IborIndexObservation[] iborObservations;
+    private final IborIndex[] iborIndices;
+    // the known payments, one entry per period or event
+    private final LocalDate[] knownPaymentDates;
+    private final double[] knownAmounts;
+    // the periods and events that are priced by the leg pricer
+    private final List<SwapPaymentPeriod> otherPeriods = new ArrayList<>();
+    private final List<SwapPaymentEvent> otherEvents = new ArrayList<>();
+    private final DiscountingSwapLegPricer legPricer;
+
+    private LegPlan(ResolvedSwapLeg leg, DiscountingSwapLegPricer legPricer) {
+      this.currency = leg.getCurrency();
+      this.legPricer = legPricer;
+      List<RatePaymentPeriod> ratePeriods = new ArrayList<>();
+      List<LocalDate> knownDates = new ArrayList<>();
+      List<Double> knownValues = new ArrayList<>();
+      for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+        if (isSimpleRatePeriod(period)) {
+          ratePeriods.add((RatePaymentPeriod) period);
+        } else if (period instanceof KnownAmountSwapPaymentPeriod && period.getCurrency().equals(currency)) {
+          KnownAmountSwapPaymentPeriod known = (KnownAmountSwapPaymentPeriod) period;
+          knownDates.add(known.getPayment().getDate());
+          knownValues.add(known.getPayment().getAmount());
+        } else {
+          otherPeriods.add(period);
+        }
+      }
+      for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+        if (event instanceof NotionalExchange && event.getCurrency().equals(currency)) {
+          NotionalExchange exchange = (NotionalExchange) event;
+          knownDates.add(exchange.getPayment().getDate());
+          knownValues.add(exchange.getPayment().getAmount());
+        } else {
+          otherEvents.add(event);
+        }
+      }
+      int size = ratePeriods.size();
+      this.ratePaymentDates = new LocalDate[size];
+      this.notionals = new double[size];
+      this.yearFractions = new double[size];
+      this.gearings = new double[size];
+      this.spreads = new double[size];
+      this.negativeRateMethods = new NegativeRateMethod[size];
+      this.fixedRates = new double[size];
+      this.iborSlots = new int[size];
+      this.iborObservations = new IborIndexObservation[size];
+      List<IborIndex> indices = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        RatePaymentPeriod period = ratePeriods.get(i);
+        RateAccrualPeriod accrualPeriod = period.getAccrualPeriods().get(0);
+        ratePaymentDates[i] = period.getPaymentDate();
+        notionals[i] = period.getNotional();
+        yearFractions[i] = accrualPeriod.getYearFraction();
+        gearings[i] = accrualPeriod.getGearing();
+        spreads[i] = accrualPeriod.getSpread();
+        negativeRateMethods[i] = accrualPeriod.getNegativeRateMethod();
+        RateComputation computation = accrualPeriod.getRateComputation();
+        if (computation instanceof FixedRateComputation) {
+          fixedRates[i] = ((FixedRateComputation) computation).getRate();
+          iborSlots[i] = -1;
+        } else {
+          IborRateComputation iborComputation = (IborRateComputation) computation;
+          int slot = indices.indexOf(iborComputation.getIndex());
+          if (slot < 0) {
+            slot = indices.size();
+            indices.add(iborComputation.getIndex());
+          }
+          iborSlots[i] = slot;
+          iborObservations[i] = iborComputation.getObservation();
+        }
+      }
+      this.iborIndices = indices.toArray(new IborIndex[indices.size()]);
+      this.knownPaymentDates = knownDates.toArray(new LocalDate[knownDates.size()]);
+      this.knownAmounts = knownValues.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    // checks if the period can be handled directly
+    private static boolean isSimpleRatePeriod(SwapPaymentPeriod period) {
+      if (!(period instanceof RatePaymentPeriod)) {
+        return false;
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getFxReset().isPresent() || ratePeriod.getAccrualPeriods().size() != 1) {
+        return false;
+      }
+      RateComputation computation = ratePeriod.getAccrualPeriods().get(0).getRateComputation();
+      return computation instanceof FixedRateComputation || computation instanceof IborRateComputation;
+    }
+
+    // present value of the leg in a single scenario, in the currency of the leg
+    private double presentValue(RatesProvider provider) {
+      LocalDate valuationDate = provider.getValuationDate();
+      DiscountFactors discountFactors = provider.discountFactors(currency);
+      IborIndexRates[] iborRates = new IborIndexRates[iborIndices.length];
+      double total = 0d;
+      for (int i = 0; i < ratePaymentDates.length; i++) {
+        if (ratePaymentDates[i].isBefore(valuationDate)) {
+          continue;
+        }
+        int slot = iborSlots[i];
+        double rawRate = fixedRates[i];
+        if (slot >= 0) {
+          if (iborRates[slot] == null) {
+            iborRates[slot] = provider.iborIndexRates(iborIndices[slot]);
+          }
+          rawRate = iborRates[slot].rate(iborObservations[i]);
+        }
+        double treatedRate = rawRate * gearings[i] + spreads[i];
+        double unitAccrual = negativeRateMethods[i].adjust(treatedRate * yearFractions[i]);
+        total += unitAccrual * notionals[i] * discountFactors.discountFactor(ratePaymentDates[i]);
+      }
+      for (SwapPaymentPeriod period : otherPeriods) {
+        if (!period.getPaymentDate().isBefore(valuationDate)) {
+          total += legPricer.getPeriodPricer().presentValue(period, provider);
+        }
+      }
+      for (int i = 0; i < knownPaymentDates.length; i++) {
+        if (!knownPaymentDates[i].isBefore(valuationDate)) {
+          total += knownAmounts[i] * discountFactors.discountFactor(knownPaymentDates[i]);
+        }
+      }
+      for (SwapPaymentEvent event : otherEvents) {
+        if (!event.getPaymentDate().isBefore(valuationDate)) {
+          total += legPricer.getEventPricer().presentValue(event, provider);
+        }
+      }
+      return total;
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.bond;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.measure.bond.FixedCouponBondTradeCalculationFunctionTest.LOOKUP;
+import static com.opengamma.strata.measure.bond.FixedCouponBondTradeCalculationFunctionTest.RTRADE;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.pricer.bond.DiscountingFixedCouponBondTradePricer;
+
+/**
+ * Test {@link FixedCouponBondScenarioPricer}.
+ */
+@Test
+public class FixedCouponBondScenarioPricerTest {
+
+  private static final DiscountingFixedCouponBondTradePricer PRICER = DiscountingFixedCouponBondTradePricer.DEFAULT;
+  private static final CurveId REPO_CURVE_ID = CurveId.of("Default", "Repo");
+  private static final CurveId ISSUER_CURVE_ID = CurveId.of("Default", "Issuer");
+  private static final double TOLERANCE = 1e-8;
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue_beforeSettlement() {
+    assertPresentValue(date(2015, 2, 20));
+  }
+
+  public void test_presentValue_afterSettlement() {
+    assertPresentValue(date(2015, 7, 15));
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertPresentValue(LocalDate valuationDate) {
+    LegalEntityDiscountingScenarioMarketData marketData = LOOKUP.marketDataView(
+        ImmutableScenarioMarketData.builder(valuationDate)
+            .addScenarioValue(REPO_CURVE_ID, curves("Repo", 0.010, 0.012, 0.008))
+            .addScenarioValue(ISSUER_CURVE_ID, curves("Issuer", 0.015, 0.018, 0.011))
+            .build());
+    CurrencyScenarioArray computed = FixedCouponBondScenarioPricer.of(RTRADE, PRICER).presentValue(marketData);
+    assertEquals(computed.getScenarioCount(), marketData.getScenarioCount());
+    for (int i = 0; i < marketData.getScenarioCount(); i++) {
+      CurrencyAmount expected = PRICER.presentValue(RTRADE, marketData.scenario(i).discountingProvider());
+      assertEquals(computed.get(i).getCurrency(), expected.getCurrency());
+      assertEquals(computed.get(i).getAmount(), expected.getAmount(), TOLERANCE);
+    }
+  }
+
+  private static List<Curve> curves(String name, double... rates) {
+    ImmutableList.Builder<Curve> builder = ImmutableList.builder();
+    for (double rate : rates) {
+      builder.add(InterpolatedNodalCurve.of(
+          Curves.zeroRates(name, ACT_365F),
+          DoubleArray.of(0.25, 1d, 5d, 10d),
+          DoubleArray.of(rate, rate + 0.002, rate + 0.005, rate + 0.006),
+          CurveInterpolators.LINEAR));
+    }
+    return builder.build();
+  }
+
+}
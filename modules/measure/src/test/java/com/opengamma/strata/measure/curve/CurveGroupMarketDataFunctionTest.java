@@ -14,8 +14,10 @@ import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.annotations.Test;
 
@@ -60,6 +62,7 @@ import com.opengamma.strata.market.curve.node.FxSwapCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -280,6 +283,88 @@ public class CurveGroupMarketDataFunctionTest {
     assertThat(forwardMetadata).isEqualTo(expectedForwardMetadata);
   }
 
+  /**
+   * Tests that building scenarios produces the same curves as calibrating each scenario separately.
+   */
+  public void buildScenarios() {
+    checkScenarios(new CurveGroupMarketDataFunction(), 0d);
+  }
+
+  /**
+   * Tests that building scenarios concurrently produces the same curves as calibrating each scenario separately.
+   */
+  public void buildScenarios_executor() {
+    ForkJoinPool executor = new ForkJoinPool(2);
+    try {
+      checkScenarios(new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor), 0d);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that building scenarios from the curves of the first scenario produces the same curves,
+   * within the tolerance of the calibration, as calibrating each scenario separately.
+   */
+  public void buildScenarios_warmStart() {
+    ForkJoinPool executor = new ForkJoinPool(2);
+    try {
+      checkScenarios(new CurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, executor, true), 1e-8);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // checks the curves of each scenario against the curves calibrated separately
+  private static void checkScenarios(CurveGroupMarketDataFunction function, double tolerance) {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<CurveNode> nodes = curveDefn.getNodes();
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = curveDefn.getName();
+    CurveGroupDefinition groupDefn = CurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    double[] shifts = {0d, 0.0001, -0.0002, 0.0005};
+    LocalDate valuationDate = date(2011, 3, 8);
+
+    List<CurveInputs> scenarioInputs = new ArrayList<>();
+    List<Curve> expectedCurves = new ArrayList<>();
+    for (double shift : shifts) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int i = 0; i < nodes.size(); i++) {
+        inputData.put(CurveTestUtils.key(nodes.get(i)), rates[i] + shift);
+      }
+      CurveInputs inputs = CurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName));
+      scenarioInputs.add(inputs);
+      ScenarioMarketData singleMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+          .addValue(CurveInputsId.of(groupName, curveName, ObservableSource.NONE), inputs)
+          .build();
+      MarketDataBox<CurveGroup> singleGroup = new CurveGroupMarketDataFunction()
+          .buildCurveGroup(groupDefn, CALIBRATOR, singleMarketData, REF_DATA, ObservableSource.NONE);
+      expectedCurves.add(singleGroup.getSingleValue().findDiscountCurve(Currency.USD).get());
+    }
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(CurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+
+    MarketDataBox<CurveGroup> curveGroups =
+        function.buildCurveGroup(groupDefn, CALIBRATOR, marketData, REF_DATA, ObservableSource.NONE);
+    assertThat(curveGroups.getScenarioCount()).isEqualTo(shifts.length);
+    for (int i = 0; i < shifts.length; i++) {
+      Curve curve = curveGroups.getValue(i).findDiscountCurve(Currency.USD).get();
+      Curve expectedCurve = expectedCurves.get(i);
+      if (tolerance == 0d) {
+        assertThat(curve).isEqualTo(expectedCurve);
+      } else {
+        for (int j = 0; j < curve.getParameterCount(); j++) {
+          assertThat(curve.getParameter(j)).isEqualTo(expectedCurve.getParameter(j), offset(tolerance));
+        }
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void duplicateInputDataKeys() {
     FxSwapTemplate template1 = FxSwapTemplate.of(Period.ofMonths(1), FxSwapConventions.EUR_USD);
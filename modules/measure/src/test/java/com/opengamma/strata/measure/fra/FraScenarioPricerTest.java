@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.fra;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.rate.RateComputationFn;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
+import com.opengamma.strata.product.fra.ResolvedFra;
+
+/**
+ * Test {@link FraScenarioPricer}.
+ */
+@Test
+public class FraScenarioPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2016, 6, 30);
+  private static final double NOTIONAL = 1_000_000d;
+  private static final DiscountingFraProductPricer PRICER = DiscountingFraProductPricer.DEFAULT;
+  private static final double TOLERANCE = 1e-8;
+
+  private static final CurveId DSC_ID = CurveId.of("Test", "GBP-DSC");
+  private static final CurveId FWD3_ID = CurveId.of("Test", "GBP-FWD3");
+  private static final CurveId FWD6_ID = CurveId.of("Test", "GBP-FWD6");
+  private static final RatesMarketDataLookup LOOKUP = RatesMarketDataLookup.of(
+      ImmutableMap.of(GBP, DSC_ID),
+      ImmutableMap.of(GBP_LIBOR_3M, FWD3_ID, GBP_LIBOR_6M, FWD6_ID));
+  private static final RatesScenarioMarketData MARKET_DATA = LOOKUP.marketDataView(
+      ImmutableScenarioMarketData.builder(VAL_DATE)
+          .addScenarioValue(DSC_ID, curves("GBP-DSC", 0.010, 0.012, 0.008))
+          .addScenarioValue(FWD3_ID, curves("GBP-FWD3", 0.013, 0.016, 0.010))
+          .addScenarioValue(FWD6_ID, curves("GBP-FWD6", 0.015, 0.018, 0.011))
+          .build());
+
+  //-------------------------------------------------------------------------
+  @DataProvider(name = "discounting")
+  Object[][] data_discounting() {
+    return new Object[][] {
+        {FraDiscountingMethod.NONE},
+        {FraDiscountingMethod.ISDA},
+        {FraDiscountingMethod.AFMA},
+    };
+  }
+
+  @Test(dataProvider = "discounting")
+  public void test_presentValue(FraDiscountingMethod discounting) {
+    ResolvedFra fra = fraBuilder(date(2016, 10, 3), date(2017, 1, 3))
+        .discounting(discounting)
+        .build()
+        .resolve(REF_DATA);
+    assertPresentValue(fra);
+  }
+
+  public void test_presentValue_interpolated() {
+    ResolvedFra fra = fraBuilder(date(2016, 10, 3), date(2017, 2, 3))
+        .indexInterpolated(GBP_LIBOR_6M)
+        .build()
+        .resolve(REF_DATA);
+    assertPresentValue(fra);
+  }
+
+  public void test_presentValue_paid() {
+    ResolvedFra fra = fraBuilder(date(2016, 3, 1), date(2016, 6, 1))
+        .build()
+        .resolve(REF_DATA);
+    CurrencyScenarioArray computed = FraScenarioPricer.of(fra, RateComputationFn.standard()).presentValue(MARKET_DATA);
+    assertEquals(computed, CurrencyScenarioArray.of(GBP, DoubleArray.filled(MARKET_DATA.getScenarioCount())));
+  }
+
+  //-------------------------------------------------------------------------
+  private static Fra.Builder fraBuilder(LocalDate startDate, LocalDate endDate) {
+    return Fra.builder()
+        .buySell(BUY)
+        .notional(NOTIONAL)
+        .startDate(startDate)
+        .endDate(endDate)
+        .index(GBP_LIBOR_3M)
+        .fixedRate(0.012);
+  }
+
+  private static void assertPresentValue(ResolvedFra fra) {
+    CurrencyScenarioArray computed = FraScenarioPricer.of(fra, RateComputationFn.standard()).presentValue(MARKET_DATA);
+    assertEquals(computed.getScenarioCount(), MARKET_DATA.getScenarioCount());
+    for (int i = 0; i < MARKET_DATA.getScenarioCount(); i++) {
+      CurrencyAmount expected = PRICER.presentValue(fra, MARKET_DATA.scenario(i).ratesProvider());
+      assertEquals(computed.get(i).getCurrency(), expected.getCurrency());
+      assertEquals(computed.get(i).getAmount(), expected.getAmount(), NOTIONAL * TOLERANCE);
+    }
+  }
+
+  private static List<Curve> curves(String name, double... rates) {
+    ImmutableList.Builder<Curve> builder = ImmutableList.builder();
+    for (double rate : rates) {
+      builder.add(InterpolatedNodalCurve.of(
+          Curves.zeroRates(name, ACT_365F),
+          DoubleArray.of(0.25, 1d, 5d, 10d),
+          DoubleArray.of(rate, rate + 0.002, rate + 0.005, rate + 0.006),
+          CurveInterpolators.LINEAR));
+    }
+    return builder.build();
+  }
+
+}
@@ -22,6 +22,8 @@ import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 import java.time.LocalDate;
 import java.util.Map;
@@ -36,6 +38,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.calc.runner.CachingScenarioMarketData;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.ImmutableMarketData;
@@ -152,6 +155,27 @@ public class RatesMarketDataLookupTest {
     assertEquals(scenario.getValuationDate(), valDate);
   }
 
+  public void test_marketDataView_shared() {
+    ImmutableMap<Currency, CurveId> discounts = ImmutableMap.of(USD, CURVE_ID_DSC);
+    ImmutableMap<Index, CurveId> forwards = ImmutableMap.of(USD_LIBOR_3M, CURVE_ID_FWD);
+    RatesMarketDataLookup test = RatesMarketDataLookup.of(discounts, forwards);
+    LocalDate valDate = date(2015, 6, 30);
+    ScenarioMarketData md = new TestMarketDataMap(valDate, ImmutableMap.of(), ImmutableMap.of());
+    // outside a calculation run, a new view is created each time
+    assertNotSame(test.marketDataView(md), test.marketDataView(md));
+    // within a calculation run, the view is shared
+    CachingScenarioMarketData runMarketData = CachingScenarioMarketData.of(md);
+    RatesScenarioMarketData multiScenario = test.marketDataView(runMarketData);
+    assertSame(multiScenario.getMarketData(), runMarketData);
+    assertSame(test.marketDataView(runMarketData), multiScenario);
+    assertSame(RatesMarketDataLookup.of(discounts, forwards).marketDataView(runMarketData), multiScenario);
+    assertSame(test.marketDataView(runMarketData).scenario(0).ratesProvider(), multiScenario.scenario(0).ratesProvider());
+    // another run has its own view
+    RatesScenarioMarketData multiScenario2 = test.marketDataView(CachingScenarioMarketData.of(md));
+    assertNotSame(multiScenario2, multiScenario);
+    assertEquals(multiScenario2.getLookup(), test);
+  }
+
   public void test_ratesProvider() {
     ImmutableMap<Currency, CurveId> discounts = ImmutableMap.of(USD, CURVE_ID_DSC);
     ImmutableMap<Index, CurveId> forwards =
@@ -169,16 +193,19 @@ public class RatesMarketDataLookupTest {
     // check discount factors
     SimpleDiscountFactors df = (SimpleDiscountFactors) ratesProvider.discountFactors(USD);
     assertEquals(df.getCurve().getName(), dscCurve.getName());
+    assertSame(ratesProvider.discountFactors(USD), df);
     assertThrowsIllegalArg(() -> ratesProvider.discountFactors(GBP));
     // check Ibor
     DiscountIborIndexRates ibor = (DiscountIborIndexRates) ratesProvider.iborIndexRates(USD_LIBOR_3M);
     SimpleDiscountFactors iborDf = (SimpleDiscountFactors) ibor.getDiscountFactors();
     assertEquals(iborDf.getCurve().getName(), fwdCurve.getName());
+    assertSame(ratesProvider.iborIndexRates(USD_LIBOR_3M), ibor);
     assertThrowsIllegalArg(() -> ratesProvider.iborIndexRates(GBP_LIBOR_3M));
     // check Overnight
     DiscountOvernightIndexRates on = (DiscountOvernightIndexRates) ratesProvider.overnightIndexRates(USD_FED_FUND);
     SimpleDiscountFactors onDf = (SimpleDiscountFactors) on.getDiscountFactors();
     assertEquals(onDf.getCurve().getName(), dscCurve.getName());
+    assertSame(ratesProvider.overnightIndexRates(USD_FED_FUND), on);
     assertThrowsIllegalArg(() -> ratesProvider.overnightIndexRates(GBP_SONIA));
     // check price curve must be interpolated
     assertThrowsIllegalArg(() -> ratesProvider.priceIndexValues(US_CPI_U));
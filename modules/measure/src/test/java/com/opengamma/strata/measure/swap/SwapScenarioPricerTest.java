@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_5Y;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.testng.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.basics.schedule.SchedulePeriod;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.swap.DiscountingSwapLegPricer;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
+
+/**
+ * Test {@link SwapScenarioPricer}.
+ */
+@Test
+public class SwapScenarioPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2016, 6, 30);
+  private static final double NOTIONAL = 1_000_000d;
+  private static final DiscountingSwapProductPricer PRICER = DiscountingSwapProductPricer.DEFAULT;
+  private static final DiscountingSwapLegPricer LEG_PRICER = DiscountingSwapLegPricer.DEFAULT;
+  private static final double TOLERANCE = 1e-8;
+
+  private static final CurveId GBP_DSC_ID = CurveId.of("Test", "GBP-DSC");
+  private static final CurveId GBP_FWD_ID = CurveId.of("Test", "GBP-FWD");
+  private static final CurveId USD_DSC_ID = CurveId.of("Test", "USD-DSC");
+  private static final RatesMarketDataLookup LOOKUP = RatesMarketDataLookup.of(
+      ImmutableMap.of(GBP, GBP_DSC_ID, USD, USD_DSC_ID),
+      ImmutableMap.of(GBP_LIBOR_6M, GBP_FWD_ID, GBP_SONIA, GBP_DSC_ID));
+  private static final RatesScenarioMarketData MARKET_DATA = LOOKUP.marketDataView(
+      ImmutableScenarioMarketData.builder(VAL_DATE)
+          .addScenarioValue(GBP_DSC_ID, curves("GBP-DSC", 0.010, 0.012, 0.008))
+          .addScenarioValue(GBP_FWD_ID, curves("GBP-FWD", 0.015, 0.018, 0.011))
+          .addScenarioValue(USD_DSC_ID, curves("USD-DSC", 0.020, 0.021, 0.019))
+          .build());
+
+  private static final ResolvedSwap VANILLA = FixedIborSwapConventions.GBP_FIXED_6M_LIBOR_6M
+      .createTrade(VAL_DATE, TENOR_5Y, BUY, NOTIONAL, 0.012, REF_DATA)
+      .resolve(REF_DATA)
+      .getProduct();
+  private static final ResolvedSwap OIS = FixedOvernightSwapConventions.GBP_FIXED_1Y_SONIA_OIS
+      .createTrade(VAL_DATE, TENOR_5Y, BUY, NOTIONAL, 0.008, REF_DATA)
+      .resolve(REF_DATA)
+      .getProduct();
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue_vanilla() {
+    assertPresentValue(VANILLA);
+  }
+
+  public void test_presentValue_fallback() {
+    assertPresentValue(OIS);
+  }
+
+  public void test_presentValue_knownAmountsAndExchanges() {
+    ResolvedSwapLeg fixedLeg = VANILLA.getLegs().get(0);
+    SwapPaymentPeriod firstPeriod = fixedLeg.getPaymentPeriods().get(0);
+    KnownAmountSwapPaymentPeriod knownPeriod = KnownAmountSwapPaymentPeriod.of(
+        Payment.of(CurrencyAmount.of(GBP, 5_000d), firstPeriod.getPaymentDate()),
+        SchedulePeriod.of(firstPeriod.getStartDate(), firstPeriod.getEndDate()));
+    ResolvedSwapLeg leg = fixedLeg.toBuilder()
+        .paymentPeriods(ImmutableList.<SwapPaymentPeriod>builder()
+            .add(knownPeriod)
+            .addAll(fixedLeg.getPaymentPeriods().subList(1, fixedLeg.getPaymentPeriods().size()))
+            .build())
+        .paymentEvents(
+            NotionalExchange.of(CurrencyAmount.of(GBP, NOTIONAL), fixedLeg.getStartDate()),
+            NotionalExchange.of(CurrencyAmount.of(GBP, -NOTIONAL), fixedLeg.getEndDate()))
+        .build();
+    assertPresentValue(ResolvedSwap.of(leg, VANILLA.getLegs().get(1)));
+  }
+
+  public void test_presentValue_crossCurrency() {
+    ResolvedSwapLeg usdLeg = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .createTrade(VAL_DATE, TENOR_5Y, BUY, NOTIONAL, 0.015, REF_DATA)
+        .resolve(REF_DATA)
+        .getProduct()
+        .getLegs()
+        .get(0);
+    ResolvedSwap swap = ResolvedSwap.of(usdLeg, VANILLA.getLegs().get(1));
+    MultiCurrencyScenarioArray computed = SwapScenarioPricer.of(swap, LEG_PRICER).presentValue(MARKET_DATA);
+    assertEquals(computed.getCurrencies().size(), 2);
+    assertPresentValue(swap);
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertPresentValue(ResolvedSwap swap) {
+    MultiCurrencyScenarioArray computed = SwapScenarioPricer.of(swap, LEG_PRICER).presentValue(MARKET_DATA);
+    assertEquals(computed.getScenarioCount(), MARKET_DATA.getScenarioCount());
+    for (int i = 0; i < MARKET_DATA.getScenarioCount(); i++) {
+      MultiCurrencyAmount expected = PRICER.presentValue(swap, MARKET_DATA.scenario(i).ratesProvider());
+      for (Currency currency : expected.getCurrencies()) {
+        assertEquals(
+            computed.getValues(currency).get(i),
+            expected.getAmount(currency).getAmount(),
+            NOTIONAL * TOLERANCE);
+      }
+    }
+  }
+
+  private static List<Curve> curves(String name, double... rates) {
+    ImmutableList.Builder<Curve> builder = ImmutableList.builder();
+    for (double rate : rates) {
+      builder.add(InterpolatedNodalCurve.of(
+          Curves.zeroRates(name, ACT_365F),
+          DoubleArray.of(0.25, 1d, 5d, 10d),
+          DoubleArray.of(rate, rate + 0.002, rate + 0.005, rate + 0.006),
+          CurveInterpolators.LINEAR));
+    }
+    return builder.build();
+  }
+
+}
@@ -21,6 +21,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
 import com.opengamma.strata.market.param.ParameterizedData;
@@ -120,7 +121,43 @@ public interface DiscountFactors
    * @throws RuntimeException if the value cannot be obtained
    */
   public abstract double discountFactor(double yearFraction);
-  
+
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(LocalDate)} for each date.
+   * Implementations may be more efficient when the dates are sorted, such as the payment dates of a leg.
+   *
+   * @param dates  the dates to discount to
+   * @param result  the array to populate with the discount factors, which must be the same size as the dates
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default void discountFactors(LocalDate[] dates, double[] result) {
+    ArgChecker.isTrue(dates.length == result.length, "Arrays must have same size");
+    double[] yearFractions = new double[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      yearFractions[i] = relativeYearFraction(dates[i]);
+    }
+    discountFactors(yearFractions, result);
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(double)} for each year fraction.
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   *
+   * @param yearFractions  the year fractions
+   * @param result  the array to populate with the discount factors, which must be the same size as the year fractions
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default void discountFactors(double[] yearFractions, double[] result) {
+    ArgChecker.isTrue(yearFractions.length == result.length, "Arrays must have same size");
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = discountFactor(yearFractions[i]);
+    }
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -447,6 +484,23 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Adds the parameter sensitivity of the point sensitivity to the builder.
+   * <p>
+   * This is equivalent to adding the result of {@link #parameterSensitivity(ZeroRateSensitivity)} to the builder.
+   * Implementations may override this to add directly to the builder, avoiding intermediate objects.
+   * 
+   * @param pointSensitivity  the point sensitivity to convert
+   * @param builder  the builder to add the parameter sensitivity to
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default void addParameterSensitivity(
+      ZeroRateSensitivity pointSensitivity,
+      CurrencyParameterSensitivitiesBuilder builder) {
+
+    builder.add(parameterSensitivity(pointSensitivity));
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
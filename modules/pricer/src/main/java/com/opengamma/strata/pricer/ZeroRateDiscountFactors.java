@@ -37,6 +37,7 @@ import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -166,6 +167,15 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public void discountFactors(double[] yearFractions, double[] result) {
+    // find all zero rates in one pass, then convert in place
+    curve.yValues(yearFractions, result);
+    for (int i = 0; i < yearFractions.length; i++) {
+      result[i] = Math.exp(-yearFractions[i] * result[i]);
+    }
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     double zr = curve.yValue(yearFraction);    
@@ -193,6 +203,12 @@ public final class ZeroRateDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public void addParameterSensitivity(ZeroRateSensitivity pointSens, CurrencyParameterSensitivitiesBuilder builder) {
+    double yearFraction = pointSens.getYearFraction();
+    curve.addYValueParameterSensitivity(yearFraction, pointSens.getCurrency(), pointSens.getSensitivity(), builder);
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
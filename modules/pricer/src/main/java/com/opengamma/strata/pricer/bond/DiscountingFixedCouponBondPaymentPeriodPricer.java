@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.bond;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
@@ -60,6 +61,35 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return period.getFixedRate() * period.getNotional() * period.getYearFraction() * df;
   }
 
+  /**
+   * Calculates the total present value of several fixed coupon payment periods.
+   * <p>
+   * The amount is expressed in the currency of the periods.
+   * This is equivalent to summing {@link #presentValue(FixedCouponBondPaymentPeriod, IssuerCurveDiscountFactors)}
+   * for each period, but obtains the discount factors in a single call.
+   * 
+   * @param periods  the periods to price
+   * @param discountFactors  the discount factor provider
+   * @return the total present value of the periods
+   */
+  public double presentValue(List<FixedCouponBondPaymentPeriod> periods, IssuerCurveDiscountFactors discountFactors) {
+    LocalDate valuationDate = discountFactors.getValuationDate();
+    LocalDate[] paymentDates = periods.stream()
+        .map(FixedCouponBondPaymentPeriod::getPaymentDate)
+        .filter(date -> !date.isBefore(valuationDate))
+        .toArray(LocalDate[]::new);
+    double[] dfs = new double[paymentDates.length];
+    discountFactors.discountFactors(paymentDates, dfs);
+    double total = 0d;
+    int index = 0;
+    for (FixedCouponBondPaymentPeriod period : periods) {
+      if (!period.getPaymentDate().isBefore(valuationDate)) {
+        total += period.getFixedRate() * period.getNotional() * period.getYearFraction() * dfs[index++];
+      }
+    }
+    return total;
+  }
+
   /**
    * Calculates the present value of a single fixed coupon payment period with z-spread.
    * <p>
@@ -5,13 +5,15 @@
  */
 package com.opengamma.strata.pricer.bond;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.DE_BONDS;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.GB_BUMP_DMO;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.JP_SIMPLE;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
-import java.util.function.Function;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -317,15 +319,10 @@ public class DiscountingFixedCouponBondProductPricer {
       CompoundedRateType compoundedRateType,
       int periodsPerYear) {
 
-    final Function<Double, Double> residual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double z) {
-        return dirtyPriceFromCurvesWithZSpread(
-            bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(residual, -0.01, 0.01); // Starting range is [-1%, 1%]
-    return ROOT_FINDER.getRoot(residual, range[0], range[1]);
+    DoubleUnaryOperator residual = z -> dirtyPriceFromCurvesWithZSpread(
+        bond, provider, refData, z, compoundedRateType, periodsPerYear) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPointsPrimitive(residual, -0.01, 0.01); // Starting range is [-1%, 1%]
+    return ROOT_FINDER.getRootPrimitive(residual, range[0], range[1]);
   }
 
   //-------------------------------------------------------------------------
@@ -613,14 +610,9 @@ public class DiscountingFixedCouponBondProductPricer {
       return (bond.getFixedRate() + (1d - cleanPrice) / maturity) / cleanPrice;
     }
 
-    final Function<Double, Double> priceResidual = new Function<Double, Double>() {
-      @Override
-      public Double apply(final Double y) {
-        return dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
-      }
-    };
-    double[] range = ROOT_BRACKETER.getBracketedPoints(priceResidual, 0.00, 0.20);
-    double yield = ROOT_FINDER.getRoot(priceResidual, range[0], range[1]);
+    DoubleUnaryOperator priceResidual = y -> dirtyPriceFromYield(bond, settlementDate, y) - dirtyPrice;
+    double[] range = ROOT_BRACKETER.getBracketedPointsPrimitive(priceResidual, 0.00, 0.20);
+    double yield = ROOT_FINDER.getRootPrimitive(priceResidual, range[0], range[1]);
     return yield;
   }
 
@@ -836,12 +828,10 @@ public class DiscountingFixedCouponBondProductPricer {
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
-    double total = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate)) {
-        total += periodPricer.presentValue(period, discountFactors);
-      }
-    }
+    List<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments().stream()
+        .filter(period -> period.getDetachmentDate().isAfter(referenceDate))
+        .collect(toImmutableList());
+    double total = periodPricer.presentValue(periods, discountFactors);
     return CurrencyAmount.of(bond.getCurrency(), total);
   }
 
@@ -931,13 +921,11 @@ public class DiscountingFixedCouponBondProductPricer {
       LocalDate referenceDate1,
       LocalDate referenceDate2) {
 
-    double pvDiff = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate1) && !period.getDetachmentDate().isAfter(referenceDate2)) {
-        pvDiff += periodPricer.presentValue(period, discountFactors);
-      }
-    }
-    return pvDiff;
+    List<FixedCouponBondPaymentPeriod> periods = bond.getPeriodicPayments().stream()
+        .filter(period -> period.getDetachmentDate().isAfter(referenceDate1) &&
+            !period.getDetachmentDate().isAfter(referenceDate2))
+        .collect(toImmutableList());
+    return periodPricer.presentValue(periods, discountFactors);
   }
 
   // compute pv of coupon payment(s) s.t. referenceDate1 < coupon <= referenceDate2
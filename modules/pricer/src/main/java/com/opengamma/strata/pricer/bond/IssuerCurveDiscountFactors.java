@@ -106,6 +106,18 @@ public final class IssuerCurveDiscountFactors
     return discountFactors.discountFactor(date);
   }
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * This is equivalent to calling {@link #discountFactor(LocalDate)} for each date.
+   * 
+   * @param dates  the dates to discount to
+   * @param result  the array to populate with the discount factors, which must be the same size as the dates
+   */
+  public void discountFactors(LocalDate[] dates, double[] result) {
+    discountFactors.discountFactors(dates, result);
+  }
+
   /**
    * Calculates the zero rate point sensitivity at the specified date.
    * <p>
@@ -8,8 +8,10 @@ package com.opengamma.strata.pricer.curve;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -17,23 +19,30 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
+import com.opengamma.strata.market.curve.NodalCurveDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.math.impl.linearalgebra.Decomposition;
 import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
-import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
-import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
-import com.opengamma.strata.math.impl.rootfinding.newton.BroydenVectorRootFinder;
+import com.opengamma.strata.math.impl.rootfinding.newton.InPlaceBroydenVectorRootFinder;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
 /**
@@ -51,6 +60,10 @@ import com.opengamma.strata.product.ResolvedTrade;
  * <p>
  * Once calibrated, the curves are then available for use.
  * Each node in the curve definition becomes a parameter in the matching output curve.
+ * <p>
+ * This class is immutable and thread-safe.
+ * The state of each calibration is local to the call, so a single instance may be used
+ * to calibrate several curve groups concurrently.
  */
 public final class CurveCalibrator {
 
@@ -60,14 +73,18 @@ public final class CurveCalibrator {
   private static final CurveCalibrator STANDARD =
       CurveCalibrator.of(1e-9, 1e-9, 1000, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
   /**
-   * The matrix algebra used for matrix inversion.
+   * The decomposition used to solve for the Jacobian.
+   */
+  private static final Decomposition<?> LU_DECOMPOSITION = DecompositionFactory.LU_OG;
+  /**
+   * The decomposition used to solve for the Jacobian when the LU decomposition fails.
    */
-  private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
+  private static final Decomposition<?> SV_DECOMPOSITION = DecompositionFactory.SV_COMMONS;
 
   /**
    * The root finder used for curve calibration.
    */
-  private final BroydenVectorRootFinder rootFinder;
+  private final InPlaceBroydenVectorRootFinder rootFinder;
   /**
    * The calibration measures.
    * This is used to compute the function for which the root is found.
@@ -158,7 +175,7 @@ public final class CurveCalibrator {
       CalibrationMeasures measures,
       CalibrationMeasures pvMeasures) {
 
-    this.rootFinder = new BroydenVectorRootFinder(
+    this.rootFinder = new InPlaceBroydenVectorRootFinder(
         toleranceAbs,
         toleranceRel,
         stepMaximum,
@@ -197,15 +214,110 @@ public final class CurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
+  }
+
+  /**
+   * Calibrates a single curve group, containing one or more curves, starting from previously calibrated curves.
+   * <p>
+   * The calibration is defined using {@link CurveGroupDefinition}.
+   * Observable market data, time-series and FX are also needed to complete the calibration.
+   * The valuation date is defined by the market data.
+   * <p>
+   * The parameters of the curves in the starting provider are used as the initial guess of the root finder,
+   * instead of the initial guesses defined by the curve nodes. This is typically the result of an earlier
+   * calibration of the same definition, such as the base scenario when calibrating a set of scenarios.
+   * When the market data is close to that used in the earlier calibration, fewer iterations are needed.
+   * A curve is only used as a starting point if it has the same name and number of parameters as the
+   * curve being calibrated, otherwise the initial guesses defined by the curve nodes are used.
+   * <p>
+   * The Jacobian matrices are computed and stored in curve metadata.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param startingProvider  the provider containing the curves used as the starting point of the calibration
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider calibrate(
+      CurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      RatesProvider startingProvider) {
+
+    ArgChecker.notNull(startingProvider, "startingProvider");
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, startingProvider, null);
+  }
+
+  /**
+   * Recalibrates a single curve group, containing one or more curves, reusing an earlier calibration.
+   * <p>
+   * This is intended for frequent recalibration of the same definition as market quotes change,
+   * for example intraday. The previous provider must be the result of calibrating the same definition
+   * with the previous market data.
+   * <p>
+   * If the valuation date, time-series and all the market data required by the nodes of the group
+   * are unchanged since the previous calibration, the curves, Jacobian matrices and sensitivities
+   * of the previous provider are reused without calibration. Otherwise, the group is calibrated
+   * using the curves of the previous provider as the starting point of the root finder,
+   * as per {@link #calibrate(CurveGroupDefinition, MarketData, ReferenceData, RatesProvider)}.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param previousProvider  the provider resulting from the previous calibration of the definition
+   * @param previousMarketData  the market data used in the previous calibration of the definition
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      CurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previousProvider,
+      MarketData previousMarketData) {
+
+    ImmutableRatesProvider knownData = knownData(marketData);
+    return recalibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, previousProvider, previousMarketData);
+  }
+
+  /**
+   * Recalibrates a list of curve groups, each containing one or more curves, reusing an earlier calibration.
+   * <p>
+   * A group is only reused if its market data is unchanged and no earlier group in the list was recalibrated.
+   *
+   * @param allGroupsDefn  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @param previousProvider  the provider resulting from the previous calibration of the definitions
+   * @param previousMarketData  the market data used in the previous calibration of the definitions
+   * @return the rates provider resulting from the calibration
+   */
+  ImmutableRatesProvider recalibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider previousProvider,
+      MarketData previousMarketData) {
+
+    ArgChecker.notNull(previousProvider, "previousProvider");
+    ArgChecker.notNull(previousMarketData, "previousMarketData");
+    return calibrate(allGroupsDefn, knownData, marketData, refData, previousProvider, previousMarketData);
+  }
+
+  // creates the provider of known data from the market data
+  private static ImmutableRatesProvider knownData(MarketData marketData) {
     Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
         .filter(IndexQuoteId.class::isInstance)
         .map(IndexQuoteId.class::cast)
         .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
-    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+    return ImmutableRatesProvider.builder(marketData.getValuationDate())
         .fxRateProvider(MarketDataFxRateProvider.of(marketData))
         .timeSeries(timeSeries)
         .build();
-    return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
   /**
@@ -227,6 +339,20 @@ public final class CurveCalibrator {
       ImmutableRatesProvider knownData,
       MarketData marketData,
       ReferenceData refData) {
+
+    return calibrate(allGroupsDefn, knownData, marketData, refData, null, null);
+  }
+
+  // calibrates a list of curve groups, using any matching curves in the starting provider as the initial guess
+  // the starting provider is null if the initial guesses of the definition are to be used
+  // the previous market data is null unless the starting provider is a calibration that may be reused
+  private ImmutableRatesProvider calibrate(
+      List<CurveGroupDefinition> allGroupsDefn,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      RatesProvider startingProvider,
+      MarketData previousMarketData) {
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -234,23 +360,39 @@ public final class CurveCalibrator {
       throw new IllegalArgumentException(Messages.format(
           "Valuation dates do not match: {} and {}", knownData.getValuationDate(), marketData.getValuationDate()));
     }
+    // groups can only be reused until a group is calibrated, as later groups may depend on it
+    boolean reusable = previousMarketData != null && isTimeSeriesUnchanged(marketData, previousMarketData);
     // perform calibration one group at a time, building up the result by mutating these variables
     ImmutableRatesProvider providerCombined = knownData;
     ImmutableList<CurveParameterSize> orderPrev = ImmutableList.of();
     ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians = ImmutableMap.of();
     for (CurveGroupDefinition groupDefn : allGroupsDefn) {
       CurveGroupDefinition groupDefnBound = groupDefn.bindTimeSeries(knownData.getValuationDate(), knownData.getTimeSeries());
-      // combine all data in the group into flat lists
-      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
-      ImmutableList<Double> initialGuesses = groupDefnBound.initialGuesses(marketData);
       ImmutableList<CurveParameterSize> orderGroup = toOrder(groupDefnBound);
       ImmutableList<CurveParameterSize> orderPrevAndGroup = ImmutableList.<CurveParameterSize>builder()
           .addAll(orderPrev)
           .addAll(orderGroup)
           .build();
+      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
+
+      // reuse the previous calibration if nothing has changed
+      if (reusable && isMarketDataUnchanged(groupDefnBound, marketData, previousMarketData)) {
+        Optional<Pair<ImmutableRatesProvider, ImmutableMap<CurveName, JacobianCalibrationMatrix>>> reused =
+            reuseGroup(providerGenerator, groupDefnBound, orderPrevAndGroup, jacobians, startingProvider);
+        if (reused.isPresent()) {
+          providerCombined = reused.get().getFirst();
+          jacobians = reused.get().getSecond();
+          orderPrev = orderPrevAndGroup;
+          continue;
+        }
+      }
+      reusable = false;
+
+      // combine all data in the group into flat lists
+      ImmutableList<ResolvedTrade> trades = groupDefnBound.resolvedTrades(marketData, refData);
+      ImmutableList<Double> initialGuesses = initialGuesses(groupDefnBound, marketData, startingProvider);
 
       // calibrate
-      RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
       DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
@@ -273,6 +415,108 @@ public final class CurveCalibrator {
     return providerCombined;
   }
 
+  //-------------------------------------------------------------------------
+  // checks if the valuation date and time-series are the same in both sets of market data
+  private static boolean isTimeSeriesUnchanged(MarketData marketData, MarketData previousMarketData) {
+    if (!marketData.getValuationDate().equals(previousMarketData.getValuationDate()) ||
+        !marketData.getTimeSeriesIds().equals(previousMarketData.getTimeSeriesIds())) {
+      return false;
+    }
+    for (ObservableId id : marketData.getTimeSeriesIds()) {
+      if (!marketData.getTimeSeries(id).equals(previousMarketData.getTimeSeries(id))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // checks if the market data required by the nodes of the group is the same in both sets of market data
+  private static boolean isMarketDataUnchanged(
+      CurveGroupDefinition groupDefn,
+      MarketData marketData,
+      MarketData previousMarketData) {
+
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      for (CurveNode node : curveDefn.getNodes()) {
+        for (MarketDataId<?> id : node.requirements()) {
+          if (!marketData.findValue(id).equals(previousMarketData.findValue(id))) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  // generates the group from the curves of the previous calibration, empty if they are not suitable
+  // the result includes the Jacobians of all groups so far
+  private static Optional<Pair<ImmutableRatesProvider, ImmutableMap<CurveName, JacobianCalibrationMatrix>>> reuseGroup(
+      RatesProviderGenerator providerGenerator,
+      CurveGroupDefinition groupDefn,
+      ImmutableList<CurveParameterSize> orderPrevAndGroup,
+      ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobians,
+      RatesProvider previousProvider) {
+
+    Map<CurveName, JacobianCalibrationMatrix> allJacobians = new HashMap<>(jacobians);
+    Map<CurveName, DoubleArray> sensitivityToMarketQuote = new HashMap<>();
+    double[] params = new double[groupDefn.getTotalParameterCount()];
+    int startIndex = 0;
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      CurveName curveName = curveDefn.getName();
+      Optional<Curve> previousCurve = previousProvider.findData(curveName);
+      if (!previousCurve.isPresent() || previousCurve.get().getParameterCount() != curveDefn.getParameterCount()) {
+        return Optional.empty();
+      }
+      Curve curve = previousCurve.get();
+      // the Jacobian and sensitivity are only reused if they were computed in the same way
+      if (groupDefn.isComputeJacobian()) {
+        Optional<JacobianCalibrationMatrix> jacobian = curve.getMetadata().findInfo(CurveInfoType.JACOBIAN);
+        if (!jacobian.isPresent() || !jacobian.get().getOrder().equals(orderPrevAndGroup)) {
+          return Optional.empty();
+        }
+        allJacobians.put(curveName, jacobian.get());
+      }
+      if (groupDefn.isComputePvSensitivityToMarketQuote()) {
+        Optional<DoubleArray> sensitivity = curve.getMetadata().findInfo(CurveInfoType.PV_SENSITIVITY_TO_MARKET_QUOTE);
+        if (!sensitivity.isPresent()) {
+          return Optional.empty();
+        }
+        sensitivityToMarketQuote.put(curveName, sensitivity.get());
+      }
+      for (int i = 0; i < curve.getParameterCount(); i++) {
+        params[startIndex + i] = curve.getParameter(i);
+      }
+      startIndex += curve.getParameterCount();
+    }
+    ImmutableRatesProvider provider =
+        providerGenerator.generate(DoubleArray.ofUnsafe(params), allJacobians, sensitivityToMarketQuote);
+    return Optional.of(Pair.of(provider, ImmutableMap.copyOf(allJacobians)));
+  }
+
+  // the initial guesses, taken from the starting provider where a matching curve is available
+  private static ImmutableList<Double> initialGuesses(
+      CurveGroupDefinition groupDefn,
+      MarketData marketData,
+      RatesProvider startingProvider) {
+
+    ImmutableList<Double> definitionGuesses = groupDefn.initialGuesses(marketData);
+    if (startingProvider == null) {
+      return definitionGuesses;
+    }
+    ImmutableList.Builder<Double> guesses = ImmutableList.builder();
+    int startIndex = 0;
+    for (NodalCurveDefinition curveDefn : groupDefn.getCurveDefinitions()) {
+      int paramCount = curveDefn.getParameterCount();
+      Optional<Curve> startingCurve = startingProvider.findData(curveDefn.getName())
+          .filter(curve -> curve.getParameterCount() == paramCount);
+      for (int i = 0; i < paramCount; i++) {
+        guesses.add(startingCurve.isPresent() ? startingCurve.get().getParameter(i) : definitionGuesses.get(startIndex + i));
+      }
+      startIndex += paramCount;
+    }
+    return guesses.build();
+  }
+
   // converts a definition to the curve order list
   private static ImmutableList<CurveParameterSize> toOrder(CurveGroupDefinition groupDefn) {
     return groupDefn.getCurveDefinitions().stream().map(def -> def.toCurveParameterSize()).collect(toImmutableList());
@@ -299,6 +543,9 @@ public final class CurveCalibrator {
   //-------------------------------------------------------------------------
   // calculates the Jacobian and builds the result, called once per group
   // this uses, but does not alter, data from previous groups
+  // with A the derivative to the parameters of the group, B the derivative to the parameters of previous groups
+  // and T the Jacobian of previous groups, the Jacobian of the group is the solution X of 'A X = [-B T | I]'
+  // this is solved for all columns using a single LU decomposition of A, rather than inverting A
   private ImmutableMap<CurveName, JacobianCalibrationMatrix> updateJacobiansForGroup(
       ImmutableRatesProvider provider,
       ImmutableList<ResolvedTrade> trades,
@@ -309,17 +556,24 @@ public final class CurveCalibrator {
 
     // sensitivity to all parameters in the stated order
     int totalParamsAll = orderAll.stream().mapToInt(e -> e.getParameterCount()).sum();
-    DoubleMatrix res = derivatives(trades, provider, orderAll, totalParamsAll);
+    double[][] res = derivatives(trades, provider, orderAll);
 
-    // jacobian direct
+    // direct part, the derivative to the parameters of this group
     int nbTrades = trades.size();
     int totalParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
     int totalParamsPrevious = totalParamsAll - totalParamsGroup;
-    DoubleMatrix pDmCurrentMatrix = jacobianDirect(res, nbTrades, totalParamsGroup, totalParamsPrevious);
+    double[][] direct = new double[totalParamsGroup][totalParamsGroup];
+    for (int i = 0; i < nbTrades; i++) {
+      System.arraycopy(res[i], totalParamsPrevious, direct[i], 0, totalParamsGroup);
+    }
 
-    // jacobian indirect: when totalParamsPrevious > 0
-    DoubleMatrix pDmPrevious = jacobianIndirect(
-        res, pDmCurrentMatrix, nbTrades, totalParamsGroup, totalParamsPrevious, orderPrev, jacobians);
+    // right hand side, previous groups followed by this group
+    double[][] rhs = new double[totalParamsGroup][totalParamsAll];
+    jacobianIndirect(res, rhs, nbTrades, totalParamsPrevious, orderPrev, jacobians);
+    for (int i = 0; i < totalParamsGroup; i++) {
+      rhs[i][totalParamsPrevious + i] = 1d;
+    }
+    double[][] pDmAll = solve(direct, rhs);
 
     // add to the map of jacobians, one entry for each curve in this group
     ImmutableMap.Builder<CurveName, JacobianCalibrationMatrix> jacobianBuilder = ImmutableMap.builder();
@@ -327,17 +581,8 @@ public final class CurveCalibrator {
     int startIndex = 0;
     for (CurveParameterSize order : orderGroup) {
       int paramCount = order.getParameterCount();
-      double[][] pDmCurveArray = new double[paramCount][totalParamsAll];
-      // copy data for previous groups
-      if (totalParamsPrevious > 0) {
-        for (int p = 0; p < paramCount; p++) {
-          System.arraycopy(pDmPrevious.rowArray(startIndex + p), 0, pDmCurveArray[p], 0, totalParamsPrevious);
-        }
-      }
-      // copy data for this group
-      for (int p = 0; p < paramCount; p++) {
-        System.arraycopy(pDmCurrentMatrix.rowArray(startIndex + p), 0, pDmCurveArray[p], totalParamsPrevious, totalParamsGroup);
-      }
+      double[][] pDmCurveArray = new double[paramCount][];
+      System.arraycopy(pDmAll, startIndex, pDmCurveArray, 0, paramCount);
       // build final Jacobian matrix
       DoubleMatrix pDmCurveMatrix = DoubleMatrix.ofUnsafe(pDmCurveArray);
       jacobianBuilder.put(order.getName(), JacobianCalibrationMatrix.of(orderAll, pDmCurveMatrix));
@@ -367,80 +612,76 @@ public final class CurveCalibrator {
   }
 
   // calculate the derivatives
-  private DoubleMatrix derivatives(
+  private double[][] derivatives(
       ImmutableList<ResolvedTrade> trades,
       ImmutableRatesProvider provider,
-      ImmutableList<CurveParameterSize> orderAll,
-      int totalParamsAll) {
+      ImmutableList<CurveParameterSize> orderAll) {
 
-    return DoubleMatrix.ofArrayObjects(
-        trades.size(),
-        totalParamsAll,
-        i -> measures.derivative(trades.get(i), provider, orderAll));
+    double[][] res = new double[trades.size()][];
+    for (int i = 0; i < trades.size(); i++) {
+      res[i] = measures.derivative(trades.get(i), provider, orderAll).toArrayUnsafe();
+    }
+    return res;
   }
 
-  // jacobian direct, for the current group
-  private static DoubleMatrix jacobianDirect(
-      DoubleMatrix res,
-      int nbTrades,
-      int totalParamsGroup,
-      int totalParamsPrevious) {
-
-    double[][] direct = new double[totalParamsGroup][totalParamsGroup];
-    for (int i = 0; i < nbTrades; i++) {
-      System.arraycopy(res.rowArray(i), totalParamsPrevious, direct[i], 0, totalParamsGroup);
+  // solves 'A X = B' using an LU decomposition of A
+  // the SV decomposition is used if the matrix is singular, matching a pseudo-inverse
+  // package-scoped for testing
+  static double[][] solve(double[][] a, double[][] b) {
+    DoubleMatrix aMatrix = DoubleMatrix.ofUnsafe(a);
+    DoubleMatrix bMatrix = DoubleMatrix.ofUnsafe(b);
+    try {
+      return LU_DECOMPOSITION.apply(aMatrix).solve(bMatrix).toArrayUnsafe();
+    } catch (IllegalArgumentException ex) {
+      return SV_DECOMPOSITION.apply(aMatrix).solve(bMatrix).toArrayUnsafe();
     }
-    return MATRIX_ALGEBRA.getInverse(DoubleMatrix.copyOf(direct));
   }
 
   // jacobian indirect, merging groups
-  private static DoubleMatrix jacobianIndirect(
-      DoubleMatrix res,
-      DoubleMatrix pDmCurrentMatrix,
+  // the columns of previous groups in the right hand side are set to '-B T'
+  // only the blocks of T where a previous curve depends on another previous curve are non-zero
+  private static void jacobianIndirect(
+      double[][] res,
+      double[][] rhs,
       int nbTrades,
-      int totalParamsGroup,
       int totalParamsPrevious,
       ImmutableList<CurveParameterSize> orderPrevious,
       ImmutableMap<CurveName, JacobianCalibrationMatrix> jacobiansPrevious) {
 
     if (totalParamsPrevious == 0) {
-      return DoubleMatrix.EMPTY;
-    }
-    double[][] nonDirect = new double[totalParamsGroup][totalParamsPrevious];
-    for (int i = 0; i < nbTrades; i++) {
-      System.arraycopy(res.rowArray(i), 0, nonDirect[i], 0, totalParamsPrevious);
+      return;
     }
-    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) MATRIX_ALGEBRA.scale(
-        MATRIX_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
     // all curves: order and size
     int[] startIndexBefore = new int[orderPrevious.size()];
     for (int i = 1; i < orderPrevious.size(); i++) {
       startIndexBefore[i] = startIndexBefore[i - 1] + orderPrevious.get(i - 1).getParameterCount();
     }
-    // transition Matrix: all curves from previous groups
-    double[][] transition = new double[totalParamsPrevious][totalParamsPrevious];
+    // accumulate '-B T' one block of T at a time: all curves from previous groups
     for (int i = 0; i < orderPrevious.size(); i++) {
       int paramCountOuter = orderPrevious.get(i).getParameterCount();
       JacobianCalibrationMatrix thisInfo = jacobiansPrevious.get(orderPrevious.get(i).getName());
-      DoubleMatrix thisMatrix = thisInfo.getJacobianMatrix();
+      double[][] thisMatrix = thisInfo.getJacobianMatrix().toArrayUnsafe();
       int startIndexInner = 0;
       for (int j = 0; j < orderPrevious.size(); j++) {
         int paramCountInner = orderPrevious.get(j).getParameterCount();
-        if (thisInfo.containsCurve(orderPrevious.get(j).getName())) { // If not, the matrix stay with 0
-          for (int k = 0; k < paramCountOuter; k++) {
-            System.arraycopy(
-                thisMatrix.rowArray(k),
-                startIndexInner,
-                transition[startIndexBefore[i] + k],
-                startIndexBefore[j],
-                paramCountInner);
+        if (thisInfo.containsCurve(orderPrevious.get(j).getName())) { // If not, the block is zero
+          for (int t = 0; t < nbTrades; t++) {
+            double[] resRow = res[t];
+            double[] rhsRow = rhs[t];
+            for (int k = 0; k < paramCountOuter; k++) {
+              double factor = resRow[startIndexBefore[i] + k];
+              if (factor != 0d) {
+                double[] thisRow = thisMatrix[k];
+                for (int l = 0; l < paramCountInner; l++) {
+                  rhsRow[startIndexBefore[j] + l] -= factor * thisRow[startIndexInner + l];
+                }
+              }
+            }
           }
         }
         startIndexInner += paramCountInner;
       }
     }
-    DoubleMatrix transitionMatrix = DoubleMatrix.copyOf(transition);
-    return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
   }
 
   //-------------------------------------------------------------------------
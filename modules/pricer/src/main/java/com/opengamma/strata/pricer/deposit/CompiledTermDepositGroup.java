@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.deposit;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.product.deposit.ResolvedTermDeposit;
+
+/**
+ * A group of term deposits compiled to columns for valuation as a whole.
+ * <p>
+ * Pricing a portfolio with {@link DiscountingTermDepositProductPricer} walks the object graph of each deposit
+ * and looks up the curves once for each trade.
+ * This class holds the term deposits of a single currency as a set of arrays,
+ * one element for each deposit, which is priced by {@link DiscountingCompiledTermDepositPricer}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledTermDepositGroup {
+
+  /**
+   * The currency of the deposits.
+   */
+  private final Currency currency;
+  /**
+   * The position of each deposit in the list it was compiled from.
+   */
+  private final IntArray positions;
+  /**
+   * The start date of each deposit.
+   */
+  final LocalDate[] startDates;
+  /**
+   * The end date of each deposit.
+   */
+  final LocalDate[] endDates;
+  /**
+   * The signed notional of each deposit.
+   */
+  final double[] notionals;
+  /**
+   * The signed interest of each deposit.
+   */
+  final double[] interests;
+  /**
+   * The accrual year fraction of each deposit.
+   */
+  final double[] yearFractions;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Compiles a list of term deposits that share the same currency.
+   * <p>
+   * The positions of the group are the indices of the list.
+   *
+   * @param deposits  the deposits
+   * @return the compiled group
+   * @throws IllegalArgumentException if the deposits have different currencies
+   */
+  public static CompiledTermDepositGroup of(List<ResolvedTermDeposit> deposits) {
+    ArgChecker.notEmpty(deposits, "deposits");
+    return new CompiledTermDepositGroup(deposits, IntArray.of(deposits.size(), i -> i));
+  }
+
+  /**
+   * Compiles a list of term deposits, grouping them by currency.
+   * <p>
+   * The groups are returned in the order that each currency is first found in the list.
+   * The positions of each group refer to the indices of the list, allowing the results to be matched to the input.
+   *
+   * @param deposits  the deposits
+   * @return the compiled groups
+   */
+  public static ImmutableList<CompiledTermDepositGroup> groupOf(List<ResolvedTermDeposit> deposits) {
+    ArgChecker.notNull(deposits, "deposits");
+    Map<Currency, List<Integer>> grouped = new LinkedHashMap<>();
+    for (int i = 0; i < deposits.size(); i++) {
+      grouped.computeIfAbsent(deposits.get(i).getCurrency(), k -> new ArrayList<>()).add(i);
+    }
+    return grouped.values().stream()
+        .map(positions -> new CompiledTermDepositGroup(
+            positions.stream().map(deposits::get).collect(toImmutableList()),
+            IntArray.copyOf(positions)))
+        .collect(toImmutableList());
+  }
+
+  // restricted constructor
+  private CompiledTermDepositGroup(List<ResolvedTermDeposit> deposits, IntArray positions) {
+    int size = deposits.size();
+    this.currency = deposits.get(0).getCurrency();
+    this.positions = positions;
+    this.startDates = new LocalDate[size];
+    this.endDates = new LocalDate[size];
+    this.notionals = new double[size];
+    this.interests = new double[size];
+    this.yearFractions = new double[size];
+    for (int i = 0; i < size; i++) {
+      ResolvedTermDeposit deposit = deposits.get(i);
+      if (!deposit.getCurrency().equals(currency)) {
+        throw new IllegalArgumentException(Messages.format(
+            "Term deposits must have the same currency, but found {} and {}", currency, deposit.getCurrency()));
+      }
+      startDates[i] = deposit.getStartDate();
+      endDates[i] = deposit.getEndDate();
+      notionals[i] = deposit.getNotional();
+      interests[i] = deposit.getInterest();
+      yearFractions[i] = deposit.getYearFraction();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency of the deposits.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the position of each deposit in the list it was compiled from.
+   *
+   * @return the positions
+   */
+  public IntArray getPositions() {
+    return positions;
+  }
+
+  /**
+   * Gets the number of deposits in the group.
+   *
+   * @return the number of deposits
+   */
+  public int size() {
+    return startDates.length;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CompiledTermDepositGroup[" + currency + ", " + startDates.length + " deposits]";
+  }
+
+}
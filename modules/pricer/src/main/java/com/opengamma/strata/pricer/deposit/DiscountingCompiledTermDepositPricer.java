@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.deposit;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Pricer for compiled groups of term deposits.
+ * <p>
+ * This function provides the ability to price a {@link CompiledTermDepositGroup}.
+ * The results match those of {@link DiscountingTermDepositProductPricer} for each deposit in the group,
+ * but are obtained by iterating over the arrays of the group.
+ * The discount factors are looked up once for the group,
+ * with the discount factors of all start dates and of all end dates each obtained in a single call.
+ */
+public class DiscountingCompiledTermDepositPricer {
+
+  /**
+   * Default implementation.
+   */
+  public static final DiscountingCompiledTermDepositPricer DEFAULT = new DiscountingCompiledTermDepositPricer();
+
+  /**
+   * Creates an instance.
+   */
+  public DiscountingCompiledTermDepositPricer() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each deposit in the group.
+   * <p>
+   * The present value of each deposit is the value on the valuation date.
+   * The element at index {@code i} of the result is the present value of the deposit at index {@code i} of the group.
+   *
+   * @param group  the compiled group of deposits
+   * @param provider  the rates provider
+   * @return the present value of each deposit
+   */
+  public CurrencyAmountArray presentValue(CompiledTermDepositGroup group, RatesProvider provider) {
+    int size = group.size();
+    LocalDate valuationDate = provider.getValuationDate();
+    DiscountFactors discountFactors = provider.discountFactors(group.getCurrency());
+    double[] dfStarts = new double[size];
+    double[] dfEnds = new double[size];
+    discountFactors.discountFactors(group.startDates, dfStarts);
+    discountFactors.discountFactors(group.endDates, dfEnds);
+    double[] pvs = new double[size];
+    for (int i = 0; i < size; i++) {
+      if (valuationDate.isAfter(group.endDates[i])) {
+        continue;
+      }
+      double pvStart = initialAmount(group, i, valuationDate) * dfStarts[i];
+      double pvEnd = (group.notionals[i] + group.interests[i]) * dfEnds[i];
+      pvs[i] = pvEnd - pvStart;
+    }
+    return CurrencyAmountArray.of(group.getCurrency(), DoubleArray.ofUnsafe(pvs));
+  }
+
+  /**
+   * Calculates the present value sensitivity of the group of deposits.
+   * <p>
+   * The present value sensitivity of the group is the sum of the sensitivities of each deposit,
+   * as obtained by {@link DiscountingTermDepositProductPricer#presentValueSensitivity}.
+   * The result is not normalized.
+   *
+   * @param group  the compiled group of deposits
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value of the group
+   */
+  public PointSensitivities presentValueSensitivity(CompiledTermDepositGroup group, RatesProvider provider) {
+    LocalDate valuationDate = provider.getValuationDate();
+    DiscountFactors discountFactors = provider.discountFactors(group.getCurrency());
+    MutablePointSensitivities result = new MutablePointSensitivities();
+    for (int i = 0; i < group.size(); i++) {
+      double dfEndBar = group.notionals[i] + group.interests[i];
+      double dfStartBar = -initialAmount(group, i, valuationDate);
+      discountFactors.zeroRatePointSensitivity(group.startDates[i]).multipliedBy(dfStartBar).buildInto(result);
+      discountFactors.zeroRatePointSensitivity(group.endDates[i]).multipliedBy(dfEndBar).buildInto(result);
+    }
+    return result.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the par rate of each deposit in the group.
+   * <p>
+   * The par rate matches {@link DiscountingTermDepositProductPricer#parRate}.
+   * The element at index {@code i} of the result is the par rate of the deposit at index {@code i} of the group.
+   *
+   * @param group  the compiled group of deposits
+   * @param provider  the rates provider
+   * @return the par rate of each deposit
+   */
+  public DoubleArray parRate(CompiledTermDepositGroup group, RatesProvider provider) {
+    int size = group.size();
+    DiscountFactors discountFactors = provider.discountFactors(group.getCurrency());
+    double[] dfStarts = new double[size];
+    double[] dfEnds = new double[size];
+    discountFactors.discountFactors(group.startDates, dfStarts);
+    discountFactors.discountFactors(group.endDates, dfEnds);
+    double[] parRates = new double[size];
+    for (int i = 0; i < size; i++) {
+      parRates[i] = (dfStarts[i] / dfEnds[i] - 1d) / group.yearFractions[i];
+    }
+    return DoubleArray.ofUnsafe(parRates);
+  }
+
+  //-------------------------------------------------------------------------
+  // the initial amount is the same as the principal, but zero if the start date has passed
+  private static double initialAmount(CompiledTermDepositGroup group, int i, LocalDate valuationDate) {
+    return valuationDate.isAfter(group.startDates[i]) ? 0d : group.notionals[i];
+  }
+
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fra;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
+import com.opengamma.strata.product.fra.ResolvedFra;
+import com.opengamma.strata.product.rate.IborRateComputation;
+
+/**
+ * A group of FRAs compiled to columns for valuation as a whole.
+ * <p>
+ * Pricing a portfolio with {@link DiscountingFraProductPricer} walks the object graph of each FRA
+ * and looks up the curves once for each trade.
+ * This class holds the FRAs of a single currency and Ibor index as a set of arrays,
+ * one element for each FRA, which is priced by {@link DiscountingCompiledFraPricer}.
+ * <p>
+ * Only FRAs with a floating rate of {@link IborRateComputation} can be compiled,
+ * which excludes FRAs with an interpolated stub.
+ * Use {@link #isCompilable(ResolvedFra)} to check, and price other FRAs using {@link DiscountingFraProductPricer}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledFraGroup {
+
+  /**
+   * The currency of the FRAs.
+   */
+  private final Currency currency;
+  /**
+   * The Ibor index of the FRAs.
+   */
+  private final IborIndex index;
+  /**
+   * The position of each FRA in the list it was compiled from.
+   */
+  private final IntArray positions;
+  /**
+   * The payment date of each FRA.
+   */
+  final LocalDate[] paymentDates;
+  /**
+   * The signed notional of each FRA.
+   */
+  final double[] notionals;
+  /**
+   * The accrual year fraction of each FRA.
+   */
+  final double[] yearFractions;
+  /**
+   * The fixed rate of each FRA.
+   */
+  final double[] fixedRates;
+  /**
+   * The Ibor observation of each FRA.
+   */
+  final IborIndexObservation[] observations;
+  /**
+   * The discounting method of each FRA.
+   */
+  final FraDiscountingMethod[] discounting;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the FRA can be compiled.
+   *
+   * @param fra  the FRA
+   * @return true if the FRA can be compiled
+   */
+  public static boolean isCompilable(ResolvedFra fra) {
+    return fra.getFloatingRate() instanceof IborRateComputation;
+  }
+
+  /**
+   * Compiles a list of FRAs that share the same currency and Ibor index.
+   * <p>
+   * The positions of the group are the indices of the list.
+   *
+   * @param fras  the FRAs
+   * @return the compiled group
+   * @throws IllegalArgumentException if a FRA cannot be compiled or the FRAs have different currencies or indices
+   */
+  public static CompiledFraGroup of(List<ResolvedFra> fras) {
+    ArgChecker.notEmpty(fras, "fras");
+    return new CompiledFraGroup(fras, IntArray.of(fras.size(), i -> i));
+  }
+
+  /**
+   * Compiles a list of FRAs, grouping them by currency and Ibor index.
+   * <p>
+   * The groups are returned in the order that each currency and index is first found in the list.
+   * The positions of each group refer to the indices of the list, allowing the results to be matched to the input.
+   *
+   * @param fras  the FRAs
+   * @return the compiled groups
+   * @throws IllegalArgumentException if a FRA cannot be compiled
+   */
+  public static ImmutableList<CompiledFraGroup> groupOf(List<ResolvedFra> fras) {
+    ArgChecker.notNull(fras, "fras");
+    Map<Pair<Currency, IborIndex>, List<Integer>> grouped = new LinkedHashMap<>();
+    for (int i = 0; i < fras.size(); i++) {
+      ResolvedFra fra = fras.get(i);
+      Pair<Currency, IborIndex> key = Pair.of(fra.getCurrency(), index(fra));
+      grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+    return grouped.values().stream()
+        .map(positions -> new CompiledFraGroup(
+            positions.stream().map(fras::get).collect(toImmutableList()),
+            IntArray.copyOf(positions)))
+        .collect(toImmutableList());
+  }
+
+  // obtains the index of the FRA, checking that it can be compiled
+  private static IborIndex index(ResolvedFra fra) {
+    if (!isCompilable(fra)) {
+      throw new IllegalArgumentException(Messages.format(
+          "FRA cannot be compiled: rate computation type {}", fra.getFloatingRate().getClass().getSimpleName()));
+    }
+    return ((IborRateComputation) fra.getFloatingRate()).getIndex();
+  }
+
+  // restricted constructor
+  private CompiledFraGroup(List<ResolvedFra> fras, IntArray positions) {
+    int size = fras.size();
+    this.currency = fras.get(0).getCurrency();
+    this.index = index(fras.get(0));
+    this.positions = positions;
+    this.paymentDates = new LocalDate[size];
+    this.notionals = new double[size];
+    this.yearFractions = new double[size];
+    this.fixedRates = new double[size];
+    this.observations = new IborIndexObservation[size];
+    this.discounting = new FraDiscountingMethod[size];
+    for (int i = 0; i < size; i++) {
+      ResolvedFra fra = fras.get(i);
+      if (!fra.getCurrency().equals(currency) || !index(fra).equals(index)) {
+        throw new IllegalArgumentException(Messages.format(
+            "FRAs must have the same currency and index, but found {} {} and {} {}",
+            currency, index, fra.getCurrency(), index(fra)));
+      }
+      paymentDates[i] = fra.getPaymentDate();
+      notionals[i] = fra.getNotional();
+      yearFractions[i] = fra.getYearFraction();
+      fixedRates[i] = fra.getFixedRate();
+      observations[i] = ((IborRateComputation) fra.getFloatingRate()).getObservation();
+      discounting[i] = fra.getDiscounting();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the currency of the FRAs.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the Ibor index of the FRAs.
+   *
+   * @return the index
+   */
+  public IborIndex getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the position of each FRA in the list it was compiled from.
+   *
+   * @return the positions
+   */
+  public IntArray getPositions() {
+    return positions;
+  }
+
+  /**
+   * Gets the number of FRAs in the group.
+   *
+   * @return the number of FRAs
+   */
+  public int size() {
+    return paymentDates.length;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CompiledFraGroup[" + currency + ", " + index + ", " + paymentDates.length + " FRAs]";
+  }
+
+}
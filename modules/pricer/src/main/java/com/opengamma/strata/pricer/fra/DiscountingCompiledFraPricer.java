@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fra;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
+
+/**
+ * Pricer for compiled groups of FRAs.
+ * <p>
+ * This function provides the ability to price a {@link CompiledFraGroup}.
+ * The results match those of {@link DiscountingFraProductPricer} for each FRA in the group,
+ * but are obtained by iterating over the arrays of the group.
+ * The discount factors and Ibor rates are looked up once for the group,
+ * with the discount factors of all payment dates obtained in a single call.
+ */
+public class DiscountingCompiledFraPricer {
+
+  /**
+   * Default implementation.
+   */
+  public static final DiscountingCompiledFraPricer DEFAULT = new DiscountingCompiledFraPricer();
+
+  /**
+   * Creates an instance.
+   */
+  public DiscountingCompiledFraPricer() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of each FRA in the group.
+   * <p>
+   * The present value of each FRA is the value on the valuation date.
+   * The element at index {@code i} of the result is the present value of the FRA at index {@code i} of the group.
+   *
+   * @param group  the compiled group of FRAs
+   * @param provider  the rates provider
+   * @return the present value of each FRA
+   */
+  public CurrencyAmountArray presentValue(CompiledFraGroup group, RatesProvider provider) {
+    int size = group.size();
+    LocalDate valuationDate = provider.getValuationDate();
+    double[] dfs = new double[size];
+    provider.discountFactors(group.getCurrency()).discountFactors(group.paymentDates, dfs);
+    IborIndexRates iborRates = provider.iborIndexRates(group.getIndex());
+    double[] pvs = new double[size];
+    for (int i = 0; i < size; i++) {
+      if (group.paymentDates[i].isBefore(valuationDate)) {
+        continue;
+      }
+      double forwardRate = iborRates.rate(group.observations[i]);
+      double unitAmount = DiscountingFraProductPricer.unitAmount(
+          group.discounting[i], group.fixedRates[i], forwardRate, group.yearFractions[i]);
+      pvs[i] = group.notionals[i] * unitAmount * dfs[i];
+    }
+    return CurrencyAmountArray.of(group.getCurrency(), DoubleArray.ofUnsafe(pvs));
+  }
+
+  /**
+   * Calculates the present value sensitivity of the group of FRAs.
+   * <p>
+   * The present value sensitivity of the group is the sum of the sensitivities of each FRA,
+   * as obtained by {@link DiscountingFraProductPricer#presentValueSensitivity}.
+   * The result is not normalized.
+   *
+   * @param group  the compiled group of FRAs
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value of the group
+   */
+  public PointSensitivities presentValueSensitivity(CompiledFraGroup group, RatesProvider provider) {
+    int size = group.size();
+    Currency currency = group.getCurrency();
+    DiscountFactors discountFactors = provider.discountFactors(currency);
+    double[] dfs = new double[size];
+    discountFactors.discountFactors(group.paymentDates, dfs);
+    IborIndexRates iborRates = provider.iborIndexRates(group.getIndex());
+    MutablePointSensitivities result = new MutablePointSensitivities();
+    for (int i = 0; i < size; i++) {
+      double forwardRate = iborRates.rate(group.observations[i]);
+      double notional = group.notionals[i];
+      FraDiscountingMethod discounting = group.discounting[i];
+      double fixedRate = group.fixedRates[i];
+      double yearFraction = group.yearFractions[i];
+      double unitAmount = DiscountingFraProductPricer.unitAmount(discounting, fixedRate, forwardRate, yearFraction);
+      double derivative =
+          DiscountingFraProductPricer.unitAmountDerivative(discounting, fixedRate, forwardRate, yearFraction);
+      iborRates.ratePointSensitivity(group.observations[i])
+          .multipliedBy(derivative * dfs[i] * notional)
+          .withCurrency(currency)
+          .buildInto(result);
+      discountFactors.zeroRatePointSensitivity(group.paymentDates[i])
+          .multipliedBy(unitAmount * notional)
+          .buildInto(result);
+    }
+    return result.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the par rate of each FRA in the group.
+   * <p>
+   * The par rate is the forward rate of the Ibor index, as obtained by {@link DiscountingFraProductPricer#parRate}.
+   * The element at index {@code i} of the result is the par rate of the FRA at index {@code i} of the group.
+   *
+   * @param group  the compiled group of FRAs
+   * @param provider  the rates provider
+   * @return the par rate of each FRA
+   */
+  public DoubleArray parRate(CompiledFraGroup group, RatesProvider provider) {
+    int size = group.size();
+    IborIndexRates iborRates = provider.iborIndexRates(group.getIndex());
+    double[] parRates = new double[size];
+    for (int i = 0; i < size; i++) {
+      parRates[i] = iborRates.rate(group.observations[i]);
+    }
+    return DoubleArray.ofUnsafe(parRates);
+  }
+
+}
@@ -22,6 +22,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.rate.RateComputation;
 
@@ -243,88 +244,88 @@ public class DiscountingFraProductPricer {
   }
 
   //-------------------------------------------------------------------------
-  // calculates the forecast value
-  private double forecastValue0(ResolvedFra fra, RatesProvider provider) {
-    if (fra.getPaymentDate().isBefore(provider.getValuationDate())) {
-      return 0d;
-    }
-    // notional * unitAmount
-    return fra.getNotional() * unitAmount(fra, provider);
-  }
+  /**
+   * Calculates the unit amount of a FRA from the forward rate.
+   * <p>
+   * The unit amount is the amount paid on the payment date for a notional of one.
+   * It depends on the discounting method of the FRA.
+   *
+   * @param discounting  the discounting method
+   * @param fixedRate  the fixed rate
+   * @param forwardRate  the forward rate of the floating leg
+   * @param yearFraction  the year fraction of the FRA
+   * @return the unit amount
+   */
+  public static double unitAmount(
+      FraDiscountingMethod discounting,
+      double fixedRate,
+      double forwardRate,
+      double yearFraction) {
 
-  // unit amount in various discounting methods
-  private double unitAmount(ResolvedFra fra, RatesProvider provider) {
-    switch (fra.getDiscounting()) {
+    switch (discounting) {
       case NONE:
-        return unitAmountNone(fra, provider);
+        return (forwardRate - fixedRate) * yearFraction;
       case ISDA:
-        return unitAmountIsda(fra, provider);
+        return ((forwardRate - fixedRate) / (1.0 + forwardRate * yearFraction)) * yearFraction;
       case AFMA:
-        return unitAmountAfma(fra, provider);
+        return (1.0 / (1.0 + fixedRate * yearFraction)) - (1.0 / (1.0 + forwardRate * yearFraction));
       default:
-        throw new IllegalArgumentException("Unknown FraDiscounting value: " + fra.getDiscounting());
+        throw new IllegalArgumentException("Unknown FraDiscounting value: " + discounting);
     }
   }
 
-  // NONE discounting method
-  private double unitAmountNone(ResolvedFra fra, RatesProvider provider) {
-    double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
-    double yearFraction = fra.getYearFraction();
-    return (forwardRate - fixedRate) * yearFraction;
-  }
-
-  // ISDA discounting method
-  private double unitAmountIsda(ResolvedFra fra, RatesProvider provider) {
-    double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
-    double yearFraction = fra.getYearFraction();
-    return ((forwardRate - fixedRate) / (1.0 + forwardRate * yearFraction)) * yearFraction;
-  }
-
-  // AFMA discounting method
-  private double unitAmountAfma(ResolvedFra fra, RatesProvider provider) {
-    double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
-    double yearFraction = fra.getYearFraction();
-    return (1.0 / (1.0 + fixedRate * yearFraction)) - (1.0 / (1.0 + forwardRate * yearFraction));
-  }
+  /**
+   * Calculates the derivative of the unit amount of a FRA with respect to the forward rate.
+   * <p>
+   * This is the derivative of {@link #unitAmount(FraDiscountingMethod, double, double, double)}.
+   *
+   * @param discounting  the discounting method
+   * @param fixedRate  the fixed rate
+   * @param forwardRate  the forward rate of the floating leg
+   * @param yearFraction  the year fraction of the FRA
+   * @return the derivative of the unit amount
+   */
+  public static double unitAmountDerivative(
+      FraDiscountingMethod discounting,
+      double fixedRate,
+      double forwardRate,
+      double yearFraction) {
 
-  //-------------------------------------------------------------------------
-  // determine the derivative
-  private double derivative(ResolvedFra fra, RatesProvider provider) {
-    switch (fra.getDiscounting()) {
+    switch (discounting) {
       case NONE:
-        return derivativeNone(fra, provider);
-      case ISDA:
-        return derivativeIsda(fra, provider);
-      case AFMA:
-        return derivativeAfma(fra, provider);
+        return yearFraction;
+      case ISDA: {
+        double dsc = 1.0 / (1.0 + forwardRate * yearFraction);
+        return (1.0 + fixedRate * yearFraction) * yearFraction * dsc * dsc;
+      }
+      case AFMA: {
+        double dsc = 1.0 / (1.0 + forwardRate * yearFraction);
+        return yearFraction * dsc * dsc;
+      }
       default:
-        throw new IllegalArgumentException("Unknown FraDiscounting value: " + fra.getDiscounting());
+        throw new IllegalArgumentException("Unknown FraDiscounting value: " + discounting);
     }
   }
 
-  // NONE discounting method
-  private double derivativeNone(ResolvedFra fra, RatesProvider provider) {
-    return fra.getYearFraction();
+  //-------------------------------------------------------------------------
+  // calculates the forecast value
+  private double forecastValue0(ResolvedFra fra, RatesProvider provider) {
+    if (fra.getPaymentDate().isBefore(provider.getValuationDate())) {
+      return 0d;
+    }
+    // notional * unitAmount
+    return fra.getNotional() * unitAmount(fra, provider);
   }
 
-  // ISDA discounting method
-  private double derivativeIsda(ResolvedFra fra, RatesProvider provider) {
-    double fixedRate = fra.getFixedRate();
-    double forwardRate = forwardRate(fra, provider);
-    double yearFraction = fra.getYearFraction();
-    double dsc = 1.0 / (1.0 + forwardRate * yearFraction);
-    return (1.0 + fixedRate * yearFraction) * yearFraction * dsc * dsc;
+  // unit amount in various discounting methods
+  private double unitAmount(ResolvedFra fra, RatesProvider provider) {
+    return unitAmount(fra.getDiscounting(), fra.getFixedRate(), forwardRate(fra, provider), fra.getYearFraction());
   }
 
-  // AFMA discounting method
-  private double derivativeAfma(ResolvedFra fra, RatesProvider provider) {
-    double forwardRate = forwardRate(fra, provider);
-    double yearFraction = fra.getYearFraction();
-    double dsc = 1.0 / (1.0 + forwardRate * yearFraction);
-    return yearFraction * dsc * dsc;
+  // determine the derivative
+  private double derivative(ResolvedFra fra, RatesProvider provider) {
+    return unitAmountDerivative(
+        fra.getDiscounting(), fra.getFixedRate(), forwardRate(fra, provider), fra.getYearFraction());
   }
 
   //-------------------------------------------------------------------------
@@ -7,7 +7,7 @@ package com.opengamma.strata.pricer.impl.credit.isda;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.DayCounts;
@@ -75,15 +75,15 @@ public class IsdaCompliantCurveCalibrator {
       CDSPricer func = new CDSPricer(i, today, stepinDate, valueDate, startDate, endDates[i], couponRates[i], protectStart,
           payAccOnDefault,
           tenor, stubType, recoveryRate, yieldCurve, hazardCurve);
-      double[] bracket = BRACKER.getBracketedPoints(func, 0.9 * guess[i], 1.1 * guess[i], 0.0, Double.POSITIVE_INFINITY);
-      double zeroRate = ROOTFINDER.getRoot(func, bracket[0], bracket[1]);
+      double[] bracket = BRACKER.getBracketedPointsPrimitive(func, 0.9 * guess[i], 1.1 * guess[i], 0.0, Double.POSITIVE_INFINITY);
+      double zeroRate = ROOTFINDER.getRootPrimitive(func, bracket[0], bracket[1]);
       hazardCurve = hazardCurve.withRate(zeroRate, i);
     }
 
     return hazardCurve;
   }
 
-  private class CDSPricer implements Function<Double, Double> {
+  private class CDSPricer implements DoubleUnaryOperator {
 
     private final int _index;
     private final LocalDate _today;
@@ -136,7 +136,7 @@ public class IsdaCompliantCurveCalibrator {
     }
 
     @Override
-    public Double apply(Double x) {
+    public double applyAsDouble(double x) {
       // TODO this direct access is unpleasant
       IsdaCompliantDateCreditCurve hazardCurve = _hazardCurve.withRate(x, _index);
       double rpv01 = PRICER.pvPremiumLegPerUnitSpread(_today, _stepinDate, _valueDate, _startDate, _endDate,
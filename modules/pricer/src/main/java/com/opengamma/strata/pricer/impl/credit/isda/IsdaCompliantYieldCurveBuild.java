@@ -9,7 +9,6 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 
 import com.opengamma.strata.basics.date.BusinessDayConvention;
 import com.opengamma.strata.basics.date.DayCount;
@@ -17,6 +16,7 @@ import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.date.HolidayCalendars;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.function.DoubleFunction1D;
 import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 
@@ -289,41 +289,32 @@ public class IsdaCompliantYieldCurveBuild {
     int index1 = i1;
     int index2 = i2;
 
-    Function<Double, Double> func = new Function<Double, Double>() {
-
-      @Override
-      public Double apply(Double x) {
-        IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
-        double sum = 1.0 - cachedValues; // Floating leg at par
-        for (int i = index1; i < index2; i++) {
-          double t = swap.getPaymentTime(i);
-          sum -= paymentAmounts[i] * tempCurve.getDiscountFactor(t);
-        }
-        return sum;
+    DoubleFunction1D func = x -> {
+      IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
+      double sum = 1.0 - cachedValues; // Floating leg at par
+      for (int i = index1; i < index2; i++) {
+        double t = swap.getPaymentTime(i);
+        sum -= paymentAmounts[i] * tempCurve.getDiscountFactor(t);
       }
+      return sum;
     };
 
-    Function<Double, Double> grad = new Function<Double, Double>() {
-
-      @Override
-      public Double apply(Double x) {
-        IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
-        double sum = cachedSense;
-        for (int i = index1; i < index2; i++) {
-          double t = swap.getPaymentTime(i);
-          // TODO have two looks ups for the same time - could have a specialist function in ISDACompliantCurve
-          sum -= swap.getPaymentAmounts(i, swapRate) * tempCurve.getSingleNodeDiscountFactorSensitivity(t, curveIndex);
-        }
-        return sum;
+    DoubleFunction1D grad = x -> {
+      IsdaCompliantCurve tempCurve = curve.withRate(x, curveIndex);
+      double sum = cachedSense;
+      for (int i = index1; i < index2; i++) {
+        double t = swap.getPaymentTime(i);
+        // TODO have two looks ups for the same time - could have a specialist function in ISDACompliantCurve
+        sum -= swap.getPaymentAmounts(i, swapRate) * tempCurve.getSingleNodeDiscountFactorSensitivity(t, curveIndex);
       }
-
+      return sum;
     };
 
     double guess = curve.getZeroRateAtIndex(curveIndex);
-    if (guess == 0.0 && func.apply(guess) == 0.0) {
+    if (guess == 0.0 && func.applyAsDouble(guess) == 0.0) {
       return curve;
     }
-    double[] bracket = BRACKETER.getBracketedPoints(
+    double[] bracket = BRACKETER.getBracketedPointsPrimitive(
         func, 0.8 * guess, 1.25 * guess, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
     double r = bracket[0] > bracket[1] ?
         ROOTFINDER.getRoot(func, grad, bracket[1], bracket[0]) :
@@ -0,0 +1,552 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionUtils;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Non-iterative implied volatility formulas for the Black and normal (Bachelier) models.
+ * <p>
+ * The Black implied volatility follows P. Jäckel, "Let's be rational", Wilmott (2015).
+ * The normalised price is mapped to one of four branches, in each of which a rational cubic
+ * interpolation of a transformed price provides an initial guess. The guess is then refined by
+ * at most two third order Householder steps on a branch specific objective function.
+ * The result is accurate to the precision of the Black formula for all prices strictly between
+ * the intrinsic value and the upper bound.
+ * <p>
+ * The normal implied volatility follows P. Jäckel, "Implied normal volatility", Wilmott (2017).
+ * A rational approximation of the inverse of the normalised time value is followed by a single
+ * third order Householder step, giving an explicit formula accurate to machine precision.
+ * <p>
+ * As with {@link BlackFormulaRepository} and {@link NormalFormulaRepository}, all prices are <b>forward</b>
+ * prices, i.e. (spot price)/numeraire.
+ * The methods taking arrays compute the implied volatility of each strike of a smile, without allocation
+ * other than the result.
+ */
+public final class ImpliedVolatilityFormulaRepository {
+
+  /**
+   * The number of Householder steps used to refine the Black implied volatility.
+   */
+  private static final int MAX_HOUSEHOLDER_STEPS = 2;
+
+  private static final double DBL_EPSILON = Math.ulp(1d);
+  private static final double DBL_MIN = Double.MIN_NORMAL;
+  private static final double DBL_MAX = Double.MAX_VALUE;
+  private static final double SQRT_DBL_MAX = Math.sqrt(DBL_MAX);
+  private static final double SQRT_THREE = Math.sqrt(3d);
+  private static final double SQRT_ONE_OVER_THREE = Math.sqrt(1d / 3d);
+  private static final double SQRT_TWO_PI = Math.sqrt(2d * Math.PI);
+  private static final double ONE_OVER_SQRT_TWO_PI = 1d / SQRT_TWO_PI;
+  private static final double SQRT_PI_OVER_TWO = Math.sqrt(Math.PI / 2d);
+  private static final double TWO_PI_OVER_SQRT_TWENTY_SEVEN = 2d * Math.PI / Math.sqrt(27d);
+  private static final double PI_OVER_SIX = Math.PI / 6d;
+  /**
+   * The limits of the control parameter of the rational cubic interpolation.
+   */
+  private static final double MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER = 2d / (DBL_EPSILON * DBL_EPSILON);
+  private static final double MINIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER = -(1d - Math.sqrt(DBL_EPSILON));
+  /**
+   * The normalised time value below which the normal implied volatility uses the rational approximation
+   * in the variable (p - 1/2), and above which it uses the approximation in sqrt(-ln(-p)).
+   */
+  private static final double NORMAL_BRANCH_CUTOFF = -0.001882039271;
+
+  // restricted constructor
+  private ImpliedVolatilityFormulaRepository() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal (Black) implied volatility.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the log-normal (Black) implied volatility
+   * @throws IllegalArgumentException if the price is below the intrinsic value or not below the upper bound
+   */
+  public static double blackImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.isTrue(forward > 0d, "negative/NaN forward; have {}", forward);
+    ArgChecker.isTrue(strike > 0d, "negative/NaN strike; have {}", strike);
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(forward), "forward is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(strike), "strike is Infinity");
+    ArgChecker.isFalse(Double.isInfinite(timeToExpiry), "timeToExpiry is Infinity");
+    double intrinsicPrice = Math.max(0d, (isCall ? 1d : -1d) * (forward - strike));
+    ArgChecker.isTrue(price >= intrinsicPrice, "price of {} below intrinsic value of {}", price, intrinsicPrice);
+    double upperBound = isCall ? forward : strike;
+    ArgChecker.isTrue(price < upperBound, "price of {} exceeded upper bound of {}", price, upperBound);
+    if (price == intrinsicPrice) {
+      return 0d;
+    }
+    double x = Math.log(forward / strike);
+    double beta = price / Math.sqrt(forward * strike);
+    return normalisedBlackImpliedVolatility(beta, x, isCall ? 1d : -1d) / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the log-normal (Black) implied volatilities of a set of options with the same expiry.
+   *
+   * @param prices  the forward prices, which are the market prices divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strikes, of the same size as the prices
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for calls, false for puts
+   * @return the log-normal (Black) implied volatilities
+   * @throws IllegalArgumentException if a price is below the intrinsic value or not below the upper bound
+   */
+  public static double[] blackImpliedVolatilities(
+      double[] prices,
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      boolean isCall) {
+
+    ArgChecker.notNull(prices, "prices");
+    ArgChecker.notNull(strikes, "strikes");
+    ArgChecker.isTrue(prices.length == strikes.length, "prices and strikes must have the same size");
+    double[] volatilities = new double[prices.length];
+    for (int i = 0; i < prices.length; i++) {
+      volatilities[i] = blackImpliedVolatility(prices[i], forward, strikes[i], timeToExpiry, isCall);
+    }
+    return volatilities;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal (Bachelier) implied volatility.
+   *
+   * @param price  the forward price, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether it is put or call
+   * @return the normal implied volatility
+   * @throws IllegalArgumentException if the price is below the intrinsic value
+   */
+  public static double normalImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.isTrue(timeToExpiry > 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isFalse(Double.isInfinite(timeToExpiry), "timeToExpiry is Infinity");
+    double moneyness = forward - strike;
+    double intrinsicPrice = Math.max(0d, (putCall.isCall() ? 1d : -1d) * moneyness);
+    ArgChecker.isTrue(price >= intrinsicPrice, "price of {} below intrinsic value of {}", price, intrinsicPrice);
+    ArgChecker.isFalse(Double.isInfinite(price), "price is Infinity");
+    if (moneyness == 0d) {
+      return price * SQRT_TWO_PI / Math.sqrt(timeToExpiry);
+    }
+    double timeValue = price - intrinsicPrice;
+    if (timeValue == 0d) {
+      return 0d;
+    }
+    double absMoneyness = Math.abs(moneyness);
+    double z = inversePhiTilde(-timeValue / absMoneyness);
+    return absMoneyness / (Math.abs(z) * Math.sqrt(timeToExpiry));
+  }
+
+  /**
+   * Computes the normal (Bachelier) implied volatilities of a set of options with the same expiry.
+   *
+   * @param prices  the forward prices, which are the market prices divided by the numeraire
+   * @param forward  the forward value of the underlying
+   * @param strikes  the strikes, of the same size as the prices
+   * @param timeToExpiry  the time to expiry
+   * @param putCall  whether the options are puts or calls
+   * @return the normal implied volatilities
+   * @throws IllegalArgumentException if a price is below the intrinsic value
+   */
+  public static double[] normalImpliedVolatilities(
+      double[] prices,
+      double forward,
+      double[] strikes,
+      double timeToExpiry,
+      PutCall putCall) {
+
+    ArgChecker.notNull(prices, "prices");
+    ArgChecker.notNull(strikes, "strikes");
+    ArgChecker.isTrue(prices.length == strikes.length, "prices and strikes must have the same size");
+    double[] volatilities = new double[prices.length];
+    for (int i = 0; i < prices.length; i++) {
+      volatilities[i] = normalImpliedVolatility(prices[i], forward, strikes[i], timeToExpiry, putCall);
+    }
+    return volatilities;
+  }
+
+  //-------------------------------------------------------------------------
+  // inverse of the normalised time value, Phi(z) + phi(z) / z for z < 0
+  private static double inversePhiTilde(double phiTildeStar) {
+    double z;
+    if (phiTildeStar < NORMAL_BRANCH_CUTOFF) {
+      double g = 1d / (phiTildeStar - 0.5d);
+      double g2 = g * g;
+      double xi = (0.032114372355d - g2 * (0.016969777977d - g2 * (2.6207332461e-3d - 9.6066952861e-5d * g2))) /
+          (1d - g2 * (0.6635646938d - g2 * (0.14528712196d - 0.010472855461d * g2)));
+      z = g * (ONE_OVER_SQRT_TWO_PI + xi * g2);
+    } else {
+      double h = Math.sqrt(-Math.log(-phiTildeStar));
+      z = (9.4883409779d - h * (9.6320903635d - h * (0.58556997323d + 2.1464093351d * h))) /
+          (1d - h * (0.65174820867d + h * (1.5120247828d + 6.6437847132e-5d * h)));
+    }
+    // single third order Householder step
+    double pdf = NormalDistributionUtils.pdf(z);
+    double q = (NormalDistributionUtils.cdf(z) + pdf / z - phiTildeStar) / pdf;
+    double z2 = z * z;
+    return z + 3d * q * z2 * (2d - q * z * (2d + z2)) /
+        (6d + q * z * (-12d + z * (6d * q + z * (-6d + q * z * (3d + z2)))));
+  }
+
+  //-------------------------------------------------------------------------
+  // the normalised implied volatility, sigma * sqrt(T), from the normalised price, price / sqrt(F * K)
+  private static double normalisedBlackImpliedVolatility(double beta, double x, double q) {
+    // subtract the intrinsic value and map in-the-money options to out-of-the-money options
+    if (q * x > 0d) {
+      beta = Math.abs(Math.max(beta - normalisedIntrinsic(x, q), 0d));
+      q = -q;
+    }
+    // map puts to calls
+    if (q < 0d) {
+      x = -x;
+    }
+    if (beta <= 0d) {
+      return 0d;
+    }
+    double bMax = Math.exp(0.5d * x);
+    ArgChecker.isTrue(beta < bMax, "price exceeded upper bound");
+    if (x == 0d) {
+      double s = -2d * NormalDistributionUtils.inverseCdf(0.5d * (1d - beta));
+      return refine(Branch.CENTRAL, beta, x, s, DBL_MIN, DBL_MAX, bMax);
+    }
+    double sC = Math.sqrt(Math.abs(2d * x));
+    double bC = normalisedBlackCall(x, sC);
+    double vC = normalisedVega(x, sC);
+    if (beta < bC) {
+      double sL = sC - bC / vC;
+      double bL = normalisedBlackCall(x, sL);
+      if (beta < bL) {
+        // lower branch
+        double phiL = NormalDistributionUtils.cdf(-SQRT_ONE_OVER_THREE * Math.abs(x) / sL);
+        double fLowerL = lowerMap(x, phiL);
+        double dfLowerL = lowerMapFirstDerivative(x, sL, phiL);
+        double d2fLowerL = lowerMapSecondDerivative(x, sL, phiL);
+        double r = convexRationalCubicControlParameterAtRightSide(0d, bL, 0d, fLowerL, 1d, dfLowerL, d2fLowerL, true);
+        double f = rationalCubicInterpolation(beta, 0d, bL, 0d, fLowerL, 1d, dfLowerL, r);
+        if (!(f > 0d)) {
+          double t = beta / bL;
+          f = (fLowerL * t + bL * (1d - t)) * t;
+        }
+        double s = inverseLowerMap(x, f);
+        return refine(Branch.LOWER, beta, x, s, DBL_MIN, sL, bMax);
+      }
+      // lower central branch
+      double invVL = 1d / normalisedVega(x, sL);
+      double invVC = 1d / vC;
+      double r = convexRationalCubicControlParameterAtRightSide(bL, bC, sL, sC, invVL, invVC, 0d, false);
+      double s = rationalCubicInterpolation(beta, bL, bC, sL, sC, invVL, invVC, r);
+      return refine(Branch.CENTRAL, beta, x, s, sL, sC, bMax);
+    }
+    double sU = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
+    double bU = normalisedBlackCall(x, sU);
+    if (beta <= bU) {
+      // upper central branch
+      double invVC = 1d / vC;
+      double invVU = 1d / normalisedVega(x, sU);
+      double r = convexRationalCubicControlParameterAtLeftSide(bC, bU, sC, sU, invVC, invVU, 0d, false);
+      double s = rationalCubicInterpolation(beta, bC, bU, sC, sU, invVC, invVU, r);
+      return refine(Branch.CENTRAL, beta, x, s, sC, sU, bMax);
+    }
+    // upper branch
+    double fUpperU = NormalDistributionUtils.cdf(-0.5d * sU);
+    double w = (x / sU) * (x / sU);
+    double dfUpperU = -0.5d * Math.exp(0.5d * w);
+    double d2fUpperU = SQRT_PI_OVER_TWO * Math.exp(w + 0.125d * sU * sU) * w / sU;
+    double f = -1d;
+    if (d2fUpperU > -SQRT_DBL_MAX && d2fUpperU < SQRT_DBL_MAX) {
+      double r = convexRationalCubicControlParameterAtLeftSide(bU, bMax, fUpperU, 0d, dfUpperU, -0.5d, d2fUpperU, true);
+      f = rationalCubicInterpolation(beta, bU, bMax, fUpperU, 0d, dfUpperU, -0.5d, r);
+    }
+    if (f <= 0d) {
+      double h = bMax - bU;
+      double t = (beta - bU) / h;
+      f = (fUpperU * (1d - t) + 0.5d * h * t) * (1d - t);
+    }
+    double s = -2d * NormalDistributionUtils.inverseCdf(f);
+    // close to the lower bound of the branch, the objective function b(x,s) - beta is better behaved
+    return refine(beta > 0.5d * bMax ? Branch.UPPER : Branch.CENTRAL, beta, x, s, sU, DBL_MAX, bMax);
+  }
+
+  // the objective function used by the Householder steps
+  private enum Branch {
+    // g(s) = 1 / ln(b(x,s)) - 1 / ln(beta)
+    LOWER,
+    // g(s) = b(x,s) - beta
+    CENTRAL,
+    // g(s) = ln((bMax - beta) / (bMax - b(x,s)))
+    UPPER
+  }
+
+  // refines the normalised volatility using third order Householder steps, bisecting if the steps leave the bracket
+  private static double refine(Branch branch, double beta, double x, double s, double sLeft, double sRight, double bMax) {
+    double lnBeta = branch == Branch.LOWER ? Math.log(beta) : 0d;
+    double ds = -DBL_MAX;
+    double dsPrevious = 0d;
+    int directionReversalCount = 0;
+    for (int i = 0; i < MAX_HOUSEHOLDER_STEPS && Math.abs(ds) > DBL_EPSILON * s; i++) {
+      if (ds * dsPrevious < 0d) {
+        directionReversalCount++;
+      }
+      if (i > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
+        s = 0.5d * (sLeft + sRight);
+        if (sRight - sLeft <= DBL_EPSILON * s) {
+          break;
+        }
+        directionReversalCount = 0;
+        ds = 0d;
+      }
+      dsPrevious = ds;
+      double b = normalisedBlackCall(x, s);
+      double bp = normalisedVega(x, s);
+      if (b > beta && s < sRight) {
+        sRight = s;
+      } else if (b < beta && s > sLeft) {
+        sLeft = s;
+      }
+      double h = x / s;
+      double bHalley = h * h / s - 0.25d * s;
+      double bHh3 = bHalley * bHalley - 3d * (h / s) * (h / s) - 0.25d;
+      double newton;
+      double halley;
+      double hh3;
+      switch (branch) {
+        case LOWER:
+          if (b <= 0d || bp <= 0d) {
+            ds = 0.5d * (sLeft + sRight) - s;
+            s += Math.max(-0.5d * s, ds);
+            continue;
+          }
+          double lnB = Math.log(b);
+          double bpOverB = bp / b;
+          newton = (lnBeta - lnB) * lnB / lnBeta / bpOverB;
+          halley = bHalley - bpOverB * (1d + 2d / lnB);
+          hh3 = bHh3 + 2d * bpOverB * bpOverB * (1d + 3d / lnB * (1d + 1d / lnB)) - 3d * bHalley * bpOverB * (1d + 2d / lnB);
+          break;
+        case UPPER:
+          if (b >= bMax || bp <= DBL_MIN) {
+            ds = 0.5d * (sLeft + sRight) - s;
+            s += Math.max(-0.5d * s, ds);
+            continue;
+          }
+          double bMaxMinusB = bMax - b;
+          double g = Math.log((bMax - beta) / bMaxMinusB);
+          double gp = bp / bMaxMinusB;
+          newton = -g / gp;
+          halley = bHalley + gp;
+          hh3 = bHh3 + gp * (2d * gp + 3d * bHalley);
+          break;
+        default:
+          newton = (beta - b) / bp;
+          halley = bHalley;
+          hh3 = bHh3;
+          break;
+      }
+      ds = Math.max(-0.5d * s, newton * householderFactor(newton, halley, hh3));
+      s += ds;
+    }
+    return s;
+  }
+
+  // the factor applied to the Newton step for a third order Householder step
+  private static double householderFactor(double newton, double halley, double hh3) {
+    return (1d + 0.5d * halley * newton) / (1d + newton * (halley + hh3 * newton / 6d));
+  }
+
+  //-------------------------------------------------------------------------
+  // the normalised intrinsic value, 'x' being ln(F/K) and 'q' being 1 for a call and -1 for a put
+  private static double normalisedIntrinsic(double x, double q) {
+    if (q * x <= 0d) {
+      return 0d;
+    }
+    double bMax = Math.exp(0.5d * x);
+    return Math.abs(Math.max(q * (bMax - 1d / bMax), 0d));
+  }
+
+  // the normalised Black call price, price / sqrt(F * K), with 'x' being ln(F/K) and 's' being sigma * sqrt(T)
+  private static double normalisedBlackCall(double x, double s) {
+    if (x > 0d) {
+      return normalisedIntrinsic(x, 1d) + normalisedBlackCall(-x, s);
+    }
+    if (s <= 0d) {
+      return 0d;
+    }
+    double h = x / s;
+    double t = 0.5d * s;
+    return Math.exp(0.5d * x) * NormalDistributionUtils.cdf(h + t) - Math.exp(-0.5d * x) * NormalDistributionUtils.cdf(h - t);
+  }
+
+  // the derivative of the normalised Black price with respect to 's'
+  private static double normalisedVega(double x, double s) {
+    double h = x / s;
+    double t = 0.5d * s;
+    return ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5d * (h * h + t * t));
+  }
+
+  // the transformation of the lower branch, 'phiCdf' being the cumulative normal of -|x| / (sqrt(3) * s)
+  private static double lowerMap(double x, double phiCdf) {
+    return TWO_PI_OVER_SQRT_TWENTY_SEVEN * Math.abs(x) * phiCdf * phiCdf * phiCdf;
+  }
+
+  // the first derivative of the transformation of the lower branch with respect to the price
+  private static double lowerMapFirstDerivative(double x, double s, double phiCdf) {
+    double z = SQRT_ONE_OVER_THREE * Math.abs(x) / s;
+    double y = z * z;
+    return 2d * Math.PI * y * phiCdf * phiCdf * Math.exp(y + 0.125d * s * s);
+  }
+
+  // the second derivative of the transformation of the lower branch with respect to the price
+  private static double lowerMapSecondDerivative(double x, double s, double phiCdf) {
+    double ax = Math.abs(x);
+    double z = SQRT_ONE_OVER_THREE * ax / s;
+    double y = z * z;
+    double s2 = s * s;
+    return PI_OVER_SIX * y / (s2 * s) * phiCdf *
+        (8d * SQRT_THREE * s * ax + (3d * s2 * (s2 - 8d) - 8d * x * x) * phiCdf / NormalDistributionUtils.pdf(z)) *
+        Math.exp(2d * y + 0.25d * s2);
+  }
+
+  // the inverse of the transformation of the lower branch
+  private static double inverseLowerMap(double x, double f) {
+    double ax = Math.abs(x);
+    double p = Math.pow(f / (TWO_PI_OVER_SQRT_TWENTY_SEVEN * ax), 1d / 3d);
+    return Math.abs(x / (SQRT_THREE * NormalDistributionUtils.inverseCdf(p)));
+  }
+
+  //-------------------------------------------------------------------------
+  // rational cubic interpolation between (xL, yL) and (xR, yR) with derivatives dL and dR and control parameter r
+  private static double rationalCubicInterpolation(
+      double x,
+      double xL,
+      double xR,
+      double yL,
+      double yR,
+      double dL,
+      double dR,
+      double r) {
+
+    double h = xR - xL;
+    if (Math.abs(h) <= 0d) {
+      return 0.5d * (yL + yR);
+    }
+    double t = (x - xL) / h;
+    if (!(r >= MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER)) {
+      double omt = 1d - t;
+      double t2 = t * t;
+      double omt2 = omt * omt;
+      return (yR * t2 * t + (r * yR - h * dR) * t2 * omt + (r * yL + h * dL) * t * omt2 + yL * omt2 * omt) /
+          (1d + (r - 3d) * t * omt);
+    }
+    return yR * t + yL * (1d - t);
+  }
+
+  // the control parameter fitting the second derivative at the left side, bounded to preserve convexity
+  private static double convexRationalCubicControlParameterAtLeftSide(
+      double xL,
+      double xR,
+      double yL,
+      double yR,
+      double dL,
+      double dR,
+      double secondDerivativeL,
+      boolean preferShapePreservation) {
+
+    double h = xR - xL;
+    double numerator = 0.5d * h * secondDerivativeL + (dR - dL);
+    double denominator = (yR - yL) / h - dL;
+    double r = controlParameter(numerator, denominator);
+    return Math.max(r, minimumControlParameter(dL, dR, (yR - yL) / h, preferShapePreservation));
+  }
+
+  // the control parameter fitting the second derivative at the right side, bounded to preserve convexity
+  private static double convexRationalCubicControlParameterAtRightSide(
+      double xL,
+      double xR,
+      double yL,
+      double yR,
+      double dL,
+      double dR,
+      double secondDerivativeR,
+      boolean preferShapePreservation) {
+
+    double h = xR - xL;
+    double numerator = 0.5d * h * secondDerivativeR + (dR - dL);
+    double denominator = dR - (yR - yL) / h;
+    double r = controlParameter(numerator, denominator);
+    return Math.max(r, minimumControlParameter(dL, dR, (yR - yL) / h, preferShapePreservation));
+  }
+
+  // the ratio of the numerator and denominator, handling a zero denominator
+  private static double controlParameter(double numerator, double denominator) {
+    if (isZero(numerator)) {
+      return 0d;
+    }
+    if (isZero(denominator)) {
+      return numerator > 0d ? MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER : MINIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER;
+    }
+    return numerator / denominator;
+  }
+
+  // the minimum control parameter preserving monotonicity and convexity, 's' being the slope of the secant
+  private static double minimumControlParameter(double dL, double dR, double s, boolean preferShapePreservation) {
+    boolean monotonic = dL * s >= 0d && dR * s >= 0d;
+    boolean convex = dL <= s && s <= dR;
+    boolean concave = dL >= s && s >= dR;
+    if (!monotonic && !convex && !concave) {
+      return MINIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER;
+    }
+    double dRMinusDL = dR - dL;
+    double dRMinusS = dR - s;
+    double sMinusDL = s - dL;
+    double r1 = -DBL_MAX;
+    double r2 = r1;
+    if (monotonic) {
+      if (!isZero(s)) {
+        r1 = (dR + dL) / s;
+      } else if (preferShapePreservation) {
+        r1 = MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER;
+      }
+    }
+    if (convex || concave) {
+      if (!(isZero(sMinusDL) || isZero(dRMinusS))) {
+        r2 = Math.max(Math.abs(dRMinusDL / dRMinusS), Math.abs(dRMinusDL / sMinusDL));
+      } else if (preferShapePreservation) {
+        r2 = MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER;
+      }
+    } else if (monotonic && preferShapePreservation) {
+      r2 = MAXIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER;
+    }
+    return Math.max(MINIMUM_RATIONAL_CUBIC_CONTROL_PARAMETER, Math.max(r1, r2));
+  }
+
+  // checks if the value is zero to within the smallest normal double
+  private static boolean isZero(double value) {
+    return Math.abs(value) < DBL_MIN;
+  }
+
+}
@@ -5,7 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.value.ValueDerivatives;
@@ -13,8 +13,7 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.math.impl.rootfinding.BisectionSingleRootFinder;
 import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
-import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
-import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistributionUtils;
 import com.opengamma.strata.product.common.PutCall;
 
 /**
@@ -22,10 +21,6 @@ import com.opengamma.strata.product.common.PutCall;
  */
 public final class NormalFormulaRepository {
 
-  /**
-   * The normal distribution implementation.
-   */
-  private static final ProbabilityDistribution<Double> DISTRIBUTION = new NormalDistribution(0, 1);
   /**
    * The comparison value used to determine near-zero.
    */
@@ -67,8 +62,8 @@ public final class NormalFormulaRepository {
       return (x > 0 ? x : 0d);
     }
     double arg = sign * (forward - strike) / sigmaRootT;
-    double cdf = DISTRIBUTION.getCDF(arg);
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double cdf = NormalDistributionUtils.cdf(arg);
+    double pdf = NormalDistributionUtils.pdf(arg);
     return sign * (forward - strike) * cdf + sigmaRootT * pdf;
   }
 
@@ -112,8 +107,8 @@ public final class NormalFormulaRepository {
       price = (x > 0 ? numeraire * x : 0d);
     } else {
       arg = sign * (forward - strike) / sigmaRootT;
-      cdf = NormalFormulaRepository.DISTRIBUTION.getCDF(arg);
-      pdf = NormalFormulaRepository.DISTRIBUTION.getPDF(arg);
+      cdf = NormalDistributionUtils.cdf(arg);
+      pdf = NormalDistributionUtils.pdf(arg);
       price = numeraire * (sign * (forward - strike) * cdf + sigmaRootT * pdf);
     }
     // Implementation Note: Backward sweep.
@@ -163,7 +158,7 @@ public final class NormalFormulaRepository {
       return x > 0 ? sign : 0d;
     }
     double arg = sign * (forward - strike) / sigmaRootT;
-    double cdf = DISTRIBUTION.getCDF(arg);
+    double cdf = NormalDistributionUtils.cdf(arg);
     return sign * cdf;
   }
 
@@ -189,7 +184,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : 1d / Math.sqrt(2d * Math.PI) / sigmaRootT;
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionUtils.pdf(arg);
     return pdf / sigmaRootT;
   }
 
@@ -216,7 +211,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : -0.5 * normalVol / rootT / Math.sqrt(2d * Math.PI);
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionUtils.pdf(arg);
     return -0.5 * pdf * normalVol / rootT;
   }
 
@@ -243,7 +238,7 @@ public final class NormalFormulaRepository {
       return Math.abs(x) > NEAR_ZERO ? 0d : rootT / Math.sqrt(2d * Math.PI);
     }
     double arg = (forward - strike) / sigmaRootT;
-    double pdf = DISTRIBUTION.getPDF(arg);
+    double pdf = NormalDistributionUtils.pdf(arg);
     return pdf * rootT;
   }
 
@@ -303,14 +298,10 @@ public final class NormalFormulaRepository {
       if (count++ > MAX_ITERATIONS) {
         BracketRoot bracketer = new BracketRoot();
         BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(EPS);
-        Function<Double, Double> func = new Function<Double, Double>() {
-          @Override
-          public Double apply(Double volatility) {
-            return numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
-          }
-        };
-        double[] range = bracketer.getBracketedPoints(func, 0d, 10d);
-        return rootFinder.getRoot(func, range[0], range[1]);
+        DoubleUnaryOperator func =
+            volatility -> numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
+        double[] range = bracketer.getBracketedPointsPrimitive(func, 0d, 10d);
+        return rootFinder.getRootPrimitive(func, range[0], range[1]);
       }
     }
     return sigma;
@@ -8,7 +8,7 @@ package com.opengamma.strata.pricer.impl.rate.model;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 import org.joda.beans.BeanDefinition;
 import org.joda.beans.ImmutableBean;
@@ -273,22 +273,19 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    * @return the exercise boundary
    */
   public double kappa(DoubleArray discountedCashFlow, DoubleArray alpha) {
-    final Function<Double, Double> swapValue = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        double error = 0.0;
-        for (int loopcf = 0; loopcf < alpha.size(); loopcf++) {
-          error += discountedCashFlow.get(loopcf) *
-              Math.exp(-0.5 * alpha.get(loopcf) * alpha.get(loopcf) - (alpha.get(loopcf) - alpha.get(0)) * x);
-        }
-        return error;
+    DoubleUnaryOperator swapValue = x -> {
+      double error = 0.0;
+      for (int loopcf = 0; loopcf < alpha.size(); loopcf++) {
+        error += discountedCashFlow.get(loopcf) *
+            Math.exp(-0.5 * alpha.get(loopcf) * alpha.get(loopcf) - (alpha.get(loopcf) - alpha.get(0)) * x);
       }
+      return error;
     };
     BracketRoot bracketer = new BracketRoot();
     double accuracy = 1.0E-8;
     RidderSingleRootFinder rootFinder = new RidderSingleRootFinder(accuracy);
-    double[] range = bracketer.getBracketedPoints(swapValue, -2.0, 2.0);
-    return rootFinder.getRoot(swapValue, range[0], range[1]);
+    double[] range = bracketer.getBracketedPointsPrimitive(swapValue, -2.0, 2.0);
+    return rootFinder.getRootPrimitive(swapValue, range[0], range[1]);
   }
 
   //-------------------------------------------------------------------------
@@ -343,21 +340,18 @@ public final class HullWhiteOneFactorPiecewiseConstantInterestRateModel implemen
    * @return the exercise boundary
    */
   public double lambda(DoubleArray discountedCashFlow, DoubleArray alpha2, DoubleArray hwH) {
-    final Function<Double, Double> swapValue = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        double value = 0.0;
-        for (int loopcf = 0; loopcf < alpha2.size(); loopcf++) {
-          value += discountedCashFlow.get(loopcf) * Math.exp(-0.5 * alpha2.get(loopcf) - hwH.get(loopcf) * x);
-        }
-        return value;
+    DoubleUnaryOperator swapValue = x -> {
+      double value = 0.0;
+      for (int loopcf = 0; loopcf < alpha2.size(); loopcf++) {
+        value += discountedCashFlow.get(loopcf) * Math.exp(-0.5 * alpha2.get(loopcf) - hwH.get(loopcf) * x);
       }
+      return value;
     };
     BracketRoot bracketer = new BracketRoot();
     double accuracy = 1.0E-8;
     RidderSingleRootFinder rootFinder = new RidderSingleRootFinder(accuracy);
-    double[] range = bracketer.getBracketedPoints(swapValue, -2.0, 2.0);
-    return rootFinder.getRoot(swapValue, range[0], range[1]);
+    double[] range = bracketer.getBracketedPointsPrimitive(swapValue, -2.0, 2.0);
+    return rootFinder.getRootPrimitive(swapValue, range[0], range[1]);
   }
 
   /**
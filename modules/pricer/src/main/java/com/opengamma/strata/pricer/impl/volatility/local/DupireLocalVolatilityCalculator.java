@@ -50,7 +50,7 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
         double q = dividendRate.apply(t);
         double vol = impliedVolatilitySurface.zValue(t, k);
         DoubleArray volSensi = impliedVolatilitySurface.zValueParameterSensitivity(t, k).getSensitivity();
-        double divT = FIRST_DERIV.differentiate(u -> impliedVolatilitySurface.zValue(u, k)).apply(t);
+        double divT = FIRST_DERIV.differentiatePrimitive(u -> impliedVolatilitySurface.zValue(u, k)).applyAsDouble(t);
         DoubleArray divTSensi = FIRST_DERIV_SENSI.differentiate(
             u -> impliedVolatilitySurface.zValueParameterSensitivity(u.get(0), k).getSensitivity())
             .apply(DoubleArray.of(t)).column(0);
@@ -61,11 +61,11 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
           localVolSensi =
               volSensi.multipliedBy((vol + t * divT) / localVol).plus(divTSensi.multipliedBy(vol * t / localVol));
         } else {
-          double divK = FIRST_DERIV.differentiate(l -> impliedVolatilitySurface.zValue(t, l)).apply(k);
+          double divK = FIRST_DERIV.differentiatePrimitive(l -> impliedVolatilitySurface.zValue(t, l)).applyAsDouble(k);
           DoubleArray divKSensi = FIRST_DERIV_SENSI.differentiate(
               l -> impliedVolatilitySurface.zValueParameterSensitivity(t, l.get(0)).getSensitivity())
               .apply(DoubleArray.of(k)).column(0);
-          double divK2 = SECOND_DERIV.differentiate(l -> impliedVolatilitySurface.zValue(t, l)).apply(k);
+          double divK2 = SECOND_DERIV.differentiatePrimitive(l -> impliedVolatilitySurface.zValue(t, l)).applyAsDouble(k);
           DoubleArray divK2Sensi = SECOND_DERIV_SENSI.differentiateNoCross(
               l -> impliedVolatilitySurface.zValueParameterSensitivity(t, l.get(0)).getSensitivity())
               .apply(DoubleArray.of(k)).column(0);
@@ -113,15 +113,15 @@ public class DupireLocalVolatilityCalculator implements LocalVolatilityCalculato
         double q = dividendRate.apply(t);
         double price = callPriceSurface.zValue(t, k);
         DoubleArray priceSensi = callPriceSurface.zValueParameterSensitivity(t, k).getSensitivity();
-        double divT = FIRST_DERIV.differentiate(u -> callPriceSurface.zValue(u, k)).apply(t);
+        double divT = FIRST_DERIV.differentiatePrimitive(u -> callPriceSurface.zValue(u, k)).applyAsDouble(t);
         DoubleArray divTSensi = FIRST_DERIV_SENSI.differentiate(
             u -> callPriceSurface.zValueParameterSensitivity(u.get(0), k).getSensitivity())
             .apply(DoubleArray.of(t)).column(0);
-        double divK = FIRST_DERIV.differentiate(l -> callPriceSurface.zValue(t, l)).apply(k);
+        double divK = FIRST_DERIV.differentiatePrimitive(l -> callPriceSurface.zValue(t, l)).applyAsDouble(k);
         DoubleArray divKSensi = FIRST_DERIV_SENSI.differentiate(
             l -> callPriceSurface.zValueParameterSensitivity(t, l.get(0)).getSensitivity())
             .apply(DoubleArray.of(k)).column(0);
-        double divK2 = SECOND_DERIV.differentiate(l -> callPriceSurface.zValue(t, l)).apply(k);
+        double divK2 = SECOND_DERIV.differentiatePrimitive(l -> callPriceSurface.zValue(t, l)).applyAsDouble(k);
         DoubleArray divK2Sensi = SECOND_DERIV_SENSI.differentiateNoCross(
             l -> callPriceSurface.zValueParameterSensitivity(t, l.get(0)).getSensitivity())
             .apply(DoubleArray.of(k)).column(0);
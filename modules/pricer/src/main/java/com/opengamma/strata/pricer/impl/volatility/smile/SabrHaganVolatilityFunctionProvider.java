@@ -119,7 +119,8 @@ public final class SabrHaganVolatilityFunctionProvider
         double ln = Math.log(forward / k);
         double f1 = Math.pow(forward * k, beta1);
         double f1Sqrt = Math.sqrt(f1);
-        double lnBetaSq = Math.pow(beta1 * ln, 2);
+        double lnBeta = beta1 * ln;
+        double lnBetaSq = lnBeta * lnBeta;
         z = nu * f1Sqrt * ln / alpha;
         zOverChi = getZOverChi(rho, z);
         double first = alpha / (f1Sqrt * (1 + lnBetaSq / 24 + lnBetaSq * lnBetaSq / 1920));
@@ -253,8 +254,14 @@ public final class SabrHaganVolatilityFunctionProvider
         }
       }
     }
-    double sf1 = sfK * (1 + betaStar * betaStar / 24 * (lnrfK * lnrfK) + Math.pow(betaStar, 4) / 1920 * Math.pow(lnrfK, 4));
-    double sf2 = (1 + (Math.pow(betaStar * alpha / sfK, 2) / 24 + (rho * beta * nu * alpha) /
+    // Implementation note: integer powers are computed by multiplication, which is much faster than Math.pow
+    double betaStar2 = betaStar * betaStar;
+    double betaStar4 = betaStar2 * betaStar2;
+    double lnrfK2 = lnrfK * lnrfK;
+    double lnrfK4 = lnrfK2 * lnrfK2;
+    double betaStarAlphaSfK = betaStar * alpha / sfK;
+    double sf1 = sfK * (1 + betaStar2 / 24 * lnrfK2 + betaStar4 / 1920 * lnrfK4);
+    double sf2 = (1 + (betaStarAlphaSfK * betaStarAlphaSfK / 24 + (rho * beta * nu * alpha) /
         (4 * sfK) + (2 - 3 * rho * rho) * nu * nu / 24) * timeToExpiry);
     double volatility = Math.max(MIN_VOL, alpha / sf1 * rzxz * sf2);
 
@@ -282,16 +289,17 @@ public final class SabrHaganVolatilityFunctionProvider
           zBar = 1 / xz * rzxzBar - xzBar / (xz * xz) * rzxzBar;
         } else {
           xzBar = -z / (xz * xz) * rzxzBar;
-          zBar = 1 / xz * rzxzBar + 1 / ((Math.sqrt(1 - 2 * rho * z + z * z) + z - rho)) *
-              (0.5 * Math.pow(1 - 2 * rho * z + z * z, -0.5) * (-2 * rho + 2 * z) + 1) * xzBar;
+          double sqrtZ = Math.sqrt(1 - 2 * rho * z + z * z);
+          zBar = 1 / xz * rzxzBar + 1 / ((sqrtZ + z - rho)) *
+              (0.5 / sqrtZ * (-2 * rho + 2 * z) + 1) * xzBar;
         }
       }
     }
 
-    double lnrfKBar = sfK * (betaStar * betaStar / 12 * lnrfK + Math.pow(betaStar, 4) / 1920 * 4 * Math.pow(lnrfK, 3)) * sf1Bar +
+    double lnrfKBar = sfK * (betaStar2 / 12 * lnrfK + betaStar4 / 1920 * 4 * lnrfK2 * lnrfK) * sf1Bar +
         nu / alpha * sfK * zBar;
     double sfKBar = nu / alpha * lnrfK * zBar + sf1 / sfK * sf1Bar -
-        (Math.pow(betaStar * alpha, 2) / Math.pow(sfK, 3) / 12 + (rho * beta * nu * alpha) / 4 / (sfK * sfK)) * timeToExpiry *
+        (betaStarAlphaSfK * betaStarAlphaSfK / sfK / 12 + (rho * beta * nu * alpha) / 4 / (sfK * sfK)) * timeToExpiry *
             sf2Bar;
     double strikeBar = -1 / k * lnrfKBar + betaStar * sfK / (2 * k) * sfKBar;
     double forwardBar = 1 / forward * lnrfKBar + betaStar * sfK / (2 * forward) * sfKBar;
@@ -310,12 +318,13 @@ public final class SabrHaganVolatilityFunctionProvider
             rhoBar = xzBar * (1.0 / rhoStar + (0.5 - z) / (z - 1.0) / (z - 1.0));
           }
         } else {
-          rhoBar = (0.5 * Math.pow(z / (1 - z), 2) + 0.25 * (z - 4.0) * Math.pow(z / (1.0 - z), 3) / (1.0 - z) *
+          double zRatio = z / (1.0 - z);
+          rhoBar = (0.5 * zRatio * zRatio + 0.25 * (z - 4.0) * zRatio * zRatio * zRatio / (1.0 - z) *
               rhoStar) * xzBar;
         }
       } else {
-        rhoBar = (1 / (Math.sqrt(1 - 2 * rho * z + z * z) + z - rho) *
-            (-Math.pow(1 - 2 * rho * z + z * z, -0.5) * z - 1) + 1 / rhoStar) * xzBar;
+        double sqrtZ = Math.sqrt(1 - 2 * rho * z + z * z);
+        rhoBar = (1 / (sqrtZ + z - rho) * (-z / sqrtZ - 1) + 1 / rhoStar) * xzBar;
       }
     }
     rhoBar += ((beta * nu * alpha) / (4 * sfK) - rho * nu * nu / 4) * timeToExpiry * sf2Bar;
@@ -324,7 +333,7 @@ public final class SabrHaganVolatilityFunctionProvider
         ((betaStar * alpha / sfK) * (betaStar / sfK) / 12 + (rho * beta * nu) / (4 * sfK)) * timeToExpiry * sf2Bar +
         1 / sf1 * rzxz * sf2 * vBar;
     double betaBar = -0.5 * Math.log(forward * k) * sfK * sfKBar - sfK *
-        (betaStar / 12 * (lnrfK * lnrfK) + Math.pow(betaStar, 3) / 480 * Math.pow(lnrfK, 4)) * sf1Bar +
+        (betaStar / 12 * lnrfK2 + betaStar2 * betaStar / 480 * lnrfK4) * sf1Bar +
         (-betaStar * alpha * alpha / sfK / sfK / 12 + rho * nu * alpha / 4 / sfK) * timeToExpiry * sf2Bar;
 
     return ValueDerivatives.of(volatility, DoubleArray.of(forwardBar, strikeBar, alphaBar, betaBar, rhoBar, nuBar));
@@ -14,6 +14,7 @@ import com.opengamma.strata.math.impl.minimization.ParameterLimitsTransform;
 import com.opengamma.strata.math.impl.minimization.ParameterLimitsTransform.LimitType;
 import com.opengamma.strata.math.impl.minimization.SingleRangeLimitTransform;
 import com.opengamma.strata.math.impl.minimization.UncoupledParameterTransforms;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LevenbergMarquardtLeastSquare;
 import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
 
 /**
@@ -92,6 +93,33 @@ public final class SabrModelFitter extends SmileModelFitter<SabrFormulaData> {
     super(forward, strikes, timeToExpiry, impliedVols, error, model);
   }
 
+  /**
+   * Constructs SABR model fitter using a Levenberg-Marquardt solver.
+   * <p>
+   * {@code strikes}, {@code impliedVols} and {@code error} should be the same length and ordered coherently.
+   * <p>
+   * The solver is faster than the default one, but does not check that the solution is not a saddle point.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the ordered values of strikes
+   * @param timeToExpiry  the time-to-expiry
+   * @param impliedVols  the market implied volatilities
+   * @param error  the 'measurement' error to apply to the market volatility of a particular option
+   * @param model  the volatility function provider
+   * @param solver  the Levenberg-Marquardt solver
+   */
+  public SabrModelFitter(
+      double forward,
+      DoubleArray strikes,
+      double timeToExpiry,
+      DoubleArray impliedVols,
+      DoubleArray error,
+      VolatilityFunctionProvider<SabrFormulaData> model,
+      LevenbergMarquardtLeastSquare solver) {
+
+    super(forward, strikes, timeToExpiry, impliedVols, error, model, solver);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public SabrFormulaData toSmileModelData(DoubleArray modelParameters) {
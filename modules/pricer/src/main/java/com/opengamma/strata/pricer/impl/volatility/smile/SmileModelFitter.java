@@ -18,6 +18,7 @@ import com.opengamma.strata.math.impl.minimization.NonLinearParameterTransforms;
 import com.opengamma.strata.math.impl.minimization.NonLinearTransformFunction;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResults;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LevenbergMarquardtLeastSquare;
 import com.opengamma.strata.math.impl.statistics.leastsquare.NonLinearLeastSquare;
 
 /**
@@ -27,6 +28,11 @@ import com.opengamma.strata.math.impl.statistics.leastsquare.NonLinearLeastSquar
  * squares between the market and model implied volatilities.
  * <p>
  * All the options must be for the same expiry and (implicitly) on the same underlying.
+ * <p>
+ * By default, the fit uses {@link NonLinearLeastSquare}, which checks that the solution is not a saddle point.
+ * A {@link LevenbergMarquardtLeastSquare} solver can be specified instead, which is faster but makes no such check.
+ * In both cases, the Jacobian is computed from the analytic derivatives of the model,
+ * see {@link VolatilityFunctionProvider#volatilityAdjoint}.
  * 
  * @param <T>  the data of smile model to be calibrated
  */
@@ -45,6 +51,7 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
   private final Function<DoubleArray, DoubleMatrix> volAdjointFunc;
   private final DoubleArray marketValues;
   private final DoubleArray errors;
+  private final LevenbergMarquardtLeastSquare levenbergMarquardt;  // null if the default solver is used
 
   /**
    * Constructs smile model fitter from forward, strikes, time to expiry, implied volatilities and error values.
@@ -65,6 +72,44 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
       DoubleArray impliedVols,
       DoubleArray error,
       VolatilityFunctionProvider<T> model) {
+    this(model, null, forward, strikes, timeToExpiry, impliedVols, error);
+  }
+
+  /**
+   * Constructs smile model fitter using a Levenberg-Marquardt solver.
+   * <p>
+   * {@code strikes}, {@code impliedVols} and {@code error} should be the same length and ordered coherently.
+   * <p>
+   * The solver does not check that the solution is not a saddle point.
+   * 
+   * @param forward  the forward value of the underlying
+   * @param strikes  the ordered values of strikes
+   * @param timeToExpiry  the time-to-expiry
+   * @param impliedVols  the market implied volatilities
+   * @param error  the 'measurement' error to apply to the market volatility of a particular option
+   * @param model  the volatility function provider
+   * @param solver  the Levenberg-Marquardt solver
+   */
+  public SmileModelFitter(
+      double forward,
+      DoubleArray strikes,
+      double timeToExpiry,
+      DoubleArray impliedVols,
+      DoubleArray error,
+      VolatilityFunctionProvider<T> model,
+      LevenbergMarquardtLeastSquare solver) {
+    this(model, ArgChecker.notNull(solver, "solver"), forward, strikes, timeToExpiry, impliedVols, error);
+  }
+
+  // creates an instance, using the default solver if the Levenberg-Marquardt solver is null
+  private SmileModelFitter(
+      VolatilityFunctionProvider<T> model,
+      LevenbergMarquardtLeastSquare levenbergMarquardt,
+      double forward,
+      DoubleArray strikes,
+      double timeToExpiry,
+      DoubleArray impliedVols,
+      DoubleArray error) {
     ArgChecker.notNull(strikes, "strikes");
     ArgChecker.notNull(impliedVols, "implied vols");
     ArgChecker.notNull(error, "errors");
@@ -76,6 +121,7 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
     this.marketValues = impliedVols;
     this.errors = error;
     this.model = model;
+    this.levenbergMarquardt = levenbergMarquardt;
     this.volFunc = new Function<DoubleArray, DoubleArray>() {
       @Override
       public DoubleArray apply(DoubleArray x) {
@@ -139,8 +185,11 @@ public abstract class SmileModelFitter<T extends SmileModelData> {
    */
   public LeastSquareResultsWithTransform solve(DoubleArray start, NonLinearParameterTransforms transform) {
     NonLinearTransformFunction transFunc = new NonLinearTransformFunction(volFunc, volAdjointFunc, transform);
-    LeastSquareResults solRes = SOLVER.solve(marketValues, errors, transFunc.getFittingFunction(),
-        transFunc.getFittingJacobian(), transform.transform(start), getConstraintFunction(transform), getMaximumStep());
+    LeastSquareResults solRes = levenbergMarquardt != null ?
+        levenbergMarquardt.solve(marketValues, errors, transFunc.getFittingFunction(), transFunc.getFittingJacobian(),
+            transform.transform(start), getConstraintFunction(transform), getMaximumStep()) :
+        SOLVER.solve(marketValues, errors, transFunc.getFittingFunction(), transFunc.getFittingJacobian(),
+            transform.transform(start), getConstraintFunction(transform), getMaximumStep());
     return new LeastSquareResultsWithTransform(solRes, transform);
   }
 
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.SwapLegType;
+
+/**
+ * A swap compiled to flat arrays for repeated pricing.
+ * <p>
+ * This is the compiled form of a {@link ResolvedSwap}, holding one {@link CompiledSwapLeg} for each leg.
+ * It is priced by {@link DiscountingCompiledSwapPricer}, producing the same results as
+ * {@link DiscountingSwapProductPricer} without dispatching on the type of each period.
+ * <p>
+ * Compilation is intended to be performed once, with the compiled swap retained and priced many times.
+ * Only simple swaps can be compiled, see {@link CompiledSwapLeg}.
+ * Use {@link #isCompilable(ResolvedSwap)} to check, and price other swaps using {@link DiscountingSwapProductPricer}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledSwap {
+
+  /**
+   * The compiled legs.
+   */
+  private final ImmutableList<CompiledSwapLeg> legs;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the swap can be compiled.
+   *
+   * @param swap  the swap
+   * @return true if the swap can be compiled
+   */
+  public static boolean isCompilable(ResolvedSwap swap) {
+    return swap.getLegs().stream().allMatch(CompiledSwapLeg::isCompilable);
+  }
+
+  /**
+   * Compiles the swap.
+   *
+   * @param swap  the swap
+   * @return the compiled swap
+   * @throws IllegalArgumentException if the swap cannot be compiled
+   */
+  public static CompiledSwap of(ResolvedSwap swap) {
+    ArgChecker.notNull(swap, "swap");
+    return new CompiledSwap(swap.getLegs().stream()
+        .map(CompiledSwapLeg::of)
+        .collect(toImmutableList()));
+  }
+
+  // restricted constructor
+  private CompiledSwap(ImmutableList<CompiledSwapLeg> legs) {
+    this.legs = legs;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the compiled legs.
+   *
+   * @return the legs
+   */
+  public ImmutableList<CompiledSwapLeg> getLegs() {
+    return legs;
+  }
+
+  /**
+   * Gets the first leg of the specified type.
+   *
+   * @param type  the type of leg
+   * @return the leg
+   * @throws IllegalArgumentException if there is no leg of the specified type
+   */
+  public CompiledSwapLeg getLeg(SwapLegType type) {
+    return legs.stream()
+        .filter(leg -> leg.getType() == type)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Swap must contain a leg of type " + type));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CompiledSwap" + legs;
+  }
+
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapLegType;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swap.SwapPaymentPeriod;
+
+/**
+ * A swap leg compiled to flat arrays for repeated pricing.
+ * <p>
+ * Pricing a {@link ResolvedSwapLeg} dispatches on the type of each payment period and rate computation.
+ * When the same legs are priced many times, such as intraday repricing of a large book,
+ * that dispatch and the walk over the object graph dominate.
+ * This class holds the same information as a set of arrays, one element for each payment period,
+ * which is priced by {@link DiscountingCompiledSwapPricer}.
+ * <p>
+ * Only simple legs can be compiled.
+ * Each payment period must be a {@link RatePaymentPeriod} with a single accrual period and no FX reset,
+ * and a rate computation of {@link FixedRateComputation} or {@link IborRateComputation}.
+ * All Ibor rate computations must be of the same index.
+ * Each payment event must be a {@link NotionalExchange}.
+ * <p>
+ * Dates are retained rather than converted to relative times, as the conversion depends on
+ * the valuation date and day count of the curves used to price the leg.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledSwapLeg {
+
+  /**
+   * The type of the leg.
+   */
+  private final SwapLegType type;
+  /**
+   * The currency of the leg.
+   */
+  private final Currency currency;
+  /**
+   * The Ibor index, null if there are no Ibor periods.
+   */
+  private final IborIndex index;
+  /**
+   * The payment date of each period.
+   */
+  final LocalDate[] paymentDates;
+  /**
+   * The signed notional of each period.
+   */
+  final double[] notionals;
+  /**
+   * The accrual year fraction of each period.
+   */
+  final double[] yearFractions;
+  /**
+   * The fixed rate of each period, zero for Ibor periods.
+   */
+  final double[] fixedRates;
+  /**
+   * The Ibor observation of each period, null for fixed periods.
+   */
+  final IborIndexObservation[] observations;
+  /**
+   * The gearing of each period.
+   */
+  final double[] gearings;
+  /**
+   * The spread of each period.
+   */
+  final double[] spreads;
+  /**
+   * Whether the accrual of each period is floored at zero.
+   */
+  final boolean[] notNegative;
+  /**
+   * The payment date of each notional exchange.
+   */
+  final LocalDate[] eventDates;
+  /**
+   * The signed amount of each notional exchange.
+   */
+  final double[] eventAmounts;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the leg can be compiled.
+   *
+   * @param leg  the leg
+   * @return true if the leg can be compiled
+   */
+  public static boolean isCompilable(ResolvedSwapLeg leg) {
+    return unsupportedReason(leg) == null;
+  }
+
+  /**
+   * Compiles the leg.
+   *
+   * @param leg  the leg
+   * @return the compiled leg
+   * @throws IllegalArgumentException if the leg cannot be compiled
+   */
+  public static CompiledSwapLeg of(ResolvedSwapLeg leg) {
+    ArgChecker.notNull(leg, "leg");
+    String reason = unsupportedReason(leg);
+    if (reason != null) {
+      throw new IllegalArgumentException(Messages.format("Swap leg cannot be compiled: {}", reason));
+    }
+    return new CompiledSwapLeg(leg);
+  }
+
+  // finds the reason that the leg cannot be compiled, null if it can be compiled
+  private static String unsupportedReason(ResolvedSwapLeg leg) {
+    IborIndex index = null;
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      if (!(period instanceof RatePaymentPeriod)) {
+        return "payment period type " + period.getClass().getSimpleName();
+      }
+      RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+      if (ratePeriod.getFxReset().isPresent()) {
+        return "FX reset";
+      }
+      if (ratePeriod.getAccrualPeriods().size() != 1) {
+        return "compounding";
+      }
+      RateComputation computation = ratePeriod.getAccrualPeriods().get(0).getRateComputation();
+      if (computation instanceof IborRateComputation) {
+        IborIndex periodIndex = ((IborRateComputation) computation).getIndex();
+        if (index != null && !index.equals(periodIndex)) {
+          return "multiple indices";
+        }
+        index = periodIndex;
+      } else if (!(computation instanceof FixedRateComputation)) {
+        return "rate computation type " + computation.getClass().getSimpleName();
+      }
+    }
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!(event instanceof NotionalExchange)) {
+        return "payment event type " + event.getClass().getSimpleName();
+      }
+    }
+    return null;
+  }
+
+  // restricted constructor
+  private CompiledSwapLeg(ResolvedSwapLeg leg) {
+    List<SwapPaymentPeriod> periods = leg.getPaymentPeriods();
+    int size = periods.size();
+    this.type = leg.getType();
+    this.currency = leg.getCurrency();
+    this.paymentDates = new LocalDate[size];
+    this.notionals = new double[size];
+    this.yearFractions = new double[size];
+    this.fixedRates = new double[size];
+    this.observations = new IborIndexObservation[size];
+    this.gearings = new double[size];
+    this.spreads = new double[size];
+    this.notNegative = new boolean[size];
+    IborIndex index = null;
+    for (int i = 0; i < size; i++) {
+      RatePaymentPeriod period = (RatePaymentPeriod) periods.get(i);
+      RateAccrualPeriod accrualPeriod = period.getAccrualPeriods().get(0);
+      paymentDates[i] = period.getPaymentDate();
+      notionals[i] = period.getNotional();
+      yearFractions[i] = accrualPeriod.getYearFraction();
+      gearings[i] = accrualPeriod.getGearing();
+      spreads[i] = accrualPeriod.getSpread();
+      notNegative[i] = accrualPeriod.getNegativeRateMethod() == NegativeRateMethod.NOT_NEGATIVE;
+      RateComputation computation = accrualPeriod.getRateComputation();
+      if (computation instanceof IborRateComputation) {
+        observations[i] = ((IborRateComputation) computation).getObservation();
+        index = observations[i].getIndex();
+      } else {
+        fixedRates[i] = ((FixedRateComputation) computation).getRate();
+      }
+    }
+    this.index = index;
+    List<SwapPaymentEvent> events = leg.getPaymentEvents();
+    this.eventDates = new LocalDate[events.size()];
+    this.eventAmounts = new double[events.size()];
+    for (int i = 0; i < events.size(); i++) {
+      NotionalExchange event = (NotionalExchange) events.get(i);
+      eventDates[i] = event.getPaymentDate();
+      eventAmounts[i] = event.getPaymentAmount().getAmount();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the type of the leg.
+   *
+   * @return the type
+   */
+  public SwapLegType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the currency of the leg.
+   *
+   * @return the currency
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Gets the number of payment periods.
+   *
+   * @return the number of payment periods
+   */
+  public int getPaymentPeriodCount() {
+    return paymentDates.length;
+  }
+
+  // the Ibor index, null if there are no Ibor periods
+  IborIndex getIndex() {
+    return index;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CompiledSwapLeg[" + type + ", " + currency + ", " + paymentDates.length + " periods]";
+  }
+
+}
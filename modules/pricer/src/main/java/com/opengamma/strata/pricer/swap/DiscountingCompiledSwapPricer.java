@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Pricer for compiled swaps.
+ * <p>
+ * This function provides the ability to price a {@link CompiledSwap}.
+ * The results match those of {@link DiscountingSwapProductPricer} and {@link DiscountingSwapLegPricer}
+ * for the same swap, but are obtained by iterating over the arrays of the compiled legs.
+ * The discount factors and Ibor rates are looked up once for each leg, and no objects
+ * are created for each payment period.
+ */
+public class DiscountingCompiledSwapPricer {
+
+  /**
+   * Default implementation.
+   */
+  public static final DiscountingCompiledSwapPricer DEFAULT = new DiscountingCompiledSwapPricer();
+
+  /**
+   * Creates an instance.
+   */
+  public DiscountingCompiledSwapPricer() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of the compiled swap.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * The result is expressed using the payment currency of each leg.
+   *
+   * @param swap  the compiled swap
+   * @param provider  the rates provider
+   * @return the present value of the swap
+   */
+  public MultiCurrencyAmount presentValue(CompiledSwap swap, RatesProvider provider) {
+    MultiCurrencyAmount total = MultiCurrencyAmount.empty();
+    for (CompiledSwapLeg leg : swap.getLegs()) {
+      total = total.plus(leg.getCurrency(), presentValueInternal(leg, provider));
+    }
+    return total;
+  }
+
+  /**
+   * Calculates the present value of the compiled swap, converted to the specified currency.
+   * <p>
+   * The present value of the product is the value on the valuation date.
+   * The result is converted to the specified currency.
+   *
+   * @param swap  the compiled swap
+   * @param currency  the currency to convert to
+   * @param provider  the rates provider
+   * @return the present value of the swap in the specified currency
+   */
+  public CurrencyAmount presentValue(CompiledSwap swap, Currency currency, RatesProvider provider) {
+    double totalPv = 0d;
+    for (CompiledSwapLeg leg : swap.getLegs()) {
+      double pv = presentValueInternal(leg, provider);
+      totalPv += pv * provider.fxRate(leg.getCurrency(), currency);
+    }
+    return CurrencyAmount.of(currency, totalPv);
+  }
+
+  /**
+   * Calculates the present value of the compiled swap leg.
+   * <p>
+   * The present value of the leg is the value on the valuation date.
+   * The result is expressed using the payment currency of the leg.
+   *
+   * @param leg  the compiled leg
+   * @param provider  the rates provider
+   * @return the present value of the leg
+   */
+  public CurrencyAmount presentValue(CompiledSwapLeg leg, RatesProvider provider) {
+    return CurrencyAmount.of(leg.getCurrency(), presentValueInternal(leg, provider));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of a basis point of the compiled swap leg.
+   * <p>
+   * The present value of a basis point is the value of the leg when the rate is equal to 1.
+   * A better name would be "Present Value of 1".
+   * The quantity is also known as "physical annuity" or "level".
+   * <p>
+   * This matches {@link DiscountingSwapLegPricer#pvbp(com.opengamma.strata.product.swap.ResolvedSwapLeg, RatesProvider)}.
+   *
+   * @param leg  the compiled leg
+   * @param provider  the rates provider
+   * @return the present value of a basis point
+   */
+  public double pvbp(CompiledSwapLeg leg, RatesProvider provider) {
+    int size = leg.paymentDates.length;
+    if (size == 0) {
+      return 0d;
+    }
+    DiscountFactors discountFactors = provider.discountFactors(leg.getCurrency());
+    double pvbp = 0d;
+    for (int i = 0; i < size; i++) {
+      pvbp += discountFactors.discountFactor(leg.paymentDates[i]) * leg.yearFractions[i] * leg.notionals[i];
+    }
+    return pvbp;
+  }
+
+  //-------------------------------------------------------------------------
+  // calculates the present value of the leg in the currency of the leg
+  // the discount factors and Ibor rates are only looked up if there are payments after the valuation date
+  private double presentValueInternal(CompiledSwapLeg leg, RatesProvider provider) {
+    LocalDate valuationDate = provider.getValuationDate();
+    DiscountFactors discountFactors = null;
+    IborIndexRates iborRates = null;
+    double pv = 0d;
+    for (int i = 0; i < leg.paymentDates.length; i++) {
+      LocalDate paymentDate = leg.paymentDates[i];
+      if (paymentDate.isBefore(valuationDate)) {
+        continue;
+      }
+      if (discountFactors == null) {
+        discountFactors = provider.discountFactors(leg.getCurrency());
+        iborRates = leg.getIndex() != null ? provider.iborIndexRates(leg.getIndex()) : null;
+      }
+      IborIndexObservation observation = leg.observations[i];
+      double rawRate = observation != null ? iborRates.rate(observation) : leg.fixedRates[i];
+      double accrual = (rawRate * leg.gearings[i] + leg.spreads[i]) * leg.yearFractions[i];
+      if (leg.notNegative[i]) {
+        accrual = Math.max(accrual, 0d);
+      }
+      pv += accrual * leg.notionals[i] * discountFactors.discountFactor(paymentDate);
+    }
+    for (int i = 0; i < leg.eventDates.length; i++) {
+      LocalDate paymentDate = leg.eventDates[i];
+      if (paymentDate.isBefore(valuationDate)) {
+        continue;
+      }
+      if (discountFactors == null) {
+        discountFactors = provider.discountFactors(leg.getCurrency());
+      }
+      pv += leg.eventAmounts[i] * discountFactors.discountFactor(paymentDate);
+    }
+    return pv;
+  }
+
+}
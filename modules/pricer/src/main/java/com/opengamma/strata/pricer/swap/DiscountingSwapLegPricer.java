@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.swap;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -13,6 +14,7 @@ import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmountAccumulator;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
@@ -559,37 +561,61 @@ public class DiscountingSwapLegPricer {
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    int maxSize = leg.getPaymentPeriods().size();
+    LocalDate[] paymentDates = new LocalDate[maxSize];
+    double[] forecastValues = new double[maxSize];
+    int size = 0;
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
         if (forecastValue != 0d) {
-          Currency currency = period.getCurrency();
-          LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          paymentDates[size] = period.getPaymentDate();
+          forecastValues[size] = forecastValue;
+          size++;
         }
       }
     }
-    return CashFlows.of(builder.build());
+    return cashFlows(leg.getCurrency(), paymentDates, forecastValues, size, provider);
   }
 
   // calculates the cash flow of the events composing the leg in the currency of the swap leg
   CashFlows cashFlowEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    int maxSize = leg.getPaymentEvents().size();
+    LocalDate[] paymentDates = new LocalDate[maxSize];
+    double[] forecastValues = new double[maxSize];
+    int size = 0;
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
         double forecastValue = paymentEventPricer.forecastValue(event, provider);
         if (forecastValue != 0d) {
-          Currency currency = event.getCurrency();
-          LocalDate paymentDate = event.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
+          paymentDates[size] = event.getPaymentDate();
+          forecastValues[size] = forecastValue;
+          size++;
         }
       }
     }
+    return cashFlows(leg.getCurrency(), paymentDates, forecastValues, size, provider);
+  }
+
+  // creates the cash flows from the first 'size' entries of the arrays,
+  // obtaining the discount factors of the payment dates in a single call
+  private static CashFlows cashFlows(
+      Currency currency,
+      LocalDate[] paymentDates,
+      double[] forecastValues,
+      int size,
+      RatesProvider provider) {
+
+    if (size == 0) {
+      return CashFlows.NONE;
+    }
+    LocalDate[] dates = size == paymentDates.length ? paymentDates : Arrays.copyOf(paymentDates, size);
+    double[] discountFactors = new double[size];
+    provider.discountFactors(currency).discountFactors(dates, discountFactors);
+    ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      builder.add(CashFlow.ofForecastValue(dates[i], currency, forecastValues[i], discountFactors[i]));
+    }
     return CashFlows.of(builder.build());
   }
 
@@ -643,23 +669,23 @@ public class DiscountingSwapLegPricer {
   }
 
   private MultiCurrencyAmount currencyExposurePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    MultiCurrencyAmount total = MultiCurrencyAmount.empty();
+    MultiCurrencyAmountAccumulator total = new MultiCurrencyAmountAccumulator();
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
       if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
-        total = total.plus(paymentPeriodPricer.currencyExposure(period, provider));
+        total.add(paymentPeriodPricer.currencyExposure(period, provider));
       }
     }
-    return total;
+    return total.build();
   }
 
   private MultiCurrencyAmount currencyExposureEventsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
-    MultiCurrencyAmount total = MultiCurrencyAmount.empty();
+    MultiCurrencyAmountAccumulator total = new MultiCurrencyAmountAccumulator();
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
       if (!event.getPaymentDate().isBefore(provider.getValuationDate())) {
-        total = total.plus(paymentEventPricer.currencyExposure(event, provider));
+        total.add(paymentEventPricer.currencyExposure(event, provider));
       }
     }
-    return total;
+    return total.build();
   }
 
   //-------------------------------------------------------------------------
@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.pricer.swaption;
 
+import static com.opengamma.strata.collect.Guavate.join;
+
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.ZonedDateTime;
@@ -12,8 +14,13 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
 import com.opengamma.strata.basics.date.DayCount;
@@ -35,6 +42,7 @@ import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.math.impl.rootfinding.NewtonRaphsonSingleRootFinder;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
+import com.opengamma.strata.pricer.impl.option.ImpliedVolatilityFormulaRepository;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrFormulaData;
 import com.opengamma.strata.pricer.impl.volatility.smile.SabrModelFitter;
 import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
@@ -70,6 +78,8 @@ public final class SabrSwaptionCalibrator {
 
   /** The root-finder used in the Alpha calibration to ATM volatility. */
   private static final NewtonRaphsonSingleRootFinder ROOT_FINDER = new NewtonRaphsonSingleRootFinder();
+  /** The tolerance, relative to the shifted forward, for a price below the intrinsic value. */
+  private static final double INTRINSIC_TOLERANCE = 1e-10;
 
   /**
    * The default instance of the class.
@@ -178,7 +188,6 @@ public final class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SabrSwaptionDefinition definition,
       ZonedDateTime calibrationDateTime,
@@ -188,6 +197,129 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
+    return calibrate(
+        definition,
+        calibrationDateTime,
+        data,
+        ratesProvider,
+        betaSurface,
+        shiftSurface,
+        stopOnMathException,
+        MoreExecutors.directExecutor(),
+        null);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, calibrating the expiry/tenor nodes concurrently.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * Each expiry/tenor node is calibrated from several starting points, and each of these least square
+   * problems is calibrated using the executor. The parallelism is therefore controlled by the executor,
+   * for example by the number of threads in a {@link ForkJoinPool}. The result does not depend on the executor used.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the expiry/tenor nodes
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
+    return calibrate(
+        definition,
+        calibrationDateTime,
+        data,
+        ratesProvider,
+        betaSurface,
+        shiftSurface,
+        stopOnMathException,
+        executor,
+        null);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, using existing parameters as a warm start.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * The alpha, rho and nu of the starting parameters, typically the result of the previous day's calibration,
+   * are used as an additional starting point at each expiry/tenor node. This starting point is tried first,
+   * and the standard starting points are only preferred if they produce a strictly better fit.
+   * If the calibration from this starting point fails, the node is calibrated from the standard starting points.
+   * <p>
+   * Each expiry/tenor node is calibrated from several starting points, and each of these least square
+   * problems is calibrated using the executor. The parallelism is therefore controlled by the executor,
+   * for example by the number of threads in a {@link ForkJoinPool}. The result does not depend on the executor used.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate the expiry/tenor nodes
+   * @param startingParameters  the SABR parameters used as an additional starting point
+   * @return the SABR volatility object
+   */
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor,
+      SabrInterestRateParameters startingParameters) {
+
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(startingParameters, "startingParameters");
+    return calibrate(
+        definition,
+        calibrationDateTime,
+        data,
+        ratesProvider,
+        betaSurface,
+        shiftSurface,
+        stopOnMathException,
+        executor,
+        startingParameters);
+  }
+
+  // calibrates all the expiry/tenor nodes, using the starting parameters if not null
+  @SuppressWarnings("null")
+  private SabrParametersSwaptionVolatilities calibrate(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor,
+      SabrInterestRateParameters startingParameters) {
+
     SwaptionVolatilitiesName name = definition.getName();
     FixedIborSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
@@ -197,69 +329,91 @@ public final class SabrSwaptionCalibrator {
     fixed.set(1); // Beta fixed
     BusinessDayAdjustment bda = convention.getFloatingLeg().getStartDateBusinessDayAdjustment();
     LocalDate calibrationDate = calibrationDateTime.toLocalDate();
+    // The least square problems for all nodes and starting points are submitted before any result is used
+    // The nodes are held in data order, ensuring the result does not depend on the executor
+    List<CalibrationNode> nodes = new ArrayList<>();
+    List<Pair<SabrFormulaData, DoubleMatrix>> calibrationResults = new ArrayList<>();
+    try {
+      for (Tenor tenor : data.getTenors()) {
+        RawOptionData tenorData = data.getData(tenor);
+        double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
+        List<Period> expiries = tenorData.getExpiries();
+        int nbExpiries = expiries.size();
+        for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
+          Period expiry = expiries.get(loopexpiry);
+          Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiry);
+          if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
+            continue;
+          }
+          LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiry);
+          LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
+          double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
+          double beta = betaSurface.zValue(timeToExpiry, timeTenor);
+          double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
+          LocalDate endDate = effectiveDate.plus(tenor);
+          SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
+          double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
+          Function<DoubleArray, Pair<LeastSquareResultsWithTransform, DoubleArray>> calibration =
+              start -> calibrationFromStart(forward, shift, fixed, bda, calibrationDateTime, dayCount,
+                  availableSmile.getFirst(), availableSmile.getSecond(), expiry, tenorData, start);
+          List<CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>>> futures = new ArrayList<>(5);
+          DoubleArray warmStart = warmStartParameters(beta, timeToExpiry, timeTenor, startingParameters);
+          if (warmStart != null) {
+            futures.add(CompletableFuture.supplyAsync(() -> warmStartCalibration(calibration, warmStart), executor));
+          }
+          for (DoubleArray start : startParameters(forward, shift, beta)) {
+            futures.add(CompletableFuture.supplyAsync(() -> calibration.apply(start), executor));
+          }
+          CalibrationNode node = new CalibrationNode(tenor, expiry, timeToExpiry, timeTenor, futures);
+          nodes.add(node);
+          // A direct executor has already calibrated the node, so a failure is thrown before the next node
+          if (node.isFailed()) {
+            nodeCalibration(node, stopOnMathException);
+          }
+        }
+      }
+      for (CalibrationNode node : nodes) {
+        calibrationResults.add(nodeCalibration(node, stopOnMathException));
+      }
+    } catch (RuntimeException ex) {
+      // The calibrations that have not started are not needed
+      nodes.forEach(CalibrationNode::cancel);
+      throw ex;
+    }
     // Sorted maps to obtain the surfaces nodes in standard order
     TreeMap<Double, TreeMap<Double, ParameterMetadata>> parameterMetadataTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityAlphaTmp = new TreeMap<>(); // Sensitivity to the calibrating data
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
-    for (Tenor tenor : data.getTenors()) {
-      RawOptionData tenorData = data.getData(tenor);
-      double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
-      List<Period> expiries = tenorData.getExpiries();
-      int nbExpiries = expiries.size();
-      for (int loopexpiry = 0; loopexpiry < nbExpiries; loopexpiry++) {
-        Pair<DoubleArray, DoubleArray> availableSmile = tenorData.availableSmileAtExpiry(expiries.get(loopexpiry));
-        if (availableSmile.getFirst().size() == 0) { // If not data is available, no calibration possible
-          continue;
-        }
-        LocalDate exerciseDate = expirationDate(bda, calibrationDate, expiries.get(loopexpiry));
-        LocalDate effectiveDate = convention.calculateSpotDateFromTradeDate(exerciseDate, refData);
-        double timeToExpiry = dayCount.relativeYearFraction(calibrationDate, exerciseDate);
-        double beta = betaSurface.zValue(timeToExpiry, timeTenor);
-        double shift = shiftSurface.zValue(timeToExpiry, timeTenor);
-        LocalDate endDate = effectiveDate.plus(tenor);
-        SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
-        double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
-        try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
-        } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenor);
-            throw new MathException(message, e);
-          }
-        }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenor.toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+    for (int i = 0; i < nodes.size(); i++) {
+      CalibrationNode node = nodes.get(i);
+      Pair<SabrFormulaData, DoubleMatrix> calibrationResult = calibrationResults.get(i);
+      double timeToExpiry = node.timeToExpiry;
+      double timeTenor = node.timeTenor;
+      if (calibrationResult != null) {
+        SabrFormulaData sabrPoint = calibrationResult.getFirst();
+        DoubleMatrix inverseJacobian = calibrationResult.getSecond();
+        if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
+          parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
+          dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
+          sabrPointTmp.put(timeToExpiry, new TreeMap<>());
         }
+        TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
+        TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
+        TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
+        parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
+            timeToExpiry,
+            timeTenor,
+            node.expiry.toString() + "x" + node.tenor.toString()));
+        dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
+        dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
+        dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
+        sabrPointExpiryMap.put(timeTenor, sabrPoint);
       }
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
@@ -317,12 +471,44 @@ public final class SabrSwaptionCalibrator {
         .dataSensitivityNu(dataSensitivityNu).build();
   }
 
-  // The main part of the calibration. The calibration is done 4 times with different starting points: low and high
-  // volatilities and high and low vol of vol. The best result (in term of chi^2) is returned.
-  private Pair<SabrFormulaData, DoubleMatrix> calibration(
+  // The warm starting point of the calibration, the value of the starting parameters at the node.
+  // Null if there are no starting parameters or their value is outside the model domain.
+  private static DoubleArray warmStartParameters(
+      double beta,
+      double timeToExpiry,
+      double timeTenor,
+      SabrInterestRateParameters startingParameters) {
+
+    if (startingParameters == null) {
+      return null;
+    }
+    double alpha = startingParameters.alpha(timeToExpiry, timeTenor);
+    double rho = startingParameters.rho(timeToExpiry, timeTenor);
+    double nu = startingParameters.nu(timeToExpiry, timeTenor);
+    if (alpha > 0 && nu > 0 && Math.abs(rho) < 1) { // Extrapolated parameters may be outside the model domain
+      return DoubleArray.of(alpha, beta, rho, nu);
+    }
+    return null;
+  }
+
+  // The standard starting points of the calibration: low and high volatilities and high and low vol of vol.
+  private static List<DoubleArray> startParameters(double forward, double shift, double beta) {
+    List<DoubleArray> startParameters = new ArrayList<>(4);
+    double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
+    // Correlation is usually positive for normal and negative for log-normal;.
+    double alphaLow = 0.0025 / Math.pow(forward + shift, beta); // Low vol
+    double alphaHigh = 4 * alphaLow; // High vol
+    startParameters.add(DoubleArray.of(alphaLow, beta, rhoStart, 0.10)); // Low vol of vol
+    startParameters.add(DoubleArray.of(alphaLow, beta, rhoStart, 0.50)); // High vol of vol
+    startParameters.add(DoubleArray.of(alphaHigh, beta, rhoStart, 0.10));
+    startParameters.add(DoubleArray.of(alphaHigh, beta, rhoStart, 0.50));
+    return startParameters;
+  }
+
+  // The least square calibration from one starting point.
+  private Pair<LeastSquareResultsWithTransform, DoubleArray> calibrationFromStart(
       double forward,
       double shift,
-      double beta,
       BitSet fixed,
       BusinessDayAdjustment bda,
       ZonedDateTime calibrationDateTime,
@@ -330,45 +516,68 @@ public final class SabrSwaptionCalibrator {
       DoubleArray strike,
       DoubleArray data,
       Period expiry,
-      RawOptionData rawData) {
+      RawOptionData rawData,
+      DoubleArray startParameters) {
+
+    if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
+      return calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
+    }
+    if (rawData.getDataType().equals(ValueType.PRICE)) {
+      return calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, startParameters, fixed, shift);
+    }
+    if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
+      return calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
+          expiry, forward, strike, rawData.getStrikeType(),
+          data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
+    }
+    throw new IllegalArgumentException("Data type not supported");
+  }
+
+  // The calibration from the warm starting point, null if it failed.
+  // The standard starting points are always calibrated, thus a failure from the warm start does not fail the node.
+  private static Pair<LeastSquareResultsWithTransform, DoubleArray> warmStartCalibration(
+      Function<DoubleArray, Pair<LeastSquareResultsWithTransform, DoubleArray>> calibration,
+      DoubleArray warmStart) {
+
+    try {
+      return calibration.apply(warmStart);
+    } catch (MathException | IllegalArgumentException ex) {
+      // the fit diverged, or the parameters are outside the limits of the fitter
+      return null;
+    }
+  }
+
+  // The best calibration of the node, null if the calibration failed and math exceptions are skipped.
+  private static Pair<SabrFormulaData, DoubleMatrix> nodeCalibration(
+      CalibrationNode node,
+      boolean stopOnMathException) {
+
+    try {
+      return bestCalibration(node.futures);
+    } catch (MathException e) {
+      if (stopOnMathException) {
+        String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(), node.expiry, node.tenor);
+        throw new MathException(message, e);
+      }
+      return null;
+    }
+  }
+
+  // The best result (in term of chi^2) of the calibrations from the different starting points.
+  // The results are examined in the order of the starting points, the first one being kept in case of equality.
+  // A null result, from a failed warm start, is ignored.
+  private static Pair<SabrFormulaData, DoubleMatrix> bestCalibration(
+      List<CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>>> futures) {
 
-    double rhoStart = -0.50 * beta + 0.50 * (1 - beta);
-    // Correlation is usually positive for normal and negative for log-normal;.
-    double[] alphaStart = new double[4];
-    alphaStart[0] = 0.0025 / Math.pow(forward + shift, beta); // Low vol
-    alphaStart[1] = alphaStart[0];
-    alphaStart[2] = 4 * alphaStart[0]; // High vol
-    alphaStart[3] = alphaStart[2];
-    double[] nuStart = new double[4];
-    nuStart[0] = 0.10; // Low vol of vol
-    nuStart[1] = 0.50; // High vol of vol
-    nuStart[2] = 0.10;
-    nuStart[3] = 0.50;
     double chi2 = 1.0E+12; // Large number 
     Pair<LeastSquareResultsWithTransform, DoubleArray> sabrCalibrationResult = null;
-    for (int i = 0; i < 4; i++) { // Try different starting points and take the best
-      DoubleArray startParameters = DoubleArray.of(alphaStart[i], beta, rhoStart, nuStart[i]);
-      Pair<LeastSquareResultsWithTransform, DoubleArray> r = null;
-      if (rawData.getDataType().equals(ValueType.NORMAL_VOLATILITY)) {
-        r = calibrateLsShiftedFromNormalVolatilities(bda, calibrationDateTime, dayCount,
-            expiry, forward, strike, rawData.getStrikeType(),
-            data, startParameters, fixed, shift);
-      } else {
-        if (rawData.getDataType().equals(ValueType.PRICE)) {
-          r = calibrateLsShiftedFromPrices(bda, calibrationDateTime, dayCount,
-              expiry, forward, strike, rawData.getStrikeType(),
-              data, startParameters, fixed, shift);
-        } else {
-          if (rawData.getDataType().equals(ValueType.BLACK_VOLATILITY)) {
-            r = calibrateLsShiftedFromBlackVolatilities(bda, calibrationDateTime, dayCount,
-                expiry, forward, strike, rawData.getStrikeType(),
-                data, rawData.getShift().orElse(0d), startParameters, fixed, shift);
-          } else {
-            throw new IllegalArgumentException("Data type not supported");
-          }
-        }
-      }
-      if (r.getFirst().getChiSq() < chi2) { // Keep best calibration
+    for (CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>> future : futures) {
+      Pair<LeastSquareResultsWithTransform, DoubleArray> r = join(future);
+      if (r != null && r.getFirst().getChiSq() < chi2) { // Keep best calibration
         sabrCalibrationResult = r;
         chi2 = r.getFirst().getChiSq();
       }
@@ -636,10 +845,11 @@ public final class SabrSwaptionCalibrator {
     for (int i = 0; i < nbStrikes; i++) {
       ValueDerivatives price = BlackFormulaRepository.priceAdjoint(
           forward + shiftInput, strikes.get(i) + shiftInput, timeToExpiry, blackVolatilities.get(i), true); // vega-[3]
-      ValueDerivatives iv = BlackFormulaRepository.impliedVolatilityAdjoint(
+      impliedVolatility[i] = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(
           price.getValue(), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry, true);
-      impliedVolatility[i] = iv.getValue();
-      impliedVolatilityDerivatives[i] = iv.getDerivative(0) * price.getDerivative(3);
+      double vega = BlackFormulaRepository.vega(
+          forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry, impliedVolatility[i]);
+      impliedVolatilityDerivatives[i] = price.getDerivative(3) / vega;
     }
     return Pair.of(DoubleArray.ofUnsafe(impliedVolatility), DoubleArray.ofUnsafe(impliedVolatilityDerivatives));
   }
@@ -703,6 +913,9 @@ public final class SabrSwaptionCalibrator {
   /**
    * Creates an array of shifted Black volatilities from option prices and the sensitivities of the 
    * Black volatilities with respect to the price inputs.
+   * <p>
+   * A price at the intrinsic value, or below it by no more than a rounding tolerance of 1e-10 times
+   * the shifted forward, has a volatility and a sensitivity of zero.
    * 
    * @param forward  the forward rate
    * @param shiftOutput  the shift required in the output
@@ -710,6 +923,7 @@ public final class SabrSwaptionCalibrator {
    * @param strikes  the option strikes
    * @param prices  the option prices
    * @return the shifted black volatilities and their derivatives
+   * @throws IllegalArgumentException if a price is below the intrinsic value by more than the tolerance
    */
   public Pair<DoubleArray, DoubleArray> blackVolatilitiesShiftedFromPrices(
       double forward,
@@ -722,10 +936,18 @@ public final class SabrSwaptionCalibrator {
     double[] impliedVolatility = new double[nbStrikes];
     double[] impliedVolatilityDerivatives = new double[nbStrikes];
     for (int i = 0; i < nbStrikes; i++) {
-      ValueDerivatives iv = BlackFormulaRepository.impliedVolatilityAdjoint(
-          prices.get(i), forward + shiftOutput, strikes.get(i) + shiftOutput, timeToExpiry, true);
-      impliedVolatility[i] = iv.getValue();
-      impliedVolatilityDerivatives[i] = iv.getDerivative(0);
+      double forwardShifted = forward + shiftOutput;
+      double strikeShifted = strikes.get(i) + shiftOutput;
+      double price = prices.get(i);
+      double intrinsic = Math.max(forwardShifted - strikeShifted, 0d);
+      if (price <= intrinsic && price >= intrinsic - INTRINSIC_TOLERANCE * Math.abs(forwardShifted)) {
+        // a price at the intrinsic value, or below it from rounding, has a volatility of zero
+        continue;
+      }
+      impliedVolatility[i] = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(
+          price, forwardShifted, strikeShifted, timeToExpiry, true);
+      impliedVolatilityDerivatives[i] = 1d / BlackFormulaRepository.vega(
+          forwardShifted, strikeShifted, timeToExpiry, impliedVolatility[i]);
     }
     return Pair.of(DoubleArray.ofUnsafe(impliedVolatility), DoubleArray.ofUnsafe(impliedVolatilityDerivatives));
   }
@@ -899,4 +1121,42 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * An expiry/tenor node being calibrated.
+   */
+  private static final class CalibrationNode {
+    private final Tenor tenor;
+    private final Period expiry;
+    private final double timeToExpiry;
+    private final double timeTenor;
+    // the calibrations from each starting point, in the order of the starting points
+    private final List<CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>>> futures;
+
+    private CalibrationNode(
+        Tenor tenor,
+        Period expiry,
+        double timeToExpiry,
+        double timeTenor,
+        List<CompletableFuture<Pair<LeastSquareResultsWithTransform, DoubleArray>>> futures) {
+
+      this.tenor = tenor;
+      this.expiry = expiry;
+      this.timeToExpiry = timeToExpiry;
+      this.timeTenor = timeTenor;
+      this.futures = futures;
+    }
+
+    // checks if all the calibrations have completed, at least one of them having failed
+    private boolean isFailed() {
+      return futures.stream().allMatch(CompletableFuture::isDone) &&
+          futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    // cancels the calibrations that have not completed
+    private void cancel() {
+      futures.forEach(future -> future.cancel(false));
+    }
+  }
+
 }
@@ -15,6 +15,7 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
 import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 
 /**
  * Test {@link SimpleDiscountFactors}.
@@ -95,6 +97,17 @@ public class SimpleDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
   
+  public void test_discountFactors() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate[] dates = {DATE_VAL, DATE_AFTER, DATE_AFTER.plusYears(1), DATE_AFTER.plusYears(5)};
+    double[] computed = new double[dates.length];
+    test.discountFactors(dates, computed);
+    for (int i = 0; i < dates.length; i++) {
+      assertEquals(computed[i], test.discountFactor(dates[i]), TOL);
+    }
+    assertThrowsIllegalArg(() -> test.discountFactors(dates, new double[1]));
+  }
+
   public void test_discountFactorTimeDerivative() {
     DiscountFactors test = DiscountFactors.of(GBP, DATE_VAL, CURVE);
     double relativeYearFraction = ACT_365F.relativeYearFraction(DATE_VAL, DATE_AFTER);
@@ -255,6 +268,19 @@ public class SimpleDiscountFactorsTest {
     assertEquals(test.parameterSensitivity(point).size(), 1);
   }
 
+  public void test_addParameterSensitivity() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    test.addParameterSensitivity(ZeroRateSensitivity.of(GBP, 1d, 2d), builder);
+    test.addParameterSensitivity(ZeroRateSensitivity.of(GBP, 4d, -3d), builder);
+    // linear discount factors between nodes 0 and 10, sensitivity to zero rate converted by -1 / (t * df)
+    double amount1 = -2d / (1d * 1.1d);
+    double amount4 = 3d / (4d * 1.4d);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(CURVE.createParameterSensitivity(
+        GBP, DoubleArray.of(0.9d * amount1 + 0.6d * amount4, 0.1d * amount1 + 0.4d * amount4)));
+    assertTrue(builder.build().equalWithTolerance(expected, TOL));
+  }
+
   //-------------------------------------------------------------------------
   public void test_createParameterSensitivity() {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -15,12 +15,17 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.pricer.CompoundedRateType.CONTINUOUS;
 import static com.opengamma.strata.pricer.CompoundedRateType.PERIODIC;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Optional;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendarIds;
+import com.opengamma.strata.basics.date.YearFractionCache;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -31,6 +36,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 
 /**
  * Test {@link ZeroRateDiscountFactors}.
@@ -95,6 +101,31 @@ public class ZeroRateDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
   
+  public void test_discountFactors() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate[] dates = {DATE_VAL, DATE_AFTER, DATE_AFTER.plusYears(1), DATE_AFTER.plusYears(5)};
+    double[] computed = new double[dates.length];
+    test.discountFactors(dates, computed);
+    for (int i = 0; i < dates.length; i++) {
+      assertEquals(computed[i], test.discountFactor(dates[i]), TOL);
+    }
+    assertThrowsIllegalArg(() -> test.discountFactors(dates, new double[1]));
+  }
+
+  public void test_relativeYearFraction_cached() {
+    DayCount dayCount = DayCount.ofBus252(HolidayCalendarIds.BRBD);
+    InterpolatedNodalCurve curve = CURVE.withMetadata(Curves.zeroRates(NAME, dayCount));
+    YearFractionCache cache = YearFractionCache.of(dayCount, DATE_VAL, ImmutableList.of(DATE_AFTER));
+    InterpolatedNodalCurve cachedCurve = CURVE.withMetadata(Curves.zeroRates(NAME, cache));
+    ZeroRateDiscountFactors uncached = ZeroRateDiscountFactors.of(GBP, DATE_VAL, curve);
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, cachedCurve);
+    LocalDate later = DATE_AFTER.plusYears(1);
+    assertEquals(test.relativeYearFraction(DATE_AFTER), dayCount.relativeYearFraction(DATE_VAL, DATE_AFTER));
+    assertEquals(test.relativeYearFraction(later), dayCount.relativeYearFraction(DATE_VAL, later));
+    assertEquals(test.discountFactor(DATE_AFTER), uncached.discountFactor(DATE_AFTER));
+    assertEquals(test.discountFactor(later), uncached.discountFactor(later));
+  }
+
   public void test_discountFactorTimeDerivative() {
     DiscountFactors test = DiscountFactors.of(GBP, DATE_VAL, CURVE);
     double relativeYearFraction = ACT_365F.relativeYearFraction(DATE_VAL, DATE_AFTER);
@@ -243,6 +274,17 @@ public class ZeroRateDiscountFactorsTest {
     assertEquals(test.parameterSensitivity(point).size(), 1);
   }
 
+  public void test_addParameterSensitivity() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    test.addParameterSensitivity(ZeroRateSensitivity.of(GBP, 1d, 2d), builder);
+    test.addParameterSensitivity(ZeroRateSensitivity.of(GBP, 4d, -3d), builder);
+    // linear zero rates between nodes 0 and 10
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(CURVE.createParameterSensitivity(
+        GBP, DoubleArray.of(0.9d * 2d - 0.6d * 3d, 0.1d * 2d - 0.4d * 3d)));
+    assertTrue(builder.build().equalWithTolerance(expected, TOL));
+  }
+
   //-------------------------------------------------------------------------
   public void test_createParameterSensitivity() {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -33,6 +33,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 
 /**
@@ -129,6 +130,17 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertEquals(test.discountFactor(DATE_AFTER), expected);
   }
   
+  public void test_discountFactors() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate[] dates = {DATE_VAL, DATE_AFTER, DATE_AFTER.plusYears(1), DATE_AFTER.plusYears(5)};
+    double[] computed = new double[dates.length];
+    test.discountFactors(dates, computed);
+    for (int i = 0; i < dates.length; i++) {
+      assertEquals(computed[i], test.discountFactor(dates[i]), TOLERANCE_DF);
+    }
+    assertThrowsIllegalArg(() -> test.discountFactors(dates, new double[1]));
+  }
+
   public void test_discountFactorTimeDerivative() {
     DiscountFactors test = DiscountFactors.of(GBP, DATE_VAL, CURVE);
     double relativeYearFraction = ACT_365F.relativeYearFraction(DATE_VAL, DATE_AFTER);
@@ -286,6 +298,27 @@ public class ZeroRatePeriodicDiscountFactorsTest {
     assertEquals(sensi1.getCurrency(), GBP);
   }
 
+  public void test_addParameterSensitivity() {
+    ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    LocalDate dateLater = DATE_VAL.plusYears(7);
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    test.addParameterSensitivity(test.zeroRatePointSensitivity(DATE_AFTER).multipliedBy(25d), builder);
+    test.addParameterSensitivity(test.zeroRatePointSensitivity(dateLater).multipliedBy(-10d), builder);
+    CurrencyParameterSensitivities computed = builder.build();
+    assertEquals(computed.getSensitivities().size(), 1);
+    DoubleArray sensi0 = computed.getSensitivities().get(0).getSensitivity();
+    double shift = 1.0E-6;
+    for (int i = 0; i < X.size(); i++) {
+      ZeroRatePeriodicDiscountFactors testP = ZeroRatePeriodicDiscountFactors.of(
+          GBP, DATE_VAL, InterpolatedNodalCurve.of(META_ZERO_PERIODIC, X, Y.with(i, Y.get(i) + shift), INTERPOLATOR));
+      ZeroRatePeriodicDiscountFactors testM = ZeroRatePeriodicDiscountFactors.of(
+          GBP, DATE_VAL, InterpolatedNodalCurve.of(META_ZERO_PERIODIC, X, Y.with(i, Y.get(i) - shift), INTERPOLATOR));
+      double pvP = 25d * testP.discountFactor(DATE_AFTER) - 10d * testP.discountFactor(dateLater);
+      double pvM = 25d * testM.discountFactor(DATE_AFTER) - 10d * testM.discountFactor(dateLater);
+      assertEquals(sensi0.get(i), (pvP - pvM) / (2 * shift), TOLERANCE_DELTA_FD);
+    }
+  }
+
   //-------------------------------------------------------------------------
   public void test_parameterSensitivity_full() {
     ZeroRatePeriodicDiscountFactors test = ZeroRatePeriodicDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -17,6 +17,7 @@ import java.time.LocalDate;
 
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -85,6 +86,13 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
     assertEquals(computed, expected);
   }
 
+  public void test_presentValue_list() {
+    double computed = PRICER.presentValue(ImmutableList.of(PAYMENT_PERIOD, PAYMENT_PERIOD), ISSUER_CURVE);
+    double expected = 2d * PRICER.presentValue(PAYMENT_PERIOD, ISSUER_CURVE);
+    assertEquals(computed, expected, NOTIONAL * 1e-14);
+    assertEquals(PRICER.presentValue(ImmutableList.of(PAYMENT_PERIOD), ISSUER_CURVE_AFTER), 0d);
+  }
+
   public void test_presentValueWithSpread() {
     double computed = PRICER.presentValueWithSpread(
         PAYMENT_PERIOD, ISSUER_CURVE, Z_SPREAD, PERIODIC, PERIOD_PER_YEAR);
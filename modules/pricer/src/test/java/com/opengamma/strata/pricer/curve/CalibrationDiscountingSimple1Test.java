@@ -19,6 +19,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.testng.annotations.Test;
 
@@ -34,6 +37,7 @@ import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -51,6 +55,7 @@ import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
 import com.opengamma.strata.product.ResolvedTrade;
@@ -209,6 +214,63 @@ public class CalibrationDiscountingSimple1Test {
     }
   }
 
+  public void calibration_starting_provider() {
+    ImmutableRatesProvider base = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, ALL_QUOTES, REF_DATA);
+    MarketData shiftedQuotes = shiftedQuotes(0.0001);
+    ImmutableRatesProvider result = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, shiftedQuotes, REF_DATA, base);
+    // same curve as calibrating from the initial guesses
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(CURVE_GROUP_DEFN, shiftedQuotes, REF_DATA);
+    assertCurveEquals(result, expected, 1.0E-8);
+  }
+
+  public void calibration_concurrent() {
+    // the calibrator is shared by all the threads
+    int nbScenarios = 8;
+    List<MarketData> quotes = new ArrayList<>();
+    List<ImmutableRatesProvider> expected = new ArrayList<>();
+    for (int i = 0; i < nbScenarios; i++) {
+      quotes.add(shiftedQuotes(0.0001 * i));
+      expected.add(CALIBRATOR.calibrate(CURVE_GROUP_DEFN, quotes.get(i), REF_DATA));
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<ImmutableRatesProvider>> futures = new ArrayList<>();
+      for (int i = 0; i < nbScenarios; i++) {
+        MarketData scenarioQuotes = quotes.get(i);
+        futures.add(CompletableFuture.supplyAsync(
+            () -> CALIBRATOR.calibrate(CURVE_GROUP_DEFN, scenarioQuotes, REF_DATA), executor));
+      }
+      for (int i = 0; i < nbScenarios; i++) {
+        assertCurveEquals(futures.get(i).join(), expected.get(i), 0d);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // the quotes, with all the quotes shifted by the same amount
+  private static MarketData shiftedQuotes(double shift) {
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+    for (int i = 0; i < FWD3_NB_NODES; i++) {
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, FWD3_ID_VALUE[i])), FWD3_MARKET_QUOTES[i] + shift);
+    }
+    return builder.build();
+  }
+
+  // checks the parameters of the calibrated curves
+  private static void assertCurveEquals(
+      ImmutableRatesProvider computed,
+      ImmutableRatesProvider expected,
+      double tolerance) {
+
+
+    Curve curve = computed.findData(ALL_CURVE_NAME).get();
+    Curve expectedCurve = expected.findData(ALL_CURVE_NAME).get();
+    for (int i = 0; i < FWD3_NB_NODES; i++) {
+      assertEquals(curve.getParameter(i), expectedCurve.getParameter(i), tolerance);
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test(enabled = false)
   void performance() {
@@ -17,6 +17,7 @@ import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.US
 import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static com.opengamma.strata.product.swap.type.IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -41,18 +42,22 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.DaysAdjustment;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveGroupDefinition;
 import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
@@ -66,6 +71,8 @@ import com.opengamma.strata.market.curve.node.TermDepositCurveNode;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
 import com.opengamma.strata.pricer.deposit.DiscountingTermDepositProductPricer;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
@@ -307,6 +314,8 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
   // Constants
   private static final double TOLERANCE_PV = 1.0E-6;
   private static final double TOLERANCE_PV_DELTA = 1.0E+3;
+  private static final double TOLERANCE_JACOBIAN = 1.0E-8;
+  private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
 
   private static final CurveGroupName CURVE_GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
   private static final InterpolatedNodalCurveDefinition DSC_CURVE_DEFN =
@@ -389,6 +398,72 @@ public class CalibrationZeroRateUsd3OisIrsBsTest {
     calibration_market_quote_sensitivity_check(calibrator, shift);
   }
 
+  public void calibration_jacobian_threeGroups() {
+    ImmutableRatesProvider result =
+        CALIBRATOR.calibrate(ImmutableList.of(GROUP_1, GROUP_2, GROUP_3), KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    // the Jacobian of each group is '[-A^-1 B T | A^-1]', with A^-1 the inverse of the derivative to the group
+    // parameters, B the derivative to the previous parameters and T the Jacobian of the previous curves
+    CurveName[] names = new CurveName[] {DSCON_CURVE_NAME, FWD3_CURVE_NAME, FWD6_CURVE_NAME};
+    DoubleMatrix transition = DoubleMatrix.EMPTY;
+    for (int g = 0; g < names.length; g++) {
+      JacobianCalibrationMatrix jacobian =
+          result.findData(names[g]).get().getMetadata().getInfo(CurveInfoType.JACOBIAN);
+      CurveNode[] nodes = CURVES_NODES.get(g).get(0);
+      int nbPrevious = transition.rowCount();
+      int nbParams = nodes.length;
+      assertEquals(jacobian.getTotalParameterCount(), nbPrevious + nbParams);
+      DoubleMatrix derivatives = DoubleMatrix.ofArrayObjects(nbParams, nbPrevious + nbParams,
+          i -> CALIBRATOR.getMeasures().derivative(nodes[i].resolvedTrade(1d, ALL_QUOTES, REF_DATA), result,
+              jacobian.getOrder()));
+      DoubleMatrix inverse = MATRIX_ALGEBRA.getInverse(
+          DoubleMatrix.of(nbParams, nbParams, (i, j) -> derivatives.get(i, nbPrevious + j)));
+      DoubleMatrix previous = nbPrevious == 0 ? DoubleMatrix.EMPTY : (DoubleMatrix) MATRIX_ALGEBRA.multiply(
+          inverse,
+          MATRIX_ALGEBRA.multiply(DoubleMatrix.of(nbParams, nbPrevious, (i, j) -> derivatives.get(i, j)), transition));
+      DoubleMatrix expected = DoubleMatrix.of(nbParams, nbPrevious + nbParams,
+          (i, j) -> j < nbPrevious ? -previous.get(i, j) : inverse.get(i, j - nbPrevious));
+      DoubleMatrix computed = jacobian.getJacobianMatrix();
+      for (int i = 0; i < nbParams; i++) {
+        assertTrue(computed.row(i).equalWithTolerance(expected.row(i), TOLERANCE_JACOBIAN));
+      }
+      DoubleMatrix transitionPrevious = transition;
+      transition = DoubleMatrix.of(nbPrevious + nbParams, nbPrevious + nbParams, (i, j) -> i >= nbPrevious ?
+          expected.get(i - nbPrevious, j) : (j < nbPrevious ? transitionPrevious.get(i, j) : 0d));
+    }
+  }
+
+  public void recalibrate_unchanged() {
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA);
+    ImmutableRatesProvider result = CALIBRATOR.recalibrate(CURVE_GROUP_CONFIG, ALL_QUOTES, REF_DATA, previous, ALL_QUOTES);
+    assertEquals(result.findData(DSCON_CURVE_NAME), previous.findData(DSCON_CURVE_NAME));
+    assertEquals(result.findData(FWD3_CURVE_NAME), previous.findData(FWD3_CURVE_NAME));
+    assertEquals(result.findData(FWD6_CURVE_NAME), previous.findData(FWD6_CURVE_NAME));
+  }
+
+  public void recalibrate_threeGroups_lastChanged() {
+    List<CurveGroupDefinition> groups = ImmutableList.of(GROUP_1, GROUP_2, GROUP_3);
+    ImmutableRatesProvider previous = CALIBRATOR.calibrate(groups, KNOWN_DATA, ALL_QUOTES, REF_DATA);
+    Map<MarketDataId<?>, Object> map = new HashMap<>(ALL_QUOTES.getValues());
+    map.put(QuoteId.of(StandardId.of(SCHEME, FWD6_ID_VALUE[3])), FWD6_MARKET_QUOTES[3] + 1.0E-4);
+    ImmutableMarketData marketData = ImmutableMarketData.of(VAL_DATE, map);
+    ImmutableRatesProvider result = CALIBRATOR.recalibrate(groups, KNOWN_DATA, marketData, REF_DATA, previous, ALL_QUOTES);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, KNOWN_DATA, marketData, REF_DATA);
+    // unchanged groups are reused
+    assertEquals(result.findData(DSCON_CURVE_NAME), previous.findData(DSCON_CURVE_NAME));
+    assertEquals(result.findData(FWD3_CURVE_NAME), previous.findData(FWD3_CURVE_NAME));
+    // changed group is recalibrated
+    Curve fwd6 = result.findData(FWD6_CURVE_NAME).get();
+    Curve expectedFwd6 = expected.findData(FWD6_CURVE_NAME).get();
+    for (int i = 0; i < FWD6_NB_NODES; i++) {
+      assertEquals(fwd6.getParameter(i), expectedFwd6.getParameter(i), 1.0E-8);
+    }
+    DoubleMatrix jacobian = fwd6.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+    DoubleMatrix expectedJacobian = expectedFwd6.getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+    for (int i = 0; i < jacobian.rowCount(); i++) {
+      assertTrue(jacobian.row(i).equalWithTolerance(expectedJacobian.row(i), 1.0E-6));
+    }
+  }
+
   private void calibration_market_quote_sensitivity_check(
       Function<MarketData, RatesProvider> calibrator,
       double shift) {
@@ -5,18 +5,55 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.assertEquals;
 
 import org.testng.annotations.Test;
 
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.linearalgebra.DecompositionFactory;
+
 /**
  * Tests {@link CurveCalibrator}.
  */
 @Test
 public class CurveCalibratorTest {
 
+  private static final double TOLERANCE = 1e-12;
+
+  public void test_solve() {
+    double[][] a = {{2d, 1d}, {1d, 3d}};
+    double[][] b = {{1d, 0d, 1d}, {0d, 1d, 2d}};
+    double[][] x = CurveCalibrator.solve(a, b);
+    // inverse of a is {{3, -1}, {-1, 2}} / 5
+    double[][] expected = {{0.6, -0.2, 0.2}, {-0.2, 0.4, 0.6}};
+    assertArrayEquals(x, expected);
+  }
+
+  public void test_solve_singular() {
+    double[][] a = {{1d, 2d}, {2d, 4d}};
+    double[][] b = {{1d, 0d}, {0d, 1d}};
+    assertThrowsIllegalArg(() -> DecompositionFactory.LU_OG.apply(DoubleMatrix.ofUnsafe(a)));
+    double[][] x = CurveCalibrator.solve(a, b);
+    // the pseudo-inverse of the rank one matrix 'v v^T' with v = (1, 2) is 'v v^T / |v|^4'
+    double[][] expected = {{0.04, 0.08}, {0.08, 0.16}};
+    assertArrayEquals(x, expected);
+  }
+
   public void test_toString() {
     assertThat(CurveCalibrator.standard().toString()).isEqualTo("CurveCalibrator[ParSpread]");
   }
 
+  //-------------------------------------------------------------------------
+  private static void assertArrayEquals(double[][] computed, double[][] expected) {
+    assertEquals(computed.length, expected.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(computed[i].length, expected[i].length);
+      for (int j = 0; j < expected[i].length; j++) {
+        assertEquals(computed[i][j], expected[i][j], TOLERANCE);
+      }
+    }
+  }
+
 }
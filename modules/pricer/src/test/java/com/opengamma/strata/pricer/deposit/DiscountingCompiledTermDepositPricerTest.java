@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.deposit;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.GBLO;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.deposit.ResolvedTermDeposit;
+import com.opengamma.strata.product.deposit.TermDeposit;
+
+/**
+ * Test {@link DiscountingCompiledTermDepositPricer} and {@link CompiledTermDepositGroup}.
+ */
+@Test
+public class DiscountingCompiledTermDepositPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider RATES = RatesProviderDataSets.MULTI_GBP_USD;
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double TOL = 1.0e-12;
+
+  private static final DiscountingCompiledTermDepositPricer PRICER = DiscountingCompiledTermDepositPricer.DEFAULT;
+  private static final DiscountingTermDepositProductPricer PRICER_DEPOSIT = DiscountingTermDepositProductPricer.DEFAULT;
+
+  private static final TermDeposit DEPOSIT = TermDeposit.builder()
+      .buySell(BuySell.BUY)
+      .startDate(date(2014, 1, 24))
+      .endDate(date(2014, 7, 24))
+      .businessDayAdjustment(BusinessDayAdjustment.of(MODIFIED_FOLLOWING, GBLO))
+      .dayCount(ACT_365F)
+      .notional(NOTIONAL)
+      .currency(GBP)
+      .rate(0.0075)
+      .build();
+  private static final ResolvedTermDeposit DEPOSIT_GBP_6M = DEPOSIT.resolve(REF_DATA);
+  private static final ResolvedTermDeposit DEPOSIT_GBP_2Y = DEPOSIT.toBuilder()
+      .buySell(BuySell.SELL)
+      .endDate(date(2016, 1, 25))
+      .rate(0.0125)
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedTermDeposit DEPOSIT_GBP_STARTED = DEPOSIT.toBuilder()
+      .startDate(date(2013, 12, 20))
+      .endDate(date(2014, 3, 20))
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedTermDeposit DEPOSIT_USD_1Y = DEPOSIT.toBuilder()
+      .currency(USD)
+      .dayCount(ACT_360)
+      .endDate(date(2015, 1, 26))
+      .rate(0.0050)
+      .build()
+      .resolve(REF_DATA);
+  private static final List<ResolvedTermDeposit> DEPOSITS = ImmutableList.of(
+      DEPOSIT_GBP_6M, DEPOSIT_USD_1Y, DEPOSIT_GBP_2Y, DEPOSIT_GBP_STARTED);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CompiledTermDepositGroup test = CompiledTermDepositGroup.of(ImmutableList.of(DEPOSIT_GBP_6M, DEPOSIT_GBP_2Y));
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getPositions(), IntArray.of(0, 1));
+    assertEquals(test.size(), 2);
+    assertThrowsIllegalArg(() -> CompiledTermDepositGroup.of(ImmutableList.of(DEPOSIT_GBP_6M, DEPOSIT_USD_1Y)));
+    assertThrowsIllegalArg(() -> CompiledTermDepositGroup.of(ImmutableList.of()));
+  }
+
+  public void test_groupOf() {
+    List<CompiledTermDepositGroup> test = CompiledTermDepositGroup.groupOf(DEPOSITS);
+    assertEquals(test.size(), 2);
+    assertEquals(test.get(0).getCurrency(), GBP);
+    assertEquals(test.get(0).getPositions(), IntArray.of(0, 2, 3));
+    assertEquals(test.get(1).getCurrency(), USD);
+    assertEquals(test.get(1).getPositions(), IntArray.of(1));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue() {
+    for (CompiledTermDepositGroup group : CompiledTermDepositGroup.groupOf(DEPOSITS)) {
+      CurrencyAmountArray computed = PRICER.presentValue(group, RATES);
+      assertEquals(computed.getCurrency(), group.getCurrency());
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedTermDeposit deposit = DEPOSITS.get(group.getPositions().get(i));
+        assertEquals(
+            computed.getValues().get(i),
+            PRICER_DEPOSIT.presentValue(deposit, RATES).getAmount(),
+            NOTIONAL * TOL);
+      }
+    }
+  }
+
+  public void test_presentValue_afterEnd() {
+    LocalDate valDate = date(2014, 8, 1);
+    ImmutableRatesProvider provider = RatesProviderDataSets.multiGbpUsd(valDate);
+    CompiledTermDepositGroup group = CompiledTermDepositGroup.of(ImmutableList.of(DEPOSIT_GBP_6M, DEPOSIT_GBP_2Y));
+    CurrencyAmountArray computed = PRICER.presentValue(group, provider);
+    assertEquals(computed.getValues().get(0), 0d);
+    assertEquals(
+        computed.getValues().get(1),
+        PRICER_DEPOSIT.presentValue(DEPOSIT_GBP_2Y, provider).getAmount(),
+        NOTIONAL * TOL);
+  }
+
+  public void test_presentValueSensitivity() {
+    for (CompiledTermDepositGroup group : CompiledTermDepositGroup.groupOf(DEPOSITS)) {
+      PointSensitivities computed = PRICER.presentValueSensitivity(group, RATES);
+      PointSensitivities expected = PointSensitivities.empty();
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedTermDeposit deposit = DEPOSITS.get(group.getPositions().get(i));
+        expected = expected.combinedWith(PRICER_DEPOSIT.presentValueSensitivity(deposit, RATES));
+      }
+      assertTrue(computed.normalized().equalWithTolerance(expected.normalized(), NOTIONAL * TOL));
+    }
+  }
+
+  public void test_parRate() {
+    for (CompiledTermDepositGroup group : CompiledTermDepositGroup.groupOf(DEPOSITS)) {
+      DoubleArray computed = PRICER.parRate(group, RATES);
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedTermDeposit deposit = DEPOSITS.get(group.getPositions().get(i));
+        assertEquals(computed.get(i), PRICER_DEPOSIT.parRate(deposit, RATES), TOL);
+      }
+    }
+  }
+
+}
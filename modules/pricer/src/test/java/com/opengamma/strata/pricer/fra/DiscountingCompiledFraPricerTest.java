@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fra;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.pricer.fra.FraDummyData.FRA;
+import static com.opengamma.strata.pricer.fra.FraDummyData.FRA_AFMA;
+import static com.opengamma.strata.pricer.fra.FraDummyData.FRA_NONE;
+import static com.opengamma.strata.pricer.fra.FraDummyData.NOTIONAL;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmountArray;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.IntArray;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.fra.ResolvedFra;
+
+/**
+ * Test {@link DiscountingCompiledFraPricer} and {@link CompiledFraGroup}.
+ */
+@Test
+public class DiscountingCompiledFraPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider RATES = RatesProviderDataSets.MULTI_GBP_USD;
+  private static final double TOL = 1.0e-12;
+
+  private static final DiscountingCompiledFraPricer PRICER = DiscountingCompiledFraPricer.DEFAULT;
+  private static final DiscountingFraProductPricer PRICER_FRA = DiscountingFraProductPricer.DEFAULT;
+
+  private static final ResolvedFra FRA_GBP_3M = FRA.resolve(REF_DATA);
+  private static final ResolvedFra FRA_GBP_3M_AFMA = FRA_AFMA.resolve(REF_DATA);
+  private static final ResolvedFra FRA_GBP_3M_NONE = FRA_NONE.resolve(REF_DATA);
+  private static final ResolvedFra FRA_GBP_6M = FRA.toBuilder()
+      .index(GBP_LIBOR_6M)
+      .startDate(date(2014, 6, 12))
+      .endDate(date(2014, 12, 12))
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedFra FRA_USD_3M = FRA.toBuilder()
+      .currency(USD)
+      .index(USD_LIBOR_3M)
+      .startDate(date(2015, 3, 18))
+      .endDate(date(2015, 6, 18))
+      .fixedRate(0.02)
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedFra FRA_GBP_3M_LATE = FRA.toBuilder()
+      .startDate(date(2016, 1, 12))
+      .endDate(date(2016, 4, 12))
+      .fixedRate(0.03)
+      .build()
+      .resolve(REF_DATA);
+  private static final ResolvedFra FRA_INTERPOLATED = FRA.toBuilder()
+      .index(GBP_LIBOR_3M)
+      .indexInterpolated(GBP_LIBOR_6M)
+      .endDate(date(2015, 1, 12))
+      .build()
+      .resolve(REF_DATA);
+  private static final List<ResolvedFra> FRAS = ImmutableList.of(
+      FRA_GBP_3M, FRA_USD_3M, FRA_GBP_3M_AFMA, FRA_GBP_6M, FRA_GBP_3M_NONE, FRA_GBP_3M_LATE);
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CompiledFraGroup test = CompiledFraGroup.of(ImmutableList.of(FRA_GBP_3M, FRA_GBP_3M_AFMA));
+    assertEquals(test.getCurrency(), GBP);
+    assertEquals(test.getIndex(), GBP_LIBOR_3M);
+    assertEquals(test.getPositions(), IntArray.of(0, 1));
+    assertEquals(test.size(), 2);
+    assertThrowsIllegalArg(() -> CompiledFraGroup.of(ImmutableList.of(FRA_GBP_3M, FRA_GBP_6M)));
+    assertThrowsIllegalArg(() -> CompiledFraGroup.of(ImmutableList.of(FRA_GBP_3M, FRA_USD_3M)));
+    assertThrowsIllegalArg(() -> CompiledFraGroup.of(ImmutableList.of()));
+  }
+
+  public void test_groupOf() {
+    List<CompiledFraGroup> test = CompiledFraGroup.groupOf(FRAS);
+    assertEquals(test.size(), 3);
+    assertEquals(test.get(0).getIndex(), GBP_LIBOR_3M);
+    assertEquals(test.get(0).getPositions(), IntArray.of(0, 2, 4, 5));
+    assertEquals(test.get(1).getCurrency(), USD);
+    assertEquals(test.get(1).getPositions(), IntArray.of(1));
+    assertEquals(test.get(2).getIndex(), GBP_LIBOR_6M);
+    assertEquals(test.get(2).getPositions(), IntArray.of(3));
+  }
+
+  public void test_notCompilable() {
+    assertTrue(CompiledFraGroup.isCompilable(FRA_GBP_3M));
+    assertFalse(CompiledFraGroup.isCompilable(FRA_INTERPOLATED));
+    assertThrowsIllegalArg(() -> CompiledFraGroup.of(ImmutableList.of(FRA_INTERPOLATED)));
+    assertThrowsIllegalArg(() -> CompiledFraGroup.groupOf(ImmutableList.of(FRA_GBP_3M, FRA_INTERPOLATED)));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue() {
+    for (CompiledFraGroup group : CompiledFraGroup.groupOf(FRAS)) {
+      CurrencyAmountArray computed = PRICER.presentValue(group, RATES);
+      assertEquals(computed.getCurrency(), group.getCurrency());
+      assertEquals(computed.size(), group.size());
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedFra fra = FRAS.get(group.getPositions().get(i));
+        assertEquals(computed.getValues().get(i), PRICER_FRA.presentValue(fra, RATES).getAmount(), NOTIONAL * TOL);
+      }
+    }
+  }
+
+  public void test_presentValue_afterPayment() {
+    LocalDate valDate = date(2015, 1, 22);
+    ImmutableRatesProvider provider = RatesProviderDataSets.multiGbpUsd(valDate);
+    List<ResolvedFra> fras = ImmutableList.of(FRA_GBP_3M, FRA_GBP_3M_LATE);
+    CurrencyAmountArray computed = PRICER.presentValue(CompiledFraGroup.of(fras), provider);
+    assertEquals(computed.getValues().get(0), 0d);
+    assertEquals(
+        computed.getValues().get(1), PRICER_FRA.presentValue(FRA_GBP_3M_LATE, provider).getAmount(), NOTIONAL * TOL);
+  }
+
+  public void test_presentValueSensitivity() {
+    for (CompiledFraGroup group : CompiledFraGroup.groupOf(FRAS)) {
+      PointSensitivities computed = PRICER.presentValueSensitivity(group, RATES);
+      PointSensitivities expected = PointSensitivities.empty();
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedFra fra = FRAS.get(group.getPositions().get(i));
+        expected = expected.combinedWith(PRICER_FRA.presentValueSensitivity(fra, RATES));
+      }
+      assertTrue(computed.normalized().equalWithTolerance(expected.normalized(), NOTIONAL * TOL));
+    }
+  }
+
+  public void test_parRate() {
+    for (CompiledFraGroup group : CompiledFraGroup.groupOf(FRAS)) {
+      DoubleArray computed = PRICER.parRate(group, RATES);
+      for (int i = 0; i < group.size(); i++) {
+        ResolvedFra fra = FRAS.get(group.getPositions().get(i));
+        assertEquals(computed.get(i), PRICER_FRA.parRate(fra, RATES), TOL);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link ImpliedVolatilityFormulaRepository}.
+ */
+@Test
+public class ImpliedVolatilityFormulaRepositoryTest {
+
+  private static final double FORWARD = 0.035;
+  private static final double[] MONEYNESS = {0.3, 0.5, 0.7, 0.9, 0.99, 1d, 1.01, 1.1, 1.5, 2d, 3d};
+  private static final double[] TIMES = {0.01, 0.25, 1d, 5d, 30d};
+  private static final double[] BLACK_VOLS = {0.02, 0.1, 0.3, 0.8, 1.5};
+  private static final double[] NORMAL_VOLS = {0.0005, 0.002, 0.01, 0.05};
+  private static final double TOLERANCE_VOL = 1.0e-10;
+
+  //-------------------------------------------------------------------------
+  public void test_blackImpliedVolatility() {
+    for (double moneyness : MONEYNESS) {
+      double strike = FORWARD * moneyness;
+      for (double time : TIMES) {
+        for (double vol : BLACK_VOLS) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, isCall);
+            double intrinsic = Math.max(0d, (isCall ? 1d : -1d) * (FORWARD - strike));
+            // the time value must be representable for the volatility to be recovered
+            if (BlackFormulaRepository.vega(FORWARD, strike, time, vol) * vol < 1.0e-4 * Math.max(price, 1e-10) ||
+                price - intrinsic < 1.0e-8 * price) {
+              continue;
+            }
+            double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, isCall);
+            assertEquals(computed, vol, TOLERANCE_VOL * vol, "K=" + strike + " T=" + time + " vol=" + vol);
+          }
+        }
+      }
+    }
+  }
+
+  public void test_blackImpliedVolatility_wideRange() {
+    // normalised volatility from deep out-of-the-money to very high volatility
+    double forward = 1d;
+    double time = 1d;
+    for (double logMoneyness = -5d; logMoneyness <= 5d; logMoneyness += 0.25d) {
+      double strike = forward * Math.exp(-logMoneyness);
+      boolean isCall = logMoneyness <= 0d;
+      for (double vol = 0.05; vol <= 4d; vol *= 1.5d) {
+        double price = BlackFormulaRepository.price(forward, strike, time, vol, isCall);
+        if (price < 1.0e-200) {
+          continue;
+        }
+        double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, forward, strike, time, isCall);
+        assertEquals(computed, vol, TOLERANCE_VOL * vol, "x=" + logMoneyness + " vol=" + vol);
+      }
+    }
+  }
+
+  public void test_blackImpliedVolatility_consistentWithSolver() {
+    double time = 2d;
+    double vol = 0.25;
+    for (double moneyness : MONEYNESS) {
+      double strike = FORWARD * moneyness;
+      double price = BlackFormulaRepository.price(FORWARD, strike, time, vol, true);
+      double expected = BlackFormulaRepository.impliedVolatility(price, FORWARD, strike, time, true);
+      double computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatility(price, FORWARD, strike, time, true);
+      assertEquals(computed, expected, 1.0e-8);
+    }
+  }
+
+  public void test_blackImpliedVolatility_intrinsic() {
+    assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0d, 1d, 1.2d, 1d, true), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.25d, 1.25d, 1d, 1d, true), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.25d, 1d, 1.25d, 1d, false), 0d);
+  }
+
+  public void test_blackImpliedVolatility_invalid() {
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1d, 1.2d, 1d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(1.2d, 1.2d, 1d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(1.2d, 1d, 1.2d, 1d, false));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1d, -1d, 1d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1d, 1d, 0d, 1d, true));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatility(0.1d, 1d, 1d, 0d, true));
+  }
+
+  public void test_blackImpliedVolatilities() {
+    double time = 1.5;
+    double[] strikes = new double[MONEYNESS.length];
+    double[] prices = new double[MONEYNESS.length];
+    for (int i = 0; i < MONEYNESS.length; i++) {
+      strikes[i] = FORWARD * MONEYNESS[i];
+      prices[i] = BlackFormulaRepository.price(FORWARD, strikes[i], time, 0.2 + 0.01 * i, false);
+    }
+    double[] computed = ImpliedVolatilityFormulaRepository.blackImpliedVolatilities(prices, FORWARD, strikes, time, false);
+    for (int i = 0; i < MONEYNESS.length; i++) {
+      assertEquals(computed[i], ImpliedVolatilityFormulaRepository.blackImpliedVolatility(
+          prices[i], FORWARD, strikes[i], time, false));
+      assertEquals(computed[i], 0.2 + 0.01 * i, TOLERANCE_VOL);
+    }
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.blackImpliedVolatilities(
+        new double[2], FORWARD, strikes, time, false));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_normalImpliedVolatility() {
+    for (double moneyness : MONEYNESS) {
+      double strike = FORWARD * moneyness;
+      for (double time : TIMES) {
+        for (double vol : NORMAL_VOLS) {
+          for (PutCall putCall : PutCall.values()) {
+            double price = NormalFormulaRepository.price(FORWARD, strike, time, vol, putCall);
+            double intrinsic = Math.max(0d, (putCall.isCall() ? 1d : -1d) * (FORWARD - strike));
+            // the time value must be representable for the volatility to be recovered
+            if (price - intrinsic < 1.0e-6 * Math.max(price, 1.0e-10)) {
+              continue;
+            }
+            double computed = ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+                price, FORWARD, strike, time, putCall);
+            assertEquals(computed, vol, TOLERANCE_VOL * vol, "K=" + strike + " T=" + time + " vol=" + vol);
+          }
+        }
+      }
+    }
+  }
+
+  public void test_normalImpliedVolatility_negativeRates() {
+    double forward = -0.002;
+    double time = 3d;
+    double vol = 0.006;
+    for (double strike = -0.02; strike <= 0.02; strike += 0.0025) {
+      double price = NormalFormulaRepository.price(forward, strike, time, vol, PutCall.PUT);
+      double computed = ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+          price, forward, strike, time, PutCall.PUT);
+      assertEquals(computed, vol, TOLERANCE_VOL * vol);
+    }
+  }
+
+  public void test_normalImpliedVolatility_intrinsic() {
+    assertEquals(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0d, 0.01d, 0.02d, 1d, PutCall.CALL), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0.01d, 0.01d, 0.02d, 1d, PutCall.PUT), 0d);
+    assertEquals(ImpliedVolatilityFormulaRepository.normalImpliedVolatility(0d, 0.01d, 0.01d, 1d, PutCall.PUT), 0d);
+  }
+
+  public void test_normalImpliedVolatility_invalid() {
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+        0.005d, 0.02d, 0.01d, 1d, PutCall.CALL));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+        -0.001d, 0.01d, 0.01d, 1d, PutCall.CALL));
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatility(
+        0.005d, 0.01d, 0.01d, 0d, PutCall.CALL));
+  }
+
+  public void test_normalImpliedVolatilities() {
+    double time = 1.5;
+    double[] strikes = new double[MONEYNESS.length];
+    double[] prices = new double[MONEYNESS.length];
+    for (int i = 0; i < MONEYNESS.length; i++) {
+      strikes[i] = FORWARD * MONEYNESS[i];
+      prices[i] = NormalFormulaRepository.price(FORWARD, strikes[i], time, 0.01 + 0.001 * i, PutCall.CALL);
+    }
+    double[] computed = ImpliedVolatilityFormulaRepository.normalImpliedVolatilities(
+        prices, FORWARD, strikes, time, PutCall.CALL);
+    for (int i = 0; i < MONEYNESS.length; i++) {
+      assertEquals(computed[i], 0.01 + 0.001 * i, TOLERANCE_VOL);
+    }
+    assertThrowsIllegalArg(() -> ImpliedVolatilityFormulaRepository.normalImpliedVolatilities(
+        prices, FORWARD, new double[1], time, PutCall.CALL));
+  }
+
+}
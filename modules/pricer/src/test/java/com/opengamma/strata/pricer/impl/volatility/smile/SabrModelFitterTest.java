@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.impl.volatility.smile;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
@@ -18,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.minimization.NonLinearParameterTransforms;
 import com.opengamma.strata.math.impl.statistics.leastsquare.LeastSquareResultsWithTransform;
+import com.opengamma.strata.math.impl.statistics.leastsquare.LevenbergMarquardtLeastSquare;
 
 import cern.jet.random.engine.MersenneTwister;
 import cern.jet.random.engine.RandomEngine;
@@ -110,6 +112,30 @@ public class SabrModelFitterTest extends SmileModelFitterTest<SabrFormulaData> {
     assertEquals(0.0, results.getChiSq(), eps);
   }
 
+  public void testExactFitLevenbergMarquardt() {
+    SabrModelFitter fitter = new SabrModelFitter(F, DoubleArray.copyOf(STRIKES), TIME_TO_EXPIRY,
+        DoubleArray.copyOf(_cleanVols), DoubleArray.copyOf(_errors), getModel(), LevenbergMarquardtLeastSquare.of(1e-12));
+    DoubleArray start = DoubleArray.of(0.1, 0.5, 0.0, 0.3);
+    BitSet fixed = new BitSet();
+    fixed.set(1);
+    LeastSquareResultsWithTransform results = fitter.solve(start, fixed);
+    LeastSquareResultsWithTransform expected = _fitter.solve(start, fixed);
+    double[] res = results.getModelParameters().toArray();
+    double eps = 1e-6;
+    assertEquals(ALPHA, res[0], eps);
+    assertEquals(BETA, res[1], eps);
+    assertEquals(RHO, res[2], eps);
+    assertEquals(NU, res[3], eps);
+    assertEquals(0.0, results.getChiSq(), eps);
+    DoubleMatrix sensitivity = results.getModelParameterSensitivityToData();
+    DoubleMatrix sensitivityExpected = expected.getModelParameterSensitivityToData();
+    for (int i = 0; i < sensitivity.rowCount(); i++) {
+      assertTrue(sensitivity.row(i).equalWithTolerance(sensitivityExpected.row(i), 1e-4));
+    }
+    assertThrowsIllegalArg(() -> new SabrModelFitter(F, DoubleArray.copyOf(STRIKES), TIME_TO_EXPIRY,
+        DoubleArray.copyOf(_cleanVols), DoubleArray.copyOf(_errors), getModel(), null));
+  }
+
   public void testExactFitWithFixedBeta() {
     DoubleArray start = DoubleArray.of(0.1, 0.5, 0.0, 0.3);
     BitSet fixed = new BitSet();
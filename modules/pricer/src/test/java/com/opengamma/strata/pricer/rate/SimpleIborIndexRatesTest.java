@@ -15,6 +15,7 @@ import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -34,6 +35,7 @@ import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivitiesBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 
 /**
@@ -202,6 +204,18 @@ public class SimpleIborIndexRatesTest {
     assertEquals(test.parameterSensitivity(point).size(), 1);
   }
 
+  public void test_addParameterSensitivity() {
+    SimpleIborIndexRates test = SimpleIborIndexRates.of(GBP_LIBOR_3M, DATE_VAL, CURVE, SERIES);
+    CurrencyParameterSensitivitiesBuilder builder = CurrencyParameterSensitivities.builder();
+    test.addParameterSensitivity(IborRateSensitivity.of(GBP_LIBOR_3M_AFTER, GBP, 2d), builder);
+    test.addParameterSensitivity(IborRateSensitivity.of(GBP_LIBOR_3M_AFTER, GBP, -3d), builder);
+    // linear forward rates between nodes 0 and 10, at the maturity of the observation
+    double weight = CURVE_DAY_COUNT.relativeYearFraction(DATE_VAL, GBP_LIBOR_3M_AFTER.getMaturityDate()) / 10d;
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.of(
+        CURVE.createParameterSensitivity(GBP, DoubleArray.of(-(1d - weight), -weight)));
+    assertTrue(builder.build().equalWithTolerance(expected, TOLERANCE_RATE));
+  }
+
   //-------------------------------------------------------------------------
   public void test_createParameterSensitivity() {
     SimpleIborIndexRates test = SimpleIborIndexRates.of(GBP_LIBOR_3M, DATE_VAL, CURVE, SERIES);
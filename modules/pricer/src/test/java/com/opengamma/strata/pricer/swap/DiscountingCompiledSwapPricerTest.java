@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2017 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swap;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.Tenor.TENOR_10Y;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_FX_RESET_SWAP_LEG_PAY_GBP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.FIXED_SWAP_LEG_PAY;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.IBOR_SWAP_LEG_REC_GBP_MULTI;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_CROSS_CURRENCY;
+import static com.opengamma.strata.pricer.swap.SwapDummyData.SWAP_INFLATION;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.GBP_FIXED_1Y_LIBOR_3M;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.testng.annotations.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
+import com.opengamma.strata.product.swap.RatePaymentPeriod;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapLegType;
+
+/**
+ * Test {@link DiscountingCompiledSwapPricer} and {@link CompiledSwap}.
+ */
+@Test
+public class DiscountingCompiledSwapPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final ImmutableRatesProvider RATES_GBP = RatesProviderDataSets.MULTI_GBP;
+  private static final ImmutableRatesProvider RATES_GBP_USD = RatesProviderDataSets.MULTI_GBP_USD;
+  private static final LocalDate VAL_DATE = RATES_GBP.getValuationDate();
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double TOL = 1.0e-13;
+
+  private static final DiscountingCompiledSwapPricer PRICER = DiscountingCompiledSwapPricer.DEFAULT;
+  private static final DiscountingSwapProductPricer PRICER_SWAP = DiscountingSwapProductPricer.DEFAULT;
+  private static final DiscountingSwapLegPricer PRICER_LEG = DiscountingSwapLegPricer.DEFAULT;
+  private static final ResolvedSwap SWAP_10Y = GBP_FIXED_1Y_LIBOR_3M
+      .createTrade(VAL_DATE, TENOR_10Y, BUY, NOTIONAL, 0.02, REF_DATA)
+      .resolve(REF_DATA)
+      .getProduct();
+
+  //-------------------------------------------------------------------------
+  public void test_of() {
+    CompiledSwap test = CompiledSwap.of(SWAP_10Y);
+    assertEquals(test.getLegs().size(), 2);
+    CompiledSwapLeg fixedLeg = test.getLeg(SwapLegType.FIXED);
+    assertEquals(fixedLeg.getCurrency(), GBP);
+    assertEquals(fixedLeg.getPaymentPeriodCount(), 10);
+    assertEquals(test.getLeg(SwapLegType.IBOR).getPaymentPeriodCount(), 40);
+    assertThrowsIllegalArg(() -> test.getLeg(SwapLegType.OVERNIGHT));
+  }
+
+  public void test_of_notCompilable() {
+    assertTrue(CompiledSwap.isCompilable(SWAP_10Y));
+    assertTrue(CompiledSwapLeg.isCompilable(IBOR_SWAP_LEG_REC_GBP_MULTI));
+    assertFalse(CompiledSwap.isCompilable(SWAP_INFLATION));
+    assertFalse(CompiledSwapLeg.isCompilable(FIXED_FX_RESET_SWAP_LEG_PAY_GBP));
+    assertFalse(CompiledSwapLeg.isCompilable(FIXED_CMP_FLAT_SWAP_LEG_PAY_GBP));
+    assertThrowsIllegalArg(() -> CompiledSwap.of(SWAP_INFLATION));
+    assertThrowsIllegalArg(() -> CompiledSwapLeg.of(FIXED_FX_RESET_SWAP_LEG_PAY_GBP));
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_presentValue() {
+    assertPresentValue(SWAP_10Y, RATES_GBP);
+    assertPresentValue(SWAP, RATES_GBP);
+    assertPresentValue(SWAP_CROSS_CURRENCY, RATES_GBP_USD);
+  }
+
+  public void test_presentValue_afterValuation() {
+    LocalDate valDate = VAL_DATE.plusYears(3).plusMonths(1);
+    LocalDateDoubleTimeSeriesBuilder fixings = LocalDateDoubleTimeSeries.builder();
+    for (LocalDate date = VAL_DATE; !date.isAfter(valDate); date = date.plusDays(1)) {
+      fixings.put(date, 0.005);
+    }
+    ImmutableRatesProvider provider = RatesProviderDataSets.multiGbp(valDate).toBuilder()
+        .timeSeries(GBP_LIBOR_3M, fixings.build())
+        .build();
+    assertPresentValue(SWAP_10Y, provider);
+  }
+
+  public void test_presentValue_spreadGearingNotNegative() {
+    ResolvedSwapLeg iborLeg = SWAP_10Y.getLegs(SwapLegType.IBOR).get(0);
+    ResolvedSwapLeg adjustedLeg = iborLeg.toBuilder()
+        .paymentPeriods(iborLeg.getPaymentPeriods().stream()
+            .map(period -> {
+              RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+              RateAccrualPeriod accrualPeriod = ratePeriod.getAccrualPeriods().get(0).toBuilder()
+                  .gearing(-2d)
+                  .spread(0.01)
+                  .negativeRateMethod(NegativeRateMethod.NOT_NEGATIVE)
+                  .build();
+              return ratePeriod.toBuilder().accrualPeriods(accrualPeriod).build();
+            })
+            .toArray(RatePaymentPeriod[]::new))
+        .build();
+    assertPresentValue(ResolvedSwap.of(adjustedLeg, SWAP_10Y.getLegs(SwapLegType.FIXED).get(0)), RATES_GBP);
+  }
+
+  public void test_presentValue_currency() {
+    CompiledSwap test = CompiledSwap.of(SWAP_CROSS_CURRENCY);
+    assertEquals(
+        PRICER.presentValue(test, USD, RATES_GBP_USD).getAmount(),
+        PRICER_SWAP.presentValue(SWAP_CROSS_CURRENCY, USD, RATES_GBP_USD).getAmount(),
+        NOTIONAL * TOL);
+  }
+
+  //-------------------------------------------------------------------------
+  public void test_pvbp() {
+    CompiledSwap test = CompiledSwap.of(SWAP_10Y);
+    ResolvedSwapLeg fixedLeg = SWAP_10Y.getLegs(SwapLegType.FIXED).get(0);
+    assertEquals(
+        PRICER.pvbp(test.getLeg(SwapLegType.FIXED), RATES_GBP),
+        PRICER_LEG.pvbp(fixedLeg, RATES_GBP),
+        NOTIONAL * TOL);
+    assertEquals(PRICER.pvbp(CompiledSwapLeg.of(FIXED_SWAP_LEG_PAY), RATES_GBP), PRICER_LEG.pvbp(FIXED_SWAP_LEG_PAY, RATES_GBP));
+  }
+
+  //-------------------------------------------------------------------------
+  // checks that the compiled swap and its legs have the same present value as the swap
+  private static void assertPresentValue(ResolvedSwap swap, ImmutableRatesProvider provider) {
+    CompiledSwap test = CompiledSwap.of(swap);
+    MultiCurrencyAmount computed = PRICER.presentValue(test, provider);
+    MultiCurrencyAmount expected = PRICER_SWAP.presentValue(swap, provider);
+    assertEquals(computed.getCurrencies(), expected.getCurrencies());
+    for (int i = 0; i < swap.getLegs().size(); i++) {
+      ResolvedSwapLeg leg = swap.getLegs().get(i);
+      assertEquals(
+          PRICER.presentValue(test.getLegs().get(i), provider).getAmount(),
+          PRICER_LEG.presentValue(leg, provider).getAmount(),
+          NOTIONAL * TOL);
+    }
+    expected.getCurrencies().forEach(ccy -> assertEquals(
+        computed.getAmount(ccy).getAmount(), expected.getAmount(ccy).getAmount(), NOTIONAL * TOL));
+  }
+
+}
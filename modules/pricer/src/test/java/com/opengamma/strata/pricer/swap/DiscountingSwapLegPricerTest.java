@@ -75,6 +75,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -716,15 +717,14 @@ public class DiscountingSwapLegPricerTest {
     NotionalExchange event = NOTIONAL_EXCHANGE_REC_GBP;
     double fv1 = 520d;
     double fv2 = 450d;
-    double df = 1.0d;
-    double df1 = 0.98;
-    double df2 = 0.93;
+    DiscountFactors dfs = RATES_GBP.discountFactors(GBP);
+    double df = dfs.discountFactor(event.getPaymentDate());
+    double df1 = dfs.discountFactor(period1.getPaymentDate());
+    double df2 = dfs.discountFactor(period2.getPaymentDate());
     when(mockPeriod.forecastValue(period1, mockProv)).thenReturn(fv1);
     when(mockPeriod.forecastValue(period2, mockProv)).thenReturn(fv2);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period1.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), period2.getPaymentDate())).thenReturn(df2);
-    when(mockProv.discountFactor(expSwapLeg.getCurrency(), event.getPaymentDate())).thenReturn(df);
+    when(mockProv.discountFactors(expSwapLeg.getCurrency())).thenReturn(dfs);
     DiscountingSwapLegPricer pricer = new DiscountingSwapLegPricer(mockPeriod, eventPricer);
 
     CashFlows computed = pricer.cashFlows(expSwapLeg, mockProv);
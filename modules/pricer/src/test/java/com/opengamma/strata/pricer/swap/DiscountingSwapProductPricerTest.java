@@ -78,6 +78,7 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
@@ -639,17 +640,17 @@ public class DiscountingSwapProductPricerTest {
   public void test_cashFlows() {
     RatesProvider mockProv = mock(RatesProvider.class);
     SwapPaymentPeriodPricer<SwapPaymentPeriod> mockPeriod = mock(SwapPaymentPeriodPricer.class);
-    double df1 = 0.98;
-    double df2 = 0.93;
+    DiscountFactors dfsGBP = RATES_GBP_USD.discountFactors(GBP);
+    DiscountFactors dfsUSD = RATES_GBP_USD.discountFactors(USD);
+    double df1 = dfsGBP.discountFactor(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate());
+    double df2 = dfsUSD.discountFactor(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate());
     double fvGBP = 1000d;
     double fvUSD = -500d;
     when(mockPeriod.forecastValue(IBOR_RATE_PAYMENT_PERIOD_REC_GBP, mockProv)).thenReturn(fvGBP);
     when(mockPeriod.forecastValue(FIXED_RATE_PAYMENT_PERIOD_PAY_USD, mockProv)).thenReturn(fvUSD);
     when(mockProv.getValuationDate()).thenReturn(LocalDate.of(2014, 7, 1));
-    when(mockProv.discountFactor(IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getCurrency(),
-        IBOR_RATE_PAYMENT_PERIOD_REC_GBP.getPaymentDate())).thenReturn(df1);
-    when(mockProv.discountFactor(FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getCurrency(),
-        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate())).thenReturn(df2);
+    when(mockProv.discountFactors(GBP)).thenReturn(dfsGBP);
+    when(mockProv.discountFactors(USD)).thenReturn(dfsUSD);
     SwapPaymentEventPricer<SwapPaymentEvent> mockEvent = mock(SwapPaymentEventPricer.class);
     DiscountingSwapLegPricer pricerLeg = new DiscountingSwapLegPricer(mockPeriod, mockEvent);
     DiscountingSwapProductPricer pricerSwap = new DiscountingSwapProductPricer(pricerLeg);
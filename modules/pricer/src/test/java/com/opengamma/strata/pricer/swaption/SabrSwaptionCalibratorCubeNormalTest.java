@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.swaption;
 
+import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
 import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.DATA_ARRAY_SPARSE;
 import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.DAY_COUNT;
@@ -13,17 +14,25 @@ import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.MONEYNESS;
 import static com.opengamma.strata.pricer.swaption.SwaptionCubeData.TENORS;
 import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.loader.csv.QuotesCsvLoader;
@@ -35,12 +44,16 @@ import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.surface.ConstantSurface;
 import com.opengamma.strata.market.surface.DefaultSurfaceMetadata;
 import com.opengamma.strata.market.surface.Surface;
+import com.opengamma.strata.market.surface.Surfaces;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
 import com.opengamma.strata.market.surface.interpolator.SurfaceInterpolator;
+import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.CurveCalibrator;
 import com.opengamma.strata.pricer.impl.option.BlackFormulaRepository;
 import com.opengamma.strata.pricer.impl.option.NormalFormulaRepository;
+import com.opengamma.strata.pricer.model.SabrInterestRateParameters;
+import com.opengamma.strata.pricer.model.SabrVolatilityFormula;
 import com.opengamma.strata.pricer.option.TenorRawOptionData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
@@ -87,22 +100,138 @@ public class SabrSwaptionCalibratorCubeNormalTest {
   private static final SabrSwaptionDefinition DEFINITION =
       SabrSwaptionDefinition.of(NAME_SABR, EUR_FIXED_1Y_EURIBOR_6M, DAY_COUNT, INTERPOLATOR_2D);
 
+  private static final double BETA = 0.50;
+  private static final Surface BETA_SURFACE = ConstantSurface.of("Beta", BETA)
+      .withMetadata(DefaultSurfaceMetadata.builder()
+          .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
+          .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
+  private static final double SHIFT = 0.0300;
+  private static final Surface SHIFT_SURFACE = ConstantSurface.of("Shift", SHIFT)
+      .withMetadata(DefaultSurfaceMetadata.builder()
+          .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
+
+  // the normal volatility at the first expiry of the first tenor cannot be converted to a Black volatility
+  private static final TenorRawOptionData DATA_FAILING = SabrSwaptionCalibratorSmileTestUtils.rawDataShiftPoint(
+      TENORS, EXPIRIES, ValueType.SIMPLE_MONEYNESS, MONEYNESS, ValueType.NORMAL_VOLATILITY, DATA_ARRAY_SPARSE,
+      0, 0, 2, 0.50);
+
   private static final double TOLERANCE_PRICE_CALIBRATION_LS = 5.0E-4; // Calibration Least Square; result not exact
 
   @Test
   public void normal_cube() {
-    double beta = 0.50;
-    Surface betaSurface = ConstantSurface.of("Beta", beta)
-        .withMetadata(DefaultSurfaceMetadata.builder()
-            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION)
-            .zValueType(ValueType.SABR_BETA).surfaceName("Beta").build());
-    double shift = 0.0300;
-    Surface shiftSurface = ConstantSurface.of("Shift", shift)
-        .withMetadata(DefaultSurfaceMetadata.builder()
-            .xValueType(ValueType.YEAR_FRACTION).yValueType(ValueType.YEAR_FRACTION).surfaceName("Shift").build());
     SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
-        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, betaSurface, shiftSurface);
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE);
+    checkCalibration(calibrated);
+  }
+
+  public void normal_cube_executor() {
+    SabrParametersSwaptionVolatilities expected = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+          DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true, executor);
+      assertEquals(calibrated, expected);
+    } finally {
+      executor.shutdown();
+    }
+  }
 
+  public void normal_cube_startingParameters() {
+    SabrParametersSwaptionVolatilities previous = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+          DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true, executor,
+          previous.getParameters());
+      checkCalibration(calibrated);
+      SabrParametersSwaptionVolatilities calibratedSerial = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+          DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true,
+          MoreExecutors.directExecutor(), previous.getParameters());
+      assertEquals(calibrated, calibratedSerial);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void normal_cube_startingParameters_diverging() {
+    // the calibration from the starting parameters fails at every node, the standard starting points are used
+    SabrInterestRateParameters diverging = SabrInterestRateParameters.of(
+        ConstantSurface.of(Surfaces.sabrParameterByExpiryTenor("Alpha", DAY_COUNT, ValueType.SABR_ALPHA), 1.0E+300),
+        BETA_SURFACE,
+        ConstantSurface.of(Surfaces.sabrParameterByExpiryTenor("Rho", DAY_COUNT, ValueType.SABR_RHO), 0.50),
+        ConstantSurface.of(Surfaces.sabrParameterByExpiryTenor("Nu", DAY_COUNT, ValueType.SABR_NU), 1.00),
+        SHIFT_SURFACE,
+        SabrVolatilityFormula.hagan());
+    SabrParametersSwaptionVolatilities expected = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE);
+    SabrParametersSwaptionVolatilities calibrated = SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+        DEFINITION, CALIBRATION_TIME, DATA_SPARSE, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true,
+        MoreExecutors.directExecutor(), diverging);
+    assertEquals(calibrated, expected);
+  }
+
+  public void normal_cube_failure_direct() {
+    // the first node fails and the calibration stops before calibrating the next node
+    AtomicInteger count = new AtomicInteger();
+    Executor executor = task -> {
+      count.incrementAndGet();
+      task.run();
+    };
+    assertThrows(
+        () -> SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+            DEFINITION, CALIBRATION_TIME, DATA_FAILING, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true, executor),
+        MathException.class,
+        ".*at expiry " + EXPIRIES.get(0) + " and tenor " + TENORS.get(0));
+    assertEquals(count.get(), 4); // the starting points of the first node
+    assertThrows(
+        () -> SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+            DEFINITION, CALIBRATION_TIME, DATA_FAILING, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE),
+        MathException.class);
+  }
+
+  public void normal_cube_failure_executor() throws InterruptedException {
+    // the calibrations which have not started when the first node fails are cancelled
+    Thread testThread = Thread.currentThread();
+    AtomicInteger calibrated = new AtomicInteger();
+    SabrSwaptionDefinition definition = SabrSwaptionDefinition.of(
+        NAME_SABR, EUR_FIXED_1Y_EURIBOR_6M, new CountingDayCount(calibrated, testThread), INTERPOLATOR_2D);
+    AtomicInteger submitted = new AtomicInteger();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThrows(
+          () -> SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+              definition, CALIBRATION_TIME, DATA_FAILING, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, true,
+              task -> {
+                submitted.incrementAndGet();
+                executor.execute(task);
+              }),
+          MathException.class);
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    assertTrue(calibrated.get() < submitted.get());
+    // skipping the failing node, all the calibrations are performed
+    calibrated.set(0);
+    submitted.set(0);
+    ExecutorService executorSkip = Executors.newSingleThreadExecutor();
+    try {
+      SABR_CALIBRATION.calibrateWithFixedBetaAndShift(
+          definition, CALIBRATION_TIME, DATA_FAILING, MULTICURVE, BETA_SURFACE, SHIFT_SURFACE, false,
+          task -> {
+            submitted.incrementAndGet();
+            executorSkip.execute(task);
+          });
+    } finally {
+      executorSkip.shutdown();
+    }
+    assertEquals(calibrated.get(), submitted.get());
+  }
+
+  // checks the calibrated prices against the input data
+  private void checkCalibration(SabrParametersSwaptionVolatilities calibrated) {
     for (int looptenor = 0; looptenor < TENORS.size(); looptenor++) {
       double tenor = TENORS.get(looptenor).get(ChronoUnit.YEARS);
       for (int loopexpiry = 0; loopexpiry < EXPIRIES.size(); loopexpiry++) {
@@ -119,7 +248,7 @@ public class SabrSwaptionCalibratorCubeNormalTest {
           if (!Double.isNaN(DATA_ARRAY_SPARSE[looptenor][loopexpiry][loopmoney])) {
             double strike = parRate + MONEYNESS.get(loopmoney);
             double volBlack = calibrated.volatility(expiryDateTime, tenor, strike, parRate);
-            double priceComputed = BlackFormulaRepository.price(parRate + shift, parRate + MONEYNESS.get(loopmoney) + shift,
+            double priceComputed = BlackFormulaRepository.price(parRate + SHIFT, parRate + MONEYNESS.get(loopmoney) + SHIFT,
                 time, volBlack, true);
             double priceNormal = NormalFormulaRepository.price(parRate, parRate + MONEYNESS.get(loopmoney),
                 time, DATA_ARRAY_SPARSE[looptenor][loopexpiry][loopmoney], PutCall.CALL);
@@ -130,4 +259,34 @@ public class SabrSwaptionCalibratorCubeNormalTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  // day count that counts the calculations performed outside the specified thread
+  private static final class CountingDayCount implements DayCount {
+    private final AtomicInteger count;
+    private final Thread excludedThread;
+
+    private CountingDayCount(AtomicInteger count, Thread excludedThread) {
+      this.count = count;
+      this.excludedThread = excludedThread;
+    }
+
+    @Override
+    public double yearFraction(LocalDate firstDate, LocalDate secondDate, ScheduleInfo scheduleInfo) {
+      if (Thread.currentThread() != excludedThread) {
+        count.incrementAndGet();
+      }
+      return DAY_COUNT.yearFraction(firstDate, secondDate, scheduleInfo);
+    }
+
+    @Override
+    public int days(LocalDate firstDate, LocalDate secondDate) {
+      return DAY_COUNT.days(firstDate, secondDate);
+    }
+
+    @Override
+    public String getName() {
+      return "Counting";
+    }
+  }
+
 }
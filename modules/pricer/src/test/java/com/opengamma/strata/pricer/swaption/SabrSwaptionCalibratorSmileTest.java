@@ -6,6 +6,7 @@
 package com.opengamma.strata.pricer.swaption;
 
 import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.collect.TestHelper.assertThrowsIllegalArg;
 import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
 import static org.testng.Assert.assertEquals;
 
@@ -194,6 +195,45 @@ public class SabrSwaptionCalibratorSmileTest {
     }
   }
 
+  public void black_volatilities_from_prices_below_intrinsic() {
+    double shift = 0.0100;
+    DoubleArray strikes = DoubleArray.of(FORWARD - 0.0100, FORWARD - 0.0100, FORWARD, FORWARD + 0.0100);
+    double[] prices = new double[strikes.size()];
+    for (int i = 0; i < strikes.size(); i++) {
+      prices[i] = BlackFormulaRepository.price(FORWARD + shift, strikes.get(i) + shift, TIME_EXPIRY, 0.20, true);
+    }
+    prices[0] = (FORWARD + shift) - (strikes.get(0) + shift) - 1.0E-12; // just below intrinsic
+    Pair<DoubleArray, DoubleArray> computed =
+        SABR_CALIBRATION.blackVolatilitiesShiftedFromPrices(FORWARD, shift, TIME_EXPIRY, strikes, DoubleArray.ofUnsafe(prices));
+    assertEquals(computed.getFirst().get(0), 0d);
+    assertEquals(computed.getSecond().get(0), 0d);
+    for (int i = 1; i < strikes.size(); i++) {
+      assertEquals(computed.getFirst().get(i), 0.20, 1.0E-10);
+      double vega = BlackFormulaRepository.vega(FORWARD + shift, strikes.get(i) + shift, TIME_EXPIRY, 0.20);
+      assertEquals(computed.getSecond().get(i), 1d / vega, 1.0E-6);
+    }
+  }
+
+  public void black_volatilities_from_prices_at_intrinsic() {
+    double shift = 0.0100;
+    DoubleArray strikes = DoubleArray.of(FORWARD - 0.0100, FORWARD + 0.0100);
+    DoubleArray prices = DoubleArray.of((FORWARD + shift) - (strikes.get(0) + shift), 0d);
+    Pair<DoubleArray, DoubleArray> computed =
+        SABR_CALIBRATION.blackVolatilitiesShiftedFromPrices(FORWARD, shift, TIME_EXPIRY, strikes, prices);
+    assertEquals(computed.getFirst(), DoubleArray.of(0d, 0d));
+    assertEquals(computed.getSecond(), DoubleArray.of(0d, 0d));
+  }
+
+  public void black_volatilities_from_prices_below_intrinsic_tolerance() {
+    double shift = 0.0100;
+    DoubleArray strikes = DoubleArray.of(FORWARD - 0.0100, FORWARD);
+    double atm = BlackFormulaRepository.price(FORWARD + shift, FORWARD + shift, TIME_EXPIRY, 0.20, true);
+    double intrinsic = (FORWARD + shift) - (strikes.get(0) + shift);
+    DoubleArray prices = DoubleArray.of(intrinsic - 1.0E-8, atm); // well below intrinsic
+    assertThrowsIllegalArg(
+        () -> SABR_CALIBRATION.blackVolatilitiesShiftedFromPrices(FORWARD, shift, TIME_EXPIRY, strikes, prices));
+  }
+
   private void checkCalibrationPrice(
       DoubleArray moneyness,
       DoubleArray blackVol,